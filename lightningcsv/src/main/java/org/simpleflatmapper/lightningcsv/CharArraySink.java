@@ -0,0 +1,334 @@
+package org.simpleflatmapper.lightningcsv;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Appendable that accumulates the chars in a char array and writes them in bulk to a Writer, an OutputStream or a WritableByteChannel.
+ * <p>
+ * UTF-8 is encoded directly from the char array into a byte array, unpaired surrogates are replaced by '?' as OutputStreamWriter does.
+ * Other charsets go through an OutputStreamWriter.
+ * <p>
+ * The chars are only written on flush, close or when the buffer is full.
+ */
+public final class CharArraySink implements Appendable, Flushable, Closeable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final char[] buffer;
+    private final Output output;
+    private int position;
+
+    private CharArraySink(Output output, int bufferSize) {
+        if (bufferSize <= 0) throw new IllegalArgumentException("bufferSize should be greater than 0");
+        this.output = output;
+        this.buffer = new char[bufferSize];
+    }
+
+    public static CharArraySink to(Writer writer) {
+        return to(writer, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static CharArraySink to(Writer writer, int bufferSize) {
+        return new CharArraySink(new WriterOutput(writer), bufferSize);
+    }
+
+    public static CharArraySink to(OutputStream outputStream, Charset charset) {
+        return to(outputStream, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static CharArraySink to(OutputStream outputStream, Charset charset, int bufferSize) {
+        if (UTF_8.equals(charset)) {
+            return new CharArraySink(new Utf8Output(new OutputStreamByteOutput(outputStream), bufferSize), bufferSize);
+        }
+        return to(new OutputStreamWriter(outputStream, charset), bufferSize);
+    }
+
+    public static CharArraySink to(WritableByteChannel channel, Charset charset) {
+        return to(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    public static CharArraySink to(WritableByteChannel channel, Charset charset, int bufferSize) {
+        if (UTF_8.equals(charset)) {
+            return new CharArraySink(new Utf8Output(new ChannelByteOutput(channel), bufferSize), bufferSize);
+        }
+        return to(Channels.newWriter(channel, charset.newEncoder(), -1), bufferSize);
+    }
+
+    @Override
+    public CharArraySink append(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+        return this;
+    }
+
+    @Override
+    public CharArraySink append(CharSequence csq) throws IOException {
+        if (csq == null) csq = "null";
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public CharArraySink append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) csq = "null";
+        char[] buffer = this.buffer;
+        while (start < end) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int length = Math.min(end - start, buffer.length - position);
+            if (csq instanceof String) {
+                ((String) csq).getChars(start, start + length, buffer, position);
+            } else {
+                for (int i = 0; i < length; i++) {
+                    buffer[position + i] = csq.charAt(start + i);
+                }
+            }
+            position += length;
+            start += length;
+        }
+        return this;
+    }
+
+    public CharArraySink append(char[] chars, int start, int end) throws IOException {
+        int length = end - start;
+        if (length >= buffer.length) {
+            flushBuffer();
+            output.write(chars, start, end);
+            return this;
+        }
+        if (length > buffer.length - position) {
+            flushBuffer();
+        }
+        System.arraycopy(chars, start, buffer, position, length);
+        position += length;
+        return this;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            output.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushBuffer();
+            output.finish();
+        } finally {
+            output.close();
+        }
+    }
+
+    private interface Output extends Closeable, Flushable {
+        void write(char[] chars, int start, int end) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class WriterOutput implements Output {
+        private final Writer writer;
+
+        private WriterOutput(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(char[] chars, int start, int end) throws IOException {
+            writer.write(chars, start, end - start);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private interface ByteOutput extends Closeable, Flushable {
+        void write(byte[] bytes, int length) throws IOException;
+    }
+
+    private static final class OutputStreamByteOutput implements ByteOutput {
+        private final OutputStream outputStream;
+
+        private OutputStreamByteOutput(OutputStream outputStream) {
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void write(byte[] bytes, int length) throws IOException {
+            outputStream.write(bytes, 0, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            outputStream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            outputStream.close();
+        }
+    }
+
+    private static final class ChannelByteOutput implements ByteOutput {
+        private final WritableByteChannel channel;
+
+        private ChannelByteOutput(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(byte[] bytes, int length) throws IOException {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, 0, length);
+            while (byteBuffer.hasRemaining()) {
+                channel.write(byteBuffer);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class Utf8Output implements Output {
+        private static final byte REPLACEMENT = '?';
+
+        private final ByteOutput byteOutput;
+        private final int chunkSize;
+        // 3 bytes per char, 4 for a surrogate pair
+        private final byte[] bytes;
+
+        // high surrogate at the end of the last write
+        private char pendingHighSurrogate;
+
+        private Utf8Output(ByteOutput byteOutput, int chunkSize) {
+            this.byteOutput = byteOutput;
+            this.chunkSize = chunkSize;
+            this.bytes = new byte[chunkSize * 3 + 4];
+        }
+
+        @Override
+        public void write(char[] chars, int start, int end) throws IOException {
+            while (start < end) {
+                int chunkEnd = Math.min(end, start + chunkSize);
+                byteOutput.write(bytes, encode(chars, start, chunkEnd));
+                start = chunkEnd;
+            }
+        }
+
+        private int encode(char[] chars, int start, int end) {
+            byte[] bytes = this.bytes;
+            int p = 0;
+            int i = start;
+            if (pendingHighSurrogate != 0) {
+                char c = chars[i];
+                if (Character.isLowSurrogate(c)) {
+                    p = encodeCodePoint(Character.toCodePoint(pendingHighSurrogate, c), bytes, p);
+                    i++;
+                } else {
+                    bytes[p++] = REPLACEMENT;
+                }
+                pendingHighSurrogate = 0;
+            }
+            while (i < end) {
+                char c = chars[i];
+                if (c < 0x80) {
+                    bytes[p++] = (byte) c;
+                    i++;
+                    // ascii run
+                    while (i < end && (c = chars[i]) < 0x80) {
+                        bytes[p++] = (byte) c;
+                        i++;
+                    }
+                } else if (c < 0x800) {
+                    bytes[p++] = (byte) (0xC0 | (c >> 6));
+                    bytes[p++] = (byte) (0x80 | (c & 0x3F));
+                    i++;
+                } else if (Character.isHighSurrogate(c)) {
+                    if (i + 1 == end) {
+                        pendingHighSurrogate = c;
+                    } else if (Character.isLowSurrogate(chars[i + 1])) {
+                        p = encodeCodePoint(Character.toCodePoint(c, chars[i + 1]), bytes, p);
+                        i++;
+                    } else {
+                        bytes[p++] = REPLACEMENT;
+                    }
+                    i++;
+                } else if (Character.isLowSurrogate(c)) {
+                    bytes[p++] = REPLACEMENT;
+                    i++;
+                } else {
+                    bytes[p++] = (byte) (0xE0 | (c >> 12));
+                    bytes[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[p++] = (byte) (0x80 | (c & 0x3F));
+                    i++;
+                }
+            }
+            return p;
+        }
+
+        private static int encodeCodePoint(int codePoint, byte[] bytes, int p) {
+            bytes[p++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[p++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[p++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[p++] = (byte) (0x80 | (codePoint & 0x3F));
+            return p;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (pendingHighSurrogate != 0) {
+                pendingHighSurrogate = 0;
+                bytes[0] = REPLACEMENT;
+                byteOutput.write(bytes, 1);
+            }
+            byteOutput.flush();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            byteOutput.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            byteOutput.close();
+        }
+    }
+}
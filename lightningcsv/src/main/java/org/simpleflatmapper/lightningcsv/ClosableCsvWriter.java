@@ -1,9 +1,10 @@
 package org.simpleflatmapper.lightningcsv;
 
 import java.io.Closeable;
+import java.io.Flushable;
 import java.io.IOException;
 
-public class ClosableCsvWriter extends CsvWriter implements Closeable {
+public class ClosableCsvWriter extends CsvWriter implements Closeable, Flushable {
 
     private final Closeable resource;
     public <T extends Appendable & Closeable> ClosableCsvWriter(CellWriter cellWriter, T appendable) {
@@ -11,6 +12,13 @@ public class ClosableCsvWriter extends CsvWriter implements Closeable {
         this.resource = appendable;
     }
 
+    @Override
+    public void flush() throws IOException {
+        if (resource instanceof Flushable) {
+            ((Flushable) resource).flush();
+        }
+    }
+
     @Override
     public void close() throws IOException {
         resource.close();
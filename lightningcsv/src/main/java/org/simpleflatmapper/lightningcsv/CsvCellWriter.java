@@ -4,6 +4,7 @@ package org.simpleflatmapper.lightningcsv;
 import org.simpleflatmapper.util.CharSequenceImpl;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Iterator;
 
 public final class CsvCellWriter implements CellWriter {
@@ -22,6 +23,14 @@ public final class CsvCellWriter implements CellWriter {
     private final char escape;
     private final String endOfLine;
     private final char[] specialCharacters;
+    // first 4 special characters padded with the first one
+    private final char special0;
+    private final char special1;
+    private final char special2;
+    private final char special3;
+
+    private static final int NB_SPECIAL_CHARACTERS_FIELDS = 4;
+    private static final int SCAN_BLOCK_SIZE = 16;
 
     public CsvCellWriter(char separator, char quote, char escape, boolean alwaysEscape, String endOfLine) {
         this.separator = separator;
@@ -30,6 +39,14 @@ public final class CsvCellWriter implements CellWriter {
         this.alwaysEscape = alwaysEscape;
         this.endOfLine = endOfLine;
         this.specialCharacters = (getSpecialCharacterForEndOfLine(endOfLine) + quote + separator).toCharArray();
+        this.special0 = specialCharacter(0);
+        this.special1 = specialCharacter(1);
+        this.special2 = specialCharacter(2);
+        this.special3 = specialCharacter(3);
+    }
+
+    private char specialCharacter(int i) {
+        return i < specialCharacters.length ? specialCharacters[i] : specialCharacters[0];
     }
 
     private String getSpecialCharacterForEndOfLine(String endOfLine) {
@@ -76,7 +93,7 @@ public final class CsvCellWriter implements CellWriter {
             if (alwaysEscape || needsEscaping(sequence, start, end)) {
                 escapeCharSequence(sequence, start, end, appendable);
             } else {
-                appendable.append(sequence, start, end);
+                append(sequence, start, end, appendable);
             }
         }
     }
@@ -84,11 +101,92 @@ public final class CsvCellWriter implements CellWriter {
     @Override
     public void writeValue(char[] chars, int start, int end, Appendable appendable) throws IOException {
         if (chars != null) {
-            writeValue(new CharSequenceImpl(chars, start, end), appendable);
+            if (alwaysEscape || needsEscaping(chars, start, end)) {
+                escapeChars(chars, start, end, appendable);
+            } else {
+                append(chars, start, end, appendable);
+            }
+        }
+    }
+
+    /**
+     * @param chars the chars the values can contain
+     * @return true if a value made only of those chars will always be written as is.
+     */
+    public boolean isNeverEscaped(CharSequence chars) {
+        return !alwaysEscape && !needsEscaping(chars, 0, chars.length());
+    }
+
+    private static void append(char[] chars, int start, int end, Appendable appendable) throws IOException {
+        if (appendable instanceof CharArraySink) {
+            ((CharArraySink) appendable).append(chars, start, end);
+        } else if (appendable instanceof Writer) {
+            ((Writer) appendable).write(chars, start, end - start);
+        } else if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars, start, end - start);
+        } else {
+            appendable.append(new CharSequenceImpl(chars, start, end));
+        }
+    }
+
+    private static void append(CharSequence sequence, int start, int end, Appendable appendable) throws IOException {
+        if (appendable instanceof Writer && sequence instanceof String) {
+            ((Writer) appendable).write((String) sequence, start, end - start);
+        } else {
+            appendable.append(sequence, start, end);
+        }
+    }
+
+    // the comparisons are accumulated over a block of chars without early exit so they can be vectorized
+    private boolean needsEscaping(char[] chars, int start, int end) {
+        if (specialCharacters.length > NB_SPECIAL_CHARACTERS_FIELDS) {
+            return needsEscapingAnySpecialCharacters(new CharSequenceImpl(chars, start, end), 0, end - start);
+        }
+        char s0 = special0;
+        char s1 = special1;
+        char s2 = special2;
+        char s3 = special3;
+        int i = start;
+        for(; i + SCAN_BLOCK_SIZE <= end; i += SCAN_BLOCK_SIZE) {
+            boolean found = false;
+            for(int j = i; j < i + SCAN_BLOCK_SIZE; j++) {
+                char c = chars[j];
+                found |= (c == s0) | (c == s1) | (c == s2) | (c == s3);
+            }
+            if (found) return true;
+        }
+        for(; i < end; i++) {
+            char c = chars[i];
+            if ((c == s0) | (c == s1) | (c == s2) | (c == s3)) return true;
         }
+        return false;
     }
 
     private boolean needsEscaping(CharSequence sequence, int start, int end) {
+        if (specialCharacters.length > NB_SPECIAL_CHARACTERS_FIELDS) {
+            return needsEscapingAnySpecialCharacters(sequence, start, end);
+        }
+        char s0 = special0;
+        char s1 = special1;
+        char s2 = special2;
+        char s3 = special3;
+        int i = start;
+        for(; i + SCAN_BLOCK_SIZE <= end; i += SCAN_BLOCK_SIZE) {
+            boolean found = false;
+            for(int j = i; j < i + SCAN_BLOCK_SIZE; j++) {
+                char c = sequence.charAt(j);
+                found |= (c == s0) | (c == s1) | (c == s2) | (c == s3);
+            }
+            if (found) return true;
+        }
+        for(; i < end; i++) {
+            char c = sequence.charAt(i);
+            if ((c == s0) | (c == s1) | (c == s2) | (c == s3)) return true;
+        }
+        return false;
+    }
+
+    private boolean needsEscapingAnySpecialCharacters(CharSequence sequence, int start, int end) {
         char[] specialCharacters = this.specialCharacters;
         for(int i = start; i < end; i++) {
             char c = sequence.charAt(i);
@@ -103,13 +201,30 @@ public final class CsvCellWriter implements CellWriter {
     private void escapeCharSequence(CharSequence sequence, int start, int end, Appendable appendable) throws IOException {
         char quote = this.quote;
         appendable.append(quote);
+        int segmentStart = start;
         for(int i = start; i < end; i++) {
-            char c = sequence.charAt(i);
-            if (c == quote) {
+            if (sequence.charAt(i) == quote) {
+                append(sequence, segmentStart, i, appendable);
+                appendable.append(escape);
+                segmentStart = i;
+            }
+        }
+        append(sequence, segmentStart, end, appendable);
+        appendable.append(quote);
+    }
+
+    private void escapeChars(char[] chars, int start, int end, Appendable appendable) throws IOException {
+        char quote = this.quote;
+        appendable.append(quote);
+        int segmentStart = start;
+        for(int i = start; i < end; i++) {
+            if (chars[i] == quote) {
+                append(chars, segmentStart, i, appendable);
                 appendable.append(escape);
+                segmentStart = i;
             }
-            appendable.append(c);
         }
+        append(chars, segmentStart, end, appendable);
         appendable.append(quote);
     }
 
@@ -1,5 +1,7 @@
 package org.simpleflatmapper.lightningcsv;
 
+import org.simpleflatmapper.lightningcsv.impl.MappedFileReader;
+import org.simpleflatmapper.lightningcsv.impl.ParallelFileParser;
 import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
@@ -16,6 +18,8 @@ import org.simpleflatmapper.lightningcsv.parser.YamlCellPreProcessor;
 import org.simpleflatmapper.util.ParallelReader;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.StringDeduplicator;
 
 import java.io.Closeable;
 import java.io.File;
@@ -26,9 +30,11 @@ import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.concurrent.Executor;
 //IFJAVA8_START
 import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 //IFJAVA8_END
 
 /**
@@ -192,9 +198,19 @@ public final class CsvParser {
 		return dsl().parse(file, cellConsumer);
 	}
 
-	private static Reader newReader(File file) throws IOException {
-		return newReader(file, DEFAULT_CHARSET);
+	/**
+	 * @param file the file
+	 * @param dsl the dsl
+	 * @return a reader on the file using the dsl charset, memory mapped if the dsl has memoryMappedFile set.
+	 * @throws IOException if an error occurs opening the file
+	 */
+	public static Reader newReader(File file, AbstractDSL<?> dsl) throws IOException {
+		if (dsl.memoryMappedFile) {
+			return new MappedFileReader(file, dsl.charset);
+		}
+		return newReader(file, dsl.charset);
 	}
+
 	private static Reader newReader(File file, Charset charset) throws IOException {
 		//IFJAVA8_START
 		if (true) {
@@ -271,6 +287,9 @@ public final class CsvParser {
 		protected final boolean yamlComment;
 		protected final boolean parallelReader;
 		protected final boolean specialisedCharConsumer;
+		protected final boolean memoryMappedFile;
+		protected final Charset charset;
+		protected final StringDeduplicator[] stringDeduplicators;
 		
 		protected enum StringPostProcessing { NONE, UNESCAPE, TRIM_AND_UNESCAPE}
 
@@ -287,9 +306,12 @@ public final class CsvParser {
 			yamlComment = false;
 			parallelReader = false;
 			specialisedCharConsumer = true;
+			memoryMappedFile = false;
+			charset = DEFAULT_CHARSET;
+			stringDeduplicators = null;
 		}
 
-		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
+		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.escapeChar = escapeChar;
@@ -302,6 +324,9 @@ public final class CsvParser {
 			this.yamlComment = yamlComment;
 			this.parallelReader = parallelReader;
 			this.specialisedCharConsumer = specialisedCharConsumer;
+			this.memoryMappedFile = memoryMappedFile;
+			this.charset = charset;
+			this.stringDeduplicators = stringDeduplicators;
 		}
 
 		/**
@@ -335,7 +360,7 @@ public final class CsvParser {
 		}
 
 		public final <CC extends CellConsumer> CC parse(File file, CC cellConsumer) throws IOException {
-			Reader reader = newReader(file);
+			Reader reader = newReader(file, this);
 			try {
 				return parse(reader, cellConsumer);
 			} finally {
@@ -362,7 +387,7 @@ public final class CsvParser {
 		}
 
 		private CsvReader reader(CharBuffer charBuffer) throws IOException {
-			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper);
+			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper, stringDeduplicators);
 			csvReader.skipRows(skip);
 			return csvReader;
 		}
@@ -475,7 +500,7 @@ public final class CsvParser {
 		}
 
 		public final <R> R stream(File file, Function<Stream<String[]>, R> function) throws IOException {
-			Reader reader = newReader(file);
+			Reader reader = newReader(file, this);
 			try {
 				return function.apply(stream(reader));
 			} catch(IOException ioe) {
@@ -485,7 +510,7 @@ public final class CsvParser {
 		}
 
 		public final <R> R rowStream(File file, Function<Stream<Row>, R> function) throws IOException {
-			Reader reader = newReader(file);
+			Reader reader = newReader(file, this);
 			try {
 				return function.apply(rowStream(reader));
 			} catch(IOException ioe) {
@@ -555,7 +580,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D separator(char c) {
-			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -564,7 +589,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D quote(char c) {
-			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -573,7 +598,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D escape(char c) {
-			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -582,7 +607,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D bufferSize(int size) {
-			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -591,7 +616,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D skip(int skip) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -600,7 +625,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D limit(int limit) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 
@@ -616,7 +641,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D parallelReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 		
 		/**
@@ -624,11 +649,47 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D serialReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 		
+		/**
+		 * on parsing from a file the file will be memory mapped and decoded directly into the parser buffer, skipping the intermediate byte buffer and stream decoder.
+		 * <p>
+		 * ISO-8859-1, US-ASCII and the ascii part of UTF-8 content are decoded without a CharsetDecoder.
+		 * </p>
+		 * @return this
+		 */
+		public D memoryMappedFile() {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, true, charset, stringDeduplicators);
+		}
+
+		/**
+		 * set the charset used to decode the files, the default value is the default charset.
+		 * @param charset the charset
+		 * @return this
+		 */
+		public D charset(Charset charset) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
+		}
+
+		/**
+		 * the String[] of the rows will share the instances of the column values through the deduplicator,
+		 * use it on the low cardinality columns.
+		 * @param column the column index
+		 * @param stringDeduplicator the deduplicator
+		 * @return this
+		 */
+		public D deduplicateStrings(int column, StringDeduplicator stringDeduplicator) {
+			StringDeduplicator[] stringDeduplicators = new StringDeduplicator[Math.max(column + 1, this.stringDeduplicators != null ? this.stringDeduplicators.length : 0)];
+			if (this.stringDeduplicators != null) {
+				System.arraycopy(this.stringDeduplicators, 0, stringDeduplicators, 0, this.stringDeduplicators.length);
+			}
+			stringDeduplicators[column] = stringDeduplicator;
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
+		}
+
 		public D disableSpecialisedCharConsumer() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false, memoryMappedFile, charset, stringDeduplicators);
 		}
 		
 		/**
@@ -637,11 +698,11 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D maxBufferSize(int maxBufferSize) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 
-		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer);
+		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators);
 
 
 	}
@@ -654,14 +715,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
         }
 
 		/**
@@ -678,7 +739,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -695,16 +756,28 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
+		}
+
+		/**
+		 * parse files by splitting them in chunks that are parsed concurrently. The rows are still returned in the file order.
+		 * <p>
+		 * The files need to be encoded in UTF-8 or in an ascii compatible single byte charset, otherwise they will be parsed sequentially.
+		 * @param parallelism the maximum number of chunks parsed concurrently
+		 * @return the parallel DSL
+		 * @see ParallelDSL
+		 */
+		public ParallelDSL parallel(int parallelism) {
+			return new ParallelDSL(this, parallelism, ParallelFileParser.DEFAULT_CHUNK_SIZE, charset, ParallelReader.getDefaultExecutor());
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 	}
@@ -712,8 +785,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -741,7 +814,7 @@ public final class CsvParser {
 		private YamlCellPreProcessor.YamlCellConsumer newYamlCellConsumer(CheckedConsumer<String[]> rowConsumer, CheckedConsumer<String> commentConsumer) {
 			TextFormat textFormat = getTextFormat();
 			return new YamlCellPreProcessor.YamlCellConsumer(
-					StringArrayCellConsumer.newInstance(rowConsumer),
+					StringArrayCellConsumer.newInstance(rowConsumer, stringDeduplicators),
 					YamlCellPreProcessor.commentConsumerToCellConsumer(commentConsumer),
 					superGetCellTransformer(textFormat, stringPostProcessing));
 		}
@@ -779,14 +852,172 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 	}
 	
 
 
+	/**
+	 * DSL for parsing a file concurrently.
+	 * <p>
+	 * The file is split in chunks of chunkSize bytes, each chunk starts at the first end of line of its range and is parsed on the executor.
+	 * If that end of line was in a quoted cell the chunk is parsed again once the previous chunk is done.
+	 * At most parallelism chunks are kept in memory.
+	 * <p>
+	 * The rows are always returned in the file order, a chunk cannot be returned before the end of the previous chunk is known
+	 * as it is what validates its start.
+	 * <p>
+	 * Unlike on the DSL, the skip and limit of the dsl apply to forEach, iterator and stream.
+	 * @see DSL#parallel(int)
+	 */
+	public static final class ParallelDSL {
+		private final DSL dsl;
+		private final int parallelism;
+		private final int chunkSize;
+		private final Charset charset;
+		private final Executor executor;
+
+		private ParallelDSL(DSL dsl, int parallelism, int chunkSize, Charset charset, Executor executor) {
+			this.dsl = dsl;
+			this.parallelism = parallelism;
+			this.chunkSize = chunkSize;
+			this.charset = charset;
+			this.executor = executor;
+		}
+
+		/**
+		 * set the size of the chunks the file is split into. the default value is 4M.
+		 * @param chunkSize the size in bytes
+		 * @return this
+		 */
+		public ParallelDSL chunkSize(int chunkSize) {
+			return new ParallelDSL(dsl, parallelism, chunkSize, charset, executor);
+		}
+
+		/**
+		 * set the charset of the file. the default value is the charset of the dsl.
+		 * @param charset the charset
+		 * @return this
+		 */
+		public ParallelDSL charset(Charset charset) {
+			return new ParallelDSL(dsl, parallelism, chunkSize, charset, executor);
+		}
+
+		/**
+		 * set the executor the chunks are parsed on. the default value is the same as for the {@link ParallelReader}.
+		 * @param executor the executor
+		 * @return this
+		 */
+		public ParallelDSL executor(Executor executor) {
+			return new ParallelDSL(dsl, parallelism, chunkSize, charset, executor);
+		}
+
+		public int parallelism() {
+			return parallelism;
+		}
+
+		public int chunkSize() {
+			return chunkSize;
+		}
+
+		public final <H extends CheckedConsumer<String[]>> H forEach(File file, H consumer) throws IOException {
+			ParallelFileParser parser = parser(file);
+			try {
+				int skip = dsl.skip;
+				int limit = dsl.limit;
+				List<String[]> rows;
+				while ((rows = parser.nextRows()) != null) {
+					for (String[] row : rows) {
+						if (skip > 0) {
+							skip--;
+							continue;
+						}
+						if (limit == 0) {
+							return consumer;
+						}
+						try {
+							consumer.accept(row);
+						} catch (Exception e) {
+							ErrorHelper.rethrow(e);
+						}
+						if (limit > 0) {
+							limit--;
+						}
+					}
+				}
+			} finally {
+				parser.close();
+			}
+			return consumer;
+		}
+
+		public final CloseableIterator<String[]> iterator(File file) throws IOException {
+			ParallelFileParser parser = parser(file);
+			Iterator<String[]> iterator = parser.iterator();
+			for (int i = 0; i < dsl.skip && iterator.hasNext(); i++) {
+				iterator.next();
+			}
+			if (dsl.limit >= 0) {
+				iterator = new LimitIterator(iterator, dsl.limit);
+			}
+			return new CloseableIterator<String[]>(iterator, parser);
+		}
+
+		//IFJAVA8_START
+		public final <R> R stream(File file, Function<Stream<String[]>, R> function) throws IOException {
+			CloseableIterator<String[]> iterator = iterator(file);
+			try {
+				return function.apply(StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false));
+			} finally {
+				iterator.close();
+			}
+		}
+		//IFJAVA8_END
+
+		private ParallelFileParser parser(File file) throws IOException {
+			return new ParallelFileParser(file, charset,
+					new org.simpleflatmapper.util.Function<CharBuffer, AbstractCharConsumer>() {
+						@Override
+						public AbstractCharConsumer apply(CharBuffer charBuffer) {
+							return dsl.charConsumer(charBuffer);
+						}
+					},
+					dsl.cellConsumerWrapper, dsl.bufferSize, dsl.maxBufferSize, chunkSize, parallelism, executor);
+		}
+
+		private static final class LimitIterator implements Iterator<String[]> {
+			private final Iterator<String[]> iterator;
+			private int limit;
+
+			private LimitIterator(Iterator<String[]> iterator, int limit) {
+				this.iterator = iterator;
+				this.limit = limit;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return limit > 0 && iterator.hasNext();
+			}
+
+			@Override
+			public String[] next() {
+				if (limit <= 0) {
+					throw new NoSuchElementException();
+				}
+				limit--;
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		}
+	}
+
 	private static final OnReaderFactory<CloseableCsvReader, AbstractDSL<?>> CREATE_CLOSEABLE_CSV_READER =
 			new OnReaderFactory<CloseableCsvReader, AbstractDSL<?>>() {
 				@Override
@@ -815,7 +1046,7 @@ public final class CsvParser {
 	}
 
 	public static <R, D extends AbstractDSL<?>> R onReader(File file, D dsl, OnReaderFactory<R, ? super D> factory) throws IOException {
-		Reader reader = newReader(file);
+		Reader reader = newReader(file, dsl);
 		try {
 			return factory.apply(reader, dsl);
 		} catch(IOException ioe) {
@@ -10,6 +10,7 @@ import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.Function;
+import org.simpleflatmapper.util.StringDeduplicator;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -30,13 +31,20 @@ public final class CsvReader implements Iterable<String[]> {
 
 	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
 
+	private final StringDeduplicator[] stringDeduplicators;
+
 	public CsvReader(AbstractCharConsumer charConsumer) {
 		this(charConsumer, null);
 	}
 
 	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper) {
+		this(charConsumer, cellConsumerWrapper, null);
+	}
+
+	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, StringDeduplicator[] stringDeduplicators) {
 		this.consumer = charConsumer;
 		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.stringDeduplicators = stringDeduplicators;
 	}
 
 	/**
@@ -111,7 +119,7 @@ public final class CsvReader implements Iterable<String[]> {
 	}
 
 	private CellConsumer toCellConsumer(CheckedConsumer<String[]> consumer) {
-		return StringArrayCellConsumer.newInstance(consumer);
+		return StringArrayCellConsumer.newInstance(consumer, stringDeduplicators);
 	}
 
 	public CellConsumer wrapConsumer(CellConsumer cellConsumer) {
@@ -123,6 +131,15 @@ public final class CsvReader implements Iterable<String[]> {
 		return consumer.charBuffer();
 	}
 
+	/**
+	 * only unescape and report the cells of the columns set in the mask, the cells of the other columns are reported
+	 * empty and the cells after the last column of the mask are not reported.
+	 * @param columnMask bit (i &amp; 63) of columnMask[i &gt;&gt; 6] set if the column i is needed, null for all the columns
+	 */
+	public void columnMask(long[] columnMask) {
+		consumer.columnMask(columnMask);
+	}
+
 	@Override
 	public Iterator<String[]> iterator() {
 		return new CsvStringArrayIterator(this);
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.lightningcsv;
 
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
 //IFJAVA8_START
@@ -156,10 +157,7 @@ public class CsvWriter {
             return to(path, UTF_8);
         }
         public ClosableCsvWriter to(Path path, Charset charset) throws IOException {
-            return new ClosableCsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), getWriter(path, charset));
-        }
-        private Writer getWriter(Path path, Charset charset) throws IOException {
-            return Files.newBufferedWriter(path, charset);
+            return to(Files.newOutputStream(path), charset);
         }
         //IFJAVA8_END
 
@@ -168,20 +166,39 @@ public class CsvWriter {
         }
 
         public ClosableCsvWriter to(File file, Charset charset) throws IOException {
-            return new ClosableCsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), getWriter(file, charset));
+            return to(new FileOutputStream(file), charset);
         }
 
-        private Writer getWriter(File file, Charset charset) throws IOException {
-            //IFJAVA8_START
-            if (true) {
-                return getWriter(file.toPath(), charset);
-            }
-            //IFJAVA8_END
-            return new OutputStreamWriter(new FileOutputStream(file), charset);
+        /**
+         * write the csv to the outputStream through a {@link CharArraySink}, closing the returned writer will close the outputStream.
+         * @param outputStream the outputStream
+         * @param charset the charset
+         * @return a ClosableCsvWriter
+         */
+        public ClosableCsvWriter to(OutputStream outputStream, Charset charset) {
+            return new ClosableCsvWriter(newCellWriter(), CharArraySink.to(outputStream, charset));
+        }
+
+        public ClosableCsvWriter to(WritableByteChannel channel) {
+            return to(channel, UTF_8);
+        }
+
+        /**
+         * write the csv to the channel through a {@link CharArraySink}, closing the returned writer will close the channel.
+         * @param channel the channel
+         * @param charset the charset
+         * @return a ClosableCsvWriter
+         */
+        public ClosableCsvWriter to(WritableByteChannel channel, Charset charset) {
+            return new ClosableCsvWriter(newCellWriter(), CharArraySink.to(channel, charset));
         }
 
         public CsvWriter to(Appendable appendable) {
-            return new CsvWriter(new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine), appendable);
+            return new CsvWriter(newCellWriter(), appendable);
+        }
+
+        private CsvCellWriter newCellWriter() {
+            return new CsvCellWriter(separator, quote, escape, alwaysEscape, endOfLine);
         }
     }
 
@@ -0,0 +1,112 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+
+/**
+ * Reader on a byte range of a file channel that keeps track of the byte position of the last char returned.
+ * <p>
+ * It returns eof when reaching the limit of the range, once extended it will read char by char until the new limit
+ * so that the byte position of the end of a row can be known exactly.
+ * The channel is read with positional read so multiple readers can share the same channel.
+ */
+public final class FileChunkReader extends Reader {
+
+	private final FileChannel channel;
+	private final CharsetDecoder decoder;
+	private final ByteBuffer bytes;
+	private final long fileSize;
+
+	private long readPosition;
+	private long limit;
+	private boolean charByChar;
+
+	public FileChunkReader(FileChannel channel, CharsetDecoder decoder, long start, long limit, long fileSize, int readBufferSize) {
+		this.channel = channel;
+		this.decoder = decoder;
+		this.readPosition = start;
+		this.limit = Math.min(limit, fileSize);
+		this.fileSize = fileSize;
+		this.bytes = ByteBuffer.allocate(readBufferSize);
+		this.bytes.flip();
+	}
+
+	/**
+	 * @return the byte position just after the last char returned
+	 */
+	public long position() {
+		return readPosition - bytes.remaining();
+	}
+
+	/**
+	 * read past the limit up to the new limit, one char at a time.
+	 * @param limit the new limit, capped to the end of the file
+	 */
+	public void extendTo(long limit) {
+		this.limit = Math.min(limit, fileSize);
+		charByChar = true;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) return 0;
+
+		CharBuffer out = CharBuffer.wrap(cbuf, off, charByChar ? 1 : len);
+		for(;;) {
+			CoderResult result = decoder.decode(bytes, out, false);
+			if (result.isError()) {
+				result.throwException();
+			}
+			int nbChars = out.position() - off;
+			if (nbChars > 0) {
+				return nbChars;
+			}
+			if (result.isOverflow()) {
+				// surrogate pair does not fit in one char
+				out = CharBuffer.wrap(cbuf, off, Math.min(2, len));
+				continue;
+			}
+			if (!fill()) {
+				if (bytes.hasRemaining() && readPosition >= fileSize) {
+					result = decoder.decode(bytes, out, true);
+					if (result.isError()) {
+						result.throwException();
+					}
+					nbChars = out.position() - off;
+					if (nbChars > 0) {
+						return nbChars;
+					}
+				}
+				return -1;
+			}
+		}
+	}
+
+	private boolean fill() throws IOException {
+		long available = limit - readPosition;
+		if (available <= 0) {
+			return false;
+		}
+		bytes.compact();
+		if (bytes.remaining() > available) {
+			bytes.limit(bytes.position() + (int) available);
+		}
+		int l = channel.read(bytes, readPosition);
+		bytes.flip();
+		if (l > 0) {
+			readPosition += l;
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public void close() {
+		// channel is owned by the caller
+	}
+}
@@ -0,0 +1,206 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.MalformedInputException;
+
+/**
+ * Reader that decodes a memory mapped file straight into the char array it is asked to fill.
+ * <p>
+ * Compared to Channels.newReader there is no intermediate heap byte buffer and no stream decoder.
+ * ISO-8859-1 and US-ASCII bytes are widened in a tight loop, UTF-8 runs of ascii bytes are widened in the same loop
+ * and only the non ascii sequences go through the CharsetDecoder. Other charsets are decoded by the CharsetDecoder directly from the mapped buffer.
+ * <p>
+ * The file is mapped by windows of windowSize bytes, only the current window is referenced by the reader.
+ * A mapping is released when its buffer is garbage collected, there is no API to unmap it,
+ * until then the previous windows still use address space and on Windows the file stays locked - it cannot be deleted or renamed -
+ * even after close.
+ */
+public final class MappedFileReader extends Reader {
+
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 28; // 256M
+
+	private static final int LATIN1 = 0;
+	private static final int ASCII = 1;
+	private static final int UTF8 = 2;
+	private static final int DECODER = 3;
+
+	// max number of bytes of a char sequence that can straddle 2 windows
+	private static final int MIN_WINDOW_REMAINING = 16;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long fileSize;
+	private final int windowSize;
+	private final int mode;
+	private final CharsetDecoder decoder;
+
+	private MappedByteBuffer window;
+	private long windowStart;
+
+	// low surrogate left over when asked to read a single char
+	private char pendingChar;
+	private boolean hasPendingChar;
+
+	public MappedFileReader(File file, Charset charset) throws IOException {
+		this(file, charset, DEFAULT_WINDOW_SIZE);
+	}
+
+	public MappedFileReader(File file, Charset charset, int windowSize) throws IOException {
+		if (windowSize < MIN_WINDOW_REMAINING * 2) throw new IllegalArgumentException("windowSize should be at least " + (MIN_WINDOW_REMAINING * 2));
+		this.file = new RandomAccessFile(file, "r");
+		try {
+			this.channel = this.file.getChannel();
+			this.fileSize = channel.size();
+			this.windowSize = windowSize;
+			this.decoder = charset.newDecoder();
+			this.mode = mode(charset);
+			map(0);
+		} catch (IOException e) {
+			close();
+			throw e;
+		} catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	private static int mode(Charset charset) {
+		String name = charset.name();
+		if ("ISO-8859-1".equals(name)) {
+			return LATIN1;
+		} else if ("US-ASCII".equals(name)) {
+			return ASCII;
+		} else if ("UTF-8".equals(name)) {
+			return UTF8;
+		}
+		return DECODER;
+	}
+
+	private void map(long position) throws IOException {
+		// let the previous window be collected
+		window = null;
+		windowStart = position;
+		window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, fileSize - position));
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) return 0;
+
+		if (hasPendingChar) {
+			hasPendingChar = false;
+			cbuf[off] = pendingChar;
+			return 1;
+		}
+
+		MappedByteBuffer window = this.window;
+		if (window.remaining() < MIN_WINDOW_REMAINING && windowStart + window.limit() < fileSize) {
+			map(windowStart + window.position());
+			window = this.window;
+		}
+
+		int remaining = window.remaining();
+		if (remaining == 0) {
+			return -1;
+		}
+
+		switch (mode) {
+			case LATIN1:
+				return latin1(window, cbuf, off, Math.min(len, remaining));
+			case ASCII:
+				return ascii(window, cbuf, off, Math.min(len, remaining));
+			case UTF8:
+				int l = ascii(window, cbuf, off, Math.min(len, remaining));
+				if (l > 0) {
+					return l;
+				}
+				// fall through non ascii sequence
+			default:
+				return decode(window, cbuf, off, len);
+		}
+	}
+
+	private static int latin1(MappedByteBuffer window, char[] cbuf, int off, int len) {
+		int p = window.position();
+		for (int i = 0; i < len; i++) {
+			cbuf[off + i] = (char) (window.get(p + i) & 0xFF);
+		}
+		window.position(p + len);
+		return len;
+	}
+
+	/**
+	 * widen bytes until the first non ascii byte.
+	 */
+	private int ascii(MappedByteBuffer window, char[] cbuf, int off, int len) throws MalformedInputException {
+		int p = window.position();
+		int i = 0;
+		while (i < len) {
+			byte b = window.get(p + i);
+			if (b < 0) {
+				if (mode == ASCII && i == 0) {
+					throw new MalformedInputException(1);
+				}
+				break;
+			}
+			cbuf[off + i] = (char) b;
+			i++;
+		}
+		window.position(p + i);
+		return i;
+	}
+
+	private int decode(MappedByteBuffer window, char[] cbuf, int off, int len) throws IOException {
+		CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+		boolean endOfInput = windowStart + window.limit() >= fileSize;
+		CoderResult result = decoder.decode(window, out, endOfInput);
+		if (result.isError()) {
+			result.throwException();
+		}
+		int nbChars = out.position() - off;
+		if (nbChars == 0 && result.isOverflow()) {
+			// surrogate pair does not fit in a single char
+			char[] pair = new char[2];
+			int l = decode(window, pair, 0, 2);
+			cbuf[off] = pair[0];
+			if (l == 2) {
+				pendingChar = pair[1];
+				hasPendingChar = true;
+			}
+			return 1;
+		}
+		if (nbChars == 0 && result.isUnderflow() && !endOfInput) {
+			// truncated sequence at the end of the window
+			map(windowStart + window.position());
+			return decode(this.window, cbuf, off, len);
+		}
+		if (nbChars == 0 && endOfInput) {
+			result = decoder.flush(out);
+			if (result.isError()) {
+				result.throwException();
+			}
+			nbChars = out.position() - off;
+			return nbChars == 0 ? -1 : nbChars;
+		}
+		return nbChars;
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		try {
+			if (channel != null) channel.close();
+		} finally {
+			file.close();
+		}
+	}
+}
@@ -0,0 +1,338 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.Function;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Parse a file by splitting it in byte ranges that are parsed concurrently, the rows are returned in the file order.
+ * <p>
+ * A range owns all the rows that start within it. The start of the first row of a range is guessed by looking for the first end of line
+ * after the start of the range, assuming it is not in a quoted cell. The last row of a range is parsed past the end of the range until it completes,
+ * when the start was guessed it may not read more than one chunk size past the end of the range.
+ * When the previous range is done, the guess is validated against the actual end of its last row.
+ * If the end of line was part of a quoted cell, if the last row did not complete within the extension limit or if the parsing failed
+ * - the quote state being inverted can make a cell exceed the max buffer size - the range is parsed again from the end of the previous range,
+ * which is an actual row start.
+ * <p>
+ * Byte ranges can only be used when the end of line bytes cannot be part of a multi bytes char, ie UTF-8 or an ascii compatible single byte charset,
+ * otherwise the file is parsed as a single range.
+ */
+public final class ParallelFileParser implements Closeable {
+
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 22; // 4M
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long fileSize;
+	private final Charset charset;
+	private final Function<? super CharBuffer, ? extends AbstractCharConsumer> charConsumerFactory;
+	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
+	private final int bufferSize;
+	private final int maxBufferSize;
+	private final long chunkSize;
+	private final int nbChunks;
+	private final int parallelism;
+	private final Executor executor;
+
+	private final LinkedList<FutureTask<Chunk>> inFlight = new LinkedList<FutureTask<Chunk>>();
+	private int nextChunkToSubmit;
+	private int nextChunkToReturn;
+	private long previousEnd;
+
+	public ParallelFileParser(File file, Charset charset,
+							  Function<? super CharBuffer, ? extends AbstractCharConsumer> charConsumerFactory,
+							  Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper,
+							  int bufferSize, int maxBufferSize,
+							  int chunkSize, int parallelism, Executor executor) throws IOException {
+		if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize should be greater than 0");
+		if (parallelism <= 0) throw new IllegalArgumentException("parallelism should be greater than 0");
+		this.file = new RandomAccessFile(file, "r");
+		try {
+			this.channel = this.file.getChannel();
+			this.fileSize = channel.size();
+		} catch (IOException e) {
+			safeClose(this.file);
+			throw e;
+		}
+		this.charset = charset;
+		this.charConsumerFactory = charConsumerFactory;
+		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.bufferSize = bufferSize;
+		this.maxBufferSize = maxBufferSize;
+		this.parallelism = parallelism;
+		this.executor = executor;
+
+		if (parallelism > 1 && fileSize > chunkSize && supportsByteRanges(charset)) {
+			this.chunkSize = chunkSize;
+			this.nbChunks = (int) Math.min(Integer.MAX_VALUE, (fileSize + chunkSize - 1) / chunkSize);
+		} else {
+			this.chunkSize = Math.max(fileSize, 1);
+			this.nbChunks = 1;
+		}
+	}
+
+	/**
+	 * @return the rows of the next non empty range, null if all the file has been parsed
+	 * @throws IOException if an io error occurs
+	 */
+	public List<String[]> nextRows() throws IOException {
+		while (nextChunkToReturn < nbChunks) {
+			Chunk chunk;
+			if (nbChunks == 1) {
+				chunk = parseChunk(0, fileSize, fileSize);
+			} else {
+				submitChunks();
+				chunk = waitFor(inFlight.removeFirst());
+				if (chunk == null || chunk.start != previousEnd) {
+					// the end of line used as the start of the range was in a quoted cell
+					chunk = parseChunk(previousEnd, rangeEnd(nextChunkToReturn), fileSize);
+				}
+			}
+			nextChunkToReturn++;
+			previousEnd = chunk.end;
+			if (!chunk.rows.isEmpty()) {
+				return chunk.rows;
+			}
+		}
+		return null;
+	}
+
+	public Iterator<String[]> iterator() {
+		return new RowIterator(this);
+	}
+
+	private void submitChunks() {
+		while (inFlight.size() < parallelism && nextChunkToSubmit < nbChunks) {
+			final int index = nextChunkToSubmit++;
+			FutureTask<Chunk> task = new FutureTask<Chunk>(new Callable<Chunk>() {
+				@Override
+				public Chunk call() throws Exception {
+					if (index == 0) {
+						return parseChunk(0, rangeEnd(0), fileSize);
+					}
+					long rangeEnd = rangeEnd(index);
+					return parseChunk(guessRowStart(rangeStart(index)), rangeEnd, rangeEnd + chunkSize);
+				}
+			});
+			inFlight.add(task);
+			executor.execute(task);
+		}
+	}
+
+	/**
+	 * @return the chunk, null if the parsing failed. the range will be parsed again from the end of the previous range that
+	 * will rethrow the error if it was not caused by a wrong guess.
+	 */
+	private Chunk waitFor(FutureTask<Chunk> task) throws IOException {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		} catch (ExecutionException e) {
+			return null;
+		}
+	}
+
+	private long rangeStart(int index) {
+		return index * chunkSize;
+	}
+
+	private long rangeEnd(int index) {
+		return Math.min(fileSize, (index + 1) * chunkSize);
+	}
+
+	/**
+	 * @param start the start of the first row
+	 * @param rangeEnd the end of the range, the last row starting before it will be parsed to its end
+	 * @param maxEnd the position the last row cannot be parsed past
+	 * @return the chunk, null if the last row does not end before maxEnd
+	 */
+	private Chunk parseChunk(long start, long rangeEnd, long maxEnd) throws IOException {
+		if (start >= rangeEnd) {
+			return new Chunk(start, start, Collections.<String[]>emptyList());
+		}
+
+		FileChunkReader reader = new FileChunkReader(channel, charset.newDecoder(), start, rangeEnd, fileSize, READ_BUFFER_SIZE);
+		ListCollector<String[]> rows = new ListCollector<String[]>();
+		CellConsumer cellConsumer = StringArrayCellConsumer.newInstance(rows);
+		if (cellConsumerWrapper != null) {
+			cellConsumer = cellConsumerWrapper.apply(cellConsumer);
+		}
+		AbstractCharConsumer consumer = charConsumerFactory.apply(new ReaderCharBuffer(bufferSize, maxBufferSize, reader));
+		CharBuffer charBuffer = consumer.charBuffer();
+
+		do {
+			boolean hasRow;
+			do {
+				hasRow = consumer.consumeToNextRow(cellConsumer);
+			} while (hasRow);
+		} while (consumer.shiftAndRead(false));
+
+		if (charBuffer.rowStartMark == charBuffer.bufferSize && reader.position() == rangeEnd) {
+			// range ends on a row boundary
+			return new Chunk(start, skipLfAfterCr(rangeEnd), rows.getList());
+		}
+
+		reader.extendTo(maxEnd);
+		do {
+			if (consumer.consumeToNextRow(cellConsumer)) {
+				return new Chunk(start, skipLfAfterCr(reader.position()), rows.getList());
+			}
+		} while (consumer.shiftAndRead(false));
+
+		if (reader.position() < fileSize) {
+			return null;
+		}
+		consumer.finish(cellConsumer);
+		return new Chunk(start, fileSize, rows.getList());
+	}
+
+	/**
+	 * find the first row start at or after position assuming the previous char is not in a quoted cell.
+	 */
+	private long guessRowStart(long position) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		long p = position - 1;
+		while (p < fileSize) {
+			buffer.clear();
+			int l = channel.read(buffer, p);
+			if (l <= 0) break;
+			for (int i = 0; i < l; i++) {
+				byte b = buffer.get(i);
+				if (b == LF) {
+					return p + i + 1;
+				} else if (b == CR) {
+					return skipLfAfterCr(p + i + 1);
+				}
+			}
+			p += l;
+		}
+		return fileSize;
+	}
+
+	private long skipLfAfterCr(long position) throws IOException {
+		if (position <= 0 || position >= fileSize) return position;
+		ByteBuffer buffer = ByteBuffer.allocate(2);
+		channel.read(buffer, position - 1);
+		if (buffer.position() == 2 && buffer.get(0) == CR && buffer.get(1) == LF) {
+			return position + 1;
+		}
+		return position;
+	}
+
+	public static boolean supportsByteRanges(Charset charset) {
+		if ("UTF-8".equals(charset.name())) {
+			return true;
+		}
+		try {
+			if (charset.newEncoder().maxBytesPerChar() != 1.0f) {
+				return false;
+			}
+			byte[] bytes = "\r\n".getBytes(charset.name());
+			return bytes.length == 2 && bytes[0] == CR && bytes[1] == LF;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		for (FutureTask<Chunk> task : inFlight) {
+			task.cancel(false);
+		}
+		inFlight.clear();
+		try {
+			channel.close();
+		} finally {
+			file.close();
+		}
+	}
+
+	private static void safeClose(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	private static final class Chunk {
+		private final long start;
+		private final long end;
+		private final List<String[]> rows;
+
+		private Chunk(long start, long end, List<String[]> rows) {
+			this.start = start;
+			this.end = end;
+			this.rows = rows;
+		}
+	}
+
+	private static final class RowIterator implements Iterator<String[]> {
+		private final ParallelFileParser parser;
+		private Iterator<String[]> rows = Collections.<String[]>emptyList().iterator();
+		private boolean done;
+
+		private RowIterator(ParallelFileParser parser) {
+			this.parser = parser;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while (!done && !rows.hasNext()) {
+				try {
+					List<String[]> next = parser.nextRows();
+					if (next == null) {
+						done = true;
+					} else {
+						rows = next.iterator();
+					}
+				} catch (IOException e) {
+					ErrorHelper.rethrow(e);
+				}
+			}
+			return rows.hasNext();
+		}
+
+		@Override
+		public String[] next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			return rows.next();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -15,5 +15,13 @@ public abstract class AbstractCharConsumer {
     public abstract void finish(CellConsumer cellConsumer);
 
     public abstract boolean shiftAndRead(boolean keepRow) throws IOException;
+
+    /**
+     * restrict the cells passed to the CellPreProcessor to the columns set in the mask.
+     * the default implementation ignores the mask and passes all the cells.
+     * @param columnMask bit (i &amp; 63) of columnMask[i &gt;&gt; 6] set if the column i is needed, null for all the columns
+     */
+    public void columnMask(long[] columnMask) {
+    }
     
 }
@@ -10,6 +10,14 @@ public final class CharSequenceCharBuffer extends CharBuffer {
 		super(toCharArray(str), str.length());
 	}
 
+	/**
+	 * @param chars the content, not copied
+	 * @param length the number of chars used
+	 */
+	public CharSequenceCharBuffer(final char[] chars, int length) {
+		super(chars, length);
+	}
+
 	@Override
 	public boolean isConstant() {
 		return true;
@@ -34,6 +34,10 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 
 	private int _currentIndex = 0;
 	private int _currentState = NONE;
+	private int _currentColumn = 0;
+
+	private long[] columnMask;
+	private int lastColumn = Integer.MAX_VALUE;
 
 	public ConfigurableCharConsumer(CharBuffer csvBuffer, TextFormat textFormat, CellPreProcessor cellPreProcessor) {
 		this.csvBuffer = csvBuffer;
@@ -59,6 +63,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 
 		int currentState = _currentState;
 		int currentIndex = _currentIndex;
+		int currentColumn = _currentColumn;
+		final int lastColumn = this.lastColumn;
 
 		final char[] chars = csvBuffer.buffer;
 		final int bufferSize = csvBuffer.bufferSize;
@@ -79,20 +85,25 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 
 						currentIndex++;
 						if (character == separatorChar) { // separator
-							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn++);
+							if (currentColumn > lastColumn) {
+								currentIndex = skipToEndOfRow(chars, currentIndex, bufferSize, quoteChar);
+							}
 							csvBuffer.cellStartMark = currentIndex;
 							currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
 							continue;
 						} else if (character == LF) { // \n
 							if ((currentState & LAST_CHAR_WAS_CR) == 0) {
-								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+								newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn);
+								currentColumn = 0;
 								cellConsumer.endOfRow();
 							}
 							markEndOfRow(currentIndex);
 							currentState = NONE;
 							continue;
 						} else if (character == CR) { // \r
-							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn);
+							currentColumn = 0;
 							cellConsumer.endOfRow();
 							markEndOfRow(currentIndex);
 							currentState = LAST_CHAR_WAS_CR;
@@ -105,10 +116,15 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 								final int ce = currentIndex;
 								currentIndex++;
 								if (((c & separatorFingerPrintMask) == separatorFingerPrint) && (c == separatorChar || c == LF || c == CR)) { // separator
-									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
 									if (c == separatorChar) {
+										newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState, currentColumn++);
+										if (currentColumn > lastColumn) {
+											currentIndex = skipToEndOfRow(chars, currentIndex, bufferSize, quoteChar);
+										}
 										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
 									} else {
+										newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState, currentColumn);
+										currentColumn = 0;
 										currentState = (c == LF ? NONE : LAST_CHAR_WAS_CR);
 										cellConsumer.endOfRow();
 										csvBuffer.rowStartMark = currentIndex;
@@ -171,6 +187,7 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 		} finally {
 			_currentState = currentState;
 			_currentIndex = currentIndex;
+			_currentColumn = currentColumn;
 		}
 	}
 
@@ -187,6 +204,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 
 		int currentState = _currentState;
 		int currentIndex = _currentIndex;
+		int currentColumn = _currentColumn;
+		final int lastColumn = this.lastColumn;
 		
 		final char[] chars = csvBuffer.buffer;
 		final int bufferSize = csvBuffer.bufferSize;
@@ -207,13 +226,17 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 						currentIndex++;
 
 						if (character == separatorChar) { // separator
-							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn++);
+							if (currentColumn > lastColumn) {
+								currentIndex = skipToEndOfRow(chars, currentIndex, bufferSize, quoteChar);
+							}
 							csvBuffer.cellStartMark = currentIndex;
 							currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
 							continue;
 						} else if (character == LF) { // \n
 							if ((currentState & LAST_CHAR_WAS_CR) == 0) {
-								cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+								newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn);
+								currentColumn = 0;
 								if (cellConsumer.endOfRow()) {
 									markEndOfRow(currentIndex);
 									currentState = NONE;
@@ -224,7 +247,8 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 							currentState = NONE;
 							continue;
 						} else if (character == CR) { // \r
-							cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState);
+							newCell(chars, csvBuffer.cellStartMark, cellEnd, cellConsumer, currentState, currentColumn);
+							currentColumn = 0;
 							currentState = LAST_CHAR_WAS_CR;
 							if (cellConsumer.endOfRow()) {
 								markEndOfRow(currentIndex);
@@ -242,10 +266,15 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 								currentIndex++;
 								if (((c & separatorFingerPrintMask) == separatorFingerPrint)
 										&& (c == separatorChar || c == LF || c == CR)) { // separator
-									cellPreProcessor.newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState);
 									if (c == separatorChar) {
+										newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState, currentColumn++);
+										if (currentColumn > lastColumn) {
+											currentIndex = skipToEndOfRow(chars, currentIndex, bufferSize, quoteChar);
+										}
 										currentState = LAST_CHAR_WAS_SEPARATOR | ROW_DATA;
 									} else {
+										newCell(chars, csvBuffer.cellStartMark, ce, cellConsumer, currentState, currentColumn);
+										currentColumn = 0;
 										currentState = c == LF ? NONE : LAST_CHAR_WAS_CR;
 										if (cellConsumer.endOfRow()) {
 											markEndOfRow(currentIndex);
@@ -317,9 +346,58 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 		} finally {
 			_currentState = currentState;
 			_currentIndex = currentIndex;
+			_currentColumn = currentColumn;
+		}
+
+
+	}
+
+	/**
+	 * Only the cells of the columns set in the mask go through the CellPreProcessor, the other cells before the last
+	 * column of the mask are reported as empty without being unescaped, the cells after it are not reported and
+	 * the scan of the row jumps to the end of line if the rest of the row has no quote.
+	 * @param columnMask bit (i &amp; 63) of columnMask[i &gt;&gt; 6] set if the column i is needed, null for all the columns
+	 */
+	@Override
+	public void columnMask(long[] columnMask) {
+		int lastColumn = -1;
+		if (columnMask != null) {
+			for (int i = columnMask.length - 1; i >= 0 && lastColumn == -1; i--) {
+				if (columnMask[i] != 0) {
+					lastColumn = (i << 6) + 63 - Long.numberOfLeadingZeros(columnMask[i]);
+				}
+			}
+		}
+		if (lastColumn == -1) {
+			this.columnMask = null;
+			this.lastColumn = Integer.MAX_VALUE;
+		} else {
+			this.columnMask = columnMask;
+			this.lastColumn = lastColumn;
 		}
+	}
 
+	private void newCell(char[] chars, int start, int end, CellConsumer cellConsumer, int state, int column) {
+		if (column <= lastColumn) {
+			final long[] columnMask = this.columnMask;
+			if (columnMask == null || (columnMask[column >> 6] & (1L << column)) != 0) {
+				cellPreProcessor.newCell(chars, start, end, cellConsumer, state);
+			} else {
+				cellConsumer.newCell(chars, start, 0);
+			}
+		}
+	}
 
+	/**
+	 * @return the index of the end of line char, or start if there is a quote before it or no end of line in the buffer.
+	 */
+	private int skipToEndOfRow(char[] chars, int start, int end, char quoteChar) {
+		for(int i = start; i < end; i++) {
+			char c = chars[i];
+			if (c == CR || c == LF) return i;
+			if (c == quoteChar) return start;
+		}
+		return start;
 	}
 
 	private void markEndOfRow(int currentIndex) {
@@ -360,9 +438,10 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 	public final void finish(CellConsumer cellConsumer) {
 		if ( hasUnconsumedData()
 				|| (_currentState & LAST_CHAR_WAS_SEPARATOR) != 0) {
-			cellPreProcessor.newCell(csvBuffer.buffer, csvBuffer.cellStartMark, _currentIndex, cellConsumer, _currentState);
+			newCell(csvBuffer.buffer, csvBuffer.cellStartMark, _currentIndex, cellConsumer, _currentState, _currentColumn);
 			csvBuffer.cellStartMark = _currentIndex + 1;
 			_currentState = NONE;
+			_currentColumn = 0;
 		}
 		cellConsumer.end();
 	}
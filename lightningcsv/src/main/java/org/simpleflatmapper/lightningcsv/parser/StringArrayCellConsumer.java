@@ -2,6 +2,8 @@ package org.simpleflatmapper.lightningcsv.parser;
 
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.StringDeduplicator;
+
 import java.util.Arrays;
 
 public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super String[]>> implements CellConsumer {
@@ -9,21 +11,35 @@ public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super St
 	public static final int DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW = 64 * 1024 * 1024;
 	private final RH handler;
 	private final int maxNumberOfCellPerRow;
+	private final StringDeduplicator[] stringDeduplicators;
 	private int currentIndex;
 	private String[] currentRow = new String[8];
 
-	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow) {
+	private StringArrayCellConsumer(RH handler, int maxNumberOfCellPerRow, StringDeduplicator[] stringDeduplicators) {
 		this.handler = handler;
 		this.maxNumberOfCellPerRow = maxNumberOfCellPerRow;
+		this.stringDeduplicators = stringDeduplicators;
 	}
 
 	@Override
 	public void newCell(char[] chars, int offset, int length) {
 		ensureCapacity();
-		currentRow[currentIndex] = length > 0 ? new String(chars, offset, length) : "";
+		currentRow[currentIndex] = length > 0 ? newString(chars, offset, length) : "";
 		currentIndex ++;
 	}
 
+	private String newString(char[] chars, int offset, int length) {
+		StringDeduplicator[] stringDeduplicators = this.stringDeduplicators;
+		int index = currentIndex;
+		if (stringDeduplicators != null && index < stringDeduplicators.length) {
+			StringDeduplicator stringDeduplicator = stringDeduplicators[index];
+			if (stringDeduplicator != null) {
+				return stringDeduplicator.get(chars, offset, length);
+			}
+		}
+		return new String(chars, offset, length);
+	}
+
 	private void ensureCapacity() {
 		if (currentIndex >= currentRow.length) {
 			if (currentRow.length >= maxNumberOfCellPerRow) {
@@ -58,7 +74,18 @@ public final class StringArrayCellConsumer<RH extends CheckedConsumer<? super St
 		}
 	}
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, int maxNumberOfCellPerRow) {
-		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow);
+		return newInstance(handler, maxNumberOfCellPerRow, null);
+	}
+
+	/**
+	 * @param stringDeduplicators the deduplicator to use for each column, can be null or contain null
+	 */
+	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, int maxNumberOfCellPerRow, StringDeduplicator[] stringDeduplicators) {
+		return new StringArrayCellConsumer<RH>(handler, maxNumberOfCellPerRow, stringDeduplicators);
+	}
+
+	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler, StringDeduplicator[] stringDeduplicators) {
+		return newInstance(handler, DEFAULT_MAX_NUMBER_OF_CELL_PER_ROW, stringDeduplicators);
 	}
 
 	public static <RH extends CheckedConsumer<? super String[]>> StringArrayCellConsumer<RH> newInstance(RH handler) {
@@ -11,6 +11,7 @@ import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.StringDeduplicator;
 
 import java.io.CharArrayReader;
 import java.io.File;
@@ -1109,6 +1110,23 @@ public class CsvParserTest {
 		validatorRows(rowIterator);
 	}
 	//IFJAVA8_END
+
+	@Test
+	public void testDeduplicateStrings() throws IOException {
+		StringDeduplicator countries = new StringDeduplicator(16, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+		List<String[]> rows = CsvParser.dsl()
+				.deduplicateStrings(1, countries)
+				.forEach("1,FR,a\n2,FR,a\n3,GB,a\n4,FR,a", new ListCollector<String[]>()).getList();
+
+		assertEquals(4, rows.size());
+		assertArrayEquals(new String[] {"3", "GB", "a"}, rows.get(2));
+		assertSame(rows.get(0)[1], rows.get(1)[1]);
+		assertSame(rows.get(0)[1], rows.get(3)[1]);
+		assertNotSame(rows.get(0)[2], rows.get(1)[2]);
+
+		assertEquals(2, countries.getHitCount());
+		assertEquals(2, countries.getMissCount());
+	}
 	
 	
 }
@@ -0,0 +1,129 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.impl.MappedFileReader;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.MalformedInputException;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class MappedFileReaderTest {
+
+	private static final String CONTENT = "h1,h2\nabc,\"d\ne\"\né€𝄞,x\n";
+
+	@Test
+	public void testUtf8AcrossWindows() throws IOException {
+		validateContent(CONTENT, Charset.forName("UTF-8"));
+	}
+
+	@Test
+	public void testLatin1AcrossWindows() throws IOException {
+		validateContent("h1,h2\nàbc,\"d\ne\"\néèê,x\n", Charset.forName("ISO-8859-1"));
+	}
+
+	@Test
+	public void testAsciiAcrossWindows() throws IOException {
+		validateContent("h1,h2\nabc,\"d\ne\"\nxyz,x\n", Charset.forName("US-ASCII"));
+	}
+
+	@Test
+	public void testUtf16AcrossWindows() throws IOException {
+		validateContent(CONTENT, Charset.forName("UTF-16"));
+	}
+
+	@Test
+	public void testMalformedAscii() throws IOException {
+		File file = createTempFile(new byte[]{'a', (byte) 0xE9, 'b'});
+		try {
+			MappedFileReader reader = new MappedFileReader(file, Charset.forName("US-ASCII"));
+			try {
+				read(reader, 10);
+				fail();
+			} catch (MalformedInputException e) {
+				// expected
+			} finally {
+				reader.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testMemoryMappedFileDsl() throws IOException {
+		String content = "1,a\n2,b\n3,c";
+		File file = createTempFile(content.getBytes(CsvParser.DEFAULT_CHARSET.name()));
+		try {
+			List<String[]> rows = CsvParser.dsl().memoryMappedFile().forEach(file, new ListCollector<String[]>()).getList();
+			assertEquals(3, rows.size());
+			assertArrayEquals(new String[]{"3", "c"}, rows.get(2));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testDslCharset() throws IOException {
+		Charset charset = Charset.forName("UTF-16");
+		File file = createTempFile("1,é\n2,€".getBytes(charset.name()));
+		try {
+			for (CsvParser.DSL dsl : new CsvParser.DSL[] { CsvParser.dsl().charset(charset), CsvParser.dsl().charset(charset).memoryMappedFile() }) {
+				List<String[]> rows = dsl.forEach(file, new ListCollector<String[]>()).getList();
+				assertEquals(2, rows.size());
+				assertArrayEquals(new String[]{"1", "é"}, rows.get(0));
+				assertArrayEquals(new String[]{"2", "€"}, rows.get(1));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private void validateContent(String content, Charset charset) throws IOException {
+		File file = createTempFile(content.getBytes(charset.name()));
+		try {
+			for (int windowSize : new int[]{32, 33, 37, MappedFileReader.DEFAULT_WINDOW_SIZE}) {
+				for (int readSize : new int[]{1, 3, 4096}) {
+					MappedFileReader reader = new MappedFileReader(file, charset, windowSize);
+					try {
+						assertEquals(charset + " " + windowSize + " " + readSize, content, read(reader, readSize));
+					} finally {
+						reader.close();
+					}
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private String read(Reader reader, int readSize) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		char[] buffer = new char[readSize];
+		int l;
+		while ((l = reader.read(buffer, 0, readSize)) != -1) {
+			sb.append(buffer, 0, l);
+		}
+		return sb.toString();
+	}
+
+	private File createTempFile(byte[] bytes) throws IOException {
+		File file = File.createTempFile("mapped", ".csv");
+		FileOutputStream os = new FileOutputStream(file);
+		try {
+			os.write(bytes);
+		} finally {
+			os.close();
+		}
+		return file;
+	}
+}
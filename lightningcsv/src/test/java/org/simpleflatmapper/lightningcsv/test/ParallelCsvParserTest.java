@@ -0,0 +1,208 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.util.CloseableIterator;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelCsvParserTest {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	@Test
+	public void testParallelParsingMatchesSequentialParsing() throws IOException {
+		Random random = new Random(42);
+		String[] endOfLines = {"\n", "\r\n", "\r"};
+		for (int i = 0; i < 50; i++) {
+			String content = randomCsv(random, endOfLines[i % endOfLines.length]);
+			File file = createTempCsv(content, UTF8);
+			try {
+				List<String[]> expected = CsvParser.forEach(content, new ListCollector<String[]>()).getList();
+
+				for (int chunkSize : new int[]{1, 3, 7, 64, 1024}) {
+					List<String[]> actual = CsvParser.dsl().parallel(4).chunkSize(chunkSize).charset(UTF8).forEach(file, new ListCollector<String[]>()).getList();
+					assertRowsEquals(content + " " + chunkSize, expected, actual);
+				}
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	@Test
+	public void testQuotedEndOfLineOnChunkBoundary() throws IOException {
+		String content = "h1,h2\n\"a\nb\nc\",d\ne,\"f\r\ng\"\nh,i";
+		File file = createTempCsv(content, UTF8);
+		try {
+			List<String[]> rows = CsvParser.dsl().parallel(2).chunkSize(2).charset(UTF8).forEach(file, new ListCollector<String[]>()).getList();
+			assertRowsEquals(content, CsvParser.forEach(content, new ListCollector<String[]>()).getList(), rows);
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testGuessInQuotedCellDoesNotOverflowMaxBufferSize() throws IOException {
+		// a guessed start in the quoted cell leaves the rest of the file in a quoted area
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 10; i++) {
+			sb.append("b,c\n");
+		}
+		sb.append("\"a\nzzz\nzzz\nzzz\nzzz\nzzz\n\"\n");
+		for (int i = 0; i < 100; i++) {
+			sb.append("b,c\n");
+		}
+		String content = sb.toString();
+		File file = createTempCsv(content, UTF8);
+		try {
+			List<String[]> expected = CsvParser.forEach(content, new ListCollector<String[]>()).getList();
+			for (int chunkSize : new int[]{16, 32, 48}) {
+				List<String[]> actual = CsvParser.bufferSize(16).maxBufferSize(64).parallel(4).chunkSize(chunkSize).charset(UTF8).forEach(file, new ListCollector<String[]>()).getList();
+				assertRowsEquals(String.valueOf(chunkSize), expected, actual);
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testSkipAndLimit() throws IOException {
+		File file = createTempCsv("1\n2\n3\n4\n5\n6", UTF8);
+		try {
+			List<String[]> rows = CsvParser.skip(1).limit(3).parallel(2).chunkSize(2).charset(UTF8).forEach(file, new ListCollector<String[]>()).getList();
+			assertEquals(3, rows.size());
+			assertArrayEquals(new String[]{"2"}, rows.get(0));
+			assertArrayEquals(new String[]{"4"}, rows.get(2));
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testIterator() throws IOException {
+		File file = createTempCsv("1,a\n2,b\n3,c", UTF8);
+		try {
+			CloseableIterator<String[]> iterator = CsvParser.skip(1).parallel(2).chunkSize(3).charset(UTF8).iterator(file);
+			try {
+				List<String[]> rows = new ArrayList<String[]>();
+				while (iterator.hasNext()) {
+					rows.add(iterator.next());
+				}
+				assertEquals(2, rows.size());
+				assertArrayEquals(new String[]{"2", "b"}, rows.get(0));
+				assertArrayEquals(new String[]{"3", "c"}, rows.get(1));
+			} finally {
+				iterator.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testIteratorSkipAndLimit() throws IOException {
+		File file = createTempCsv("1\n2\n3\n4\n5\n6", UTF8);
+		try {
+			CloseableIterator<String[]> iterator = CsvParser.skip(1).limit(3).parallel(2).chunkSize(2).charset(UTF8).iterator(file);
+			try {
+				List<String[]> rows = new ArrayList<String[]>();
+				while (iterator.hasNext()) {
+					rows.add(iterator.next());
+				}
+				assertEquals(3, rows.size());
+				assertArrayEquals(new String[]{"2"}, rows.get(0));
+				assertArrayEquals(new String[]{"4"}, rows.get(2));
+			} finally {
+				iterator.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	//IFJAVA8_START
+	@Test
+	public void testStreamSkipAndLimit() throws IOException {
+		File file = createTempCsv("1\n2\n3\n4\n5\n6", UTF8);
+		try {
+			long count = CsvParser.skip(1).limit(3).parallel(2).chunkSize(2).charset(UTF8).stream(file, s -> s.count());
+			assertEquals(3, count);
+			long none = CsvParser.limit(0).parallel(2).chunkSize(2).charset(UTF8).stream(file, s -> s.count());
+			assertEquals(0, none);
+		} finally {
+			file.delete();
+		}
+	}
+	//IFJAVA8_END
+
+	@Test
+	public void testNonAsciiCompatibleCharsetIsParsedSequentially() throws IOException {
+		Charset utf16 = Charset.forName("UTF-16");
+		String content = "a,b\nc,\"d\ne\"\nf";
+		File file = createTempCsv(content, utf16);
+		try {
+			List<String[]> rows = CsvParser.dsl().parallel(4).chunkSize(1).charset(utf16).forEach(file, new ListCollector<String[]>()).getList();
+			assertRowsEquals(content, CsvParser.forEach(content, new ListCollector<String[]>()).getList(), rows);
+		} finally {
+			file.delete();
+		}
+	}
+
+	private static String randomCsv(Random random, String endOfLine) {
+		StringBuilder sb = new StringBuilder();
+		int nbRows = random.nextInt(40);
+		for (int i = 0; i < nbRows; i++) {
+			int nbCells = 1 + random.nextInt(5);
+			for (int j = 0; j < nbCells; j++) {
+				if (j > 0) sb.append(',');
+				switch (random.nextInt(4)) {
+					case 0:
+						sb.append("\"q\n,\r\n \"\"x\"\" é\"");
+						break;
+					case 1:
+						sb.append("é€𝄞").append(random.nextInt(100));
+						break;
+					case 2:
+						break;
+					default:
+						sb.append("v").append(random.nextInt(1000));
+				}
+			}
+			if (i < nbRows - 1 || random.nextBoolean()) {
+				sb.append(endOfLine);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void assertRowsEquals(String message, List<String[]> expected, List<String[]> actual) {
+		assertEquals(message, expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertArrayEquals(message, expected.get(i), actual.get(i));
+		}
+	}
+
+	private static File createTempCsv(String content, Charset charset) throws IOException {
+		File file = File.createTempFile("parallel", ".csv");
+		Writer writer = new OutputStreamWriter(new FileOutputStream(file), charset);
+		try {
+			writer.write(content);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+}
@@ -1,14 +1,19 @@
 package org.simpleflatmapper.lightningcsv.test.parser;
 
 import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.ConfigurableCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.TextFormat;
+import org.simpleflatmapper.lightningcsv.parser.UnescapeCellPreProcessor;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -44,6 +49,43 @@ public class AbstractCharConsumerTest {
 
     }
 
+    @Test
+    public void columnMask() throws Exception {
+        CharConsumerFactory charConsumerFactory = CharConsumerFactory.newInstance();
+        String content = "a,\"b\"\"b\",c,\"d\nd\",e\r\n\"f\",g,h,i,\"j,\"\"j\"\nk,l,m,n,o\n";
+        for (boolean specialised : new boolean[] { false, true }) {
+            AbstractCharConsumer consumer = charConsumerFactory.newCharConsumer(TextFormat.RFC4180, new CharSequenceCharBuffer(content), new UnescapeCellPreProcessor(TextFormat.RFC4180.escapeChar, TextFormat.RFC4180.quoteChar), specialised);
+            // columns 1 and 2
+            consumer.columnMask(new long[] {6});
+
+            final List<String> cells = new ArrayList<String>();
+            CellConsumer cellConsumer = new CellConsumer() {
+                @Override
+                public void newCell(char[] chars, int offset, int length) {
+                    cells.add(new String(chars, offset, length));
+                }
+
+                @Override
+                public boolean endOfRow() {
+                    cells.add("|");
+                    return true;
+                }
+
+                @Override
+                public void end() {
+                }
+            };
+
+            assertTrue(consumer.consumeToNextRow(cellConsumer));
+            assertEquals(Arrays.asList("", "b\"b", "c", "|"), cells);
+
+            cells.clear();
+            consumer.consumeAllBuffer(cellConsumer);
+            consumer.finish(cellConsumer);
+            assertEquals(Arrays.asList("", "g", "h", "|", "", "l", "m", "|"), cells);
+        }
+    }
+
     private Object get(String method, AbstractCharConsumer instance) throws Exception {
         Method declaredMethod = instance.getClass().getDeclaredMethod(method);
         declaredMethod.setAccessible(true);
@@ -0,0 +1,159 @@
+package org.simpleflatmapper.lightningcsv.test.writer;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CharArraySink;
+import org.simpleflatmapper.lightningcsv.ClosableCsvWriter;
+import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.lightningcsv.CsvWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class CharArraySinkTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testUtf8EncodingMatchesStringGetBytes() throws IOException {
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            String str = randomString(random, random.nextInt(200));
+            for (int bufferSize : new int[]{1, 2, 3, 7, 64, 1024}) {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                CharArraySink sink = CharArraySink.to(bos, UTF8, bufferSize);
+                appendRandomly(random, str, sink);
+                sink.close();
+                assertArrayEquals(str + " " + bufferSize, str.getBytes("UTF-8"), bos.toByteArray());
+            }
+        }
+    }
+
+    @Test
+    public void testUnpairedSurrogatesAreReplaced() throws IOException {
+        String str = "a\uD834b\uDD1Ec𝄞\uD834";
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        CharArraySink sink = CharArraySink.to(Channels.newChannel(bos), UTF8, 4);
+        sink.append(str);
+        sink.close();
+        assertArrayEquals(str.getBytes("UTF-8"), bos.toByteArray());
+    }
+
+    @Test
+    public void testOtherCharsetAndWriter() throws IOException {
+        String str = "hello,\"é\"\r\n€";
+        Charset latin1 = Charset.forName("ISO-8859-15");
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        CharArraySink sink = CharArraySink.to(bos, latin1, 3);
+        sink.append(str);
+        sink.close();
+        assertArrayEquals(str.getBytes(latin1.name()), bos.toByteArray());
+
+        StringWriter sw = new StringWriter();
+        sink = CharArraySink.to(sw, 3);
+        sink.append(str).append('!');
+        sink.flush();
+        assertEquals(str + "!", sw.toString());
+    }
+
+    @Test
+    public void testCsvWriterToOutputStreamMatchesAppendable() throws IOException {
+        Random random = new Random(2);
+        String[][] rows = new String[100][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new String[random.nextInt(5)];
+            for (int j = 0; j < rows[i].length; j++) {
+                rows[i][j] = randomString(random, random.nextInt(40));
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        CsvWriter expectedWriter = CsvWriter.dsl().to(sb);
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ClosableCsvWriter writer = CsvWriter.dsl().to(bos, UTF8);
+        for (String[] row : rows) {
+            expectedWriter.appendRow(row);
+            for (String cell : row) {
+                writer.appendCell(cell.toCharArray());
+            }
+            writer.endOfRow();
+        }
+        writer.close();
+
+        assertEquals(sb.toString(), new String(bos.toByteArray(), "UTF-8"));
+    }
+
+    @Test
+    public void testEscapingScanOnBlockBoundaries() throws IOException {
+        for (int length = 1; length < 40; length++) {
+            for (int position = 0; position < length; position++) {
+                for (char special : new char[]{',', '"', '\r', '\n'}) {
+                    char[] chars = new char[length];
+                    for (int i = 0; i < length; i++) chars[i] = 'a';
+                    chars[position] = special;
+                    String str = new String(chars);
+                    String expected = "\"" + str.replace("\"", "\"\"") + "\"";
+
+                    StringBuilder sb = new StringBuilder();
+                    CsvCellWriter.DEFAULT_WRITER.writeValue(chars, 0, length, sb);
+                    assertEquals(expected, sb.toString());
+
+                    sb = new StringBuilder();
+                    CsvCellWriter.DEFAULT_WRITER.writeValue(str, sb);
+                    assertEquals(expected, sb.toString());
+                }
+            }
+        }
+    }
+
+    private static void appendRandomly(Random random, String str, CharArraySink sink) throws IOException {
+        int i = 0;
+        while (i < str.length()) {
+            int end = Math.min(str.length(), i + random.nextInt(10));
+            switch (random.nextInt(3)) {
+                case 0:
+                    sink.append(str, i, end);
+                    break;
+                case 1:
+                    sink.append(str.toCharArray(), i, end);
+                    break;
+                default:
+                    if (i < str.length()) {
+                        sink.append(str.charAt(i));
+                        end = i + 1;
+                    }
+            }
+            i = end;
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder sb = new StringBuilder();
+        String specials = ",\"\r\n";
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    sb.append(specials.charAt(random.nextInt(specials.length())));
+                    break;
+                case 1:
+                    sb.append((char) (0x80 + random.nextInt(0x780)));
+                    break;
+                case 2:
+                    sb.append((char) (0x800 + random.nextInt(0xD000)));
+                    break;
+                case 3:
+                    sb.appendCodePoint(0x10000 + random.nextInt(0x100000));
+                    break;
+                default:
+                    sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+}
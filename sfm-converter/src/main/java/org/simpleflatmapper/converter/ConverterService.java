@@ -11,14 +11,20 @@ import org.simpleflatmapper.util.TypeHelper;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ConverterService {
 
+    // past that size the new resolutions are not cached anymore
+    public static final int RESOLUTION_CACHE_MAX_SIZE = 4096;
 
     private static final ConverterService INSTANCE = new ConverterService(getConverterFactories(ConverterService.class.getClassLoader()));
 
@@ -87,21 +93,78 @@ public class ConverterService {
             return new IdentityConverter();
         }
 
-        List<ScoredConverterFactory> potentials = findConverterFactories(inType, outType, params);
+        ConvertingTypes targetedTypes = new ConvertingTypes(inType, outType);
 
+        ResolutionKey key = new ResolutionKey(inType, outType, params);
+        List<ScoredConverterFactory> potentials = resolutionCache.get(key);
+        if (potentials != null) {
+            resolutionCacheHitCount.incrementAndGet();
+            ContextualConverter<F, P> converter = newConverter(potentials, targetedTypes, contextFactoryBuilder, params);
+            if (converter != null) return converter;
+            // the cached chain did not work with those param values, resolve again without caching
+            return newConverter(findConverterFactories(inType, outType, params, new HashSet<Type>()), targetedTypes, contextFactoryBuilder, params);
+        }
 
-        ConvertingTypes targetedTypes = new ConvertingTypes(inType, outType);
+        potentials = resolve(key, params);
+
+        return newConverter(potentials, targetedTypes, contextFactoryBuilder, params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F, P> ContextualConverter<F, P> newConverter(List<ScoredConverterFactory> potentials, ConvertingTypes targetedTypes, ContextFactoryBuilder contextFactoryBuilder, Object[] params) {
         for(ScoredConverterFactory p : potentials) {
             ContextualConverter<F, P> converter = p.converterFactory.newConverter(targetedTypes, contextFactoryBuilder, params);
             if (converter != null) return converter;
         }
         return null;
-
     }
 
     @SuppressWarnings("unchecked")
     public  List<ScoredConverterFactory> findConverterFactories(Type inType, Type outType, Object... params) {
-        return findConverterFactories(inType, outType, params, new HashSet<Type>());
+        ResolutionKey key = new ResolutionKey(inType, outType, params);
+        List<ScoredConverterFactory> potentials = resolutionCache.get(key);
+        if (potentials != null) {
+            resolutionCacheHitCount.incrementAndGet();
+            return potentials;
+        }
+        return resolve(key, params);
+    }
+
+    private List<ScoredConverterFactory> resolve(ResolutionKey key, Object[] params) {
+        long start = System.nanoTime();
+        List<ScoredConverterFactory> potentials = Collections.unmodifiableList(findConverterFactories(key.inType, key.outType, params, new HashSet<Type>()));
+        resolutionTimeNanos.addAndGet(System.nanoTime() - start);
+        resolutionCacheMissCount.incrementAndGet();
+
+        if (resolutionCache.size() < RESOLUTION_CACHE_MAX_SIZE) {
+            resolutionCache.putIfAbsent(key, potentials);
+        }
+        return potentials;
+    }
+
+    /**
+     * @return the number of findConverter calls that reused a cached resolution.
+     */
+    public long getResolutionCacheHitCount() {
+        return resolutionCacheHitCount.get();
+    }
+
+    /**
+     * @return the number of findConverter calls that had to search the converter factories.
+     */
+    public long getResolutionCacheMissCount() {
+        return resolutionCacheMissCount.get();
+    }
+
+    /**
+     * @return the total time spent searching the converter factories on a miss.
+     */
+    public long getResolutionTimeNanos() {
+        return resolutionTimeNanos.get();
+    }
+
+    public int getResolutionCacheSize() {
+        return resolutionCache.size();
     }
     private  List<ScoredConverterFactory> findConverterFactories(Type inType, Type outType, Object[] params, Set<Type> loopDetector) {
         List<ScoredConverterFactory> potentials = new ArrayList<ScoredConverterFactory>();
@@ -176,6 +239,56 @@ public class ConverterService {
 
     private final List<ContextualConverterFactory> converters;
 
+    private final ConcurrentMap<ResolutionKey, List<ScoredConverterFactory>> resolutionCache = new ConcurrentHashMap<ResolutionKey, List<ScoredConverterFactory>>();
+    private final AtomicLong resolutionCacheHitCount = new AtomicLong();
+    private final AtomicLong resolutionCacheMissCount = new AtomicLong();
+    private final AtomicLong resolutionTimeNanos = new AtomicLong();
+
+    /**
+     * The search only depends on which kind of params are present, not on their values,
+     * so the params are keyed by class to share the resolution between mappers that create new property instances.
+     */
+    private static final class ResolutionKey {
+        private final Type inType;
+        private final Type outType;
+        private final Class<?>[] paramTypes;
+        private final int hashCode;
+
+        private ResolutionKey(Type inType, Type outType, Object[] params) {
+            this.inType = inType;
+            this.outType = outType;
+            this.paramTypes = paramTypes(params);
+            this.hashCode = 31 * (31 * inType.hashCode() + outType.hashCode()) + Arrays.hashCode(paramTypes);
+        }
+
+        private static Class<?>[] paramTypes(Object[] params) {
+            if (params == null) return new Class<?>[0];
+            Class<?>[] paramTypes = new Class<?>[params.length];
+            for(int i = 0; i < params.length; i++) {
+                Object param = params[i];
+                paramTypes[i] = param != null ? param.getClass() : null;
+            }
+            return paramTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            ResolutionKey that = (ResolutionKey) o;
+
+            return inType.equals(that.inType)
+                    && outType.equals(that.outType)
+                    && Arrays.equals(paramTypes, that.paramTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
 
     private static class ScoredConverterFactory implements Comparable<ScoredConverterFactory>{
         private final int score;
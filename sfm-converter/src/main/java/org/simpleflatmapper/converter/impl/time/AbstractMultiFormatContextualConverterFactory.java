@@ -18,7 +18,8 @@ public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extend
     public ContextualConverter<? super I, ? extends O> newConverter(ConvertingTypes targetedTypes, ContextFactoryBuilder contextFactoryBuilder, Object... params) {
 
         DateTimeFormatter[] dateTimeFormatters = JavaTimeHelper.getDateTimeFormatters(params);
-        
+        String[] patterns = JavaTimeHelper.getDateTimePatterns(params);
+
         if (dateTimeFormatters.length == 0) {
             return null;
         }
@@ -32,7 +33,7 @@ public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extend
             if (dateTimeFormatter.getZone() == null) {
                 dateTimeFormatter.withZone(zoneId);
             }
-            converters[i] = newConverter(dateTimeFormatter);
+            converters[i] = newConverter(dateTimeFormatter, DateTimePatternCompiler.compile(dateTimeFormatter, patterns[i]));
         }
 
         if (converters.length == 1) {
@@ -45,4 +46,11 @@ public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extend
 
     @SuppressWarnings("unchecked")
     protected abstract ContextualConverter<I, O> newConverter(DateTimeFormatter formatter);
+
+    /**
+     * @param parser the parser compiled from the formatter pattern, null if the pattern is not a supported fixed width pattern
+     */
+    protected ContextualConverter<I, O> newConverter(DateTimeFormatter formatter, FixedPatternDateTimeParser parser) {
+        return newConverter(formatter);
+    }
 }
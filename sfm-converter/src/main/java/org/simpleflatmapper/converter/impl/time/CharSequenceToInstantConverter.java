@@ -9,14 +9,27 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToInstantConverter implements ContextualConverter<CharSequence, Instant> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final FixedPatternDateTimeParser parser;
 
     public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    /**
+     * @param parser the fast path, the formatter is used for the values the parser does not match
+     */
+    public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter, FixedPatternDateTimeParser parser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.parser = parser;
     }
 
     @Override
     public Instant convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (parser != null) {
+            Instant value = parser.parseInstant(in, dateTimeFormatter.getZone());
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parse(in, Instant::from);
     }
 }
@@ -9,14 +9,27 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToLocalDateConverter implements ContextualConverter<CharSequence, LocalDate> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final FixedPatternDateTimeParser parser;
 
     public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    /**
+     * @param parser the fast path, the formatter is used for the values the parser does not match
+     */
+    public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter, FixedPatternDateTimeParser parser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.parser = parser;
     }
 
     @Override
     public LocalDate convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (parser != null) {
+            LocalDate value = parser.parseLocalDate(in);
+            if (value != null) return value;
+        }
         return LocalDate.parse(in, dateTimeFormatter);
     }
 }
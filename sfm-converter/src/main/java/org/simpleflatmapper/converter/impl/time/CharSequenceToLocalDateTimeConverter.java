@@ -9,14 +9,27 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final FixedPatternDateTimeParser parser;
 
     public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    /**
+     * @param parser the fast path, the formatter is used for the values the parser does not match
+     */
+    public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter, FixedPatternDateTimeParser parser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.parser = parser;
     }
 
     @Override
     public LocalDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (parser != null) {
+            LocalDateTime value = parser.parseLocalDateTime(in);
+            if (value != null) return value;
+        }
         return LocalDateTime.parse(in, dateTimeFormatter);
     }
 }
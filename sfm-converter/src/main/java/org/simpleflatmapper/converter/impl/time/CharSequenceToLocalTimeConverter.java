@@ -9,14 +9,27 @@ import java.time.format.DateTimeFormatter;
 public class CharSequenceToLocalTimeConverter implements ContextualConverter<CharSequence, LocalTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final FixedPatternDateTimeParser parser;
 
     public CharSequenceToLocalTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    /**
+     * @param parser the fast path, the formatter is used for the values the parser does not match
+     */
+    public CharSequenceToLocalTimeConverter(DateTimeFormatter dateTimeFormatter, FixedPatternDateTimeParser parser) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.parser = parser;
     }
 
     @Override
     public LocalTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (parser != null) {
+            LocalTime value = parser.parseLocalTime(in);
+            if (value != null) return value;
+        }
         return LocalTime.parse(in, dateTimeFormatter);
     }
 }
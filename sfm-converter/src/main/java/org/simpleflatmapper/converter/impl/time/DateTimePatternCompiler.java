@@ -0,0 +1,193 @@
+package org.simpleflatmapper.converter.impl.time;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the fixed width date time patterns into a FixedPatternDateTimeParser.
+ * <p>
+ * Supported are yyyy or uuuu, MM, dd, HH, mm, ss, S to SSSSSSSSS, the literals,
+ * and an optional fraction at the end as in yyyy-MM-dd HH:mm:ss[.SSS].
+ * The iso local date, time and date time formatters are recognised by identity.
+ * Any other pattern returns null and is left to the DateTimeFormatter.
+ */
+public final class DateTimePatternCompiler {
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int FRACTION = 6;
+
+    private DateTimePatternCompiler() {}
+
+    /**
+     * @param formatter the formatter the pattern was built from
+     * @param pattern the pattern of the formatter, null if it was not built from a pattern
+     * @return the parser or null if the formatter is not supported
+     */
+    public static FixedPatternDateTimeParser compile(DateTimeFormatter formatter, String pattern) {
+        if (pattern != null) {
+            return compile(pattern);
+        }
+        if (formatter == DateTimeFormatter.ISO_LOCAL_DATE) {
+            return compile("uuuu-MM-dd");
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_TIME) {
+            return compile("HH:mm", FixedPatternDateTimeParser.TAIL_ISO_SECONDS);
+        } else if (formatter == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            return compile("uuuu-MM-dd'T'HH:mm", FixedPatternDateTimeParser.TAIL_ISO_SECONDS);
+        }
+        return null;
+    }
+
+    /**
+     * @param pattern the DateTimeFormatter pattern
+     * @return the parser or null if the pattern is not supported
+     */
+    public static FixedPatternDateTimeParser compile(String pattern) {
+        return compile(pattern, FixedPatternDateTimeParser.TAIL_NONE);
+    }
+
+    private static FixedPatternDateTimeParser compile(String pattern, int tail) {
+        int[] positions = new int[] { -1, -1, -1, -1, -1, -1, -1 };
+        int fractionWidth = 0;
+        char tailSeparator = 0;
+        List<Integer> literalPositions = new ArrayList<Integer>();
+        StringBuilder literals = new StringBuilder();
+
+        int length = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (isLetter(c)) {
+                int count = 1;
+                while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                int field = field(c, count);
+                if (field < 0 || positions[field] >= 0) {
+                    return null;
+                }
+                positions[field] = length;
+                if (field == FRACTION) {
+                    fractionWidth = count;
+                }
+                length += count;
+                i += count;
+            } else if (c == '\'') {
+                int end = pattern.indexOf('\'', i + 1);
+                if (end < 0) {
+                    return null;
+                }
+                if (end == i + 1) {
+                    // '' is a quote
+                    literalPositions.add(length++);
+                    literals.append('\'');
+                } else {
+                    for (int j = i + 1; j < end; j++) {
+                        if (pattern.charAt(j) == '\'') {
+                            return null;
+                        }
+                        literalPositions.add(length++);
+                        literals.append(pattern.charAt(j));
+                    }
+                }
+                i = end + 1;
+            } else if (c == '[') {
+                // only [.S] at the end of the pattern
+                int end = pattern.length() - 1;
+                if (tail != FixedPatternDateTimeParser.TAIL_NONE
+                        || positions[FRACTION] >= 0
+                        || positions[SECOND] < 0
+                        || pattern.charAt(end) != ']'
+                        || end - i < 3) {
+                    return null;
+                }
+                tailSeparator = pattern.charAt(i + 1);
+                if (isLetter(tailSeparator) || tailSeparator == '\'' || tailSeparator == '[') {
+                    return null;
+                }
+                fractionWidth = end - i - 2;
+                for (int j = i + 2; j < end; j++) {
+                    if (pattern.charAt(j) != 'S') {
+                        return null;
+                    }
+                }
+                if (fractionWidth > 9) {
+                    return null;
+                }
+                tail = FixedPatternDateTimeParser.TAIL_FRACTION;
+                i = end + 1;
+            } else if (c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                literalPositions.add(length++);
+                literals.append(c);
+                i++;
+            }
+        }
+
+        if (!isValid(positions, tail)) {
+            return null;
+        }
+
+        int[] literalPositionsArray = new int[literalPositions.size()];
+        for (int j = 0; j < literalPositionsArray.length; j++) {
+            literalPositionsArray[j] = literalPositions.get(j);
+        }
+
+        return new FixedPatternDateTimeParser(length, literalPositionsArray, literals.toString().toCharArray(),
+                positions[YEAR], positions[MONTH], positions[DAY],
+                positions[HOUR], positions[MINUTE], positions[SECOND],
+                positions[FRACTION], fractionWidth,
+                tail, tailSeparator);
+    }
+
+    private static boolean isValid(int[] positions, int tail) {
+        boolean hasDate = positions[YEAR] >= 0 && positions[MONTH] >= 0 && positions[DAY] >= 0;
+        boolean noDate = positions[YEAR] < 0 && positions[MONTH] < 0 && positions[DAY] < 0;
+        boolean hasTime = positions[HOUR] >= 0 && positions[MINUTE] >= 0;
+        boolean noTime = positions[HOUR] < 0 && positions[MINUTE] < 0 && positions[SECOND] < 0 && positions[FRACTION] < 0;
+
+        if (!(hasDate || noDate) || !(hasTime || noTime) || (noDate && noTime)) {
+            return false;
+        }
+        if (positions[FRACTION] >= 0 && positions[SECOND] < 0) {
+            return false;
+        }
+        if (tail == FixedPatternDateTimeParser.TAIL_ISO_SECONDS && positions[SECOND] >= 0) {
+            return false;
+        }
+        return true;
+    }
+
+    private static int field(char c, int count) {
+        switch (c) {
+            case 'y':
+            case 'u':
+                // yy is a reduced year, more than 4 is a variable width
+                return count == 4 ? YEAR : -1;
+            case 'M':
+                return count == 2 ? MONTH : -1;
+            case 'd':
+                return count == 2 ? DAY : -1;
+            case 'H':
+                return count == 2 ? HOUR : -1;
+            case 'm':
+                return count == 2 ? MINUTE : -1;
+            case 's':
+                return count == 2 ? SECOND : -1;
+            case 'S':
+                return count <= 9 ? FRACTION : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+}
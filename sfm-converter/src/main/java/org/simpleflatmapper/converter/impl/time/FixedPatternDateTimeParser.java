@@ -0,0 +1,232 @@
+package org.simpleflatmapper.converter.impl.time;
+
+import org.simpleflatmapper.util.CharSequenceImpl;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+/**
+ * Parser compiled by DateTimePatternCompiler from a fixed width pattern.
+ * Each field is read at its offset in the char array, the literals are checked in between.
+ * <p>
+ * The parse methods return null when the value does not match the layout or is not a valid date,
+ * the caller then falls back on the DateTimeFormatter that knows how to resolve or report it.
+ */
+public final class FixedPatternDateTimeParser {
+
+    static final int TAIL_NONE = 0;
+    // optional separator + fractionWidth digits
+    static final int TAIL_FRACTION = 1;
+    // optional :ss then optional . and 1 to 9 digits, as the iso time formatters
+    static final int TAIL_ISO_SECONDS = 2;
+
+    private static final int LOCAL_DATE = 0;
+    private static final int LOCAL_TIME = 1;
+    private static final int LOCAL_DATE_TIME = 2;
+    private static final int INSTANT = 3;
+
+    private static final int[] POW10 = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+
+    private final int length;
+    private final int[] literalPositions;
+    private final char[] literals;
+
+    private final int yearPos;
+    private final int monthPos;
+    private final int dayPos;
+    private final int hourPos;
+    private final int minutePos;
+    private final int secondPos;
+    private final int fractionPos;
+    private final int fractionWidth;
+
+    private final int tail;
+    private final char tailSeparator;
+
+    FixedPatternDateTimeParser(int length, int[] literalPositions, char[] literals,
+                               int yearPos, int monthPos, int dayPos,
+                               int hourPos, int minutePos, int secondPos,
+                               int fractionPos, int fractionWidth,
+                               int tail, char tailSeparator) {
+        this.length = length;
+        this.literalPositions = literalPositions;
+        this.literals = literals;
+        this.yearPos = yearPos;
+        this.monthPos = monthPos;
+        this.dayPos = dayPos;
+        this.hourPos = hourPos;
+        this.minutePos = minutePos;
+        this.secondPos = secondPos;
+        this.fractionPos = fractionPos;
+        this.fractionWidth = fractionWidth;
+        this.tail = tail;
+        this.tailSeparator = tailSeparator;
+    }
+
+    public boolean hasDate() {
+        return yearPos >= 0 && monthPos >= 0 && dayPos >= 0;
+    }
+
+    public boolean hasTime() {
+        return hourPos >= 0 && minutePos >= 0;
+    }
+
+    public LocalDate parseLocalDate(CharSequence in) {
+        return (LocalDate) parse(in, LOCAL_DATE, null);
+    }
+
+    public LocalDate parseLocalDate(char[] chars, int offset, int length) {
+        return (LocalDate) parse(chars, offset, length, LOCAL_DATE, null);
+    }
+
+    public LocalTime parseLocalTime(CharSequence in) {
+        return (LocalTime) parse(in, LOCAL_TIME, null);
+    }
+
+    public LocalTime parseLocalTime(char[] chars, int offset, int length) {
+        return (LocalTime) parse(chars, offset, length, LOCAL_TIME, null);
+    }
+
+    public LocalDateTime parseLocalDateTime(CharSequence in) {
+        return (LocalDateTime) parse(in, LOCAL_DATE_TIME, null);
+    }
+
+    public LocalDateTime parseLocalDateTime(char[] chars, int offset, int length) {
+        return (LocalDateTime) parse(chars, offset, length, LOCAL_DATE_TIME, null);
+    }
+
+    public Instant parseInstant(CharSequence in, ZoneId zoneId) {
+        return (Instant) parse(in, INSTANT, zoneId);
+    }
+
+    public Instant parseInstant(char[] chars, int offset, int length, ZoneId zoneId) {
+        return (Instant) parse(chars, offset, length, INSTANT, zoneId);
+    }
+
+    private Object parse(CharSequence in, int target, ZoneId zoneId) {
+        if (in instanceof CharSequenceImpl) {
+            CharSequenceImpl charSequence = (CharSequenceImpl) in;
+            return parse(charSequence.getBuffer(), charSequence.getStart(), charSequence.length(), target, zoneId);
+        }
+        int l = in.length();
+        if (l < this.length) {
+            return null;
+        }
+        char[] chars = in.toString().toCharArray();
+        return parse(chars, 0, chars.length, target, zoneId);
+    }
+
+    private Object parse(char[] chars, int offset, int length, int target, ZoneId zoneId) {
+        if (length < this.length) {
+            return null;
+        }
+
+        for (int i = 0; i < literalPositions.length; i++) {
+            if (chars[offset + literalPositions[i]] != literals[i]) {
+                return null;
+            }
+        }
+
+        int second = secondPos >= 0 ? digits(chars, offset + secondPos, 2) : 0;
+        int nano = fractionPos >= 0 ? fraction(chars, offset + fractionPos, fractionWidth) : 0;
+
+        if (length != this.length) {
+            int i = offset + this.length;
+            int end = offset + length;
+            switch (tail) {
+                case TAIL_FRACTION:
+                    if (length != this.length + 1 + fractionWidth || chars[i] != tailSeparator) {
+                        return null;
+                    }
+                    nano = fraction(chars, i + 1, fractionWidth);
+                    break;
+                case TAIL_ISO_SECONDS:
+                    if (end - i < 3 || chars[i] != ':') {
+                        return null;
+                    }
+                    second = digits(chars, i + 1, 2);
+                    i += 3;
+                    if (i < end) {
+                        int width = end - i - 1;
+                        if (chars[i] != '.' || width < 1 || width > 9) {
+                            return null;
+                        }
+                        nano = fraction(chars, i + 1, width);
+                    }
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        int hour = hourPos >= 0 ? digits(chars, offset + hourPos, 2) : 0;
+        int minute = minutePos >= 0 ? digits(chars, offset + minutePos, 2) : 0;
+        if ((hour | minute | second | nano) < 0 || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+
+        int year = 0, month = 0, day = 0;
+        if (yearPos >= 0) {
+            year = digits(chars, offset + yearPos, 4);
+            month = digits(chars, offset + monthPos, 2);
+            day = digits(chars, offset + dayPos, 2);
+            if ((year | month | day) < 0
+                    || year < 1
+                    || month < 1 || month > 12
+                    || day < 1 || day > daysInMonth(year, month)) {
+                return null;
+            }
+        }
+
+        switch (target) {
+            case LOCAL_DATE:
+                return LocalDate.of(year, month, day);
+            case LOCAL_TIME:
+                return LocalTime.of(hour, minute, second, nano);
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+            default:
+                return LocalDateTime.of(year, month, day, hour, minute, second, nano).atZone(zoneId).toInstant();
+        }
+    }
+
+    /**
+     * @return the value of the width digits from offset, -1 if one of them is not a digit
+     */
+    private static int digits(char[] chars, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            int d = chars[i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    private static int fraction(char[] chars, int offset, int width) {
+        int value = digits(chars, offset, width);
+        if (value < 0) {
+            return -1;
+        }
+        return value * POW10[9 - width];
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+}
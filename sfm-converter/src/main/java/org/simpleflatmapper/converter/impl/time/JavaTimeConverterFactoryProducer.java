@@ -168,6 +168,14 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToInstantConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter, FixedPatternDateTimeParser parser) {
+                if (parser != null && parser.hasDate() && parser.hasTime() && formatter.getZone() != null) {
+                    return new CharSequenceToInstantConverter(formatter, parser);
+                }
+                return new CharSequenceToInstantConverter(formatter);
+            }
         });
 
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDate>(CharSequence.class, LocalDate.class) {
@@ -176,6 +184,14 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToLocalDateConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter, FixedPatternDateTimeParser parser) {
+                if (parser != null && parser.hasDate()) {
+                    return new CharSequenceToLocalDateConverter(formatter, parser);
+                }
+                return new CharSequenceToLocalDateConverter(formatter);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDateTime>(CharSequence.class, LocalDateTime.class) {
             @SuppressWarnings("unchecked")
@@ -183,6 +199,14 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToLocalDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter, FixedPatternDateTimeParser parser) {
+                if (parser != null && parser.hasDate() && parser.hasTime()) {
+                    return new CharSequenceToLocalDateTimeConverter(formatter, parser);
+                }
+                return new CharSequenceToLocalDateTimeConverter(formatter);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalTime>(CharSequence.class, LocalTime.class) {
             @SuppressWarnings("unchecked")
@@ -190,6 +214,14 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, LocalTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToLocalTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalTime> newConverter(DateTimeFormatter formatter, FixedPatternDateTimeParser parser) {
+                if (parser != null && parser.hasTime()) {
+                    return new CharSequenceToLocalTimeConverter(formatter, parser);
+                }
+                return new CharSequenceToLocalTimeConverter(formatter);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, OffsetDateTime>(CharSequence.class, OffsetDateTime.class) {
             @SuppressWarnings("unchecked")
@@ -61,6 +61,30 @@ public final class JavaTimeHelper {
         return dtf.toArray(new DateTimeFormatter[0]);
     }
 
+    /**
+     * @return the pattern of each formatter returned by getDateTimeFormatters, null if the formatter was not specified as a pattern
+     */
+    public static String[] getDateTimePatterns(Object... properties) {
+        List<String> patterns = new ArrayList<String>();
+
+        ZoneId zoneId = getZoneId(properties);
+
+        DefaultDateFormatSupplier defaultDateFormatSupplier = null;
+        for(Object prop : properties) {
+            if (toDateTimeFormatter(prop, zoneId) != null) {
+                patterns.add(prop instanceof DateFormatSupplier ? ((DateFormatSupplier) prop).get() : null);
+            } else if (prop instanceof DefaultDateFormatSupplier) {
+                defaultDateFormatSupplier = (DefaultDateFormatSupplier) prop;
+            }
+        }
+
+        if (patterns.isEmpty() && defaultDateFormatSupplier != null) {
+            patterns.add(defaultDateFormatSupplier.get());
+        }
+
+        return patterns.toArray(new String[0]);
+    }
+
     @SuppressWarnings("unchecked")
     private static DateTimeFormatter toDateTimeFormatter(Object prop, ZoneId zoneId) {
         if (SupplierHelper.isSupplierOf(prop, DateTimeFormatter.class)) {
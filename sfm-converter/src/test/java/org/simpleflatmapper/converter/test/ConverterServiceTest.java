@@ -207,4 +207,44 @@ public class ConverterServiceTest {
         assertEquals(new SimpleDateFormat("yyyyMMdd").parse("20180927"), dateConv.convert("20180927"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testResolutionIsCached() throws Exception {
+        ConverterService converterService = ConverterService.getInstance(getClass().getClassLoader());
+
+        Converter<? super String, ? extends Date> dateConv = converterService.findConverter(String.class, Date.class, new PatternSupplier("yyyyMMdd"));
+        assertEquals(new SimpleDateFormat("yyyyMMdd").parse("20180927"), dateConv.convert("20180927"));
+
+        assertEquals(0, converterService.getResolutionCacheHitCount());
+        assertEquals(1, converterService.getResolutionCacheMissCount());
+
+        Converter<? super String, ? extends Date> dateConv2 = converterService.findConverter(String.class, Date.class, new PatternSupplier("yyyyMMdd"), new PatternSupplier("dd/MM/yyyy"));
+        assertEquals(new SimpleDateFormat("dd/MM/yyyy").parse("27/09/2018"), dateConv2.convert("27/09/2018"));
+        assertEquals(2, converterService.getResolutionCacheMissCount());
+
+        // same param class, different value
+        Converter<? super String, ? extends Date> dateConv3 = converterService.findConverter(String.class, Date.class, new PatternSupplier("yyyy-MM-dd"));
+        assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2018-09-27"), dateConv3.convert("2018-09-27"));
+
+        assertEquals(1, converterService.getResolutionCacheHitCount());
+        assertEquals(2, converterService.getResolutionCacheMissCount());
+        assertEquals(2, converterService.getResolutionCacheSize());
+
+        // identity does not go through the cache
+        converterService.findConverter(String.class, String.class);
+        assertEquals(2, converterService.getResolutionCacheSize());
+    }
+
+    private static class PatternSupplier implements DateFormatSupplier {
+        private final String pattern;
+
+        private PatternSupplier(String pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        public String get() {
+            return pattern;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.simpleflatmapper.converter.test.time;
+
+import org.junit.Test;
+import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.converter.ConverterService;
+import org.simpleflatmapper.converter.EmptyContextFactoryBuilder;
+import org.simpleflatmapper.converter.impl.time.DateTimePatternCompiler;
+import org.simpleflatmapper.converter.impl.time.FixedPatternDateTimeParser;
+import org.simpleflatmapper.util.CharSequenceImpl;
+import org.simpleflatmapper.util.date.DateFormatSupplier;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.Assert.*;
+
+public class DateTimePatternCompilerTest {
+
+    @Test
+    public void testUnsupportedPatterns() {
+        assertNull(DateTimePatternCompiler.compile("yy-MM-dd"));
+        assertNull(DateTimePatternCompiler.compile("yyyy-M-d"));
+        assertNull(DateTimePatternCompiler.compile("dd MMM yyyy"));
+        assertNull(DateTimePatternCompiler.compile("yyyy-MM-dd HH:mm:ssXXX"));
+        assertNull(DateTimePatternCompiler.compile("yyyy-MM"));
+        assertNull(DateTimePatternCompiler.compile("yyyy-MM-dd[ HH:mm]"));
+        assertNull(DateTimePatternCompiler.compile(DateTimeFormatter.ISO_OFFSET_DATE_TIME, null));
+    }
+
+    @Test
+    public void testLocalDateTimePatterns() {
+        assertLocalDateTime("yyyy-MM-dd HH:mm:ss", "2019-03-04 05:06:07");
+        assertLocalDateTime("yyyyMMddHHmmss", "20190304050607");
+        assertLocalDateTime("dd/MM/yyyy HH:mm", "04/03/2019 05:06");
+        assertLocalDateTime("yyyy-MM-dd'T'HH:mm:ss.SSS", "2019-03-04T05:06:07.089");
+        assertLocalDateTime("uuuu-MM-dd HH:mm:ss.SSSSSS", "2019-03-04 05:06:07.000089");
+        assertLocalDateTime("yyyy-MM-dd HH:mm:ss[.SSS]", "2019-03-04 05:06:07");
+        assertLocalDateTime("yyyy-MM-dd HH:mm:ss[.SSS]", "2019-03-04 05:06:07.123");
+        assertLocalDateTime("yyyy-MM-dd''HH:mm:ss", "2019-03-04'05:06:07");
+    }
+
+    @Test
+    public void testLocalDatePatterns() {
+        FixedPatternDateTimeParser parser = DateTimePatternCompiler.compile("yyyyMMdd");
+        assertEquals(LocalDate.of(2019, 3, 4), parser.parseLocalDate("20190304"));
+        assertEquals(LocalDate.of(2020, 2, 29), parser.parseLocalDate("20200229"));
+        char[] chars = "xx20190304xx".toCharArray();
+        assertEquals(LocalDate.of(2019, 3, 4), parser.parseLocalDate(chars, 2, 8));
+        assertEquals(LocalDate.of(2019, 3, 4), parser.parseLocalDate(new CharSequenceImpl(chars, 2, 10)));
+    }
+
+    @Test
+    public void testNoMatchReturnsNull() {
+        FixedPatternDateTimeParser parser = DateTimePatternCompiler.compile("yyyy-MM-dd HH:mm:ss[.SSS]");
+        assertNull(parser.parseLocalDateTime("2019-03-04 05:06"));
+        assertNull(parser.parseLocalDateTime("2019-03-04T05:06:07"));
+        assertNull(parser.parseLocalDateTime("2019-03-04 05:06:07.12"));
+        assertNull(parser.parseLocalDateTime("2019-03-04 05:06:07,123"));
+        assertNull(parser.parseLocalDateTime("2019-13-04 05:06:07"));
+        assertNull(parser.parseLocalDateTime("2019-02-29 05:06:07"));
+        assertNull(parser.parseLocalDateTime("2019-03-04 24:00:00"));
+        assertNull(parser.parseLocalDateTime("2019-03-04 05:06:0a"));
+        assertNull(parser.parseLocalDateTime("20190-03-04 05:06:07"));
+    }
+
+    @Test
+    public void testIsoFormatters() {
+        FixedPatternDateTimeParser dateTime = DateTimePatternCompiler.compile(DateTimeFormatter.ISO_LOCAL_DATE_TIME, null);
+        for (String str : new String[] {"2019-03-04T05:06", "2019-03-04T05:06:07", "2019-03-04T05:06:07.1", "2019-03-04T05:06:07.123456789"}) {
+            assertEquals(LocalDateTime.parse(str), dateTime.parseLocalDateTime(str));
+        }
+        assertNull(dateTime.parseLocalDateTime("2019-03-04T05:06:07."));
+
+        FixedPatternDateTimeParser date = DateTimePatternCompiler.compile(DateTimeFormatter.ISO_LOCAL_DATE, null);
+        assertEquals(LocalDate.of(2019, 3, 4), date.parseLocalDate("2019-03-04"));
+
+        FixedPatternDateTimeParser time = DateTimePatternCompiler.compile(DateTimeFormatter.ISO_LOCAL_TIME, null);
+        assertEquals(LocalTime.of(5, 6, 7, 800000000), time.parseLocalTime("05:06:07.8"));
+    }
+
+    @Test
+    public void testInstantUseZone() {
+        ZoneId zoneId = ZoneId.of("America/Chicago");
+        FixedPatternDateTimeParser parser = DateTimePatternCompiler.compile("yyyy-MM-dd HH:mm:ss");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(zoneId);
+        assertEquals(formatter.parse("2019-03-10 02:30:00", Instant::from), parser.parseInstant("2019-03-10 02:30:00", zoneId));
+        assertEquals(formatter.parse("2019-11-03 01:30:00", Instant::from), parser.parseInstant("2019-11-03 01:30:00", zoneId));
+    }
+
+    @Test
+    public void testConverterFallsBackOnFormatter() throws Exception {
+        ContextualConverter<? super CharSequence, ? extends LocalDate> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE, new DateFormatSupplier() {
+                    @Override
+                    public String get() {
+                        return "yyyy-MM-dd";
+                    }
+                });
+
+        assertEquals(LocalDate.of(2019, 3, 4), converter.convert("2019-03-04", null));
+        // smart resolution of the formatter
+        assertEquals(LocalDate.of(2019, 4, 30), converter.convert("2019-04-31", null));
+        try {
+            converter.convert("2019-04-3x", null);
+            fail();
+        } catch (DateTimeParseException e) {
+            // expected
+        }
+    }
+
+    private void assertLocalDateTime(String pattern, String value) {
+        FixedPatternDateTimeParser parser = DateTimePatternCompiler.compile(pattern);
+        assertNotNull(pattern, parser);
+        assertEquals(pattern, LocalDateTime.parse(value, DateTimeFormatter.ofPattern(pattern)), parser.parseLocalDateTime(value));
+    }
+}
@@ -87,11 +87,12 @@ public class CsvMapperBuilder<T> extends MapperBuilder<CsvRow, CsvRowSet, T, Csv
 				new DefaultSetRowMapperBuilder<CsvRow, CsvRowSet, T, CsvColumnKey, IOException>(
 						classMeta, parentBuilder, mapperConfig,
 						FIELD_MAPPER_SOURCE.getterFactory(getterFactory), KEY_FACTORY, new CsvRowEnumerableFactory(),
-						CsvRowKeySourceGetter.INSTANCE),
+						CsvRowKeySourceGetter.INSTANCE, CsvRowSpillCodec.INSTANCE),
 				new BiFunction<SetRowMapper<CsvRow, CsvRowSet, T, IOException>, List<CsvColumnKey>, CsvMapper<T>>() {
 					@Override
 					public CsvMapper<T> apply(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, List<CsvColumnKey> keys) {
-						return new CsvMapperImpl<T>(setRowMapper, keys.toArray(EMPTY_KEYS));
+						// a discriminator can read a column that is not mapped to a property
+						return new CsvMapperImpl<T>(setRowMapper, keys.toArray(EMPTY_KEYS), mapperConfig.getDiscriminators().isEmpty());
 					}
 				}, CsvColumnDefinition.COLUMN_DEFINITION_FACTORY, 0 );
 		this.classMeta = classMeta;
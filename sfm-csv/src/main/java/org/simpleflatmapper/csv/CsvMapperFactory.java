@@ -16,6 +16,8 @@ import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.mapper.AbstractColumnDefinitionProvider;
 import org.simpleflatmapper.map.mapper.AbstractColumnNameDiscriminatorMapperFactory;
 import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
+import org.simpleflatmapper.map.mapper.MapperCacheStats;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.map.mapper.MapperKey;
 import org.simpleflatmapper.map.mapper.TransformSetRowMapper;
 import org.simpleflatmapper.map.property.DefaultDateFormatProperty;
@@ -139,7 +141,7 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 	}
 
 	public <T> CsvMapper<T> newMapper(final ClassMeta<T> classMeta) throws MapperBuildingException {
-		return new DynamicCsvSetRowMapper<T>(new SetRowMapperFactory<T>(this, classMeta),  new CsvRowMapperKeyFactory(),  new CsvRowSetMapperKeyFactory());
+		return new DynamicCsvSetRowMapper<T>(new SetRowMapperFactory<T>(this, classMeta),  new CsvRowMapperKeyFactory(),  new CsvRowSetMapperKeyFactory(), mapperCacheStrategy(), mapperCacheStats());
 	}
 
 	public <T> CsvMapper<Result<T,CsvColumnKey>> newErrorCollectingMapper(final Class<T> target) throws MapperBuildingException {
@@ -174,7 +176,7 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 								}
 						);
 					}
-				}, new CsvRowMapperKeyFactory(), new CsvRowSetMapperKeyFactory());
+				}, new CsvRowMapperKeyFactory(), new CsvRowSetMapperKeyFactory(), mapperCacheStrategy(), mapperCacheStats());
 	}
 
 	/**
@@ -261,6 +263,15 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, CsvColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicCsvSetRowMapper(
+				UnaryFactory<MapperKey<CsvColumnKey>, SetRowMapper<CsvRow, CsvRowSet, T, IOException>> mapperFactory,
+				UnaryFactoryWithException<CsvRow, MapperKey<CsvColumnKey>, IOException> mapperKeyFromRow,
+				UnaryFactoryWithException<CsvRowSet, MapperKey<CsvColumnKey>, IOException> mapperKeyFromSet,
+				MapperCacheStrategy mapperCacheStrategy,
+				MapperCacheStats mapperCacheStats) {
+			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, CsvColumnKeyMapperKeyComparator.INSTANCE, mapperCacheStrategy, mapperCacheStats);
+		}
+
 		@Override
 		public String toString() {
 			return "DynamicCsvSetRowMapper{}";
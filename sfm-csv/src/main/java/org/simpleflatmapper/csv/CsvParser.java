@@ -27,16 +27,13 @@ import org.simpleflatmapper.util.TypeReference;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.util.CloseableIterator;
 import org.simpleflatmapper.util.Predicate;
+import org.simpleflatmapper.util.StringDeduplicator;
 import org.simpleflatmapper.util.CheckedConsumer;
 
-import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.lang.reflect.Type;
-import java.nio.channels.Channels;
-import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.*;
 import static org.simpleflatmapper.lightningcsv.CsvParser.onReader;
@@ -248,53 +245,6 @@ public final class CsvParser {
 		return dsl().parse(file, cellConsumer);
 	}
 
-	private static Reader newReader(File file) throws IOException {
-		return newReader(file, DEFAULT_CHARSET);
-	}
-	private static Reader newReader(File file, Charset charset) throws IOException {
-		//IFJAVA8_START
-		if (true) {
-			FileChannel fileChannel = FileChannel.open(file.toPath());
-			try {
-				return Channels.newReader(fileChannel, charset.newDecoder(), -1);
-			} catch(Throwable e) {
-				safeClose(fileChannel);
-				throw e;
-			}
-		}
-		//IFJAVA8_END
-		
-		return newReaderJava6(file, charset);
-	}
-
-	private static void safeClose(Closeable closeable) {
-		if (closeable == null) return;
-		try {
-			closeable.close();
-		} catch (IOException e) {
-			// ignore
-		}
-	}
-
-	private static Reader newReaderJava6(File file, Charset charset) throws IOException {
-		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
-		FileChannel fileChannel = null;
-		
-		try {
-			fileChannel = randomAccessFile.getChannel();
-			return Channels.newReader(fileChannel, charset.newDecoder(), -1);
-		} catch(RuntimeException t) {
-			safeClose(fileChannel);
-			safeClose(randomAccessFile);
-			throw t;
-		} catch(Error t) {
-			safeClose(fileChannel);
-			safeClose(randomAccessFile);
-			throw t;
-		}
-	}
-
-
 	//IFJAVA8_START
 	public static Stream<String[]> stream(Reader r) throws IOException {
 		return dsl().stream(r);
@@ -319,8 +269,8 @@ public final class CsvParser {
 		public AbstractDSL() {
 		}
 
-		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		public AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		public final <T> MapToDSL<T> mapTo(Type target) {
@@ -377,14 +327,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
         }
 
 		/**
@@ -401,7 +351,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		/**
@@ -418,16 +368,16 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 	}
@@ -435,8 +385,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -464,7 +414,7 @@ public final class CsvParser {
 		private YamlCellPreProcessor.YamlCellConsumer newYamlCellConsumer(CheckedConsumer<String[]> rowConsumer, CheckedConsumer<String> commentConsumer) {
 			TextFormat textFormat = getTextFormat();
 			return new YamlCellPreProcessor.YamlCellConsumer(
-					StringArrayCellConsumer.newInstance(rowConsumer),
+					StringArrayCellConsumer.newInstance(rowConsumer, stringDeduplicators),
 					YamlCellPreProcessor.commentConsumerToCellConsumer(commentConsumer),
 					superGetCellTransformer(textFormat, stringPostProcessing));
 		}
@@ -502,8 +452,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, boolean memoryMappedFile, Charset charset, StringDeduplicator[] stringDeduplicators) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, memoryMappedFile, charset, stringDeduplicators);
 		}
 
 	}
@@ -736,7 +686,7 @@ public final class CsvParser {
 		}
 
 		public final <H extends CheckedConsumer<T>> H forEach(File file, H consumer) throws IOException {
-			Reader reader = newReader(file);
+			Reader reader = org.simpleflatmapper.lightningcsv.CsvParser.newReader(file, dsl);
 			try {
 				return forEach(reader, consumer);
 			} finally {
@@ -803,7 +753,7 @@ public final class CsvParser {
 		}
 
 		public final <R> R stream(File file, Function<Stream<T>, R> function) throws IOException {
-			Reader reader = newReader(file);
+			Reader reader = org.simpleflatmapper.lightningcsv.CsvParser.newReader(file, dsl);
 			try {
 				return function.apply(stream(reader));
 			} catch(IOException ioe) {
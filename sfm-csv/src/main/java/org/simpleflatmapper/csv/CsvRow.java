@@ -1,9 +1,16 @@
 package org.simpleflatmapper.csv;
 
+import org.simpleflatmapper.csv.impl.FloatingPointParser;
+import org.simpleflatmapper.csv.impl.cellreader.DoubleCellValueReader;
+import org.simpleflatmapper.csv.impl.cellreader.FloatCellValueReader;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
 import org.simpleflatmapper.util.CharSequenceImpl;
+import org.simpleflatmapper.util.StringDeduplicator;
 
+import java.io.DataOutput;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Objects;
@@ -62,6 +69,18 @@ public final class CsvRow implements CellConsumer {
         int length = fieldsBoundaries[i * 2 + 1];
         return cellValueReader.read(charBuffer.buffer, rowStartMark + rowOffset, length , null);
     } 
+
+    public double readDouble(DoubleCellValueReader cellValueReader, int i) {
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return cellValueReader.readDouble(charBuffer.buffer, rowStartMark + rowOffset, length , null);
+    }
+
+    public float readFloat(FloatCellValueReader cellValueReader, int i) {
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return cellValueReader.readFloat(charBuffer.buffer, rowStartMark + rowOffset, length , null);
+    }
     
        
     public CharSequence getCharSequence(int i) {
@@ -78,26 +97,95 @@ public final class CsvRow implements CellConsumer {
         int rowOffset = fieldsBoundaries[i * 2];
         return new String(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
+
+    public String getString(int i, StringDeduplicator stringDeduplicator) {
+        int length = fieldsBoundaries[i * 2 + 1];
+        if (length == 0) return null;
+
+        int rowOffset = fieldsBoundaries[i * 2];
+        return stringDeduplicator.get(charBuffer.buffer, rowStartMark + rowOffset, length);
+    }
     
     public int length(int i) {
         return fieldsBoundaries[i * 2 + 1];
     }
 
+    /**
+     * @return true if the content of the cell i is equal to the first length chars of chars
+     */
+    public boolean contentEquals(int i, char[] chars, int length) {
+        if (fieldsBoundaries[i * 2 + 1] != length) return false;
+        char[] buffer = charBuffer.buffer;
+        int start = rowStartMark + fieldsBoundaries[i * 2];
+        for(int j = 0; j < length; j++) {
+            if (buffer[start + j] != chars[j]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * copy the content of the cell i into dest.
+     * @return dest or a bigger array if the cell does not fit in dest
+     */
+    public char[] getChars(int i, char[] dest) {
+        int length = fieldsBoundaries[i * 2 + 1];
+        if (dest.length < length) {
+            dest = new char[Math.max(length, dest.length * 2)];
+        }
+        System.arraycopy(charBuffer.buffer, rowStartMark + fieldsBoundaries[i * 2], dest, 0, length);
+        return dest;
+    }
+
+    /**
+     * write the chars of the cell i to out, as DataOutput.writeChars would without creating the String.
+     */
+    public void writeChars(int i, DataOutput out) throws IOException {
+        char[] buffer = charBuffer.buffer;
+        int start = rowStartMark + fieldsBoundaries[i * 2];
+        int end = start + fieldsBoundaries[i * 2 + 1];
+        for(int j = start; j < end; j++) {
+            out.writeChar(buffer[j]);
+        }
+    }
+
+    /**
+     * @return a copy of the row with its own buffer, it stays valid after the parser moves to the next row.
+     */
+    public CsvRow copy() {
+        int end = 0;
+        for(int i = 0; i < currentIndex; i += 2) {
+            end = Math.max(end, fieldsBoundaries[i] + fieldsBoundaries[i + 1]);
+        }
+        char[] chars = new char[end];
+        System.arraycopy(charBuffer.buffer, rowStartMark, chars, 0, end);
+
+        CsvRow copy = new CsvRow(keys, nbColumns - 1, new CharSequenceCharBuffer(chars, end));
+        System.arraycopy(fieldsBoundaries, 0, copy.fieldsBoundaries, 0, fieldsBoundaries.length);
+        copy.currentIndex = currentIndex;
+        return copy;
+    }
+
     private boolean isEmpty(int i) {
         return length(i) == 0;
     }
 
     public byte getByte(int i) {
         if (isEmpty(i)) return 0;
-        return Byte.parseByte(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return parseByte(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public char getChar(int i) {
         if (isEmpty(i)) return 0;
-        return (char) Integer.parseInt(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return (char) parseInt(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public short getShort(int i) {
         if (isEmpty(i)) return 0;
-        return Short.parseShort(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return parseShort(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public int getInt(int i) {
         int rowOffset = fieldsBoundaries[i * 2];
@@ -111,11 +199,15 @@ public final class CsvRow implements CellConsumer {
     }
     public float getFloat(int i) {
         if (isEmpty(i)) return 0;
-        return Float.parseFloat(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return FloatingPointParser.parseFloat(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public double getDouble(int i) {
         if (isEmpty(i)) return 0;
-        return Double.parseDouble(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return FloatingPointParser.parseDouble(charBuffer.buffer, rowStartMark + rowOffset, rowStartMark + rowOffset + length);
     }
     public boolean getBoolean(int i) {
         if (isEmpty(i)) return false;
@@ -197,7 +289,9 @@ public final class CsvRow implements CellConsumer {
     
     public BigDecimal getBigDecimal(int i) {
         if (isEmpty(i)) return null;
-        return new BigDecimal(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return parseBigDecimal(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
 
     public BigInteger getBigInteger(int i) {
@@ -207,7 +301,9 @@ public final class CsvRow implements CellConsumer {
 
     public UUID getUUID(int i) {
         if (isEmpty(i)) return null;
-        return UUID.fromString(getString(i));
+        int rowOffset = fieldsBoundaries[i * 2];
+        int length = fieldsBoundaries[i * 2 + 1];
+        return parseUUID(charBuffer.buffer, rowStartMark + rowOffset, length);
     }
 
     public int getNbColumns() {
@@ -381,6 +477,123 @@ public final class CsvRow implements CellConsumer {
         }
     }
 
+    public static byte parseByte(char[] s, int beginIndex, int endIndex) throws NumberFormatException {
+        int i = parseInt(s, beginIndex, endIndex);
+        if (i < Byte.MIN_VALUE || i > Byte.MAX_VALUE) {
+            throw outOfRangeNumberFormatException(s, beginIndex, endIndex);
+        }
+        return (byte) i;
+    }
+
+    public static short parseShort(char[] s, int beginIndex, int endIndex) throws NumberFormatException {
+        int i = parseInt(s, beginIndex, endIndex);
+        if (i < Short.MIN_VALUE || i > Short.MAX_VALUE) {
+            throw outOfRangeNumberFormatException(s, beginIndex, endIndex);
+        }
+        return (short) i;
+    }
+
+    /**
+     * parse a BigDecimal, when the number has less than 19 digits the unscaled value is accumulated in a long.
+     */
+    public static BigDecimal parseBigDecimal(char[] chars, int offset, int length) throws NumberFormatException {
+        int i = offset;
+        int endIndex = offset + length;
+        boolean negative = false;
+        if (i < endIndex && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long unscaled = 0;
+        int nbDigits = 0;
+        int scale = 0;
+        char c;
+        while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+            unscaled = unscaled * 10 + (c - '0');
+            nbDigits++;
+            i++;
+        }
+        if (i < endIndex && chars[i] == '.') {
+            i++;
+            while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                nbDigits++;
+                scale++;
+                i++;
+            }
+        }
+        if (i < endIndex && (chars[i] == 'e' || chars[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < endIndex && (chars[i] == '-' || chars[i] == '+')) {
+                negativeExponent = chars[i] == '-';
+                i++;
+            }
+            int exponent = 0;
+            int nbExponentDigits = 0;
+            while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+                exponent = exponent * 10 + (c - '0');
+                nbExponentDigits++;
+                i++;
+            }
+            if (nbExponentDigits == 0 || nbExponentDigits > 9) {
+                return new BigDecimal(chars, offset, length);
+            }
+            scale += negativeExponent ? exponent : -exponent;
+        }
+
+        if (nbDigits == 0 || nbDigits > 18 || i != endIndex) {
+            return new BigDecimal(chars, offset, length);
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    /**
+     * parse the canonical 8-4-4-4-12 representation of an UUID, other formats are delegated to UUID.fromString.
+     */
+    public static UUID parseUUID(char[] chars, int offset, int length) {
+        if (length == 36
+                && chars[offset + 8] == '-'
+                && chars[offset + 13] == '-'
+                && chars[offset + 18] == '-'
+                && chars[offset + 23] == '-') {
+            long p1 = parseHex(chars, offset, 8);
+            long p2 = parseHex(chars, offset + 9, 4);
+            long p3 = parseHex(chars, offset + 14, 4);
+            long p4 = parseHex(chars, offset + 19, 4);
+            long p5 = parseHex(chars, offset + 24, 12);
+            if ((p1 | p2 | p3 | p4 | p5) >= 0) {
+                return new UUID((p1 << 32) | (p2 << 16) | p3, (p4 << 48) | p5);
+            }
+        }
+        return UUID.fromString(new String(chars, offset, length));
+    }
+
+    private static long parseHex(char[] chars, int offset, int length) {
+        long value = 0;
+        for(int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static NumberFormatException outOfRangeNumberFormatException(char[] chars, int beginIndex, int endIndex) {
+        return new NumberFormatException("Value out of range. Value:\""
+                + new String(chars, beginIndex, endIndex - beginIndex) + "\" Radix:" + radix);
+    }
+
     private static NumberFormatException numberFormatExceptionforCharSequence(char[] chars, int beginIndex, int endIndex, int errorIndex) {
         return new NumberFormatException("Error at index "
                 + (errorIndex - beginIndex) + " in: \""
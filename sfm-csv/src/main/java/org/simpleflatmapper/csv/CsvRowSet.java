@@ -46,6 +46,19 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
         return keys;
     }
 
+    /**
+     * only the cells of the columns set in the mask will be unescaped and stored in the row, see {@link CsvReader#columnMask(long[])}.
+     * ignored if the row set has a limit or the reader wraps the row consumer as the reader can be reused or the wrapper needs all the cells.
+     * @param columnMask the mask of the needed columns
+     * @throws IOException if an error occurs reading the header
+     */
+    public void columnMask(long[] columnMask) throws IOException {
+        getKeys();
+        if (limit == -1 && cellConsumer == currentRow) {
+            csvReader.columnMask(columnMask);
+        }
+    }
+
     private int maxIndex(CsvColumnKey[] keys) {
         int i = 0;
         for(CsvColumnKey k : keys) {
@@ -0,0 +1,52 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.map.mapper.ParallelSetRowMapper;
+import org.simpleflatmapper.map.mapper.SourceCopier;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+/**
+ * Maps the rows of a CsvRowSet on an executor, the calling thread parses the rows and copies them in batches.
+ * <pre>
+ * new ParallelCsvMapper&lt;MyObject&gt;(csvMapper, executor, 1000, true)
+ *      .forEach(new CsvRowSet(CsvParser.reader(reader), -1), handler);
+ * </pre>
+ * The csvMapper must not have joins.
+ * @param <T> the target type
+ */
+public final class ParallelCsvMapper<T> extends ParallelSetRowMapper<CsvRow, CsvRowSet, T, IOException> {
+
+    private static final SourceCopier<CsvRow> CSV_ROW_COPIER = new SourceCopier<CsvRow>() {
+        @Override
+        public CsvRow copy(CsvRow row) {
+            return row.copy();
+        }
+    };
+
+    // reads the header if the row set has no keys yet
+    private static final UnaryFactory<CsvRowSet, Enumerable<CsvRow>> ENUMERABLE_FACTORY = new UnaryFactory<CsvRowSet, Enumerable<CsvRow>>() {
+        @Override
+        public Enumerable<CsvRow> newInstance(CsvRowSet rowSet) {
+            try {
+                rowSet.getKeys();
+            } catch (IOException e) {
+                ErrorHelper.rethrow(e);
+            }
+            return rowSet;
+        }
+    };
+
+    /**
+     * @param csvMapper the mapper
+     * @param executor the executor the batches are mapped on
+     * @param batchSize the number of rows per batch
+     * @param ordered true if the objects need to be in the order of the rows
+     */
+    public ParallelCsvMapper(CsvMapper<T> csvMapper, Executor executor, int batchSize, boolean ordered) {
+        super(csvMapper, ENUMERABLE_FACTORY, CSV_ROW_COPIER, executor, batchSize, ordered);
+    }
+}
@@ -0,0 +1,21 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.util.StringDeduplicator;
+
+public class CsvDeduplicatedStringGetter implements ContextualGetter<CsvRow, String> {
+    private final int index;
+    private final StringDeduplicator stringDeduplicator;
+
+    public CsvDeduplicatedStringGetter(int index, StringDeduplicator stringDeduplicator) {
+        this.index = index;
+        this.stringDeduplicator = stringDeduplicator;
+    }
+
+    @Override
+    public String get(CsvRow target, Context context)  {
+        return target.getString(index, stringDeduplicator);
+    }
+}
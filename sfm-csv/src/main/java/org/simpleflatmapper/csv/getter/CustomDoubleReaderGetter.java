@@ -0,0 +1,22 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.impl.cellreader.DoubleCellValueReader;
+import org.simpleflatmapper.map.getter.DoubleContextualGetter;
+
+public class CustomDoubleReaderGetter extends CustomReaderGetter<Double> implements DoubleContextualGetter<CsvRow> {
+    private final DoubleCellValueReader reader;
+    private final int index;
+
+    public CustomDoubleReaderGetter(int index, DoubleCellValueReader reader) {
+        super(index, reader);
+        this.index = index;
+        this.reader = reader;
+    }
+
+    @Override
+    public double getDouble(CsvRow target, Context context) {
+        return target.readDouble(reader, index);
+    }
+}
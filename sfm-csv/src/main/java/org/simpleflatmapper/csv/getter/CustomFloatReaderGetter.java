@@ -0,0 +1,22 @@
+package org.simpleflatmapper.csv.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.impl.cellreader.FloatCellValueReader;
+import org.simpleflatmapper.map.getter.FloatContextualGetter;
+
+public class CustomFloatReaderGetter extends CustomReaderGetter<Float> implements FloatContextualGetter<CsvRow> {
+    private final FloatCellValueReader reader;
+    private final int index;
+
+    public CustomFloatReaderGetter(int index, FloatCellValueReader reader) {
+        super(index, reader);
+        this.index = index;
+        this.reader = reader;
+    }
+
+    @Override
+    public float getFloat(CsvRow target, Context context) {
+        return target.readFloat(reader, index);
+    }
+}
@@ -9,6 +9,7 @@ import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.mapper.DelegatingSetRowMapper;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 
@@ -20,13 +21,22 @@ import java.util.Iterator;
 import java.util.stream.Stream;
 //IFJAVA8_END
 
-public class CsvMapperImpl<T> implements CsvMapper<T> {
+public class CsvMapperImpl<T> implements CsvMapper<T>, DelegatingSetRowMapper<CsvRow, CsvRowSet, T, IOException> {
     private final SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper;
     private final CsvColumnKey[] keys;
+    private final long[] columnMask;
 
     public CsvMapperImpl(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvColumnKey[] keys) {
+        this(setRowMapper, keys, false);
+    }
+
+    /**
+     * @param projectColumns true if the mapper only reads the columns of keys, the other cells will not be unescaped
+     */
+    public CsvMapperImpl(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvColumnKey[] keys, boolean projectColumns) {
         this.setRowMapper = setRowMapper;
         this.keys = keys;
+        this.columnMask = projectColumns ? columnMask(keys) : null;
     }
 
     @Override
@@ -95,27 +105,36 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
 
     @Override
     public <H extends CheckedConsumer<? super T>> H forEach(CsvRowSet source, H handler) throws IOException, MappingException {
+        project(source);
         setRowMapper.forEach(source, handler);
         return handler;
     }
 
     @Override
     public Iterator<T> iterator(CsvRowSet source) throws IOException, MappingException {
+        project(source);
         return setRowMapper.iterator(source);
     }
 
     //IFJAVA8_START
     @Override
     public Stream<T> stream(CsvRowSet source) throws IOException, MappingException {
+        project(source);
         return setRowMapper.stream(source);
     }
     //IFJAVA8_END
 
     @Override
     public Enumerable<T> enumerate(CsvRowSet source) throws IOException, MappingException {
+        project(source);
         return setRowMapper.enumerate(source);
     }
 
+    @Override
+    public SetRowMapper<CsvRow, CsvRowSet, T, IOException> getDelegate() {
+        return setRowMapper;
+    }
+
     @Override
     public T map(CsvRow source) throws MappingException {
         return setRowMapper.map(source);
@@ -126,6 +145,30 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return setRowMapper.map(source, context);
     }
 
+    private void project(CsvRowSet source) throws IOException {
+        if (columnMask != null) {
+            source.columnMask(columnMask);
+        }
+    }
+
+    private static long[] columnMask(CsvColumnKey[] keys) {
+        int maxIndex = -1;
+        for(CsvColumnKey key : keys) {
+            if (key != null) {
+                maxIndex = Math.max(maxIndex, key.getIndex());
+            }
+        }
+        if (maxIndex == -1) return null;
+
+        long[] columnMask = new long[(maxIndex >> 6) + 1];
+        for(CsvColumnKey key : keys) {
+            if (key != null) {
+                columnMask[key.getIndex() >> 6] |= 1L << key.getIndex();
+            }
+        }
+        return columnMask;
+    }
+
     private CsvRowSet toCsvRowSet(Reader reader, int skip, int limit) throws IOException {
         return toCsvRowSet(CsvParser.reader(reader), skip, limit);
     }
@@ -3,8 +3,10 @@ package org.simpleflatmapper.csv.impl;
 import org.simpleflatmapper.csv.CsvColumnKey;
 import org.simpleflatmapper.csv.CsvRow;
 import org.simpleflatmapper.map.context.KeySourceGetter;
+import org.simpleflatmapper.map.context.KeyValueHolder;
+import org.simpleflatmapper.map.context.KeyValueHolderFactory;
 
-public class CsvRowKeySourceGetter implements KeySourceGetter<CsvColumnKey, CsvRow> {
+public class CsvRowKeySourceGetter implements KeySourceGetter<CsvColumnKey, CsvRow>, KeyValueHolderFactory<CsvColumnKey, CsvRow> {
     
     public static final CsvRowKeySourceGetter INSTANCE = new CsvRowKeySourceGetter();
     
@@ -15,4 +17,67 @@ public class CsvRowKeySourceGetter implements KeySourceGetter<CsvColumnKey, CsvR
     public Object getValue(CsvColumnKey key, CsvRow source) {
         return source.getString(key.getIndex());
     }
+
+    @Override
+    public KeyValueHolder<CsvRow> newKeyValueHolder(CsvColumnKey key) {
+        return new CharsKeyValueHolder(key.getIndex());
+    }
+
+    /**
+     * compares the cell with the chars of the previous key in the row buffer, the String is only created for the stored keys.
+     */
+    private static final class CharsKeyValueHolder extends KeyValueHolder<CsvRow> {
+        private final int index;
+        private char[] chars = new char[16];
+        // an empty cell is a null key
+        private int length;
+
+        private CharsKeyValueHolder(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean read(CsvRow source) {
+            if (source.contentEquals(index, chars, length)) {
+                return false;
+            }
+            chars = source.getChars(index, chars);
+            length = source.length(index);
+            return true;
+        }
+
+        @Override
+        public boolean readNull() {
+            boolean changed = length != 0;
+            length = 0;
+            return changed;
+        }
+
+        @Override
+        public Object value() {
+            return length == 0 ? null : new String(chars, 0, length);
+        }
+
+        @Override
+        public int valueHashCode() {
+            // same as String.hashCode
+            int h = 0;
+            for(int i = 0; i < length; i++) {
+                h = 31 * h + chars[i];
+            }
+            return h;
+        }
+
+        @Override
+        public boolean valueEquals(Object value) {
+            if (length == 0) return value == null;
+            if (!(value instanceof String)) return false;
+            String str = (String) value;
+            if (str.length() != length) return false;
+            for(int i = 0; i < length; i++) {
+                if (str.charAt(i) != chars[i]) return false;
+            }
+            return true;
+        }
+    }
 }
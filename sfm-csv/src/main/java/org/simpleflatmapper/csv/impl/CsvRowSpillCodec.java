@@ -0,0 +1,104 @@
+package org.simpleflatmapper.csv.impl;
+
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.map.mapper.SpillCodec;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+/**
+ * Spills the cells of the row as length and chars, the rows are read back in a CsvRow with the keys of the template.
+ */
+public final class CsvRowSpillCodec implements SpillCodec<CsvRow> {
+
+    public static final CsvRowSpillCodec INSTANCE = new CsvRowSpillCodec();
+
+    private CsvRowSpillCodec() {
+    }
+
+    @Override
+    public Writer<CsvRow> newWriter(CsvRow template) {
+        final int nbColumns = template.getNbColumns();
+        return new Writer<CsvRow>() {
+            @Override
+            public void write(CsvRow row, ObjectOutput out) throws Exception {
+                for (int i = 0; i < nbColumns; i++) {
+                    out.writeInt(row.length(i));
+                    row.writeChars(i, out);
+                }
+            }
+        };
+    }
+
+    @Override
+    public Enumerable<CsvRow> read(final ObjectInput in, final int nbRows, CsvRow template) throws Exception {
+        final SpillCharBuffer charBuffer = new SpillCharBuffer();
+        final CsvRow row = new CsvRow(template.getKeys(), template.getNbColumns() - 1, charBuffer);
+        final int nbColumns = template.getNbColumns();
+        return new Enumerable<CsvRow>() {
+            private int remaining = nbRows;
+
+            @Override
+            public boolean next() {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining--;
+                try {
+                    readRow();
+                } catch (Exception e) {
+                    ErrorHelper.rethrow(e);
+                }
+                return true;
+            }
+
+            private void readRow() throws Exception {
+                row.reset();
+                int offset = 0;
+                for (int i = 0; i < nbColumns; i++) {
+                    int length = in.readInt();
+                    char[] buffer = charBuffer.ensureCapacity(offset + length);
+                    for (int j = 0; j < length; j++) {
+                        buffer[offset + j] = in.readChar();
+                    }
+                    row.newCell(buffer, offset, length);
+                    offset += length;
+                }
+                row.endOfRow();
+            }
+
+            @Override
+            public CsvRow currentValue() {
+                return row;
+            }
+        };
+    }
+
+    private static final class SpillCharBuffer extends CharBuffer {
+        private SpillCharBuffer() {
+            super(new char[256], 0);
+        }
+
+        char[] ensureCapacity(int capacity) {
+            if (buffer.length < capacity) {
+                buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+            }
+            bufferSize = capacity;
+            return buffer;
+        }
+
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
+        @Override
+        public boolean shiftAndRead(int shiftFrom) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package org.simpleflatmapper.csv.impl;
+
+import java.math.BigInteger;
+
+/**
+ * Parse double and float directly from a char array without allocating.
+ * <p>
+ * Decimal numbers with up to 19 significant digits use Clinger's fast path when the mantissa and the power of ten are exact,
+ * and the Eisel-Lemire algorithm otherwise, both are correctly rounded.
+ * Anything else - NaN, Infinity, hexadecimal, type suffix, surrounding whitespace, more than 19 significant digits, subnormal -
+ * falls back to Double.parseDouble or Float.parseFloat so the behavior is the same.
+ */
+public final class FloatingPointParser {
+
+	private static final int SMALLEST_POWER_OF_TEN = -342;
+	private static final int LARGEST_POWER_OF_TEN = 308;
+
+	private static final int MAX_SIGNIFICANT_DIGITS = 19;
+	private static final int MAX_EXPONENT = 100000;
+
+	private static final long FALLBACK = -1;
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+	private FloatingPointParser() {
+	}
+
+	public static double parseDouble(char[] chars, int beginIndex, int endIndex) {
+		double d = parse(chars, beginIndex, endIndex, false);
+		if (d != d) { // NaN is never produced by the fast paths
+			return Double.parseDouble(new String(chars, beginIndex, endIndex - beginIndex));
+		}
+		return d;
+	}
+
+	public static float parseFloat(char[] chars, int beginIndex, int endIndex) {
+		double d = parse(chars, beginIndex, endIndex, true);
+		if (d != d) {
+			return Float.parseFloat(new String(chars, beginIndex, endIndex - beginIndex));
+		}
+		return (float) d;
+	}
+
+	/**
+	 * @return the parsed value, a float value widened to double if toFloat, NaN if the fallback needs to be used
+	 */
+	private static double parse(char[] chars, int beginIndex, int endIndex, boolean toFloat) {
+		int i = beginIndex;
+		if (i >= endIndex) return Double.NaN;
+
+		boolean negative = false;
+		char c = chars[i];
+		if (c == '-' || c == '+') {
+			negative = c == '-';
+			i++;
+		}
+
+		long w = 0;
+		int nbSignificantDigits = 0;
+		int exp10 = 0;
+		boolean hasDigits = false;
+
+		while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+			if (nbSignificantDigits >= MAX_SIGNIFICANT_DIGITS) return Double.NaN;
+			w = w * 10 + (c - '0');
+			if (w != 0) nbSignificantDigits++;
+			hasDigits = true;
+			i++;
+		}
+
+		if (i < endIndex && chars[i] == '.') {
+			i++;
+			while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+				if (nbSignificantDigits >= MAX_SIGNIFICANT_DIGITS) return Double.NaN;
+				w = w * 10 + (c - '0');
+				if (w != 0) nbSignificantDigits++;
+				exp10--;
+				hasDigits = true;
+				i++;
+			}
+		}
+
+		if (!hasDigits) return Double.NaN;
+
+		if (i < endIndex && ((c = chars[i]) == 'e' || c == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < endIndex && ((c = chars[i]) == '-' || c == '+')) {
+				negativeExponent = c == '-';
+				i++;
+			}
+			int e = 0;
+			boolean hasExponentDigits = false;
+			while (i < endIndex && (c = chars[i]) >= '0' && c <= '9') {
+				if (e < MAX_EXPONENT) {
+					e = e * 10 + (c - '0');
+				}
+				hasExponentDigits = true;
+				i++;
+			}
+			if (!hasExponentDigits) return Double.NaN;
+			exp10 += negativeExponent ? -e : e;
+		}
+
+		if (i != endIndex) return Double.NaN;
+
+		if (w == 0) {
+			return negative ? -0.0 : 0.0;
+		}
+
+		double value;
+		if (toFloat) {
+			if (exp10 >= -10 && exp10 <= 10 && w > 0 && w <= (1L << 24)) {
+				float f = (float) w;
+				value = exp10 < 0 ? f / FLOAT_POWERS_OF_TEN[-exp10] : f * FLOAT_POWERS_OF_TEN[exp10];
+			} else {
+				long bits = eiselLemire(w, exp10, 23, -127, 0xFF);
+				if (bits == FALLBACK) return Double.NaN;
+				value = Float.intBitsToFloat((int) bits);
+			}
+		} else {
+			if (exp10 >= -22 && exp10 <= 22 && w > 0 && w <= (1L << 53)) {
+				double d = (double) w;
+				value = exp10 < 0 ? d / DOUBLE_POWERS_OF_TEN[-exp10] : d * DOUBLE_POWERS_OF_TEN[exp10];
+			} else {
+				long bits = eiselLemire(w, exp10, 52, -1023, 0x7FF);
+				if (bits == FALLBACK) return Double.NaN;
+				value = Double.longBitsToDouble(bits);
+			}
+		}
+		return negative ? -value : value;
+	}
+
+	/**
+	 * compute the bits of the binary floating point number closest to w * 10^q, w being an unsigned non zero long.
+	 * see Daniel Lemire, Number Parsing at a Gigabyte per Second.
+	 * @return the bits or FALLBACK if the result is subnormal or the product is not precise enough to decide the rounding
+	 */
+	private static long eiselLemire(long w, int q, int mantissaBits, int minimumExponent, int infinitePower) {
+		if (q < SMALLEST_POWER_OF_TEN || q > LARGEST_POWER_OF_TEN) return FALLBACK;
+
+		int lz = Long.numberOfLeadingZeros(w);
+		w <<= lz;
+
+		int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+		long[] powersOfFive = PowersOfFive.TABLE;
+		long high = unsignedMultiplyHigh(w, powersOfFive[index]);
+		long low = w * powersOfFive[index];
+
+		long precisionMask = 0xFFFFFFFFFFFFFFFFL >>> (mantissaBits + 3);
+		if ((high & precisionMask) == precisionMask) {
+			long secondHigh = unsignedMultiplyHigh(w, powersOfFive[index + 1]);
+			low += secondHigh;
+			if (unsignedGreaterThan(secondHigh, low)) {
+				high++;
+			}
+			if (low == 0xFFFFFFFFFFFFFFFFL && (q < -27 || q > 55)) {
+				return FALLBACK;
+			}
+		}
+
+		int upperBit = (int) (high >>> 63);
+		int shift = upperBit + 64 - mantissaBits - 3;
+		long mantissa = high >>> shift;
+		int power2 = power(q) + upperBit - lz - minimumExponent;
+
+		if (power2 <= 0) {
+			// subnormal
+			return FALLBACK;
+		}
+
+		// w * 10^q is exactly in between 2 floating point numbers, round to even
+		if ((low == 0 || low == 1) && q >= minExponentRoundToEven(mantissaBits) && q <= maxExponentRoundToEven(mantissaBits) && (mantissa & 3) == 1) {
+			if ((mantissa << shift) == high) {
+				mantissa &= ~1L;
+			}
+		}
+
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >= (2L << mantissaBits)) {
+			mantissa = 1L << mantissaBits;
+			power2++;
+		}
+		mantissa &= ~(1L << mantissaBits);
+
+		if (power2 >= infinitePower) {
+			return ((long) infinitePower) << mantissaBits;
+		}
+		return mantissa | (((long) power2) << mantissaBits);
+	}
+
+	private static int minExponentRoundToEven(int mantissaBits) {
+		return mantissaBits == 52 ? -4 : -17;
+	}
+
+	private static int maxExponentRoundToEven(int mantissaBits) {
+		return mantissaBits == 52 ? 23 : 10;
+	}
+
+	// floor(log2(10^q)) + 63
+	private static int power(int q) {
+		return (((152170 + 65536) * q) >> 16) + 63;
+	}
+
+	private static boolean unsignedGreaterThan(long a, long b) {
+		return (a ^ Long.MIN_VALUE) > (b ^ Long.MIN_VALUE);
+	}
+
+	private static long unsignedMultiplyHigh(long x, long y) {
+		long x0 = x & 0xFFFFFFFFL;
+		long x1 = x >>> 32;
+		long y0 = y & 0xFFFFFFFFL;
+		long y1 = y >>> 32;
+		long p11 = x1 * y1;
+		long p01 = x0 * y1;
+		long p10 = x1 * y0;
+		long p00 = x0 * y0;
+		long middle = p10 + (p00 >>> 32) + (p01 & 0xFFFFFFFFL);
+		return p11 + (middle >>> 32) + (p01 >>> 32);
+	}
+
+	/**
+	 * 128 bits approximations of 5^q for q between SMALLEST_POWER_OF_TEN and LARGEST_POWER_OF_TEN, high bits first.
+	 * Truncated for positive q, rounded up for negative q.
+	 */
+	private static final class PowersOfFive {
+		private static final long[] TABLE = computeTable();
+
+		private static long[] computeTable() {
+			long[] table = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+			BigInteger five = BigInteger.valueOf(5);
+			BigInteger twoPow127 = BigInteger.ONE.shiftLeft(127);
+			BigInteger twoPow128 = BigInteger.ONE.shiftLeft(128);
+			int index = 0;
+			for (int q = SMALLEST_POWER_OF_TEN; q <= LARGEST_POWER_OF_TEN; q++) {
+				BigInteger value;
+				if (q < 0) {
+					BigInteger power5 = five.pow(-q);
+					int z = power5.subtract(BigInteger.ONE).bitLength(); // smallest z with 2^z >= 5^-q
+					int b = q >= -27 ? z + 127 : 2 * z + 128;
+					value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+					while (value.compareTo(twoPow128) >= 0) {
+						value = value.shiftRight(1);
+					}
+				} else {
+					value = five.pow(q);
+					while (value.compareTo(twoPow127) < 0) {
+						value = value.shiftLeft(1);
+					}
+					while (value.compareTo(twoPow128) >= 0) {
+						value = value.shiftRight(1);
+					}
+				}
+				table[index++] = value.shiftRight(64).longValue();
+				table[index++] = value.longValue();
+			}
+			return table;
+		}
+	}
+}
@@ -1,19 +1,18 @@
 package org.simpleflatmapper.csv.impl.writer;
 
 import org.simpleflatmapper.converter.Context;
-import org.simpleflatmapper.lightningcsv.CellWriter;
 import org.simpleflatmapper.map.setter.IntContextualSetter;
 
 public class IntegerAppendableSetter implements IntContextualSetter<Appendable> {
 
-    private final CellWriter cellWriter;
+    private final NumberCellWriter numberCellWriter;
 
-    public IntegerAppendableSetter(CellWriter cellWriter) {
-        this.cellWriter = cellWriter;
+    public IntegerAppendableSetter(NumberCellWriter numberCellWriter) {
+        this.numberCellWriter = numberCellWriter;
     }
 
     @Override
     public void setInt(Appendable target, int value, Context context) throws Exception {
-        cellWriter.writeValue(Integer.toString(value), target);
+        numberCellWriter.writeInt(value, target, context);
     }
 }
@@ -1,20 +1,18 @@
 package org.simpleflatmapper.csv.impl.writer;
 
 import org.simpleflatmapper.converter.Context;
-import org.simpleflatmapper.lightningcsv.CellWriter;
 import org.simpleflatmapper.map.setter.LongContextualSetter;
-import org.simpleflatmapper.reflect.primitive.LongSetter;
 
 public class LongAppendableSetter implements LongContextualSetter<Appendable> {
 
-    private final CellWriter cellWriter;
+    private final NumberCellWriter numberCellWriter;
 
-    public LongAppendableSetter(CellWriter cellWriter) {
-        this.cellWriter = cellWriter;
+    public LongAppendableSetter(NumberCellWriter numberCellWriter) {
+        this.numberCellWriter = numberCellWriter;
     }
 
     @Override
     public void setLong(Appendable target, long value, Context context) throws Exception {
-        cellWriter.writeValue(Long.toString(value), target);
+        numberCellWriter.writeLong(value, target, context);
     }
 }
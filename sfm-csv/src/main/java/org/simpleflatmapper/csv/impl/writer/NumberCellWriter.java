@@ -0,0 +1,87 @@
+package org.simpleflatmapper.csv.impl.writer;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.lightningcsv.CellWriter;
+import org.simpleflatmapper.lightningcsv.CharArraySink;
+import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.util.Supplier;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Write numbers formatted by NumberFormatter into the char array stored in the mapping context,
+ * appending them directly when the cell writer would never escape a number.
+ */
+public final class NumberCellWriter {
+
+    // all the chars Double.toString can return
+    private static final String NUMBER_CHARS = "0123456789-.EInfityNa";
+
+    private final CellWriter cellWriter;
+    private final int bufferIndex;
+    private final boolean appendUnescaped;
+
+    public NumberCellWriter(CellWriter cellWriter, int bufferIndex) {
+        this.cellWriter = cellWriter;
+        this.bufferIndex = bufferIndex;
+        this.appendUnescaped = cellWriter instanceof CsvCellWriter && ((CsvCellWriter) cellWriter).isNeverEscaped(NUMBER_CHARS);
+    }
+
+    public void writeInt(int value, Appendable target, Context context) throws IOException {
+        char[] buffer = buffer(context);
+        write(buffer, NumberFormatter.formatInt(value, buffer), target);
+    }
+
+    public void writeLong(long value, Appendable target, Context context) throws IOException {
+        char[] buffer = buffer(context);
+        write(buffer, NumberFormatter.formatLong(value, buffer), target);
+    }
+
+    public void writeFloat(float value, Appendable target, Context context) throws IOException {
+        char[] buffer = buffer(context);
+        write(buffer, NumberFormatter.formatFloat(value, buffer), target);
+    }
+
+    public void writeDouble(double value, Appendable target, Context context) throws IOException {
+        char[] buffer = buffer(context);
+        write(buffer, NumberFormatter.formatDouble(value, buffer), target);
+    }
+
+    private char[] buffer(Context context) {
+        char[] buffer = context != null ? context.<char[]>context(bufferIndex) : null;
+        if (buffer == null) {
+            buffer = new char[NumberFormatter.BUFFER_SIZE];
+        }
+        return buffer;
+    }
+
+    private void write(char[] buffer, int length, Appendable target) throws IOException {
+        if (!appendUnescaped) {
+            cellWriter.writeValue(buffer, 0, length, target);
+        } else if (target instanceof CharArraySink) {
+            ((CharArraySink) target).append(buffer, 0, length);
+        } else if (target instanceof Writer) {
+            ((Writer) target).write(buffer, 0, length);
+        } else if (target instanceof StringBuilder) {
+            ((StringBuilder) target).append(buffer, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                target.append(buffer[i]);
+            }
+        }
+    }
+
+    public static Supplier<char[]> bufferSupplier() {
+        return BufferSupplier.INSTANCE;
+    }
+
+    private static final class BufferSupplier implements Supplier<char[]> {
+        private static final BufferSupplier INSTANCE = new BufferSupplier();
+
+        @Override
+        public char[] get() {
+            return new char[NumberFormatter.BUFFER_SIZE];
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package org.simpleflatmapper.csv.impl.writer;
+
+/**
+ * Format numbers into a char array, the output is the same as Integer.toString, Long.toString, Double.toString and Float.toString.
+ * <p>
+ * Double and float values between 10^-3 and 10^7 are formatted directly when the shortest decimal that rounds to the value is unique
+ * and has no more than 16 digits - 8 for a float -, otherwise the value is formatted by Double.toString or Float.toString.
+ * The shortest decimal is found by scaling the value by increasing powers of ten and checking the nearby integers
+ * m with m / 10^k == value, that division being correctly rounded as long as m fits in the mantissa.
+ */
+public final class NumberFormatter {
+
+    /**
+     * big enough for any Long.toString, Double.toString or Float.toString output.
+     */
+    public static final int BUFFER_SIZE = 32;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+    private static final long DOUBLE_EXACT_LIMIT = 1L << 53;
+    private static final long FLOAT_EXACT_LIMIT = 1L << 24;
+
+    private NumberFormatter() {
+    }
+
+    public static int formatInt(int value, char[] buffer) {
+        if (value == Integer.MIN_VALUE) {
+            return formatLong(value, buffer);
+        }
+        int offset = 0;
+        if (value < 0) {
+            buffer[offset++] = '-';
+            value = -value;
+        }
+        int end = offset + nbDigits(value);
+        int p = end;
+        do {
+            int q = value / 10;
+            buffer[--p] = (char) ('0' + (value - q * 10));
+            value = q;
+        } while (value != 0);
+        return end;
+    }
+
+    public static int formatLong(long value, char[] buffer) {
+        if (value == Long.MIN_VALUE) {
+            return toChars(Long.toString(value), buffer);
+        }
+        int offset = 0;
+        if (value < 0) {
+            buffer[offset++] = '-';
+            value = -value;
+        }
+        return appendDigits(value, buffer, offset);
+    }
+
+    public static int formatDouble(double value, char[] buffer) {
+        double abs = Math.abs(value);
+        if (abs >= 1e-3 && abs < 1e7) {
+            int offset = 0;
+            if (value < 0) {
+                buffer[offset++] = '-';
+            }
+            long integer = (long) abs;
+            if (integer == abs) {
+                return appendIntegerValue(integer, buffer, offset);
+            }
+            for (int k = 1; k < DOUBLE_POWERS_OF_TEN.length; k++) {
+                double scaled = abs * DOUBLE_POWERS_OF_TEN[k];
+                if (scaled >= DOUBLE_EXACT_LIMIT) {
+                    break;
+                }
+                long floor = (long) scaled;
+                long m = 0;
+                int nbMatches = 0;
+                for (long c = floor - 1; c <= floor + 2; c++) {
+                    if (c > 0 && c <= DOUBLE_EXACT_LIMIT && c / DOUBLE_POWERS_OF_TEN[k] == abs) {
+                        m = c;
+                        nbMatches++;
+                    }
+                }
+                if (nbMatches == 1) {
+                    return appendDecimal(m, k, buffer, offset);
+                } else if (nbMatches > 1) {
+                    break;
+                }
+            }
+        } else if (value == 0) {
+            return toChars(Double.doubleToRawLongBits(value) < 0 ? "-0.0" : "0.0", buffer);
+        }
+        return toChars(Double.toString(value), buffer);
+    }
+
+    public static int formatFloat(float value, char[] buffer) {
+        float abs = Math.abs(value);
+        if (abs >= 1e-3f && abs < 1e7f) {
+            int offset = 0;
+            if (value < 0) {
+                buffer[offset++] = '-';
+            }
+            long integer = (long) abs;
+            if (integer == abs) {
+                return appendIntegerValue(integer, buffer, offset);
+            }
+            for (int k = 1; k < FLOAT_POWERS_OF_TEN.length; k++) {
+                double scaled = abs * DOUBLE_POWERS_OF_TEN[k];
+                if (scaled >= FLOAT_EXACT_LIMIT) {
+                    break;
+                }
+                long floor = (long) scaled;
+                long m = 0;
+                int nbMatches = 0;
+                for (long c = floor - 1; c <= floor + 2; c++) {
+                    if (c > 0 && c <= FLOAT_EXACT_LIMIT && c / FLOAT_POWERS_OF_TEN[k] == abs) {
+                        m = c;
+                        nbMatches++;
+                    }
+                }
+                if (nbMatches == 1) {
+                    return appendDecimal(m, k, buffer, offset);
+                } else if (nbMatches > 1) {
+                    break;
+                }
+            }
+        } else if (value == 0) {
+            return toChars(Float.floatToRawIntBits(value) < 0 ? "-0.0" : "0.0", buffer);
+        }
+        return toChars(Float.toString(value), buffer);
+    }
+
+    private static int appendIntegerValue(long value, char[] buffer, int offset) {
+        offset = appendDigits(value, buffer, offset);
+        buffer[offset++] = '.';
+        buffer[offset++] = '0';
+        return offset;
+    }
+
+    /**
+     * append m / 10^k with exactly k fraction digits.
+     */
+    private static int appendDecimal(long m, int k, char[] buffer, int offset) {
+        int nbDigits = nbDigits(m);
+        if (nbDigits > k) {
+            int end = offset + nbDigits + 1;
+            int p = end;
+            for (int i = 0; i < k; i++) {
+                long q = m / 10;
+                buffer[--p] = (char) ('0' + (m - q * 10));
+                m = q;
+            }
+            buffer[--p] = '.';
+            do {
+                long q = m / 10;
+                buffer[--p] = (char) ('0' + (m - q * 10));
+                m = q;
+            } while (m != 0);
+            return end;
+        } else {
+            buffer[offset++] = '0';
+            buffer[offset++] = '.';
+            for (int i = nbDigits; i < k; i++) {
+                buffer[offset++] = '0';
+            }
+            return appendDigits(m, buffer, offset);
+        }
+    }
+
+    private static int appendDigits(long value, char[] buffer, int offset) {
+        int end = offset + nbDigits(value);
+        int p = end;
+        do {
+            long q = value / 10;
+            buffer[--p] = (char) ('0' + (value - q * 10));
+            value = q;
+        } while (value != 0);
+        return end;
+    }
+
+    private static int nbDigits(int value) {
+        int limit = 10;
+        for (int i = 1; i < 10; i++) {
+            if (value < limit) return i;
+            limit *= 10;
+        }
+        return 10;
+    }
+
+    private static int nbDigits(long value) {
+        long limit = 10;
+        for (int i = 1; i < 19; i++) {
+            if (value < limit) return i;
+            limit *= 10;
+        }
+        return 19;
+    }
+
+    private static int toChars(String str, char[] buffer) {
+        int length = str.length();
+        str.getChars(0, length, buffer, 0);
+        return length;
+    }
+}
@@ -18,18 +18,24 @@ import org.simpleflatmapper.csv.getter.CsvBoxedShortGetter;
 import org.simpleflatmapper.csv.getter.CsvByteGetter;
 import org.simpleflatmapper.csv.getter.CsvCharGetter;
 import org.simpleflatmapper.csv.getter.CsvCharSequenceGetter;
+import org.simpleflatmapper.csv.getter.CsvDeduplicatedStringGetter;
 import org.simpleflatmapper.csv.getter.CsvDoubleGetter;
 import org.simpleflatmapper.csv.getter.CsvFloatGetter;
 import org.simpleflatmapper.csv.getter.CsvIntegerGetter;
 import org.simpleflatmapper.csv.getter.CsvLongGetter;
 import org.simpleflatmapper.csv.getter.CsvShortGetter;
 import org.simpleflatmapper.csv.getter.CsvStringGetter;
+import org.simpleflatmapper.csv.getter.CustomDoubleReaderGetter;
+import org.simpleflatmapper.csv.getter.CustomFloatReaderGetter;
 import org.simpleflatmapper.csv.getter.CustomReaderGetter;
+import org.simpleflatmapper.csv.impl.cellreader.DoubleCellValueReader;
+import org.simpleflatmapper.csv.impl.cellreader.FloatCellValueReader;
 import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
 import org.simpleflatmapper.csv.property.CustomReaderProperty;
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.getter.*;
+import org.simpleflatmapper.util.StringDeduplicator;
 import org.simpleflatmapper.util.TypeHelper;
 
 import java.lang.reflect.Type;
@@ -215,23 +221,26 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
 
         CustomReaderProperty customReaderProperty = null;
         CustomReaderFactoryProperty customReaderFactoryProperty = null;
+        StringDeduplicator stringDeduplicator = null;
 
         for(Object o : properties) {
             if (o instanceof CustomReaderProperty) {
                 customReaderProperty = (CustomReaderProperty) o;
             } else if (o instanceof CustomReaderFactoryProperty) {
                 customReaderFactoryProperty = (CustomReaderFactoryProperty) o;
+            } else if (o instanceof StringDeduplicator) {
+                stringDeduplicator = (StringDeduplicator) o;
             }
         }
 
         if (customReaderProperty != null) {
-            return new CustomReaderGetter<P>(key.getIndex(), customReaderProperty.getReader());
+            return newCustomReaderGetter(key.getIndex(), customReaderProperty.getReader());
         }
 
         if (customReaderFactoryProperty != null) {
             CellValueReader<?> reader = customReaderFactoryProperty.getReaderFactory().getReader(target, key.getIndex(), CsvColumnDefinition.of(properties), null);
             if (reader != null) {
-                return new CustomReaderGetter<P>(key.getIndex(), reader);
+                return newCustomReaderGetter(key.getIndex(), reader);
             }
         }
         
@@ -239,6 +248,10 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
             clazz = String.class;
         }
 
+        if (stringDeduplicator != null && clazz.equals(String.class)) {
+            return (ContextualGetter<CsvRow, P>) new CsvDeduplicatedStringGetter(key.getIndex(), stringDeduplicator);
+        }
+
         ContextualGetterFactory<CsvRow, CsvColumnKey> getterFactory = this.getterFactory.get(clazz);
         
         if (getterFactory != null) {
@@ -249,5 +262,13 @@ public class CsvRowGetterFactory implements ContextualGetterFactory<CsvRow, CsvC
         return null;
     }
 
-
+    @SuppressWarnings("unchecked")
+    private <P> ContextualGetter<CsvRow, P> newCustomReaderGetter(int index, CellValueReader<?> reader) {
+        if (reader instanceof DoubleCellValueReader) {
+            return (ContextualGetter<CsvRow, P>) new CustomDoubleReaderGetter(index, (DoubleCellValueReader) reader);
+        } else if (reader instanceof FloatCellValueReader) {
+            return (ContextualGetter<CsvRow, P>) new CustomFloatReaderGetter(index, (FloatCellValueReader) reader);
+        }
+        return new CustomReaderGetter<P>(index, reader);
+    }
 }
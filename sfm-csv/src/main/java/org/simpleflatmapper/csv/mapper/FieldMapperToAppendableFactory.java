@@ -85,13 +85,13 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
             } else if (getter instanceof ShortGetter) {
                 return new ShortConstantTargetFieldMapper<S, Appendable>((ShortGetter<? super S>) getter, new ShortAppendableSetter(cellWriter));
             } else if (getter instanceof IntGetter) {
-                return new IntConstantTargetFieldMapper<S, Appendable>((IntGetter<? super S>) getter, new IntegerAppendableSetter(cellWriter));
+                return new IntConstantTargetFieldMapper<S, Appendable>((IntGetter<? super S>) getter, new IntegerAppendableSetter(newNumberCellWriter(builder)));
             } else if (getter instanceof LongGetter) {
-                return new LongConstantTargetFieldMapper<S, Appendable>((LongGetter<? super S>) getter, new LongAppendableSetter(cellWriter));
+                return new LongConstantTargetFieldMapper<S, Appendable>((LongGetter<? super S>) getter, new LongAppendableSetter(newNumberCellWriter(builder)));
             } else if (getter instanceof FloatGetter) {
-                return new FloatConstantTargetFieldMapper<S, Appendable>((FloatGetter<? super S>) getter, new FloatAppendableSetter(cellWriter));
+                return new FloatConstantTargetFieldMapper<S, Appendable>((FloatGetter<? super S>) getter, new FloatAppendableSetter(newNumberCellWriter(builder)));
             } else if (getter instanceof DoubleGetter) {
-                return new DoubleConstantTargetFieldMapper<S, Appendable>((DoubleGetter<? super S>) getter, new DoubleAppendableSetter(cellWriter));
+                return new DoubleConstantTargetFieldMapper<S, Appendable>((DoubleGetter<? super S>) getter, new DoubleAppendableSetter(newNumberCellWriter(builder)));
             }
         }
 
@@ -196,6 +196,10 @@ public class FieldMapperToAppendableFactory implements ConstantTargetFieldMapper
     }
 
 
+    private NumberCellWriter newNumberCellWriter(MappingContextFactoryBuilder<?, ?> builder) {
+        return new NumberCellWriter(cellWriter, builder.addSupplier(NumberCellWriter.bufferSupplier()));
+    }
+
     private static class MappingContextFormatGetter<S> implements Getter<MappingContext<? super S>, Format> {
         private final int index;
 
@@ -0,0 +1,134 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.map.property.ConverterProperty;
+import org.simpleflatmapper.map.property.MemoizeLastValueProperty;
+import org.simpleflatmapper.tuple.Tuple2;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.TypeReference;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class CsvMapperFactoryMemoizeLastValueTest {
+
+    private static final String CSV = "element0,element1\n" +
+            "1,1.50\n" +
+            "2,1.50\n" +
+            "3,2.50\n" +
+            "4,2.50\n" +
+            "5,1.50\n" +
+            "6,\n";
+
+    @Test
+    public void testLastValueIsReused() throws IOException {
+        CountingConverter converter = new CountingConverter();
+        List<Tuple2<String, BigDecimal>> list = map(converter, MemoizeLastValueProperty.INSTANCE);
+
+        assertValues(list);
+        assertSame(list.get(0).getElement1(), list.get(1).getElement1());
+        assertSame(list.get(2).getElement1(), list.get(3).getElement1());
+        assertNotSame(list.get(0).getElement1(), list.get(4).getElement1());
+        // 1.50, 2.50, 1.50 and the empty cell
+        assertEquals(4, converter.calls);
+    }
+
+    @Test
+    public void testDirectMappedCacheKeepsSeveralValues() throws IOException {
+        CountingConverter converter = new CountingConverter();
+        List<Tuple2<String, BigDecimal>> list = map(converter, MemoizeLastValueProperty.directMapped(16));
+
+        assertValues(list);
+        assertSame(list.get(0).getElement1(), list.get(4).getElement1());
+        // 1.50, 2.50 and the empty cell
+        assertEquals(3, converter.calls);
+    }
+
+    @Test
+    public void testWithoutMemoization() throws IOException {
+        CountingConverter converter = new CountingConverter();
+        List<Tuple2<String, BigDecimal>> list = map(converter, null);
+
+        assertValues(list);
+        assertEquals(6, converter.calls);
+    }
+
+    @Test
+    public void testCacheIsNotSharedBetweenIterations() throws IOException {
+        CountingConverter converter = new CountingConverter();
+        CsvMapper<Tuple2<String, BigDecimal>> mapper = newMapper(converter, MemoizeLastValueProperty.INSTANCE);
+
+        mapper.forEach(CsvParser.reader("element0,element1\n1,1.50\n"), new ListCollector<Tuple2<String, BigDecimal>>());
+        mapper.forEach(CsvParser.reader("element0,element1\n1,1.50\n"), new ListCollector<Tuple2<String, BigDecimal>>());
+
+        assertEquals(2, converter.calls);
+    }
+
+    @Test
+    public void testCharSequenceInputIsCopied() throws IOException {
+        List<Tuple2<String, Level>> list = CsvMapperFactory
+                .newInstance()
+                .addColumnProperty("element1", MemoizeLastValueProperty.directMapped(4))
+                .newMapper(new TypeReference<Tuple2<String, Level>>() { })
+                .forEach(CsvParser.reader("element0,element1\n1,LOW\n2,LOW\n3,HIGH\n4,LOW\n5,HIGH\n"), new ListCollector<Tuple2<String, Level>>())
+                .getList();
+
+        assertEquals(5, list.size());
+        assertEquals(Level.LOW, list.get(0).getElement1());
+        assertEquals(Level.LOW, list.get(1).getElement1());
+        assertEquals(Level.HIGH, list.get(2).getElement1());
+        assertEquals(Level.LOW, list.get(3).getElement1());
+        assertEquals(Level.HIGH, list.get(4).getElement1());
+    }
+
+    private List<Tuple2<String, BigDecimal>> map(CountingConverter converter, Object property) throws IOException {
+        return newMapper(converter, property)
+                .forEach(CsvParser.reader(CSV), new ListCollector<Tuple2<String, BigDecimal>>())
+                .getList();
+    }
+
+    private CsvMapper<Tuple2<String, BigDecimal>> newMapper(CountingConverter converter, Object property) {
+        CsvMapperFactory mapperFactory = CsvMapperFactory
+                .newInstance()
+                .addColumnProperty("element1", new ConverterProperty<String, BigDecimal>(converter, String.class));
+        if (property != null) {
+            mapperFactory.addColumnProperty("element1", property);
+        }
+        return mapperFactory.newMapper(new TypeReference<Tuple2<String, BigDecimal>>() { });
+    }
+
+    private void assertValues(List<Tuple2<String, BigDecimal>> list) {
+        assertEquals(6, list.size());
+        assertEquals(new BigDecimal("1.50"), list.get(0).getElement1());
+        assertEquals(new BigDecimal("1.50"), list.get(1).getElement1());
+        assertEquals(new BigDecimal("2.50"), list.get(2).getElement1());
+        assertEquals(new BigDecimal("2.50"), list.get(3).getElement1());
+        assertEquals(new BigDecimal("1.50"), list.get(4).getElement1());
+        assertEquals(null, list.get(5).getElement1());
+    }
+
+    public enum Level {
+        LOW, HIGH
+    }
+
+    private static class CountingConverter implements ContextualConverter<String, BigDecimal> {
+        int calls;
+
+        @Override
+        public BigDecimal convert(String in, Context context) throws Exception {
+            calls++;
+            if (in == null || in.isEmpty()) return null;
+            return new BigDecimal(in);
+        }
+    }
+}
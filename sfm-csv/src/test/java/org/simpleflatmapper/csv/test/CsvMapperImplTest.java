@@ -8,6 +8,8 @@ import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvMapperBuilder;
 import org.simpleflatmapper.csv.CsvMapperFactory;
 import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.csv.CsvRowSet;
+import org.simpleflatmapper.csv.ParallelCsvMapper;
 import org.simpleflatmapper.map.FieldMapperErrorHandler;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.Result;
@@ -28,6 +30,8 @@ import java.text.ParseException;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 //IFJAVA8_START
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -56,6 +60,55 @@ public class CsvMapperImplTest {
 
 
 
+    @Test
+    public void testColumnProjectionSkipsUnmappedCells() throws IOException {
+        String content = "id,comment,name,extra\n"
+                + "1,\"a \"\"quoted\"\", comment\nover two lines\",name 1,x\n"
+                + "2,plain,\"name \"\"2\"\"\",\"y,\"\"\"\n"
+                + "3,,name 3,z\n";
+
+        Iterator<DbObject> iterator = CsvMapperFactory.newInstance().ignorePropertyNotFound().newMapper(DbObject.class).iterator(new StringReader(content));
+        assertIdAndName(iterator, 1, "name 1");
+        assertIdAndName(iterator, 2, "name \"2\"");
+        assertIdAndName(iterator, 3, "name 3");
+        assertFalse(iterator.hasNext());
+
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newBuilder(DbObject.class).addMapping("id", 0).addMapping("name", 2).mapper();
+        iterator = mapper.iterator(new StringReader(content), 1);
+        assertIdAndName(iterator, 1, "name 1");
+        assertIdAndName(iterator, 2, "name \"2\"");
+        assertIdAndName(iterator, 3, "name 3");
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testParallelCsvMapper() throws IOException {
+        StringBuilder sb = new StringBuilder("id,comment,name\n");
+        for (int i = 0; i < 500; i++) {
+            sb.append(i).append(",\"comment, ").append(i).append("\",name ").append(i).append("\n");
+        }
+
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().ignorePropertyNotFound().newMapper(DbObject.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // small buffer so that the parser shifts it while the copied rows wait in the batches
+            CsvRowSet rows = new CsvRowSet(CsvParser.bufferSize(64).reader(new StringReader(sb.toString())), -1);
+            Iterator<DbObject> iterator = new ParallelCsvMapper<DbObject>(mapper, executor, 16, true).iterator(rows);
+            for (int i = 0; i < 500; i++) {
+                assertIdAndName(iterator, i, "name " + i);
+            }
+            assertFalse(iterator.hasNext());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertIdAndName(Iterator<DbObject> iterator, long id, String name) {
+        DbObject dbObject = iterator.next();
+        assertEquals(id, dbObject.getId());
+        assertEquals(name, dbObject.getName());
+    }
+
     @Test
     public void testCsvFieldMappingError() throws IOException {
         CsvMapper<Integer> mapper = CsvMapperFactory.newInstance().newMapper(Integer.class);
@@ -15,6 +15,7 @@ import org.simpleflatmapper.util.ListCollector;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -197,6 +198,31 @@ public class CsvMapperJoinTest {
 
     }
 
+    @Test
+    public void testUnorderedJoinSpill() throws IOException {
+        StringBuilder sb = new StringBuilder("id,name,roles_name\n");
+        for (int role = 0; role < 3; role++) {
+            for (int id = 0; id < 50; id++) {
+                sb.append(id).append(",n").append(id).append(",r").append(role).append("\n");
+            }
+        }
+
+        List<User> users = CsvMapperFactory
+                .newInstance()
+                .unorderedJoin(5)
+                .addKeys("id", "roles_name")
+                .newMapper(User.class)
+                .forEach(new StringReader(sb.toString()), new ListCollector<User>()).getList();
+
+        assertEquals(50, users.size());
+        Set<Integer> ids = new HashSet<Integer>();
+        for (User u : users) {
+            ids.add(u.id);
+            assertEquals("n" + u.id, u.name);
+            assertEquals(3, u.roles.size());
+        }
+        assertEquals(50, ids.size());
+    }
 
     public static class User {
         public int id;
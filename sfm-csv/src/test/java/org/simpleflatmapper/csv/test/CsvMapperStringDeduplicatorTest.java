@@ -0,0 +1,49 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.StringDeduplicator;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CsvMapperStringDeduplicatorTest {
+
+    private static final String CSV = "id,name,email\n1,FR,a@a\n2,FR,a@a\n3,,a@a\n4,GB,a@a\n5,FR,a@a";
+
+    @Test
+    public void testDeduplicateStringColumn() throws IOException {
+        testDeduplicateStringColumn(true);
+        testDeduplicateStringColumn(false);
+    }
+
+    private void testDeduplicateStringColumn(boolean asm) throws IOException {
+        StringDeduplicator deduplicator = new StringDeduplicator(16, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+        CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance()
+                .useAsm(asm)
+                .addColumnProperty("name", deduplicator)
+                .newMapper(DbObject.class);
+
+        List<DbObject> list = mapper.forEach(new StringReader(CSV), new ListCollector<DbObject>()).getList();
+
+        assertEquals(5, list.size());
+        assertEquals("FR", list.get(0).getName());
+        assertSame(list.get(0).getName(), list.get(1).getName());
+        assertSame(list.get(0).getName(), list.get(4).getName());
+        assertNull(list.get(2).getName());
+        assertEquals("GB", list.get(3).getName());
+        assertNotSame(list.get(0).getEmail(), list.get(1).getEmail());
+
+        assertEquals(2, deduplicator.getHitCount());
+        assertEquals(2, deduplicator.getMissCount());
+    }
+}
@@ -3,6 +3,8 @@ package org.simpleflatmapper.csv.test;
 import org.junit.Test;
 import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.map.mapper.MapperCacheStats;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.test.beans.DbFinalObject;
 import org.simpleflatmapper.test.beans.DbListObject;
 import org.simpleflatmapper.test.beans.DbObject;
@@ -69,6 +71,27 @@ public class DynamicCsvMapperImplTest {
 		DbHelper.assertDbObjectMapping(2, list.get(1));
 	}
 
+	@Test
+	public void testBoundedMapperCacheStats() throws Exception {
+		CsvMapperFactory mapperFactory = CsvMapperFactory.newInstance().mapperCacheStrategy(MapperCacheStrategy.bounded(1)).enableMapperCacheStats();
+		CsvMapper<DbObject> mapper = mapperFactory.newMapper(DbObject.class);
+
+		for(int i = 0; i < 2; i++) {
+			assertEquals(2, mapper.forEach(dbObjectCsvReader3Lines(), new ListCollector<DbObject>()).getList().size());
+			DbObject object = mapper.iterator(new StringReader("id,name\n3,name 3")).next();
+			assertEquals(3, object.getId());
+			assertEquals("name 3", object.getName());
+		}
+
+		MapperCacheStats stats = mapperFactory.mapperCacheStats();
+		assertEquals(4, stats.missCount());
+		assertEquals(4, stats.buildCount());
+		assertEquals(3, stats.evictionCount());
+
+		assertEquals(1, mapper.forEach(new StringReader("id,name\n4,name 4"), new ListCollector<DbObject>()).getList().size());
+		assertEquals(1, stats.hitCount());
+	}
+
 	@Test
 	public void testDbObjectWithSkip() throws Exception {
 		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
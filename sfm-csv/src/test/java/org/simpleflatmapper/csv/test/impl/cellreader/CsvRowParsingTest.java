@@ -0,0 +1,84 @@
+package org.simpleflatmapper.csv.test.impl.cellreader;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class CsvRowParsingTest {
+
+	@Test
+	public void testBigDecimal() {
+		assertNull(newRow("").getBigDecimal(0));
+		String[] values = {
+				"0", "-0", "0.00", "1", "-1.50", "+12.345", ".5", "5.", "00.10",
+				"1e3", "1.5E-7", "-2.5e+10", "123456789012345678", "1234567890123456789012.5",
+				"1E999999999"
+		};
+		for (String value : values) {
+			BigDecimal expected = new BigDecimal(value);
+			BigDecimal actual = newRow(value).getBigDecimal(0);
+			assertEquals(value, expected, actual);
+			assertEquals(value, expected.scale(), actual.scale());
+		}
+		for (String value : new String[]{"a", "-", "1e", "1.2.3", "."}) {
+			try {
+				newRow(value).getBigDecimal(0);
+				fail("expect NumberFormatException on " + value);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void testUUID() {
+		assertNull(newRow("").getUUID(0));
+		for (int i = 0; i < 100; i++) {
+			UUID uuid = UUID.randomUUID();
+			assertEquals(uuid, newRow(uuid.toString()).getUUID(0));
+			assertEquals(uuid, newRow(uuid.toString().toUpperCase()).getUUID(0));
+		}
+		assertEquals(UUID.fromString("1-2-3-4-5"), newRow("1-2-3-4-5").getUUID(0));
+		try {
+			newRow("zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz").getUUID(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testByteShortChar() {
+		assertEquals((byte) -128, newRow("-128").getByte(0));
+		assertEquals((short) 32767, newRow("32767").getShort(0));
+		assertEquals('A', newRow("65").getChar(0));
+		assertNull(newRow("").getBoxedByte(0));
+		try {
+			newRow("128").getByte(0);
+			fail();
+		} catch (NumberFormatException e) {
+			// expected
+		}
+		try {
+			newRow("-32769").getShort(0);
+			fail();
+		} catch (NumberFormatException e) {
+			// expected
+		}
+	}
+
+	private CsvRow newRow(String str) {
+		CsvRow row = new CsvRow(new CsvColumnKey[1], 1, new CharSequenceCharBuffer("_" + str + "_"));
+		row.reset();
+		row.addValue(1, str.length());
+		return row;
+	}
+}
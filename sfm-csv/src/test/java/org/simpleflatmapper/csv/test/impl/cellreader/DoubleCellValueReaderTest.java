@@ -0,0 +1,77 @@
+package org.simpleflatmapper.csv.test.impl.cellreader;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class DoubleCellValueReaderTest {
+
+	@Test
+	public void testRead() {
+		assertNull(newRow("").getBoxedDouble(0));
+		assertEquals(0.0, newRow("").getDouble(0), 0);
+		String[] values = {
+				"0", "-0", "0.0", "+1", "-1.5", "1e10", "1E-10", ".5", "5.",
+				"0.1", "0.3", "123456.789", "-0.000001234",
+				"9007199254740993", "1234567890123456789", "12345678901234567890123",
+				"1.7976931348623157e308", "1.8e308", "4.9e-324", "2.2250738585072014E-308", "1e-400",
+				"NaN", "-Infinity", "1d", " 1 ", "0x1p3"
+		};
+		for (String value : values) {
+			testReadDouble(value);
+		}
+	}
+
+	@Test
+	public void testReadRandomValues() {
+		Random random = new Random(3);
+		for (int i = 0; i < 100000; i++) {
+			testReadDouble(Double.toString(Double.longBitsToDouble(random.nextLong())));
+			testReadDouble((random.nextInt(2000000) - 1000000) + "." + random.nextInt(100000));
+			testReadDouble((random.nextLong() >>> random.nextInt(64)) + "e" + (random.nextInt(700) - 350));
+		}
+	}
+
+	@Test
+	public void testReadHalfwayValues() {
+		Random random = new Random(5);
+		for (int i = 0; i < 10000; i++) {
+			double d = Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL);
+			BigDecimal halfway = new BigDecimal(d).add(new BigDecimal(Math.nextUp(d))).divide(BigDecimal.valueOf(2));
+			testReadDouble(halfway.round(new MathContext(19)).toString());
+		}
+	}
+
+	@Test
+	public void testInvalidNumber() {
+		for (String value : new String[]{"a", "-", "1e", "1.2.3", "."}) {
+			try {
+				newRow(value).getDouble(0);
+				fail("expect NumberFormatException on " + value);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	private void testReadDouble(String str) {
+		double expected = Double.parseDouble(str);
+		assertEquals(str, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(newRow(str).getDouble(0)));
+	}
+
+	private CsvRow newRow(String str) {
+		CsvRow row = new CsvRow(new CsvColumnKey[1], 1, new CharSequenceCharBuffer("_" + str + "_"));
+		row.reset();
+		row.addValue(1, str.length());
+		return row;
+	}
+}
@@ -0,0 +1,59 @@
+package org.simpleflatmapper.csv.test.impl.cellreader;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvColumnKey;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FloatCellValueReaderTest {
+
+	@Test
+	public void testRead() {
+		assertNull(newRow("").getBoxedFloat(0));
+		String[] values = {
+				"0", "-0", "+1", "-1.5", "1e10", "1E-10", "0.1", "16777217", "123456.789",
+				"3.4028235e38", "3.4028236e38", "1.4e-45", "1e-50", "1.00000017881393432617187499",
+				"NaN", "Infinity", "1f"
+		};
+		for (String value : values) {
+			testReadFloat(value);
+		}
+	}
+
+	@Test
+	public void testReadRandomValues() {
+		Random random = new Random(7);
+		for (int i = 0; i < 100000; i++) {
+			testReadFloat(Float.toString(Float.intBitsToFloat(random.nextInt())));
+			testReadFloat(Double.toString(Double.longBitsToDouble(random.nextLong())));
+			testReadFloat((random.nextInt(2000000) - 1000000) + "." + random.nextInt(100000));
+		}
+	}
+
+	@Test
+	public void testReadHalfwayValues() {
+		Random random = new Random(11);
+		for (int i = 0; i < 10000; i++) {
+			float f = Float.intBitsToFloat(random.nextInt() & 0x7F7FFFFF);
+			testReadFloat(new BigDecimal(f).add(new BigDecimal(Math.nextUp(f))).divide(BigDecimal.valueOf(2)).toString());
+		}
+	}
+
+	private void testReadFloat(String str) {
+		float expected = Float.parseFloat(str);
+		assertEquals(str, Float.floatToRawIntBits(expected), Float.floatToRawIntBits(newRow(str).getFloat(0)));
+	}
+
+	private CsvRow newRow(String str) {
+		CsvRow row = new CsvRow(new CsvColumnKey[1], 1, new CharSequenceCharBuffer("_" + str + "_"));
+		row.reset();
+		row.addValue(1, str.length());
+		return row;
+	}
+}
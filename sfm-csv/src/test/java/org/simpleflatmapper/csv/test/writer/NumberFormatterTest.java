@@ -0,0 +1,112 @@
+package org.simpleflatmapper.csv.test.writer;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.CsvWriter;
+import org.simpleflatmapper.csv.impl.writer.NumberFormatter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class NumberFormatterTest {
+
+    private final char[] buffer = new char[NumberFormatter.BUFFER_SIZE];
+
+    @Test
+    public void testFormatInt() {
+        int[] values = {0, 1, -1, 9, 10, 99, 100, 12345, -12345, 999999999, 1000000000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : values) {
+            assertEquals(Integer.toString(value), new String(buffer, 0, NumberFormatter.formatInt(value, buffer)));
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            int value = random.nextInt() >> random.nextInt(32);
+            assertEquals(Integer.toString(value), new String(buffer, 0, NumberFormatter.formatInt(value, buffer)));
+        }
+    }
+
+    @Test
+    public void testFormatLong() {
+        long[] values = {0, 1, -1, 10, 999999999999999999L, 1000000000000000000L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : values) {
+            assertEquals(Long.toString(value), new String(buffer, 0, NumberFormatter.formatLong(value, buffer)));
+        }
+        Random random = new Random(2);
+        for (int i = 0; i < 100000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            assertEquals(Long.toString(value), new String(buffer, 0, NumberFormatter.formatLong(value, buffer)));
+        }
+    }
+
+    @Test
+    public void testFormatDouble() {
+        double[] values = {
+                0.0, -0.0, 1.0, -1.0, 0.1, 0.3, 0.1 + 0.2, 1.5, 3.14, 123.456, -0.001, 0.001, 0.0009999,
+                9999999.99, 1e7, 1e-3, 1234567.0, 1e23, 4.9e-324, Double.MAX_VALUE, Double.MIN_NORMAL,
+                Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Math.PI, Math.E
+        };
+        for (double value : values) {
+            assertFormatDouble(value);
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 300000; i++) {
+            assertFormatDouble(Double.longBitsToDouble(random.nextLong()));
+            assertFormatDouble(random.nextDouble() * Math.pow(10, random.nextInt(12) - 4));
+            int digits = 1 + random.nextInt(16);
+            assertFormatDouble(((long) (random.nextDouble() * Math.pow(10, digits))) / Math.pow(10, random.nextInt(digits + 3)));
+        }
+    }
+
+    @Test
+    public void testFormatFloat() {
+        float[] values = {
+                0.0f, -0.0f, 1.0f, -1.0f, 0.1f, 0.3f, 1.5f, 3.14f, 123.456f, -0.001f, 0.001f,
+                9999999.0f, 1e7f, 1e-3f, Float.MAX_VALUE, Float.MIN_VALUE, Float.NaN, Float.NEGATIVE_INFINITY
+        };
+        for (float value : values) {
+            assertFormatFloat(value);
+        }
+        Random random = new Random(4);
+        for (int i = 0; i < 300000; i++) {
+            assertFormatFloat(Float.intBitsToFloat(random.nextInt()));
+            assertFormatFloat((float) (random.nextDouble() * Math.pow(10, random.nextInt(12) - 4)));
+            int digits = 1 + random.nextInt(8);
+            assertFormatFloat((float) (((long) (random.nextDouble() * Math.pow(10, digits))) / Math.pow(10, random.nextInt(digits + 3))));
+        }
+    }
+
+    @Test
+    public void testNumbersAreEscapedWhenSeparatorIsADot() throws IOException {
+        StringWriter sw = new StringWriter();
+        CsvWriter.from(Point.class).columns("x", "y").separator('.').to(sw).append(new Point(1.5, -2));
+        assertEquals("x.y\r\n\"1.5\".-2\r\n", sw.toString());
+    }
+
+    private void assertFormatDouble(double value) {
+        assertEquals(Double.toString(value), new String(buffer, 0, NumberFormatter.formatDouble(value, buffer)));
+    }
+
+    private void assertFormatFloat(float value) {
+        assertEquals(Float.toString(value), new String(buffer, 0, NumberFormatter.formatFloat(value, buffer)));
+    }
+
+    public static class Point {
+        private final double x;
+        private final int y;
+
+        public Point(double x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public double getX() {
+            return x;
+        }
+
+        public int getY() {
+            return y;
+        }
+    }
+}
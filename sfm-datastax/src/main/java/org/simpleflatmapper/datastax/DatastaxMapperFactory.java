@@ -17,6 +17,8 @@ import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
 import org.simpleflatmapper.map.mapper.AbstractMapperFactory;
 import org.simpleflatmapper.map.mapper.ConstantTargetFieldMapperFactoryImpl;
 import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
+import org.simpleflatmapper.map.mapper.MapperCacheStats;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.map.mapper.FieldMapperColumnDefinitionProviderImpl;
 import org.simpleflatmapper.map.mapper.MapperKey;
 import org.simpleflatmapper.util.Function;
@@ -115,7 +117,7 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
     }
     public <T> DatastaxMapper<T> mapTo(Type type) {
         final ClassMeta<T> classMeta = getClassMeta(type);
-        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet());
+        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet(), mapperCacheStrategy(), mapperCacheStats());
     }
 
     public <T, K> DatastaxCrudDSL<T, K> crud(Class<T> targetType, Class<K> keyType) {
@@ -165,7 +167,10 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
         public DynamicDatastaxSetRowMapper(
                 UnaryFactory<MapperKey<DatastaxColumnKey>, SetRowMapper<Row, ResultSet, T, DriverException>> mapperFactory,
                 UnaryFactoryWithException<Row, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromRow,
-                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet) {
-            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE);        }
+                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet,
+                MapperCacheStrategy mapperCacheStrategy,
+                MapperCacheStats mapperCacheStats) {
+            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE, mapperCacheStrategy, mapperCacheStats);
+        }
     }
 }
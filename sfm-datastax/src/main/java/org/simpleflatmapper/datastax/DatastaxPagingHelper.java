@@ -0,0 +1,51 @@
+package org.simpleflatmapper.datastax;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.simpleflatmapper.datastax.impl.AsyncResultSetConsumer;
+import org.simpleflatmapper.datastax.impl.PrefetchEnumerable;
+import org.simpleflatmapper.map.MappingException;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Enumerable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Page aware mapping of a ResultSet, works with any {@link DatastaxMapper}.
+ */
+public final class DatastaxPagingHelper {
+
+    private DatastaxPagingHelper() {
+    }
+
+    /**
+     * Enumerate the result set, the next page is fetched in the background
+     * when the number of rows left in the current page drops to prefetchThreshold.
+     * @param mapper the mapper
+     * @param source the result set
+     * @param prefetchThreshold the number of rows left in the page that triggers the fetch of the next one
+     * @param <T> the target type
+     * @return the enumerable
+     * @throws DriverException if an error occurs
+     * @throws MappingException if an error occurs
+     */
+    public static <T> Enumerable<T> enumerate(DatastaxMapper<T> mapper, ResultSet source, int prefetchThreshold) throws DriverException, MappingException {
+        return new PrefetchEnumerable<T>(mapper.enumerate(source), source, prefetchThreshold);
+    }
+
+    /**
+     * Map the rows of each page as it arrives, the handler is called on the executor and never waits for a page.
+     * @param mapper the mapper
+     * @param source the future result set, ie Session.executeAsync
+     * @param handler the handler
+     * @param prefetchThreshold the number of rows left in the page that triggers the fetch of the next one
+     * @param executor the executor the rows are mapped on
+     * @param <T> the target type
+     * @param <H> the handler type
+     * @return a future of the handler completed when all the pages are consumed
+     */
+    public static <T, H extends CheckedConsumer<? super T>> ListenableFuture<H> forEachAsync(DatastaxMapper<T> mapper, ListenableFuture<ResultSet> source, H handler, int prefetchThreshold, Executor executor) {
+        return new AsyncResultSetConsumer<T, H>(mapper, handler, prefetchThreshold, executor).consume(source);
+    }
+}
@@ -0,0 +1,108 @@
+package org.simpleflatmapper.datastax.impl;
+
+import com.datastax.driver.core.ResultSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.simpleflatmapper.datastax.DatastaxMapper;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Enumerable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Maps the rows of each page as it arrives and never blocks on a page boundary,
+ * when the current page is consumed it registers itself on ResultSet.fetchMoreResults().
+ * <p>
+ * The rows are enumerated one at a time, a join mapper that reads ahead for the next object can still wait on the next page.
+ */
+public class AsyncResultSetConsumer<T, H extends CheckedConsumer<? super T>> {
+    private final DatastaxMapper<T> mapper;
+    private final H handler;
+    private final int prefetchThreshold;
+    private final Executor executor;
+
+    private final SettableFuture<H> future = SettableFuture.create();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    private ResultSet resultSet;
+    private Enumerable<T> enumerable;
+
+    public AsyncResultSetConsumer(DatastaxMapper<T> mapper, H handler, int prefetchThreshold, Executor executor) {
+        this.mapper = mapper;
+        this.handler = handler;
+        this.prefetchThreshold = prefetchThreshold;
+        this.executor = executor;
+    }
+
+    public ListenableFuture<H> consume(final ListenableFuture<ResultSet> resultSetFuture) {
+        resultSetFuture.addListener(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    resultSet = resultSetFuture.get();
+                    enumerable = mapper.enumerate(resultSet);
+                } catch (Throwable e) {
+                    fail(e);
+                    return;
+                }
+                drain();
+            }
+        }, executor);
+        return future;
+    }
+
+    /**
+     * consume the available rows, a call made while the rows are being consumed - ie by a fetch listener
+     * that runs straight away on a direct executor - is picked up by the running loop instead of recursing.
+     */
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            try {
+                consumeAvailableRows();
+            } catch (Throwable e) {
+                fail(e);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void consumeAvailableRows() throws Exception {
+        while (!future.isDone()) {
+            if (resultSet.getAvailableWithoutFetching() == 0 && !resultSet.isFullyFetched()) {
+                final ListenableFuture<ResultSet> fetch = resultSet.fetchMoreResults();
+                fetch.addListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            fetch.get();
+                        } catch (Throwable e) {
+                            fail(e);
+                            return;
+                        }
+                        drain();
+                    }
+                }, executor);
+                return;
+            }
+
+            PrefetchEnumerable.prefetch(resultSet, prefetchThreshold);
+
+            if (!enumerable.next()) {
+                future.set(handler);
+                return;
+            }
+            handler.accept(enumerable.currentValue());
+        }
+    }
+
+    private void fail(Throwable e) {
+        if (e instanceof ExecutionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        future.setException(e);
+    }
+}
@@ -0,0 +1,38 @@
+package org.simpleflatmapper.datastax.impl;
+
+import com.datastax.driver.core.ResultSet;
+import org.simpleflatmapper.util.Enumerable;
+
+/**
+ * Enumerable that asks the driver for the next page when the rows left in the current page drop to the threshold,
+ * the page is then fetched while the current one is mapped instead of blocking in ResultSet.one().
+ */
+public class PrefetchEnumerable<T> implements Enumerable<T> {
+    private final Enumerable<T> delegate;
+    private final ResultSet resultSet;
+    private final int prefetchThreshold;
+
+    public PrefetchEnumerable(Enumerable<T> delegate, ResultSet resultSet, int prefetchThreshold) {
+        this.delegate = delegate;
+        this.resultSet = resultSet;
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
+    @Override
+    public boolean next() {
+        prefetch(resultSet, prefetchThreshold);
+        return delegate.next();
+    }
+
+    @Override
+    public T currentValue() {
+        return delegate.currentValue();
+    }
+
+    static void prefetch(ResultSet resultSet, int prefetchThreshold) {
+        // fetchMoreResults returns the pending fetch if there is already one
+        if (resultSet.getAvailableWithoutFetching() <= prefetchThreshold && !resultSet.isFullyFetched()) {
+            resultSet.fetchMoreResults();
+        }
+    }
+}
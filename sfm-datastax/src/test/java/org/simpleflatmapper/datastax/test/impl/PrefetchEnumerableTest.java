@@ -0,0 +1,232 @@
+package org.simpleflatmapper.datastax.test.impl;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.Test;
+import org.simpleflatmapper.datastax.DatastaxMapper;
+import org.simpleflatmapper.datastax.DatastaxMapperFactory;
+import org.simpleflatmapper.datastax.DatastaxPagingHelper;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PrefetchEnumerableTest {
+
+    private static final Executor DIRECT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final DatastaxMapper<DbObject> mapper =
+            DatastaxMapperFactory
+                    .newInstance()
+                    .newBuilder(DbObject.class)
+                    .addMapping("id", 0, DataType.bigint(), new Object[0])
+                    .addMapping("name", 1, DataType.text(), new Object[0])
+                    .mapper();
+
+    @Test
+    public void testEnumerateWithoutPrefetchBlocksOnEachPage() {
+        PagedResultSet pagedResultSet = new PagedResultSet(true, 3, 3, 2);
+
+        assertIds(mapper.enumerate(pagedResultSet.resultSet), 8);
+        assertEquals(2, pagedResultSet.blockingFetches);
+    }
+
+    @Test
+    public void testEnumeratePrefetchesNextPage() {
+        PagedResultSet pagedResultSet = new PagedResultSet(true, 3, 3, 2);
+
+        assertIds(DatastaxPagingHelper.enumerate(mapper, pagedResultSet.resultSet, 1), 8);
+        assertEquals(0, pagedResultSet.blockingFetches);
+        assertEquals(2, pagedResultSet.fetchRequests);
+    }
+
+    @Test
+    public void testForEachAsyncMapsEachPageAsItArrives() throws Exception {
+        PagedResultSet pagedResultSet = new PagedResultSet(false, 3, 3, 2);
+        SettableFuture<ResultSet> resultSetFuture = SettableFuture.create();
+        ListCollector<DbObject> collector = new ListCollector<DbObject>();
+
+        ListenableFuture<ListCollector<DbObject>> future =
+                DatastaxPagingHelper.forEachAsync(mapper, resultSetFuture, collector, 1, DIRECT);
+
+        resultSetFuture.set(pagedResultSet.resultSet);
+        assertFalse(future.isDone());
+        assertEquals(3, collector.getList().size());
+
+        pagedResultSet.completeFetch();
+        assertFalse(future.isDone());
+        assertEquals(6, collector.getList().size());
+
+        pagedResultSet.completeFetch();
+        assertTrue(future.isDone());
+        assertSame(collector, future.get());
+        assertEquals(8, collector.getList().size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(i, collector.getList().get(i).getId());
+        }
+        assertEquals(0, pagedResultSet.blockingFetches);
+    }
+
+    @Test
+    public void testForEachAsyncDoesNotRecurseOnCompletedFetches() throws Exception {
+        // each fetch completes straight away and its listener runs on the direct executor
+        int[] pageSizes = new int[10000];
+        Arrays.fill(pageSizes, 1);
+        PagedResultSet pagedResultSet = new PagedResultSet(true, pageSizes);
+
+        ListenableFuture<ListCollector<DbObject>> future =
+                DatastaxPagingHelper.forEachAsync(mapper, Futures.immediateFuture(pagedResultSet.resultSet), new ListCollector<DbObject>(), 0, DIRECT);
+
+        assertTrue(future.isDone());
+        assertEquals(pageSizes.length, future.get().getList().size());
+        assertEquals(0, pagedResultSet.blockingFetches);
+    }
+
+    @Test
+    public void testForEachAsyncPropagatesFailure() throws Exception {
+        SettableFuture<ResultSet> resultSetFuture = SettableFuture.create();
+
+        ListenableFuture<ListCollector<DbObject>> future =
+                DatastaxPagingHelper.forEachAsync(mapper, resultSetFuture, new ListCollector<DbObject>(), 1, DIRECT);
+
+        IllegalStateException error = new IllegalStateException();
+        resultSetFuture.setException(error);
+
+        assertTrue(future.isDone());
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(error, e.getCause());
+        }
+    }
+
+    private static void assertIds(Enumerable<DbObject> enumerable, int size) {
+        int i = 0;
+        while (enumerable.next()) {
+            assertEquals(i++, enumerable.currentValue().getId());
+        }
+        assertEquals(size, i);
+    }
+
+    /**
+     * ResultSet stub, the pages after the first one are loaded by fetchMoreResults
+     * or synchronously when one() or isExhausted() reach the end of the current page.
+     */
+    private static class PagedResultSet implements InvocationHandler {
+        private final boolean completeFetchImmediately;
+        private final List<List<Row>> pages = new ArrayList<List<Row>>();
+        private final LinkedList<Row> currentRows = new LinkedList<Row>();
+        private final ResultSet resultSet;
+        private int nextPage;
+        private SettableFuture<ResultSet> pendingFetch;
+
+        int blockingFetches;
+        int fetchRequests;
+
+        PagedResultSet(boolean completeFetchImmediately, int... pageSizes) {
+            this.completeFetchImmediately = completeFetchImmediately;
+            int id = 0;
+            for (int pageSize : pageSizes) {
+                List<Row> page = new ArrayList<Row>();
+                for (int i = 0; i < pageSize; i++) {
+                    Row row = mock(Row.class);
+                    when(row.getLong(0)).thenReturn((long) id);
+                    when(row.getString(1)).thenReturn("name" + id);
+                    page.add(row);
+                    id++;
+                }
+                pages.add(page);
+            }
+            currentRows.addAll(pages.get(nextPage++));
+            resultSet = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] { ResultSet.class }, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("one".equals(name)) {
+                fetchIfEmpty();
+                return currentRows.poll();
+            } else if ("isExhausted".equals(name)) {
+                fetchIfEmpty();
+                return currentRows.isEmpty();
+            } else if ("getAvailableWithoutFetching".equals(name)) {
+                return currentRows.size();
+            } else if ("isFullyFetched".equals(name)) {
+                return isFullyFetched();
+            } else if ("fetchMoreResults".equals(name)) {
+                return fetchMoreResults();
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("toString".equals(name)) {
+                return "PagedResultSet";
+            }
+            throw new UnsupportedOperationException(name);
+        }
+
+        private boolean isFullyFetched() {
+            return nextPage >= pages.size();
+        }
+
+        private ListenableFuture<ResultSet> fetchMoreResults() {
+            if (isFullyFetched()) {
+                return Futures.immediateFuture(resultSet);
+            }
+            if (pendingFetch == null) {
+                fetchRequests++;
+                pendingFetch = SettableFuture.create();
+                if (completeFetchImmediately) {
+                    completeFetch();
+                    return Futures.immediateFuture(resultSet);
+                }
+            }
+            return pendingFetch;
+        }
+
+        private void fetchIfEmpty() {
+            if (currentRows.isEmpty() && !isFullyFetched()) {
+                blockingFetches++;
+                if (pendingFetch == null) {
+                    pendingFetch = SettableFuture.create();
+                }
+                completeFetch();
+            }
+        }
+
+        void completeFetch() {
+            SettableFuture<ResultSet> fetch = pendingFetch;
+            pendingFetch = null;
+            currentRows.addAll(pages.get(nextPage++));
+            fetch.set(resultSet);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.lang.reflect.Type;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 
 /**
  *
@@ -101,6 +102,41 @@ public class ConnectedCrud<T, K> {
         return keyConsumer;
     }
 
+    /**
+     * insert values into the db, batchSize values at a time, in one transaction.
+     *
+     * @param values      the values
+     * @param batchSize   the number of values per batch
+     * @throws SQLException if an error occurs
+     */
+    public void create(final Iterator<T> values, final int batchSize) throws SQLException {
+        transactionTemplate
+            .doInTransaction(new SQLFunction<Connection, Object>() {
+                @Override
+                public Object apply(Connection connection) throws SQLException {
+                    delegate.create(connection, values, batchSize);
+                    return null;
+                }
+            });
+    }
+
+    /**
+     * insert values into the db using the fastest method available, in one transaction.
+     *
+     * @param values      the values
+     * @throws SQLException if an error occurs
+     */
+    public void bulkLoad(final Iterable<T> values) throws SQLException {
+        transactionTemplate
+            .doInTransaction(new SQLFunction<Connection, Object>() {
+                @Override
+                public Object apply(Connection connection) throws SQLException {
+                    delegate.bulkLoad(connection, values);
+                    return null;
+                }
+            });
+    }
+
     /**
      * retrieve the object with the specified key.
      *
@@ -6,6 +6,10 @@ import java.lang.reflect.Type;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 /**
  *
@@ -57,6 +61,54 @@ public interface Crud<T, K> {
      */
     <RH extends CheckedConsumer<? super K>> RH create(Connection connection, Collection<T> values, RH keyConsumer) throws SQLException;
 
+    /**
+     * insert values into the db through the specified connection, batchSize values at a time.
+     * Only the current batch is held in memory, the values can be read from a file or a ResultSet as they are inserted.
+     *
+     * @param connection the connection
+     * @param values     the values
+     * @param batchSize  the number of values per batch
+     * @throws SQLException if an error occurs
+     */
+    void create(Connection connection, Iterator<T> values, int batchSize) throws SQLException;
+
+    /**
+     * insert values into the db through the specified connection, batchSize values at a time.
+     * Callback keyConsumer for the generated keys.
+     *
+     * @param connection  the connection
+     * @param values      the values
+     * @param batchSize   the number of values per batch
+     * @param keyConsumer the key consumer
+     * @param <RH>        the type of keyConsumer
+     * @return the keyConsumer
+     * @throws SQLException if an error occurs
+     */
+    <RH extends CheckedConsumer<? super K>> RH create(Connection connection, Iterator<T> values, int batchSize, RH keyConsumer) throws SQLException;
+
+    /**
+     * insert values into the db through the specified connection, batchSize values at a time.
+     *
+     * @param connection the connection
+     * @param values     the values
+     * @param batchSize  the number of values per batch
+     * @throws SQLException if an error occurs
+     */
+    //IFJAVA8_START
+    void create(Connection connection, Stream<T> values, int batchSize) throws SQLException;
+    //IFJAVA8_END
+
+    /**
+     * insert values into the db through the specified connection using the fastest method available,
+     * COPY on postgresql and a batched insert otherwise.
+     * The generated keys are not returned.
+     *
+     * @param connection the connection
+     * @param values     the values
+     * @throws SQLException if an error occurs
+     */
+    void bulkLoad(Connection connection, Iterable<T> values) throws SQLException;
+
     /**
      * retrieve the object with the specified key.
      *
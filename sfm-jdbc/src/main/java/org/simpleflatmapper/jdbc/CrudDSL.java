@@ -4,6 +4,7 @@ import org.simpleflatmapper.jdbc.impl.CrudFactory;
 import org.simpleflatmapper.jdbc.impl.CrudMeta;
 import org.simpleflatmapper.jdbc.impl.LazyCrud;
 import org.simpleflatmapper.jdbc.impl.DataSourceTransactionTemplate;
+import org.simpleflatmapper.jdbc.impl.PreparedStatementCache;
 import org.simpleflatmapper.reflect.meta.AliasProviderService;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.reflect.meta.DefaultPropertyNameMatcher;
@@ -15,16 +16,50 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.Executor;
 
 public class CrudDSL<T, K> {
     private final ClassMeta<T> target;
     private final ClassMeta<K> keyTarget;
     private final JdbcMapperFactory jdbcMapperFactory;
+    private final PreparedStatementCache statementCache;
+    private final Executor prefetchExecutor;
 
     public CrudDSL(ClassMeta<T> target, ClassMeta<K> keyTarget, JdbcMapperFactory jdbcMapperFactory) {
+        this(target, keyTarget, jdbcMapperFactory, null);
+    }
+
+    public CrudDSL(ClassMeta<T> target, ClassMeta<K> keyTarget, JdbcMapperFactory jdbcMapperFactory, PreparedStatementCache statementCache) {
+        this(target, keyTarget, jdbcMapperFactory, statementCache, null);
+    }
+
+    public CrudDSL(ClassMeta<T> target, ClassMeta<K> keyTarget, JdbcMapperFactory jdbcMapperFactory, PreparedStatementCache statementCache, Executor prefetchExecutor) {
         this.target = target;
         this.keyTarget = keyTarget;
         this.jdbcMapperFactory = jdbcMapperFactory;
+        this.statementCache = statementCache;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Reuse the PreparedStatement of the crud operations per connection instead of closing them after each call.
+     * The same cache can be shared by several crud.
+     * @param statementCache the cache
+     * @return a new CrudDSL using the cache
+     */
+    public CrudDSL<T, K> statementCache(PreparedStatementCache statementCache) {
+        return new CrudDSL<T, K>(target, keyTarget, jdbcMapperFactory, statementCache, prefetchExecutor);
+    }
+
+    /**
+     * With an executor the create from an Iterator pulls the next batch of values from the iterator in the executor
+     * while the current batch is executed, the iterator is then only used by the executor thread.
+     * Worth it when producing the values is expensive - parsing a csv file for example.
+     * @param prefetchExecutor the executor
+     * @return a new CrudDSL using the executor
+     */
+    public CrudDSL<T, K> prefetchExecutor(Executor prefetchExecutor) {
+        return new CrudDSL<T, K>(target, keyTarget, jdbcMapperFactory, statementCache, prefetchExecutor);
     }
 
     /**
@@ -54,7 +89,7 @@ public class CrudDSL<T, K> {
      */
     public Crud<T, K> table(Connection connection, String table) throws SQLException {
         CrudMeta crudMeta = CrudMeta.of(connection, table, jdbcMapperFactory.columnDefinitions());
-        return CrudFactory.<T, K>newInstance(target, keyTarget, crudMeta, jdbcMapperFactory);
+        return CrudFactory.<T, K>newInstance(target, keyTarget, crudMeta, jdbcMapperFactory, statementCache, prefetchExecutor);
     }
 
     /**
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.jdbc;
 
 import org.simpleflatmapper.jdbc.impl.JdbcKeySourceGetter;
+import org.simpleflatmapper.jdbc.impl.ResultSetSpillCodec;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.SourceFieldMapper;
@@ -11,6 +12,7 @@ import org.simpleflatmapper.map.getter.ContextualGetterFactory;
 import org.simpleflatmapper.map.getter.ContextualGetterFactoryAdapter;
 import org.simpleflatmapper.map.mapper.ColumnDefinition;
 import org.simpleflatmapper.map.mapper.DefaultSetRowMapperBuilder;
+import org.simpleflatmapper.map.mapper.DelegatingSetRowMapper;
 import org.simpleflatmapper.map.mapper.MapperBuilder;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
@@ -123,7 +125,8 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
                         FIELD_MAPPER_SOURCE.getterFactory(getterFactory),
                         KEY_FACTORY,
                         new ResultSetEnumerableFactory(),
-                        JdbcKeySourceGetter.INSTANCE),
+                        JdbcKeySourceGetter.INSTANCE,
+                        ResultSetSpillCodec.INSTANCE),
                 new BiFunction<SetRowMapper<ResultSet, ResultSet, T, SQLException>, List<JdbcColumnKey>, JdbcMapper<T>>() {
                     @Override
                     public JdbcMapper<T> apply(SetRowMapper<ResultSet, ResultSet, T, SQLException> setRowMapper, List<JdbcColumnKey> keys) {
@@ -226,7 +229,7 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
 
     }
     
-    private static class JdbcMapperImpl<T> implements JdbcMapper<T> {
+    private static class JdbcMapperImpl<T> implements JdbcMapper<T>, DelegatingSetRowMapper<ResultSet, ResultSet, T, SQLException> {
         private final SetRowMapper<ResultSet, ResultSet, T, SQLException> setRowMapper;
         private final MappingContextFactory<? super ResultSet> mappingContextFactory;
 
@@ -235,6 +238,11 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
             this.mappingContextFactory = mappingContextFactory;
         }
 
+        @Override
+        public SetRowMapper<ResultSet, ResultSet, T, SQLException> getDelegate() {
+            return setRowMapper;
+        }
+
         @Override
         public T map(ResultSet source) throws MappingException {
             return setRowMapper.map(source);
@@ -18,6 +18,8 @@ import org.simpleflatmapper.map.mapper.AbstractMapperFactory;
 import org.simpleflatmapper.map.mapper.ConstantTargetFieldMapperFactoryImpl;
 import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
 import org.simpleflatmapper.map.mapper.FieldMapperColumnDefinitionProviderImpl;
+import org.simpleflatmapper.map.mapper.MapperCacheStats;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.map.mapper.MapperKey;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.TypeReference;
@@ -255,12 +257,12 @@ public final class JdbcMapperFactory
      */
 	public <T> DynamicJdbcMapper<T> newMapper(final Type target) {
 		final ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory());
+		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory(), mapperCacheStrategy(), mapperCacheStats());
 	}
 
 	public <T> JdbcSourceFieldMapper<T> newSourceFieldMapper(Type target) {
 		final ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbSourceFieldMapper<T>(new SourceFieldMapperFactory<T>(classMeta),  new MapperKeyFactory());
+		return new DynamicJdbSourceFieldMapper<T>(new SourceFieldMapperFactory<T>(classMeta),  new MapperKeyFactory(), mapperCacheStrategy(), mapperCacheStats());
 	}
 	public static class DynamicJdbSourceFieldMapper<T>
 			extends DynamicSourceFieldMapper<ResultSet, T, JdbcColumnKey, SQLException>
@@ -272,6 +274,14 @@ public final class JdbcMapperFactory
 			super(mapperFactory, mapperKeyFromRow, JdbcColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicJdbSourceFieldMapper(
+				UnaryFactory<MapperKey<JdbcColumnKey>, ContextualSourceFieldMapper<ResultSet, T>> mapperFactory,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
+				MapperCacheStrategy mapperCacheStrategy,
+				MapperCacheStats mapperCacheStats) {
+			super(mapperFactory, mapperKeyFromRow, JdbcColumnKeyMapperKeyComparator.INSTANCE, mapperCacheStrategy, mapperCacheStats);
+		}
+
 		private ContextualSourceFieldMapper<ResultSet, T> getMapper(ResultSetMetaData metaData) throws SQLException {
 			return getMapper(JdbcColumnKey.mapperKey(metaData));
 		}
@@ -300,6 +310,15 @@ public final class JdbcMapperFactory
 			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, JdbcColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicJdbcSetRowMapper(
+				UnaryFactory<MapperKey<JdbcColumnKey>, SetRowMapper<ResultSet, ResultSet, T, SQLException>> mapperFactory,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromSet,
+				MapperCacheStrategy mapperCacheStrategy,
+				MapperCacheStats mapperCacheStats) {
+			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, JdbcColumnKeyMapperKeyComparator.INSTANCE, mapperCacheStrategy, mapperCacheStats);
+		}
+
 
 		@Override
 		public JdbcMapper<T> getMapper(ResultSetMetaData metaData) throws SQLException {
@@ -0,0 +1,37 @@
+package org.simpleflatmapper.jdbc;
+
+import org.simpleflatmapper.jdbc.impl.ResultSetCopier;
+import org.simpleflatmapper.map.mapper.ParallelSetRowMapper;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+
+/**
+ * Maps the rows of a ResultSet on an executor, the calling thread reads the rows and copies their values in batches.
+ * The values are copied with the getters matching the column types and mapped through a ResultSet view of the copy.
+ * <p>
+ * The jdbcMapper must not have joins.
+ * @param <T> the target type
+ */
+public final class ParallelJdbcMapper<T> extends ParallelSetRowMapper<ResultSet, ResultSet, T, SQLException> {
+
+    private static final UnaryFactory<ResultSet, Enumerable<ResultSet>> ENUMERABLE_FACTORY = new UnaryFactory<ResultSet, Enumerable<ResultSet>>() {
+        @Override
+        public Enumerable<ResultSet> newInstance(ResultSet resultSet) {
+            return new ResultSetEnumerable(resultSet);
+        }
+    };
+
+    /**
+     * @param jdbcMapper the mapper
+     * @param executor the executor the batches are mapped on
+     * @param batchSize the number of rows per batch
+     * @param ordered true if the objects need to be in the order of the rows
+     */
+    public ParallelJdbcMapper(JdbcMapper<T> jdbcMapper, Executor executor, int batchSize, boolean ordered) {
+        super(jdbcMapper, ENUMERABLE_FACTORY, ResultSetCopier.FACTORY, executor, batchSize, ordered);
+    }
+}
@@ -24,6 +24,7 @@ import java.sql.*;
 import java.util.Date;
 import java.util.UUID;
 
+import org.simpleflatmapper.util.StringDeduplicator;
 import org.simpleflatmapper.util.TypeHelper;
 
 import static org.simpleflatmapper.jdbc.impl.getter.ArrayResultSetGetter.VALUE_INDEX;
@@ -68,15 +69,25 @@ public final class ResultSetGetterFactory implements GetterFactory<ResultSet, Jd
 		@SuppressWarnings("unchecked")
 		@Override
 		public <P> Getter<ResultSet, P> newGetter(Type genericType, JdbcColumnKey key, Object... properties) {
+			Getter<ResultSet, String> getter;
 			switch(key.getSqlType(properties) ) {
 			case Types.NCHAR:
 			case Types.NVARCHAR:
 			case Types.LONGNVARCHAR:
 			case Types.NCLOB:
-				return (Getter<ResultSet, P>) new NStringResultSetGetter(key.getIndex());
+				getter = new NStringResultSetGetter(key.getIndex());
+				break;
 			default:
-				return (Getter<ResultSet, P>) new StringResultSetGetter(key.getIndex());
+				getter = new StringResultSetGetter(key.getIndex());
 			}
+
+			for(Object property : properties) {
+				if (property instanceof StringDeduplicator) {
+					return (Getter<ResultSet, P>) new DeduplicatedStringResultSetGetter(getter, (StringDeduplicator) property);
+				}
+			}
+
+			return (Getter<ResultSet, P>) getter;
 		}
 	}
 
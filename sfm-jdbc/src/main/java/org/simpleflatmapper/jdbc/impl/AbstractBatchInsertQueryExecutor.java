@@ -10,6 +10,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 public abstract class AbstractBatchInsertQueryExecutor<T> implements BatchQueryExecutor<T> {
     protected final String[] insertColumns;
@@ -35,17 +38,57 @@ public abstract class AbstractBatchInsertQueryExecutor<T> implements BatchQueryE
     public void insert(Connection connection, Collection<T> values, CheckedConsumer<PreparedStatement> postExecute) throws SQLException {
         PreparedStatement preparedStatement = prepareStatement(connection, values.size());
         try {
-            bindTo(preparedStatement, values);
-            preparedStatement.executeUpdate();
-            postExecute.accept(preparedStatement);
+            execute(preparedStatement, values, postExecute);
         } catch (Exception e) {
             ErrorHelper.rethrow(e);
         } finally {
-            try {
-                preparedStatement.close();
-            } catch(SQLException e) {
-                // IGNORE
+            close(preparedStatement);
+        }
+    }
+
+    @Override
+    public void insert(Connection connection, Iterator<T> values, int batchSize, Executor prefetchExecutor, CheckedConsumer<PreparedStatement> postExecute) throws SQLException {
+        BatchChunker<T> chunker = new BatchChunker<T>(values, batchSize, prefetchExecutor);
+        // the statement of the full chunks is reused, the tail chunk has its own
+        PreparedStatement fullChunkStatement = null;
+        try {
+            List<T> chunk;
+            while((chunk = chunker.next()) != null) {
+                if (chunk.size() == batchSize) {
+                    if (fullChunkStatement == null) {
+                        fullChunkStatement = prepareStatement(connection, batchSize);
+                    }
+                    execute(fullChunkStatement, chunk, postExecute);
+                } else {
+                    PreparedStatement tailStatement = prepareStatement(connection, chunk.size());
+                    try {
+                        execute(tailStatement, chunk, postExecute);
+                    } finally {
+                        close(tailStatement);
+                    }
+                }
             }
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        } finally {
+            chunker.close();
+            if (fullChunkStatement != null) {
+                close(fullChunkStatement);
+            }
+        }
+    }
+
+    private void execute(PreparedStatement preparedStatement, Collection<T> values, CheckedConsumer<PreparedStatement> postExecute) throws Exception {
+        bindTo(preparedStatement, values);
+        preparedStatement.executeUpdate();
+        postExecute.accept(preparedStatement);
+    }
+
+    private void close(PreparedStatement preparedStatement) {
+        try {
+            preparedStatement.close();
+        } catch(SQLException e) {
+            // IGNORE
         }
     }
 
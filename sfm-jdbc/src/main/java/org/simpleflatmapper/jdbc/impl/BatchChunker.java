@@ -0,0 +1,113 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Split the values of an iterator in chunks of batchSize values, only the current chunk - and the prefetched one - are held in memory.
+ * <p>
+ * With an executor the next chunk is pulled from the iterator in the executor while the caller executes the current one,
+ * the iterator is then used from the executor thread only.
+ * The chunks are reused, the caller must be done with a chunk before asking for the next one.
+ */
+final class BatchChunker<T> {
+
+    private final Iterator<T> values;
+    private final int batchSize;
+    private final Executor prefetchExecutor;
+
+    private List<T> current;
+    private List<T> spare;
+    private FutureTask<List<T>> prefetch;
+
+    BatchChunker(Iterator<T> values, int batchSize, Executor prefetchExecutor) {
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize should be greater than 0");
+        this.values = values;
+        this.batchSize = batchSize;
+        this.prefetchExecutor = prefetchExecutor;
+        this.current = new ArrayList<T>(batchSize);
+        if (prefetchExecutor != null) {
+            this.spare = new ArrayList<T>(batchSize);
+            this.prefetch = fill(current);
+        }
+    }
+
+    /**
+     * @return the next chunk or null if the iterator is exhausted, the chunk has batchSize values except for the last one
+     */
+    public List<T> next() {
+        List<T> chunk;
+        if (prefetch == null) {
+            chunk = fillChunk(current);
+        } else {
+            chunk = await(prefetch);
+            prefetch = null;
+            if (chunk.size() == batchSize) {
+                // the previous chunk is done with, fill it while the caller executes this one
+                List<T> next = spare;
+                spare = chunk;
+                prefetch = fill(next);
+            }
+        }
+        return chunk.isEmpty() ? null : chunk;
+    }
+
+    /**
+     * wait for the prefetch in progress, the iterator is not used after that.
+     */
+    public void close() {
+        if (prefetch != null) {
+            try {
+                await(prefetch);
+            } catch (Throwable e) {
+                // IGNORE already failing
+            }
+            prefetch = null;
+        }
+    }
+
+    private FutureTask<List<T>> fill(final List<T> chunk) {
+        FutureTask<List<T>> task = new FutureTask<List<T>>(new Callable<List<T>>() {
+            @Override
+            public List<T> call() throws Exception {
+                return fillChunk(chunk);
+            }
+        });
+        prefetchExecutor.execute(task);
+        return task;
+    }
+
+    private List<T> fillChunk(List<T> chunk) {
+        chunk.clear();
+        while (chunk.size() < batchSize && values.hasNext()) {
+            chunk.add(values.next());
+        }
+        return chunk;
+    }
+
+    private static <T> List<T> await(FutureTask<List<T>> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    return ErrorHelper.rethrow(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
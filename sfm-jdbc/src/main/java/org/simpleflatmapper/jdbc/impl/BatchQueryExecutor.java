@@ -6,7 +6,20 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
 
 public interface BatchQueryExecutor<T> {
     void insert(Connection connection, Collection<T> values, CheckedConsumer<PreparedStatement> postExecute) throws SQLException;
+
+    /**
+     * insert the values in chunks of batchSize rows, postExecute is called after each chunk.
+     * @param connection the connection
+     * @param values the values
+     * @param batchSize the number of rows per insert
+     * @param prefetchExecutor the executor to pull the next chunk from values while the current one is inserted, can be null
+     * @param postExecute the callback
+     * @throws SQLException if an error occurs
+     */
+    void insert(Connection connection, Iterator<T> values, int batchSize, Executor prefetchExecutor, CheckedConsumer<PreparedStatement> postExecute) throws SQLException;
 }
@@ -14,6 +14,7 @@ import org.simpleflatmapper.reflect.meta.ClassMeta;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 
 public class CrudFactory {
@@ -22,12 +23,31 @@ public class CrudFactory {
             ClassMeta<K>  keyTarget,
             CrudMeta crudMeta,
             JdbcMapperFactory jdbcMapperFactory) throws SQLException {
+        return newInstance(target, keyTarget, crudMeta, jdbcMapperFactory, null);
+    }
+
+    public static <T, K> Crud<T, K> newInstance(
+            ClassMeta<T> target,
+            ClassMeta<K>  keyTarget,
+            CrudMeta crudMeta,
+            JdbcMapperFactory jdbcMapperFactory,
+            PreparedStatementCache statementCache) throws SQLException {
+        return newInstance(target, keyTarget, crudMeta, jdbcMapperFactory, statementCache, null);
+    }
+
+    public static <T, K> Crud<T, K> newInstance(
+            ClassMeta<T> target,
+            ClassMeta<K>  keyTarget,
+            CrudMeta crudMeta,
+            JdbcMapperFactory jdbcMapperFactory,
+            PreparedStatementCache statementCache,
+            Executor prefetchExecutor) throws SQLException {
         JdbcMapperFactory mapperFactory = JdbcMapperFactory.newInstance(jdbcMapperFactory);
-        return createCrud(target, keyTarget, crudMeta, mapperFactory);
+        return createCrud(target, keyTarget, crudMeta, mapperFactory, statementCache, prefetchExecutor);
 
     }
 
-    private static <T, K> Crud<T, K> createCrud(ClassMeta<T> target, ClassMeta<K> keyTarget, CrudMeta crudMeta, JdbcMapperFactory mapperFactory) throws SQLException {
+    private static <T, K> Crud<T, K> createCrud(ClassMeta<T> target, ClassMeta<K> keyTarget, CrudMeta crudMeta, JdbcMapperFactory mapperFactory, PreparedStatementCache statementCache, Executor prefetchExecutor) throws SQLException {
         crudMeta.addColumnProperties(mapperFactory);
 
         QueryPreparer<T> insert = buildInsert(target, crudMeta, mapperFactory);
@@ -54,7 +74,9 @@ public class CrudFactory {
                 keyMapper,
                 crudMeta,
                 hasGeneratedKeys,
-                new SelectQueryWhereFactory<T>(crudMeta, selectMapper, mapperFactory));
+                new SelectQueryWhereFactory<T>(crudMeta, selectMapper, mapperFactory),
+                statementCache,
+                prefetchExecutor);
 
         if (crudMeta.getDatabaseMeta().isMysql()) {
             return MysqlCrudFactory.newInstance(target, keyTarget, crudMeta, mapperFactory, defaultCrud);
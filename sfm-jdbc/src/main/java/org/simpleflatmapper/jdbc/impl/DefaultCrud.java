@@ -14,9 +14,21 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 public final class DefaultCrud<T, K> implements Crud<T,K> {
 
+    // number of values per batch of the bulk load when the database does not have a faster way
+    static final int BULK_LOAD_BATCH_SIZE = 1000;
+
+    // above 256 keys the statements are not cached
+    private static final int MAX_BUCKETED_SIZE_LOG2 = 8;
+
     protected final QueryPreparer<T> insertQueryPreparer;
     protected final QueryPreparer<T> updateQueryPreparer;
     protected final QueryPreparer<K> selectQueryPreparer;
@@ -29,6 +41,12 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
     protected final SelectQueryWhereFactory<T> selectQueryWhereFactory;
     protected final String selectFromTableWhere;
     protected final String deleteFromTableWhere;
+    protected final PreparedStatementCache statementCache;
+    protected final Executor prefetchExecutor;
+
+    // sql of the key tuple queries per power of 2 number of keys, only used with the statement cache
+    private final String[] selectInSqls = new String[MAX_BUCKETED_SIZE_LOG2 + 1];
+    private final String[] deleteInSqls = new String[MAX_BUCKETED_SIZE_LOG2 + 1];
 
     public DefaultCrud(QueryPreparer<T> insertQueryPreparer,
                        QueryPreparer<T> updateQueryPreparer,
@@ -40,6 +58,37 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
                        JdbcMapper<K> keyMapper, CrudMeta meta,
                        boolean hasGeneratedKeys,
                        SelectQueryWhereFactory<T> selectQueryWhereFactory) {
+        this(insertQueryPreparer, updateQueryPreparer, selectQueryPreparer, upsertQueryPreparer, keyTupleQueryPreparer,
+                selectQueryMapper, deleteQueryPreparer, keyMapper, meta, hasGeneratedKeys, selectQueryWhereFactory, null);
+    }
+
+    public DefaultCrud(QueryPreparer<T> insertQueryPreparer,
+                       QueryPreparer<T> updateQueryPreparer,
+                       QueryPreparer<K> selectQueryPreparer,
+                       QueryPreparer<T> upsertQueryPreparer,
+                       KeyTupleQueryPreparer<K> keyTupleQueryPreparer,
+                       JdbcMapper<T> selectQueryMapper,
+                       QueryPreparer<K> deleteQueryPreparer,
+                       JdbcMapper<K> keyMapper, CrudMeta meta,
+                       boolean hasGeneratedKeys,
+                       SelectQueryWhereFactory<T> selectQueryWhereFactory,
+                       PreparedStatementCache statementCache) {
+        this(insertQueryPreparer, updateQueryPreparer, selectQueryPreparer, upsertQueryPreparer, keyTupleQueryPreparer,
+                selectQueryMapper, deleteQueryPreparer, keyMapper, meta, hasGeneratedKeys, selectQueryWhereFactory, statementCache, null);
+    }
+
+    public DefaultCrud(QueryPreparer<T> insertQueryPreparer,
+                       QueryPreparer<T> updateQueryPreparer,
+                       QueryPreparer<K> selectQueryPreparer,
+                       QueryPreparer<T> upsertQueryPreparer,
+                       KeyTupleQueryPreparer<K> keyTupleQueryPreparer,
+                       JdbcMapper<T> selectQueryMapper,
+                       QueryPreparer<K> deleteQueryPreparer,
+                       JdbcMapper<K> keyMapper, CrudMeta meta,
+                       boolean hasGeneratedKeys,
+                       SelectQueryWhereFactory<T> selectQueryWhereFactory,
+                       PreparedStatementCache statementCache,
+                       Executor prefetchExecutor) {
         this.insertQueryPreparer = insertQueryPreparer;
         this.updateQueryPreparer = updateQueryPreparer;
         this.selectQueryPreparer = selectQueryPreparer;
@@ -50,6 +99,8 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
         this.keyMapper = keyMapper;
         this.hasGeneratedKeys = hasGeneratedKeys;
         this.selectQueryWhereFactory = selectQueryWhereFactory;
+        this.statementCache = statementCache;
+        this.prefetchExecutor = prefetchExecutor;
         
         StringBuilder sb = new StringBuilder("SELECT * FROM ");
         meta.appendTableName(sb);
@@ -83,8 +134,33 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
         return executeQueryPreparerInBatchMode(connection, values, keyConsumer, insertQueryPreparer);
     }
 
+    @Override
+    public void create(Connection connection, Iterator<T> values, int batchSize) throws SQLException {
+        create(connection, values, batchSize, null);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super K>> RH create(Connection connection, Iterator<T> values, int batchSize, RH keyConsumer) throws SQLException {
+        return executeQueryPreparerInChunkedBatchMode(connection, values, batchSize, keyConsumer, insertQueryPreparer);
+    }
+
+    //IFJAVA8_START
+    @Override
+    public void create(Connection connection, Stream<T> values, int batchSize) throws SQLException {
+        create(connection, values.iterator(), batchSize);
+    }
+    //IFJAVA8_END
+
+    @Override
+    public void bulkLoad(Connection connection, Iterable<T> values) throws SQLException {
+        create(connection, values.iterator(), BULK_LOAD_BATCH_SIZE);
+    }
+
     @Override
     public T read(Connection connection, K key) throws SQLException {
+        if (isCached(selectQueryPreparer)) {
+            return cachedRead(connection, key);
+        }
         PreparedStatement preparedStatement = selectQueryPreparer.prepare(connection).bind(key);
         try {
             ResultSet resultSet = preparedStatement.executeQuery();
@@ -97,17 +173,110 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
         return null;
     }
 
+    private T cachedRead(Connection connection, K key) throws SQLException {
+        PreparedStatement preparedStatement = acquireStatement(connection, selectQueryPreparer);
+        boolean reusable = false;
+        try {
+            selectQueryPreparer.mapper().mapTo(key, preparedStatement, null);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            try {
+                T value = resultSet.next() ? selectQueryMapper.map(resultSet) : null;
+                reusable = true;
+                return value;
+            } finally {
+                resultSet.close();
+            }
+        } catch (Exception e) {
+            return ErrorHelper.rethrow(e);
+        } finally {
+            releaseStatement(connection, selectQueryPreparer, preparedStatement, reusable);
+        }
+    }
+
     private void safeClose(PreparedStatement preparedStatement) {
         try {
             preparedStatement.close();
         } catch (SQLException e) {}
     }
 
+    private boolean isCached(QueryPreparer<?> queryPreparer) {
+        // the sql of the other preparers depends on the value
+        return statementCache != null && queryPreparer instanceof MapperQueryPreparer;
+    }
+
+    private PreparedStatement acquireStatement(Connection connection, QueryPreparer<?> queryPreparer) throws SQLException {
+        PreparedStatement preparedStatement = statementCache.acquire(connection, queryPreparer);
+        if (preparedStatement == null) {
+            preparedStatement = queryPreparer.prepareStatement(connection);
+        }
+        return preparedStatement;
+    }
+
+    private void releaseStatement(Connection connection, Object query, PreparedStatement preparedStatement, boolean reusable) {
+        if (reusable) {
+            statementCache.release(connection, query, preparedStatement);
+        } else {
+            safeClose(preparedStatement);
+        }
+    }
+
+    private PreparedStatement prepareKeyTupleStatement(Connection connection, String[] sqls, String sqlBase, int size) throws SQLException {
+        if (statementCache == null || bucketIndex(size) < 0) {
+            return keyTupleQueryPreparer.prepareStatement(sqlBase, connection, size);
+        }
+        String sql = keyTupleSql(sqls, sqlBase, size);
+        PreparedStatement preparedStatement = statementCache.acquire(connection, sql);
+        if (preparedStatement == null) {
+            preparedStatement = connection.prepareStatement(sql);
+        }
+        return preparedStatement;
+    }
+
+    private void releaseKeyTupleStatement(Connection connection, String[] sqls, String sqlBase, int size, PreparedStatement preparedStatement, boolean reusable) {
+        if (statementCache == null || bucketIndex(size) < 0) {
+            safeClose(preparedStatement);
+        } else {
+            releaseStatement(connection, keyTupleSql(sqls, sqlBase, size), preparedStatement, reusable);
+        }
+    }
+
+    private String keyTupleSql(String[] sqls, String sqlBase, int size) {
+        int bucket = bucketIndex(size);
+        String sql = sqls[bucket];
+        if (sql == null) {
+            // racy but the strings are immutable and equal
+            sql = keyTupleQueryPreparer.toSql(sqlBase, 1 << bucket);
+            sqls[bucket] = sql;
+        }
+        return sql;
+    }
+
+    /**
+     * number of keys bound, with the statement cache rounded up to a power of 2 to limit the number of distinct statements,
+     * the extra tuples repeat the last key.
+     */
+    private int boundSize(int size) {
+        if (statementCache == null) {
+            return size;
+        }
+        int bucket = bucketIndex(size);
+        return bucket < 0 ? size : 1 << bucket;
+    }
+
+    private static int bucketIndex(int size) {
+        if (size <= 0 || size > (1 << MAX_BUCKETED_SIZE_LOG2)) {
+            return -1;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1);
+    }
+
     @Override
     public <RH extends CheckedConsumer<? super T>> RH read(Connection connection, Collection<K> keys, RH consumer) throws SQLException {
-        PreparedStatement preparedStatement = keyTupleQueryPreparer.prepareStatement(selectFromTableWhere, connection, keys.size());
+        int size = boundSize(keys.size());
+        PreparedStatement preparedStatement = prepareKeyTupleStatement(connection, selectInSqls, selectFromTableWhere, size);
+        boolean reusable = false;
         try {
-            keyTupleQueryPreparer.bindTo(keys, preparedStatement, 0);
+            keyTupleQueryPreparer.bindTo(keys, preparedStatement, 0, size);
             ResultSet resultSet = preparedStatement.executeQuery();
             try {
                 while (resultSet.next()) {
@@ -116,11 +285,12 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
             } finally {
                 resultSet.close();
             }
+            reusable = true;
             return consumer;
         } catch(Exception e) {
             return ErrorHelper.rethrow(e);
         } finally {
-            safeClose(preparedStatement);
+            releaseKeyTupleStatement(connection, selectInSqls, selectFromTableWhere, size, preparedStatement, reusable);
         }
     }
 
@@ -144,14 +314,17 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
 
     @Override
     public void delete(Connection connection, Collection<K> keys) throws SQLException {
-        PreparedStatement preparedStatement = keyTupleQueryPreparer.prepareStatement(deleteFromTableWhere, connection, keys.size());
+        int size = boundSize(keys.size());
+        PreparedStatement preparedStatement = prepareKeyTupleStatement(connection, deleteInSqls, deleteFromTableWhere, size);
+        boolean reusable = false;
         try {
-            keyTupleQueryPreparer.bindTo(keys, preparedStatement, 0);
+            keyTupleQueryPreparer.bindTo(keys, preparedStatement, 0, size);
             preparedStatement.executeUpdate();
+            reusable = true;
         } catch (Exception e) {
             ErrorHelper.rethrow(e);
         } finally {
-            safeClose(preparedStatement);
+            releaseKeyTupleStatement(connection, deleteInSqls, deleteFromTableWhere, size, preparedStatement, reusable);
         }
     }
 
@@ -182,6 +355,9 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
     }
 
     protected <RH extends CheckedConsumer<? super K>> RH executeQueryPreparerInBatchMode(Connection connection, Collection<T> values, RH keyConsumer, QueryPreparer<T> queryPreparer) throws SQLException {
+        if (isCached(queryPreparer)) {
+            return cachedExecuteQueryPreparerInBatchMode(connection, values, keyConsumer, queryPreparer);
+        }
         PreparedStatement preparedStatement = queryPreparer.prepareStatement(connection);
         try {
             FieldMapper<T, PreparedStatement> mapper = queryPreparer.mapper();
@@ -204,7 +380,71 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
         return keyConsumer;
     }
 
+    private <RH extends CheckedConsumer<? super K>> RH cachedExecuteQueryPreparerInBatchMode(Connection connection, Collection<T> values, RH keyConsumer, QueryPreparer<T> queryPreparer) throws SQLException {
+        PreparedStatement preparedStatement = acquireStatement(connection, queryPreparer);
+        boolean reusable = false;
+        try {
+            FieldMapper<T, PreparedStatement> mapper = queryPreparer.mapper();
+
+            for (T value : values) {
+                mapper.mapTo(value, preparedStatement, null);
+                preparedStatement.addBatch();
+            }
+
+            preparedStatement.executeBatch();
+            if (hasGeneratedKeys && keyConsumer != null) {
+                handleGeneratedKeys(keyConsumer, preparedStatement);
+            }
+            reusable = true;
+            return keyConsumer;
+        } catch(Exception e) {
+            return ErrorHelper.rethrow(e);
+        } finally {
+            releaseStatement(connection, queryPreparer, preparedStatement, reusable);
+        }
+    }
+
+    // one statement for all the chunks, executeBatch per chunk
+    protected <RH extends CheckedConsumer<? super K>> RH executeQueryPreparerInChunkedBatchMode(Connection connection, Iterator<T> values, int batchSize, RH keyConsumer, QueryPreparer<T> queryPreparer) throws SQLException {
+        BatchChunker<T> chunker = new BatchChunker<T>(values, batchSize, prefetchExecutor);
+        boolean cached = isCached(queryPreparer);
+        PreparedStatement preparedStatement = null;
+        boolean reusable = false;
+        try {
+            preparedStatement = cached ? acquireStatement(connection, queryPreparer) : queryPreparer.prepareStatement(connection);
+            FieldMapper<T, PreparedStatement> mapper = queryPreparer.mapper();
+
+            List<T> chunk;
+            while((chunk = chunker.next()) != null) {
+                for (T value : chunk) {
+                    mapper.mapTo(value, preparedStatement, null);
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                if (hasGeneratedKeys && keyConsumer != null) {
+                    handleGeneratedKeys(keyConsumer, preparedStatement);
+                }
+            }
+            reusable = true;
+            return keyConsumer;
+        } catch(Exception e) {
+            return ErrorHelper.rethrow(e);
+        } finally {
+            chunker.close();
+            if (preparedStatement != null) {
+                if (cached) {
+                    releaseStatement(connection, queryPreparer, preparedStatement, reusable);
+                } else {
+                    safeClose(preparedStatement);
+                }
+            }
+        }
+    }
+
     protected <RH extends CheckedConsumer<? super K>, QPT> RH executeQueryPreparer(Connection connection, QPT value, RH keyConsumer, QueryPreparer<QPT> queryPreparer) throws SQLException {
+        if (isCached(queryPreparer)) {
+            return cachedExecuteQueryPreparer(connection, value, keyConsumer, queryPreparer);
+        }
         PreparedStatement preparedStatement = queryPreparer.prepare(connection).bind(value);
         try {
             preparedStatement.executeUpdate();
@@ -217,6 +457,24 @@ public final class DefaultCrud<T, K> implements Crud<T,K> {
         }
     }
 
+    private <RH extends CheckedConsumer<? super K>, QPT> RH cachedExecuteQueryPreparer(Connection connection, QPT value, RH keyConsumer, QueryPreparer<QPT> queryPreparer) throws SQLException {
+        PreparedStatement preparedStatement = acquireStatement(connection, queryPreparer);
+        boolean reusable = false;
+        try {
+            queryPreparer.mapper().mapTo(value, preparedStatement, null);
+            preparedStatement.executeUpdate();
+            if (hasGeneratedKeys && keyConsumer != null) {
+                handleGeneratedKeys(keyConsumer, preparedStatement);
+            }
+            reusable = true;
+            return keyConsumer;
+        } catch(Exception e) {
+            return ErrorHelper.rethrow(e);
+        } finally {
+            releaseStatement(connection, queryPreparer, preparedStatement, reusable);
+        }
+    }
+
     protected void handleGeneratedKeys(CheckedConsumer<? super K> keyConsumer, PreparedStatement preparedStatement) throws SQLException {
         ResultSet keys = preparedStatement.getGeneratedKeys();
         try {
@@ -2,11 +2,14 @@ package org.simpleflatmapper.jdbc.impl;
 
 import org.simpleflatmapper.jdbc.JdbcColumnKey;
 import org.simpleflatmapper.map.context.KeySourceGetter;
+import org.simpleflatmapper.map.context.KeyValueHolder;
+import org.simpleflatmapper.map.context.KeyValueHolderFactory;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Types;
 
-public class JdbcKeySourceGetter implements KeySourceGetter<JdbcColumnKey, ResultSet> {
+public class JdbcKeySourceGetter implements KeySourceGetter<JdbcColumnKey, ResultSet>, KeyValueHolderFactory<JdbcColumnKey, ResultSet> {
     
     public static final JdbcKeySourceGetter INSTANCE = new JdbcKeySourceGetter();
     
@@ -17,4 +20,61 @@ public class JdbcKeySourceGetter implements KeySourceGetter<JdbcColumnKey, Resul
     public Object getValue(JdbcColumnKey key, ResultSet source) throws SQLException {
         return source.getObject(key.getIndex());
     }
+
+    @Override
+    public KeyValueHolder<ResultSet> newKeyValueHolder(JdbcColumnKey key) {
+        switch (key.getSqlType(null)) {
+            case Types.BIGINT:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                // getLong also avoids the out of range of an unsigned int
+                return new LongKeyValueHolder(key.getIndex());
+            default:
+                return null;
+        }
+    }
+
+    private static final class LongKeyValueHolder extends KeyValueHolder<ResultSet> {
+        private final int index;
+        private long value;
+        private boolean isNull = true;
+
+        private LongKeyValueHolder(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public boolean read(ResultSet source) throws SQLException {
+            long newValue = source.getLong(index);
+            boolean newIsNull = source.wasNull();
+            boolean changed = newIsNull != isNull || (!newIsNull && newValue != value);
+            value = newValue;
+            isNull = newIsNull;
+            return changed;
+        }
+
+        @Override
+        public boolean readNull() {
+            boolean changed = !isNull;
+            isNull = true;
+            return changed;
+        }
+
+        @Override
+        public Object value() {
+            return isNull ? null : (Object) value;
+        }
+
+        @Override
+        public int valueHashCode() {
+            return isNull ? 0 : (int) (value ^ (value >>> 32));
+        }
+
+        @Override
+        public boolean valueEquals(Object value) {
+            if (isNull) return value == null;
+            return value instanceof Long && ((Long) value) == this.value;
+        }
+    }
 }
@@ -9,6 +9,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 
 public class KeyTupleQueryPreparer<T>  {
 
@@ -27,6 +28,10 @@ public class KeyTupleQueryPreparer<T>  {
     }
 
     public PreparedStatement prepareStatement(CharSequence sqlBase, Connection connection, int size) throws SQLException {
+        return connection.prepareStatement(toSql(sqlBase, size));
+    }
+
+    public String toSql(CharSequence sqlBase, int size) {
         StringBuilder sb = new StringBuilder(sqlBase);
 
         if (keys.length == 1) {
@@ -35,14 +40,27 @@ public class KeyTupleQueryPreparer<T>  {
             appendSelectIn(keys, sb, size);
         }
 
-        return connection.prepareStatement(sb.toString());
+        return sb.toString();
     }
 
     public void bindTo(Collection<T> values, PreparedStatement ps, int offset) {
+        bindTo(values, ps, offset, values.size());
+    }
+
+    /**
+     * bind the values and repeat the last value until size tuples are bound.
+     */
+    public void bindTo(Collection<T> values, PreparedStatement ps, int offset, int size) {
 
         int index = offset;
         Context context = contextFactory.newContext();
-        for(T value : values) {
+        T value = null;
+        int i = 0;
+        Iterator<T> iterator = values.iterator();
+        while(i < size) {
+            if (iterator.hasNext()) {
+                value = iterator.next();
+            }
             for(MultiIndexFieldMapper<T> mapper : multiIndexFieldMappers) {
                 try {
                     mapper.map(ps, value, index, context);
@@ -51,7 +69,7 @@ public class KeyTupleQueryPreparer<T>  {
                 }
                 index++;
             }
-
+            i++;
         }
     }
 
@@ -9,7 +9,11 @@ import java.lang.reflect.Type;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.concurrent.atomic.AtomicReference;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 public class LazyCrud<T, K> implements Crud<T, K> {
 
@@ -67,6 +71,28 @@ public class LazyCrud<T, K> implements Crud<T, K> {
         return getDelegate(connection).create(connection, values, keyConsumer);
     }
 
+    @Override
+    public void create(Connection connection, Iterator<T> values, int batchSize) throws SQLException {
+        getDelegate(connection).create(connection, values, batchSize);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super K>> RH create(Connection connection, Iterator<T> values, int batchSize, RH keyConsumer) throws SQLException {
+        return getDelegate(connection).create(connection, values, batchSize, keyConsumer);
+    }
+
+    //IFJAVA8_START
+    @Override
+    public void create(Connection connection, Stream<T> values, int batchSize) throws SQLException {
+        getDelegate(connection).create(connection, values, batchSize);
+    }
+    //IFJAVA8_END
+
+    @Override
+    public void bulkLoad(Connection connection, Iterable<T> values) throws SQLException {
+        getDelegate(connection).bulkLoad(connection, values);
+    }
+
     @Override
     public T read(Connection connection, K key) throws SQLException {
         return getDelegate(connection).read(connection, key);
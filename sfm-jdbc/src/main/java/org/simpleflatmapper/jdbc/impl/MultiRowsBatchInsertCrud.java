@@ -9,19 +9,32 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
+//IFJAVA8_START
+import java.util.stream.Stream;
+//IFJAVA8_END
 
 public final class MultiRowsBatchInsertCrud<T, K> implements Crud<T, K> {
     private final BatchQueryExecutor<T> batchInsertQueryExecutor;
     private final BatchQueryExecutor<T> batchUpsertQueryExecutor;
+    private final PostgresqlCopyBulkLoader<T> bulkLoader;
 
     private final DefaultCrud<T, K> delegate;
 
     public MultiRowsBatchInsertCrud(DefaultCrud<T, K> delegate,
                                     BatchQueryExecutor<T> batchInsertQueryPreparer,
                                     BatchQueryExecutor<T> batchUpsertQueryExecutor) {
+        this(delegate, batchInsertQueryPreparer, batchUpsertQueryExecutor, null);
+    }
+
+    public MultiRowsBatchInsertCrud(DefaultCrud<T, K> delegate,
+                                    BatchQueryExecutor<T> batchInsertQueryPreparer,
+                                    BatchQueryExecutor<T> batchUpsertQueryExecutor,
+                                    PostgresqlCopyBulkLoader<T> bulkLoader) {
         this.delegate = delegate;
         this.batchInsertQueryExecutor = batchInsertQueryPreparer;
         this.batchUpsertQueryExecutor = batchUpsertQueryExecutor;
+        this.bulkLoader = bulkLoader;
     }
 
     @Override
@@ -52,6 +65,39 @@ public final class MultiRowsBatchInsertCrud<T, K> implements Crud<T, K> {
         return keyConsumer;
     }
 
+    @Override
+    public void create(Connection connection, Iterator<T> values, int batchSize) throws SQLException {
+        create(connection, values, batchSize, null);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super K>> RH create(Connection connection, Iterator<T> values, int batchSize, final RH keyConsumer) throws SQLException {
+        batchInsertQueryExecutor.insert(connection, values, batchSize, delegate.prefetchExecutor, new CheckedConsumer<PreparedStatement>() {
+            @Override
+            public void accept(PreparedStatement preparedStatement) throws Exception {
+                if (delegate.hasGeneratedKeys && keyConsumer != null) {
+                    delegate.handleGeneratedKeys(keyConsumer, preparedStatement);
+                }
+            }
+        });
+        return keyConsumer;
+    }
+
+    //IFJAVA8_START
+    @Override
+    public void create(Connection connection, Stream<T> values, int batchSize) throws SQLException {
+        create(connection, values.iterator(), batchSize);
+    }
+    //IFJAVA8_END
+
+    @Override
+    public void bulkLoad(Connection connection, Iterable<T> values) throws SQLException {
+        if (bulkLoader != null && bulkLoader.load(connection, values.iterator())) {
+            return;
+        }
+        create(connection, values.iterator(), DefaultCrud.BULK_LOAD_BATCH_SIZE);
+    }
+
     @Override
     public T read(Connection connection, K key) throws SQLException {
         return delegate.read(connection, key);
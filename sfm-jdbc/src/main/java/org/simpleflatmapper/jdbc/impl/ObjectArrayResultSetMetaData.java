@@ -0,0 +1,182 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * Meta data of the in memory rows of an {@link ObjectArrayResultSet}, only knows the labels and the types of the columns.
+ */
+final class ObjectArrayResultSetMetaData implements ResultSetMetaData {
+
+    private final String[] labels;
+    private final int[] types;
+
+    ObjectArrayResultSetMetaData(String[] labels, int[] types) {
+        if (labels.length != types.length) {
+            throw new IllegalArgumentException("Got " + labels.length + " labels and " + types.length + " types");
+        }
+        this.labels = labels;
+        this.types = types;
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+        return labels.length;
+    }
+
+    @Override
+    public String getColumnLabel(int column) throws SQLException {
+        return labels[column - 1];
+    }
+
+    @Override
+    public String getColumnName(int column) throws SQLException {
+        return labels[column - 1];
+    }
+
+    @Override
+    public int getColumnType(int column) throws SQLException {
+        return types[column - 1];
+    }
+
+    @Override
+    public String getColumnClassName(int column) throws SQLException {
+        switch (types[column - 1]) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.class.getName();
+            case Types.BIGINT:
+                return Long.class.getName();
+            case Types.REAL:
+                return Float.class.getName();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return Double.class.getName();
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return Boolean.class.getName();
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class.getName();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return String.class.getName();
+            case Types.DATE:
+                return Date.class.getName();
+            case Types.TIME:
+                return Time.class.getName();
+            case Types.TIMESTAMP:
+                return Timestamp.class.getName();
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return byte[].class.getName();
+            default:
+                return Object.class.getName();
+        }
+    }
+
+    @Override
+    public String getColumnTypeName(int column) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getColumnDisplaySize(int column) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public int getPrecision(int column) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getScale(int column) throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public String getCatalogName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public String getSchemaName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public String getTableName(int column) throws SQLException {
+        return "";
+    }
+
+    @Override
+    public boolean isAutoIncrement(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isCaseSensitive(int column) throws SQLException {
+        return true;
+    }
+
+    @Override
+    public boolean isCurrency(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public int isNullable(int column) throws SQLException {
+        return columnNullableUnknown;
+    }
+
+    @Override
+    public boolean isSigned(int column) throws SQLException {
+        return true;
+    }
+
+    @Override
+    public boolean isSearchable(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isReadOnly(int column) throws SQLException {
+        return true;
+    }
+
+    @Override
+    public boolean isWritable(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int column) throws SQLException {
+        return false;
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this);
+    }
+}
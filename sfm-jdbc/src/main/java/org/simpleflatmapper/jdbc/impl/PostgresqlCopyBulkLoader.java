@@ -0,0 +1,150 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextFactory;
+import org.simpleflatmapper.jdbc.MultiIndexFieldMapper;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Insert the values with COPY ... FROM STDIN in the text format.
+ * <p>
+ * The rows are produced by the same MultiIndexFieldMapper as the multi rows insert, bound to a PreparedStatement
+ * that only captures the parameters, so the getters and the converters are the same as for the insert.
+ * The rows are buffered and sent to the driver every BUFFER_SIZE bytes.
+ */
+public final class PostgresqlCopyBulkLoader<T> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String copySql;
+    private final int columnCount;
+    private final MultiIndexFieldMapper<T>[] multiIndexFieldMappers;
+    private final ContextFactory contextFactory;
+
+    public PostgresqlCopyBulkLoader(CrudMeta meta, String[] columns, MultiIndexFieldMapper<T>[] multiIndexFieldMappers, ContextFactory contextFactory) {
+        this.columnCount = columns.length;
+        this.multiIndexFieldMappers = multiIndexFieldMappers;
+        this.contextFactory = contextFactory;
+        this.copySql = copySql(meta, columns);
+    }
+
+    private static String copySql(CrudMeta meta, String[] columns) {
+        StringBuilder sb = new StringBuilder("COPY ");
+        meta.appendTableName(sb);
+        sb.append("(");
+        for(int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(columns[i]);
+        }
+        sb.append(") FROM STDIN");
+        return sb.toString();
+    }
+
+    /**
+     * copy the values to the table.
+     * @param connection the connection
+     * @param values the values
+     * @return false if the connection does not support COPY, the values have not been read then
+     * @throws SQLException if an error occurs
+     */
+    public boolean load(Connection connection, Iterator<T> values) throws SQLException {
+        PostgresqlCopyIn copyIn = PostgresqlCopyIn.open(connection, copySql);
+        if (copyIn == null) {
+            return false;
+        }
+        boolean done = false;
+        try {
+            ParameterCapture capture = new ParameterCapture(columnCount);
+            PreparedStatement capturingStatement = capture.newPreparedStatement();
+            PostgresqlCopyTextWriter writer = new PostgresqlCopyTextWriter(BUFFER_SIZE);
+            Context context = contextFactory.newContext();
+            while (values.hasNext()) {
+                T value = values.next();
+                int columnIndex = 0;
+                for (MultiIndexFieldMapper<T> multiIndexFieldMapper : multiIndexFieldMappers) {
+                    columnIndex += multiIndexFieldMapper.map(capturingStatement, value, columnIndex, context);
+                }
+                capture.writeTo(writer);
+                if (writer.length() >= BUFFER_SIZE) {
+                    writer.flushTo(copyIn);
+                }
+            }
+            writer.flushTo(copyIn);
+            copyIn.endCopy();
+            done = true;
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        } finally {
+            if (!done) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (Exception e) {
+                    // IGNORE already failing
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "PostgresqlCopyBulkLoader{" +
+                "copySql='" + copySql + '\'' +
+                '}';
+    }
+
+    private static final class ParameterCapture implements InvocationHandler {
+        private final Object[] parameters;
+
+        private ParameterCapture(int columnCount) {
+            this.parameters = new Object[columnCount];
+        }
+
+        PreparedStatement newPreparedStatement() {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[] { PreparedStatement.class }, this);
+        }
+
+        void writeTo(PostgresqlCopyTextWriter writer) {
+            for (int i = 0; i < parameters.length; i++) {
+                writer.appendValue(parameters[i]);
+            }
+            writer.endRow();
+            Arrays.fill(parameters, null);
+        }
+
+        // setXxx(int index, value, ...) and setNull(int index, int sqlType, ...)
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                if (name.endsWith("Stream") || name.endsWith("Array") || name.endsWith("Ref") || name.endsWith("Clob") || name.endsWith("Blob")) {
+                    throw new UnsupportedOperationException("COPY does not support " + method);
+                }
+                int index = (Integer) args[0];
+                parameters[index - 1] = name.equals("setNull") ? null : args[1];
+                return null;
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(parameters, null);
+                return null;
+            } else if (name.equals("toString") && args == null) {
+                return "CopyParameterCapture";
+            } else if (name.equals("hashCode") && args == null) {
+                return System.identityHashCode(proxy);
+            } else if (name.equals("equals") && args != null && args.length == 1) {
+                return proxy == args[0];
+            }
+            throw new UnsupportedOperationException(method.toString());
+        }
+    }
+}
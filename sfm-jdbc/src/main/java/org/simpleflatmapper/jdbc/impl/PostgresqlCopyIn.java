@@ -0,0 +1,141 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * COPY FROM STDIN operation of the postgresql driver accessed by reflection, sfm-jdbc does not depend on the driver.
+ * <p>
+ * The connection is unwrapped to org.postgresql.PGConnection when the class is visible,
+ * then getCopyAPI().copyIn(sql) is called on it and the returned CopyIn receives the data through writeToCopy and endCopy.
+ */
+public final class PostgresqlCopyIn {
+
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+    private final Object copyIn;
+    private final Method writeToCopy;
+    private final Method endCopy;
+    private final Method cancelCopy;
+
+    private PostgresqlCopyIn(Object copyIn, Method writeToCopy, Method endCopy, Method cancelCopy) {
+        this.copyIn = copyIn;
+        this.writeToCopy = writeToCopy;
+        this.endCopy = endCopy;
+        this.cancelCopy = cancelCopy;
+    }
+
+    /**
+     * start a copy on the connection.
+     * @param connection the connection
+     * @param sql the COPY ... FROM STDIN statement
+     * @return the copy in progress or null if the connection does not support COPY
+     * @throws SQLException if the copy could not be started
+     */
+    public static PostgresqlCopyIn open(Connection connection, String sql) throws SQLException {
+        Object pgConnection = unwrap(connection);
+        Method getCopyAPI = findMethod(pgConnection.getClass(), "getCopyAPI");
+        if (getCopyAPI == null) {
+            return null;
+        }
+        Object copyManager = invoke(getCopyAPI, pgConnection);
+        Method copyInMethod = findMethod(copyManager.getClass(), "copyIn", String.class);
+        if (copyInMethod == null) {
+            return null;
+        }
+        Object copyIn = invoke(copyInMethod, copyManager, sql);
+        Class<?> copyInClass = copyIn.getClass();
+        Method writeToCopy = findMethod(copyInClass, "writeToCopy", byte[].class, int.class, int.class);
+        Method endCopy = findMethod(copyInClass, "endCopy");
+        Method cancelCopy = findMethod(copyInClass, "cancelCopy");
+        if (writeToCopy == null || endCopy == null || cancelCopy == null) {
+            throw new SQLException("Unexpected CopyIn api on " + copyInClass);
+        }
+        return new PostgresqlCopyIn(copyIn, writeToCopy, endCopy, cancelCopy);
+    }
+
+    public void writeToCopy(byte[] buffer, int offset, int length) throws SQLException {
+        invoke(writeToCopy, copyIn, buffer, offset, length);
+    }
+
+    /**
+     * @return the number of rows copied
+     * @throws SQLException if the copy failed
+     */
+    public long endCopy() throws SQLException {
+        return ((Number) invoke(endCopy, copyIn)).longValue();
+    }
+
+    public void cancelCopy() throws SQLException {
+        invoke(cancelCopy, copyIn);
+    }
+
+    private static Object unwrap(Connection connection) throws SQLException {
+        Class<?> pgConnectionClass = loadPgConnectionClass(connection);
+        if (pgConnectionClass != null && connection.isWrapperFor(pgConnectionClass)) {
+            return connection.unwrap(pgConnectionClass);
+        }
+        return connection;
+    }
+
+    private static Class<?> loadPgConnectionClass(Connection connection) {
+        try {
+            return Class.forName(PG_CONNECTION_CLASS, false, connection.getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // the connection might be a proxy from a pool loaded by another class loader
+        } catch (LinkageError e) {
+            // IGNORE
+        }
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (contextClassLoader != null) {
+            try {
+                return Class.forName(PG_CONNECTION_CLASS, false, contextClassLoader);
+            } catch (ClassNotFoundException e) {
+                // IGNORE
+            } catch (LinkageError e) {
+                // IGNORE
+            }
+        }
+        return null;
+    }
+
+    // the implementation classes are not necessarily public, look for the method on a public type
+    private static Method findMethod(Class<?> target, String name, Class<?>... parameterTypes) {
+        if (target == null) {
+            return null;
+        }
+        if (Modifier.isPublic(target.getModifiers())) {
+            try {
+                return target.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                // IGNORE
+            }
+        }
+        for (Class<?> i : target.getInterfaces()) {
+            Method method = findMethod(i, name, parameterTypes);
+            if (method != null) {
+                return method;
+            }
+        }
+        return findMethod(target.getSuperclass(), name, parameterTypes);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            return ErrorHelper.rethrow(cause);
+        } catch (IllegalAccessException e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+}
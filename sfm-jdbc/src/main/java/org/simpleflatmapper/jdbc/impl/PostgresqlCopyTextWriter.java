@@ -0,0 +1,131 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Buffer of rows in the COPY text format - tab separated, \N for null, backslash escapes - encoded in UTF-8.
+ */
+final class PostgresqlCopyTextWriter {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    private byte[] buffer;
+    private int length;
+    private boolean firstColumn = true;
+
+    PostgresqlCopyTextWriter(int capacity) {
+        buffer = new byte[capacity];
+    }
+
+    public void appendValue(Object value) {
+        if (!firstColumn) {
+            append((byte) '\t');
+        }
+        firstColumn = false;
+
+        if (value == null) {
+            append((byte) '\\');
+            append((byte) 'N');
+        } else if (value instanceof Boolean) {
+            append(((Boolean) value) ? (byte) 't' : (byte) 'f');
+        } else if (value instanceof byte[]) {
+            appendBytea((byte[]) value);
+        } else if (value instanceof Date && !(value instanceof java.sql.Date || value instanceof java.sql.Time || value instanceof Timestamp)) {
+            appendEscaped(new Timestamp(((Date) value).getTime()).toString());
+        } else {
+            appendEscaped(value.toString());
+        }
+    }
+
+    public void endRow() {
+        append((byte) '\n');
+        firstColumn = true;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public void flushTo(PostgresqlCopyIn copyIn) throws SQLException {
+        if (length > 0) {
+            copyIn.writeToCopy(buffer, 0, length);
+            length = 0;
+        }
+    }
+
+    // bytea hex format, the backslash of \x is escaped by the text format
+    private void appendBytea(byte[] bytes) {
+        ensureCapacity(3 + bytes.length * 2);
+        append((byte) '\\');
+        append((byte) '\\');
+        append((byte) 'x');
+        for (byte b : bytes) {
+            buffer[length++] = HEX[(b >> 4) & 0xF];
+            buffer[length++] = HEX[b & 0xF];
+        }
+    }
+
+    private void appendEscaped(CharSequence value) {
+        int l = value.length();
+        ensureCapacity(l);
+        for (int i = 0; i < l; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '\\':
+                        append((byte) '\\');
+                        append((byte) '\\');
+                        break;
+                    case '\n':
+                        append((byte) '\\');
+                        append((byte) 'n');
+                        break;
+                    case '\r':
+                        append((byte) '\\');
+                        append((byte) 'r');
+                        break;
+                    case '\t':
+                        append((byte) '\\');
+                        append((byte) 't');
+                        break;
+                    default:
+                        append((byte) c);
+                }
+            } else if (c < 0x800) {
+                append((byte) (0xC0 | (c >> 6)));
+                append((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < l && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                append((byte) (0xF0 | (codePoint >> 18)));
+                append((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                append((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                append((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                // unpaired surrogate
+                append((byte) '?');
+            } else {
+                append((byte) (0xE0 | (c >> 12)));
+                append((byte) (0x80 | ((c >> 6) & 0x3F)));
+                append((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (length == buffer.length) {
+            ensureCapacity(1);
+        }
+        buffer[length++] = b;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = length + extra;
+        if (required > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(required, buffer.length * 2)];
+            System.arraycopy(buffer, 0, newBuffer, 0, length);
+            buffer = newBuffer;
+        }
+    }
+}
@@ -19,10 +19,39 @@ public class PostgresqlCrudFactory {
         return new MultiRowsBatchInsertCrud<T, K>(
                 defaultCrud,
                 buildBatchInsert(target, crudMeta, jdbcMapperFactory, false),
-                buildBatchInsert(target, crudMeta, jdbcMapperFactory, true));
+                buildBatchInsert(target, crudMeta, jdbcMapperFactory, true),
+                buildBulkLoader(target, crudMeta, jdbcMapperFactory));
 
     }
 
+    // COPY cannot evaluate the insert expression of a generated column, use the insert then
+    private static <T> PostgresqlCopyBulkLoader<T> buildBulkLoader(
+            ClassMeta<T> target,
+            CrudMeta crudMeta,
+            JdbcMapperFactory jdbcMapperFactory) {
+        List<String> columns = new ArrayList<String>();
+
+        PreparedStatementMapperBuilder<T> statementMapperBuilder = jdbcMapperFactory.<T>from(target);
+        for(ColumnMeta cm : crudMeta.getColumnMetas()) {
+            if (cm.isGenerated()) {
+                if (cm.isInsertable()) {
+                    return null;
+                }
+            } else {
+                columns.add(cm.getColumn());
+                statementMapperBuilder.addColumn(cm.getColumn());
+            }
+        }
+
+        DefaultContextFactoryBuilder defaultContextFactoryBuilder = new DefaultContextFactoryBuilder();
+        MultiIndexFieldMapper<T>[] multiIndexFieldMappers = statementMapperBuilder.buildIndexFieldMappers(defaultContextFactoryBuilder);
+        return new PostgresqlCopyBulkLoader<T>(
+                crudMeta,
+                columns.toArray(new String[0]),
+                multiIndexFieldMappers,
+                defaultContextFactoryBuilder.build());
+    }
+
     private static <T, K> BatchQueryExecutor<T> buildBatchInsert(
             ClassMeta<T> target,
             CrudMeta crudMeta,
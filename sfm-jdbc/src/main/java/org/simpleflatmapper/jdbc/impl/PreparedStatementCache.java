@@ -0,0 +1,211 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of PreparedStatement per Connection for the Crud.
+ * <p>
+ * Each connection has its own LRU of at most maxStatementsPerConnection statements keyed by query,
+ * at most maxConnections connections are tracked, the least recently used connection has its statements closed.
+ * The connections closed by the pool are dropped when a new connection is released, a statement released on a closed connection is not cached.
+ * <p>
+ * A statement is removed from the cache while it is in use and put back on release, so a nested call on the same connection
+ * - a read in the consumer of a read - prepares its own statement instead of reusing the one whose ResultSet is still open.
+ * <p>
+ * The statements are reused only if the Connection instance is, some pools return a new proxy on every getConnection in which case
+ * the statements cannot be reused.
+ */
+public final class PreparedStatementCache {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+
+    private final int maxStatementsPerConnection;
+    private final int maxConnections;
+
+    // guarded by this
+    private final LinkedHashMap<Connection, LinkedHashMap<Object, PreparedStatement>> connections =
+            new LinkedHashMap<Connection, LinkedHashMap<Object, PreparedStatement>>(16, 0.75f, true);
+
+    private final AtomicLong reuseCount = new AtomicLong();
+    private final AtomicLong prepareCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public PreparedStatementCache(int maxStatementsPerConnection) {
+        this(maxStatementsPerConnection, DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public PreparedStatementCache(int maxStatementsPerConnection, int maxConnections) {
+        if (maxStatementsPerConnection <= 0) throw new IllegalArgumentException("maxStatementsPerConnection should be greater than 0");
+        if (maxConnections <= 0) throw new IllegalArgumentException("maxConnections should be greater than 0");
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * take the statement for the query out of the cache.
+     * @param connection the connection
+     * @param query the key of the query, the sql or the object that generates it
+     * @return the statement or null if none is cached, the caller needs to prepare a new one and release it after use
+     */
+    public PreparedStatement acquire(Connection connection, Object query) {
+        PreparedStatement preparedStatement;
+        synchronized (this) {
+            LinkedHashMap<Object, PreparedStatement> statements = connections.get(connection);
+            preparedStatement = statements != null ? statements.remove(query) : null;
+        }
+        if (preparedStatement != null) {
+            if (!isClosed(preparedStatement)) {
+                reuseCount.incrementAndGet();
+                return preparedStatement;
+            }
+        }
+        prepareCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * put back the statement in the cache once the caller is done with it.
+     * @param connection the connection
+     * @param query the key of the query
+     * @param preparedStatement the statement, all its ResultSet need to be closed
+     */
+    public void release(Connection connection, Object query, PreparedStatement preparedStatement) {
+        if (isClosed(connection)) {
+            // the statements of the connection are closed with it
+            evict(connection);
+            close(preparedStatement);
+            return;
+        }
+        PreparedStatement evicted = null;
+        Collection<PreparedStatement> evictedConnection = null;
+        synchronized (this) {
+            LinkedHashMap<Object, PreparedStatement> statements = connections.get(connection);
+            if (statements == null) {
+                // a new connection, the pool might have closed the ones we know of
+                pruneClosedConnections();
+                if (connections.size() >= maxConnections) {
+                    evictedConnection = evictConnection();
+                }
+                statements = new LinkedHashMap<Object, PreparedStatement>(16, 0.75f, true);
+                connections.put(connection, statements);
+            }
+            PreparedStatement previous = statements.put(query, preparedStatement);
+            if (previous != null) {
+                // released by a nested call
+                evicted = previous;
+            } else if (statements.size() > maxStatementsPerConnection) {
+                Iterator<PreparedStatement> iterator = statements.values().iterator();
+                evicted = iterator.next();
+                iterator.remove();
+            }
+        }
+        if (evicted != null) {
+            close(evicted);
+        }
+        if (evictedConnection != null) {
+            for (PreparedStatement ps : evictedConnection) {
+                close(ps);
+            }
+        }
+    }
+
+    /**
+     * close all the cached statements of the connection, to call before closing a long lived connection.
+     * @param connection the connection
+     */
+    public void evict(Connection connection) {
+        Map<Object, PreparedStatement> statements;
+        synchronized (this) {
+            statements = connections.remove(connection);
+        }
+        if (statements != null) {
+            for (PreparedStatement ps : statements.values()) {
+                close(ps);
+            }
+        }
+    }
+
+    // guarded by this, drop the connections closed since they were released, their statements are closed with them
+    private void pruneClosedConnections() {
+        Iterator<Map.Entry<Connection, LinkedHashMap<Object, PreparedStatement>>> iterator = connections.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Connection, LinkedHashMap<Object, PreparedStatement>> entry = iterator.next();
+            if (isClosed(entry.getKey())) {
+                iterator.remove();
+                evictionCount.addAndGet(entry.getValue().size());
+            }
+        }
+    }
+
+    // guarded by this, remove the least recently used connection
+    private Collection<PreparedStatement> evictConnection() {
+        Iterator<Map.Entry<Connection, LinkedHashMap<Object, PreparedStatement>>> iterator = connections.entrySet().iterator();
+        Collection<PreparedStatement> statements = iterator.next().getValue().values();
+        iterator.remove();
+        return statements;
+    }
+
+    private void close(PreparedStatement preparedStatement) {
+        evictionCount.incrementAndGet();
+        try {
+            preparedStatement.close();
+        } catch (SQLException e) {
+            // IGNORE
+        }
+    }
+
+    private static boolean isClosed(PreparedStatement preparedStatement) {
+        try {
+            return preparedStatement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private static boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    /**
+     * @return the number of statements reused from the cache
+     */
+    public long reuseCount() {
+        return reuseCount.get();
+    }
+
+    /**
+     * @return the number of statements the caller had to prepare
+     */
+    public long prepareCount() {
+        return prepareCount.get();
+    }
+
+    /**
+     * @return the number of statements closed by the cache
+     */
+    public long evictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementCache{" +
+                "maxStatementsPerConnection=" + maxStatementsPerConnection +
+                ", maxConnections=" + maxConnections +
+                ", reuseCount=" + reuseCount() +
+                ", prepareCount=" + prepareCount() +
+                ", evictionCount=" + evictionCount() +
+                '}';
+    }
+}
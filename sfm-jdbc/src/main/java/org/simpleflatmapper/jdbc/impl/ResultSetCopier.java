@@ -0,0 +1,72 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.map.mapper.SourceCopier;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+
+/**
+ * Copies the values of the current row in an {@link ObjectArrayResultSet}.
+ * The meta data is read on the first row, the integer, floating point and boolean columns are then copied without boxing.
+ * The copy returns the meta data read on the calling thread so that the mapping threads do not call the source ResultSet.
+ * <p>
+ * A copier keeps the meta data of the first ResultSet it copies a row of, use {@link #FACTORY} to get one per ResultSet.
+ */
+public final class ResultSetCopier implements SourceCopier<ResultSet> {
+
+    public static final UnaryFactory<ResultSet, SourceCopier<ResultSet>> FACTORY = new UnaryFactory<ResultSet, SourceCopier<ResultSet>>() {
+        @Override
+        public SourceCopier<ResultSet> newInstance(ResultSet resultSet) {
+            return new ResultSetCopier();
+        }
+    };
+
+    private ResultSetMetaData metaData;
+    private int[] kinds;
+    private boolean hasPrimitives;
+
+    @Override
+    public ResultSet copy(ResultSet row) throws Exception {
+        if (metaData == null) {
+            readMetaData(row);
+        }
+        int[] kinds = this.kinds;
+        Object[] values = new Object[kinds.length];
+        long[] primitives = hasPrimitives ? new long[kinds.length] : null;
+        for (int i = 0; i < kinds.length; i++) {
+            int columnIndex = i + 1;
+            switch (kinds[i]) {
+                case ObjectArrayResultSet.INT:
+                case ObjectArrayResultSet.LONG:
+                    primitives[i] = row.getLong(columnIndex);
+                    break;
+                case ObjectArrayResultSet.FLOAT:
+                case ObjectArrayResultSet.DOUBLE:
+                    primitives[i] = Double.doubleToRawLongBits(row.getDouble(columnIndex));
+                    break;
+                case ObjectArrayResultSet.BOOLEAN:
+                    primitives[i] = row.getBoolean(columnIndex) ? 1 : 0;
+                    break;
+                default:
+                    values[i] = row.getObject(columnIndex);
+                    continue;
+            }
+            values[i] = row.wasNull() ? null : ObjectArrayResultSet.PRIMITIVE;
+        }
+        ObjectArrayResultSet copy = new ObjectArrayResultSet(metaData, kinds);
+        copy.setValues(values, primitives);
+        return copy;
+    }
+
+    private void readMetaData(ResultSet row) throws Exception {
+        ResultSetMetaData metaData = row.getMetaData();
+        int[] kinds = new int[metaData.getColumnCount()];
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = ObjectArrayResultSet.kind(metaData.getColumnType(i + 1));
+            hasPrimitives |= kinds[i] != ObjectArrayResultSet.OBJECT;
+        }
+        this.kinds = kinds;
+        this.metaData = metaData;
+    }
+}
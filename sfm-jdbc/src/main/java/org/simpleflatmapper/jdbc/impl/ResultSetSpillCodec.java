@@ -0,0 +1,70 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.map.mapper.SpillCodec;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.sql.ResultSet;
+
+/**
+ * Spills the getObject values of the row, the values need to be Serializable.
+ * The rows are read back through an {@link ObjectArrayResultSet}.
+ */
+public final class ResultSetSpillCodec implements SpillCodec<ResultSet> {
+
+    public static final ResultSetSpillCodec INSTANCE = new ResultSetSpillCodec();
+
+    private ResultSetSpillCodec() {
+    }
+
+    @Override
+    public Writer<ResultSet> newWriter(ResultSet template) throws Exception {
+        final int columnCount = template.getMetaData().getColumnCount();
+        return new Writer<ResultSet>() {
+            @Override
+            public void write(ResultSet row, ObjectOutput out) throws Exception {
+                out.writeInt(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    out.writeObject(row.getObject(i));
+                }
+            }
+        };
+    }
+
+    @Override
+    public Enumerable<ResultSet> read(final ObjectInput in, final int nbRows, ResultSet template) throws Exception {
+        final ObjectArrayResultSet spilledRow = new ObjectArrayResultSet(template);
+        return new Enumerable<ResultSet>() {
+            private int remaining = nbRows;
+
+            @Override
+            public boolean next() {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining--;
+                try {
+                    spilledRow.setValues(read(in));
+                } catch (Exception e) {
+                    ErrorHelper.rethrow(e);
+                }
+                return true;
+            }
+
+            @Override
+            public ResultSet currentValue() {
+                return spilledRow;
+            }
+        };
+    }
+
+    private static Object[] read(ObjectInput in) throws Exception {
+        Object[] values = new Object[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readObject();
+        }
+        return values;
+    }
+}
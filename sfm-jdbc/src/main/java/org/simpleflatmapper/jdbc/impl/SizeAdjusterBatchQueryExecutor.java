@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class SizeAdjusterBatchQueryExecutor<T> implements BatchQueryExecutor<T> {
@@ -44,6 +45,20 @@ public class SizeAdjusterBatchQueryExecutor<T> implements BatchQueryExecutor<T>
         }
     }
 
+    // each chunk goes through the collection insert so that it can be split if the packet is too big
+    @Override
+    public void insert(Connection connection, Iterator<T> values, int batchSize, Executor prefetchExecutor, CheckedConsumer<PreparedStatement> postExecute) throws SQLException {
+        BatchChunker<T> chunker = new BatchChunker<T>(values, Math.min(batchSize, this.batchSize.get()), prefetchExecutor);
+        try {
+            List<T> chunk;
+            while((chunk = chunker.next()) != null) {
+                insert(connection, chunk, postExecute);
+            }
+        } finally {
+            chunker.close();
+        }
+    }
+
     private void resize(int lBatchSize) {
         int currentSize;
         do {
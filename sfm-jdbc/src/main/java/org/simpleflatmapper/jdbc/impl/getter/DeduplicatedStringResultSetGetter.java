@@ -0,0 +1,40 @@
+package org.simpleflatmapper.jdbc.impl.getter;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.util.StringDeduplicator;
+
+import java.sql.ResultSet;
+
+public final class DeduplicatedStringResultSetGetter implements
+		Getter<ResultSet, String>,
+		ContextualGetter<ResultSet, String>
+{
+
+	private final Getter<ResultSet, String> getter;
+	private final StringDeduplicator stringDeduplicator;
+
+	public DeduplicatedStringResultSetGetter(final Getter<ResultSet, String> getter, final StringDeduplicator stringDeduplicator) {
+		this.getter = getter;
+		this.stringDeduplicator = stringDeduplicator;
+	}
+
+	@Override
+	public String get(final ResultSet target) throws Exception {
+		return stringDeduplicator.get(getter.get(target));
+	}
+
+	@Override
+	public String get(ResultSet resultSet, Context context) throws Exception {
+		return get(resultSet);
+	}
+
+    @Override
+    public String toString() {
+        return "DeduplicatedStringResultSetGetter{" +
+                "getter=" + getter +
+                ", stringDeduplicator=" + stringDeduplicator +
+                '}';
+    }
+}
@@ -7,6 +7,7 @@ import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.jdbc.Crud;
 import org.simpleflatmapper.jdbc.JdbcMapperFactory;
 import org.simpleflatmapper.jdbc.SelectQuery;
+import org.simpleflatmapper.jdbc.impl.PreparedStatementCache;
 import org.simpleflatmapper.jdbc.property.IndexedSetterProperty;
 import org.simpleflatmapper.map.property.GetterProperty;
 import org.simpleflatmapper.reflect.Getter;
@@ -27,6 +28,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -136,6 +139,70 @@ public class CrudTest {
         }
     }
 
+    @Test
+    public void testDbObjectCrudWithStatementCache() throws SQLException {
+        Connection connection = DbHelper.getDbConnection(targetDB);
+        if (connection == null) { System.err.println("Db " + targetDB + " not available"); return; }
+        try {
+            PreparedStatementCache statementCache = new PreparedStatementCache(16);
+            Crud<DbObject, Long> objectCrud =
+                    JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).statementCache(statementCache).table(connection, "TEST_DB_OBJECT");
+
+            checkCrudDbObject(connection, objectCrud, DbObject.newInstance());
+            long prepareCount = statementCache.prepareCount();
+            checkCrudDbObject(connection, objectCrud, DbObject.newInstance());
+            assertEquals(prepareCount, statementCache.prepareCount());
+            assertTrue(statementCache.reuseCount() > 0);
+
+            // 3 keys bound as 4, the last key repeated
+            List<DbObject> values = Arrays.asList(DbObject.newInstance(), DbObject.newInstance(), DbObject.newInstance());
+            objectCrud.create(connection, values);
+            List<Long> keys = new ArrayList<Long>();
+            for(DbObject value : values) {
+                keys.add(value.getId());
+            }
+            assertCollectionEquals(values, objectCrud.read(connection, keys, new ListCollector<DbObject>()).getList());
+            objectCrud.delete(connection, keys);
+            assertCollectionEquals(Collections.<DbObject>emptyList(), objectCrud.read(connection, keys, new ListCollector<DbObject>()).getList());
+
+            statementCache.evict(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    public void testDbObjectCrudCreateFromIterator() throws SQLException {
+        Connection connection = DbHelper.getDbConnection(targetDB);
+        if (connection == null) { System.err.println("Db " + targetDB + " not available"); return; }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Crud<DbObject, Long> objectCrud =
+                    JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).table(connection, "TEST_DB_OBJECT");
+            Crud<DbObject, Long> prefetchCrud =
+                    JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).prefetchExecutor(executor).table(connection, "TEST_DB_OBJECT");
+
+            for(Crud<DbObject, Long> crud : Arrays.asList(objectCrud, prefetchCrud)) {
+                // 2 full batches and a tail
+                List<DbObject> values = new ArrayList<DbObject>();
+                for(int i = 0; i < 7; i++) {
+                    values.add(DbObject.newInstance());
+                }
+                crud.create(connection, values.iterator(), 3);
+
+                List<Long> keys = new ArrayList<Long>();
+                for(DbObject value : values) {
+                    keys.add(value.getId());
+                }
+                assertCollectionEquals(values, crud.read(connection, keys, new ListCollector<DbObject>()).getList());
+                crud.delete(connection, keys);
+            }
+        } finally {
+            executor.shutdown();
+            connection.close();
+        }
+    }
+
     @Test
     public void testDbObjectCrudTable() throws SQLException {
         Connection connection = DbHelper.getDbConnection(targetDB);
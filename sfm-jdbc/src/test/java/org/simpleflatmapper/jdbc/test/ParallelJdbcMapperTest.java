@@ -0,0 +1,179 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.ParallelJdbcMapper;
+import org.simpleflatmapper.jdbc.impl.ObjectArrayResultSet;
+import org.simpleflatmapper.jdbc.impl.ResultSetCopier;
+import org.simpleflatmapper.map.mapper.SourceCopier;
+import org.simpleflatmapper.test.beans.DbListOfString;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelJdbcMapperTest {
+
+    private static final String[] DB_OBJECT_LABELS = {"id", "name", "email", "creation_time", "type_ordinal", "type_name"};
+    private static final int[] DB_OBJECT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.INTEGER, Types.VARCHAR};
+
+    @Test
+    public void testOrderedAndUnordered() throws Exception {
+        Object[][] rows = new Object[1000][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new Object[] {(long) i, "name" + i, i % 3 == 0 ? null : "email" + i, new Timestamp(i * 1000l), i % 5 == 0 ? null : i % 4, "type" + (i % 4 + 1)};
+        }
+
+        JdbcMapper<DbObject> mapper =
+                JdbcMapperFactory.newInstance().newBuilder(DbObject.class).addMapping(new ObjectArrayResultSet(DB_OBJECT_LABELS, DB_OBJECT_TYPES, rows).getMetaData()).mapper();
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            MetaDataCountingResultSet source = new MetaDataCountingResultSet(DB_OBJECT_LABELS, DB_OBJECT_TYPES, rows);
+            List<DbObject> ordered = new ParallelJdbcMapper<DbObject>(mapper, executor, 7, true)
+                    .forEach(source, new ListCollector<DbObject>()).getList();
+            assertEquals(rows.length, ordered.size());
+            for (int i = 0; i < rows.length; i++) {
+                checkDbObject(i, ordered.get(i));
+            }
+            assertEquals(1, source.metaDataCalls);
+
+            source = new MetaDataCountingResultSet(DB_OBJECT_LABELS, DB_OBJECT_TYPES, rows);
+            List<DbObject> unordered = new ParallelJdbcMapper<DbObject>(mapper, executor, 7, false)
+                    .forEach(source, new ListCollector<DbObject>()).getList();
+            assertEquals(rows.length, unordered.size());
+            Set<Long> ids = new HashSet<Long>();
+            for (DbObject o : unordered) {
+                checkDbObject((int) o.getId(), o);
+                ids.add(o.getId());
+            }
+            assertEquals(rows.length, ids.size());
+            assertEquals(1, source.metaDataCalls);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejectsJoinMapper() throws Exception {
+        String[] labels = {"id", "objects_value"};
+        int[] types = {Types.INTEGER, Types.VARCHAR};
+        Object[][] rows = {{1, "a"}, {1, "b"}};
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            try {
+                new ParallelJdbcMapper<DbListOfString>(
+                        JdbcMapperFactory.newInstance().addKeys("id").newBuilder(DbListOfString.class).addMapping(new ObjectArrayResultSet(labels, types, rows).getMetaData()).mapper(),
+                        executor, 1, true);
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+
+            // the dynamic mapper picks the join mapper of the result set
+            ParallelJdbcMapper<DbListOfString> dynamicMapper = new ParallelJdbcMapper<DbListOfString>(
+                    JdbcMapperFactory.newInstance().addKeys("id").newMapper(DbListOfString.class),
+                    executor, 1, true);
+            try {
+                dynamicMapper.forEach(new ObjectArrayResultSet(labels, types, rows), new ListCollector<DbListOfString>());
+                fail();
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void checkDbObject(int i, DbObject o) {
+        assertEquals(i, o.getId());
+        assertEquals("name" + i, o.getName());
+        assertEquals(i % 3 == 0 ? null : "email" + i, o.getEmail());
+        assertEquals(i * 1000l, o.getCreationTime().getTime());
+        assertEquals(i % 5 == 0 ? null : DbObject.Type.values()[i % 4], o.getTypeOrdinal());
+        assertEquals(DbObject.Type.values()[i % 4], o.getTypeName());
+    }
+
+    @Test
+    public void testCopyKeepsTypedValues() throws Exception {
+        String[] labels = {"l", "i", "d", "f", "b", "s"};
+        int[] types = {Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.REAL, Types.BOOLEAN, Types.VARCHAR};
+        MetaDataCountingResultSet resultSet = new MetaDataCountingResultSet(labels, types, new Object[][] {
+                {Long.MAX_VALUE, 3, 1.5d, 2.5f, true, "str"},
+                {null, null, null, null, null, null}
+        });
+        SourceCopier<ResultSet> copier = ResultSetCopier.FACTORY.newInstance(resultSet);
+
+        assertTrue(resultSet.next());
+        ResultSet copy = copier.copy(resultSet);
+        assertTrue(resultSet.next());
+        ResultSet nullCopy = copier.copy(resultSet);
+        assertEquals(1, resultSet.metaDataCalls);
+
+        assertEquals(Long.MAX_VALUE, copy.getLong(1));
+        assertEquals(Long.MAX_VALUE, copy.getObject(1));
+        assertEquals(new BigDecimal(Long.MAX_VALUE), copy.getBigDecimal(1));
+        assertEquals(3, copy.getInt("i"));
+        assertEquals(3, copy.getObject(2));
+        assertEquals(3l, copy.getObject(2, Long.class).longValue());
+        assertEquals(1.5d, copy.getDouble(3), 0);
+        assertEquals(1.5d, copy.getObject(3));
+        assertEquals(1, copy.getInt(3));
+        assertEquals(2.5f, copy.getFloat(4), 0);
+        assertEquals(2.5f, copy.getObject(4));
+        assertTrue(copy.getBoolean(5));
+        assertEquals(Boolean.TRUE, copy.getObject(5));
+        assertEquals("str", copy.getString(6));
+        assertFalse(copy.wasNull());
+        assertSame(resultSet.getMetaData(), copy.getMetaData());
+
+        for (int i = 1; i <= labels.length; i++) {
+            assertNull(nullCopy.getObject(i));
+            assertTrue(nullCopy.wasNull());
+        }
+        assertEquals(0, nullCopy.getLong(1));
+        assertTrue(nullCopy.wasNull());
+        assertEquals(0, nullCopy.getDouble(3), 0);
+        assertFalse(nullCopy.getBoolean(5));
+        assertNull(nullCopy.getString(6));
+
+        try {
+            copy.getTimestamp(6);
+            fail();
+        } catch (SQLException e) {
+            assertEquals("Cannot convert value str of column 6 to java.sql.Timestamp", e.getMessage());
+        }
+    }
+
+    private static final class MetaDataCountingResultSet extends ObjectArrayResultSet {
+        private int metaDataCalls;
+
+        private MetaDataCountingResultSet(String[] labels, int[] types, Object[][] rows) {
+            super(labels, types, rows);
+        }
+
+        @Override
+        public ResultSetMetaData getMetaData() throws SQLException {
+            metaDataCalls++;
+            return super.getMetaData();
+        }
+    }
+}
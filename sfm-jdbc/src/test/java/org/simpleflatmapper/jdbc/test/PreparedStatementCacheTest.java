@@ -0,0 +1,108 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.impl.PreparedStatementCache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PreparedStatementCacheTest {
+
+    @Test
+    public void testReuseStatement() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        Closeable<Connection> connection = Closeable.of(Connection.class);
+        Closeable<PreparedStatement> ps = Closeable.of(PreparedStatement.class);
+
+        assertNull(cache.acquire(connection.proxy, "q1"));
+        cache.release(connection.proxy, "q1", ps.proxy);
+
+        assertSame(ps.proxy, cache.acquire(connection.proxy, "q1"));
+        assertEquals(1, cache.reuseCount());
+        assertFalse(ps.closed);
+    }
+
+    @Test
+    public void testClosedConnectionsArePrunedOnRelease() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        Closeable<Connection> connection1 = Closeable.of(Connection.class);
+        Closeable<Connection> connection2 = Closeable.of(Connection.class);
+        Closeable<PreparedStatement> ps1 = Closeable.of(PreparedStatement.class);
+        Closeable<PreparedStatement> ps2 = Closeable.of(PreparedStatement.class);
+
+        cache.release(connection1.proxy, "q1", ps1.proxy);
+        connection1.closed = true;
+
+        cache.release(connection2.proxy, "q1", ps2.proxy);
+
+        assertEquals(1, cache.evictionCount());
+        assertNull(cache.acquire(connection1.proxy, "q1"));
+        assertSame(ps2.proxy, cache.acquire(connection2.proxy, "q1"));
+    }
+
+    @Test
+    public void testReleaseOnClosedConnectionIsNotCached() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(2);
+        Closeable<Connection> connection = Closeable.of(Connection.class);
+        Closeable<PreparedStatement> ps = Closeable.of(PreparedStatement.class);
+        connection.closed = true;
+
+        cache.release(connection.proxy, "q1", ps.proxy);
+
+        assertTrue(ps.closed);
+        assertNull(cache.acquire(connection.proxy, "q1"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedConnectionIsEvicted() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(2, 1);
+        Closeable<Connection> connection1 = Closeable.of(Connection.class);
+        Closeable<Connection> connection2 = Closeable.of(Connection.class);
+        Closeable<PreparedStatement> ps1 = Closeable.of(PreparedStatement.class);
+
+        cache.release(connection1.proxy, "q1", ps1.proxy);
+        cache.release(connection2.proxy, "q1", Closeable.of(PreparedStatement.class).proxy);
+
+        assertTrue(ps1.closed);
+        assertNull(cache.acquire(connection1.proxy, "q1"));
+    }
+
+    private static class Closeable<T> implements InvocationHandler {
+        private T proxy;
+        private boolean closed;
+
+        @SuppressWarnings("unchecked")
+        static <T> Closeable<T> of(Class<T> type) {
+            Closeable<T> closeable = new Closeable<T>();
+            closeable.proxy = (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[] { type }, closeable);
+            return closeable;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("isClosed".equals(name)) {
+                return closed;
+            } else if ("close".equals(name)) {
+                closed = true;
+                return null;
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("toString".equals(name)) {
+                return "Closeable";
+            }
+            throw new UnsupportedOperationException(name);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.simpleflatmapper.jdbc.test.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.impl.ObjectArrayResultSet;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ObjectArrayResultSetTest {
+
+    @Test
+    public void testCursor() throws Exception {
+        ResultSet rs = new ObjectArrayResultSet(new String[] {"id", "name"}, new int[] {Types.BIGINT, Types.VARCHAR}, new Object[][] {
+                {1l, "n1"},
+                {2l, null}
+        });
+
+        assertTrue(rs.isBeforeFirst());
+        assertTrue(rs.next());
+        assertTrue(rs.isFirst());
+        assertEquals(1, rs.getRow());
+        assertEquals(1l, rs.getLong("ID"));
+        assertEquals("n1", rs.getString(2));
+
+        assertTrue(rs.next());
+        assertTrue(rs.isLast());
+        assertNull(rs.getString("name"));
+        assertTrue(rs.wasNull());
+
+        assertFalse(rs.next());
+        assertTrue(rs.isAfterLast());
+        assertEquals(0, rs.getRow());
+
+        assertTrue(rs.absolute(-2));
+        assertEquals(1l, rs.getLong(1));
+
+        rs.close();
+        assertTrue(rs.isClosed());
+        rs.beforeFirst();
+        assertFalse(rs.isClosed());
+        assertTrue(rs.next());
+        assertEquals(1l, rs.getLong(1));
+
+        try {
+            rs.updateLong(1, 3l);
+            fail();
+        } catch (SQLException e) {
+            // read only
+        }
+        try {
+            rs.findColumn("unknown");
+            fail();
+        } catch (SQLException e) {
+            assertEquals("No column unknown", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCalendarReadsTheDateTimeInTheCalendarTimeZone() throws Exception {
+        Calendar local = Calendar.getInstance();
+        local.clear();
+        local.set(2019, Calendar.MARCH, 4, 10, 11, 12);
+        Timestamp value = new Timestamp(local.getTimeInMillis());
+        value.setNanos(123456789);
+
+        ResultSet rs = new ObjectArrayResultSet(new String[] {"ts"}, new int[] {Types.TIMESTAMP}, new Object[][] {{value}, {null}});
+        assertTrue(rs.next());
+
+        TimeZone utcPlus5 = TimeZone.getTimeZone("GMT+05:00");
+        Calendar cal = Calendar.getInstance(utcPlus5);
+        Timestamp timestamp = rs.getTimestamp(1, cal);
+
+        Calendar expected = Calendar.getInstance(utcPlus5);
+        expected.clear();
+        expected.set(2019, Calendar.MARCH, 4, 10, 11, 12);
+        expected.set(Calendar.MILLISECOND, 123);
+        assertEquals(expected.getTimeInMillis(), timestamp.getTime());
+        assertEquals(123456789, timestamp.getNanos());
+        assertEquals(value, rs.getTimestamp(1, null));
+
+        assertEquals(expected.getTimeInMillis(), rs.getTime("ts", cal).getTime());
+        assertEquals(expected.getTimeInMillis(), rs.getDate(1, cal).getTime());
+
+        assertTrue(rs.next());
+        assertNull(rs.getTimestamp(1, cal));
+        assertTrue(rs.wasNull());
+    }
+}
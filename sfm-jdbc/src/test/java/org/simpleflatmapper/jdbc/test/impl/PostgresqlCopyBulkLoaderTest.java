@@ -0,0 +1,169 @@
+package org.simpleflatmapper.jdbc.test.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.converter.DefaultContextFactoryBuilder;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.MultiIndexFieldMapper;
+import org.simpleflatmapper.jdbc.PreparedStatementMapperBuilder;
+import org.simpleflatmapper.jdbc.impl.ColumnMeta;
+import org.simpleflatmapper.jdbc.impl.CrudMeta;
+import org.simpleflatmapper.jdbc.impl.DatabaseMeta;
+import org.simpleflatmapper.jdbc.impl.PostgresqlCopyBulkLoader;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PostgresqlCopyBulkLoaderTest {
+
+    @Test
+    public void testCopyTextFormat() throws Exception {
+        PostgresqlCopyBulkLoader<Row> loader = newLoader();
+
+        StandInCopyIn copyIn = new StandInCopyIn();
+        assertTrue(loader.load(standInConnection(copyIn), Arrays.asList(
+                new Row(1, "simple", true),
+                new Row(2, "tab\tnew line\nback\\slash", false),
+                new Row(3, null, null),
+                new Row(4, "été €", true)).iterator()));
+
+        assertEquals("COPY test_row(id, name, active) FROM STDIN", copyIn.sql);
+        assertEquals(
+                "1\tsimple\tt\n" +
+                "2\ttab\\tnew line\\nback\\\\slash\tf\n" +
+                "3\t\\N\t\\N\n" +
+                "4\tété €\tt\n",
+                new String(copyIn.data.toByteArray(), "UTF-8"));
+        assertTrue(copyIn.ended);
+        assertFalse(copyIn.cancelled);
+    }
+
+    @Test
+    public void testCopyCancelledOnError() throws Exception {
+        PostgresqlCopyBulkLoader<Row> loader = newLoader();
+
+        StandInCopyIn copyIn = new StandInCopyIn();
+        try {
+            loader.load(standInConnection(copyIn), Arrays.asList(new Row(1, "simple", true), null).iterator());
+        } catch (NullPointerException e) {
+            // expected
+        }
+        assertFalse(copyIn.ended);
+        assertTrue(copyIn.cancelled);
+    }
+
+    @Test
+    public void testNoCopyApi() throws Exception {
+        Connection connection = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("isWrapperFor")) {
+                    return false;
+                }
+                throw new UnsupportedOperationException(method.toString());
+            }
+        });
+        assertFalse(newLoader().load(connection, Arrays.asList(new Row(1, "simple", true)).iterator()));
+    }
+
+    private PostgresqlCopyBulkLoader<Row> newLoader() {
+        String[] columns = { "id", "name", "active" };
+        PreparedStatementMapperBuilder<Row> builder = JdbcMapperFactory.newInstance().from(Row.class);
+        for (String column : columns) {
+            builder.addColumn(column);
+        }
+        DefaultContextFactoryBuilder contextFactoryBuilder = new DefaultContextFactoryBuilder();
+        MultiIndexFieldMapper<Row>[] mappers = builder.buildIndexFieldMappers(contextFactoryBuilder);
+
+        CrudMeta crudMeta = new CrudMeta(new DatabaseMeta("PostgreSQL", 9, 6), "test_row",
+                new ColumnMeta[] {
+                        new ColumnMeta("id", Types.BIGINT, true, null),
+                        new ColumnMeta("name", Types.VARCHAR, false, null),
+                        new ColumnMeta("active", Types.BOOLEAN, false, null) });
+        return new PostgresqlCopyBulkLoader<Row>(crudMeta, columns, mappers, contextFactoryBuilder.build());
+    }
+
+    private Connection standInConnection(final StandInCopyIn copyIn) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {StandInPgConnection.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("isWrapperFor")) {
+                    return false;
+                } else if (method.getName().equals("getCopyAPI")) {
+                    return new StandInCopyManager(copyIn);
+                }
+                throw new UnsupportedOperationException(method.toString());
+            }
+        });
+    }
+
+    public interface StandInPgConnection extends Connection {
+        StandInCopyManager getCopyAPI();
+    }
+
+    public static class StandInCopyManager {
+        private final StandInCopyIn copyIn;
+
+        public StandInCopyManager(StandInCopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        public StandInCopyIn copyIn(String sql) {
+            copyIn.sql = sql;
+            return copyIn;
+        }
+    }
+
+    public static class StandInCopyIn {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private String sql;
+        private boolean ended;
+        private boolean cancelled;
+
+        public void writeToCopy(byte[] buf, int off, int siz) throws SQLException {
+            data.write(buf, off, siz);
+        }
+
+        public long endCopy() throws SQLException {
+            ended = true;
+            return 0;
+        }
+
+        public void cancelCopy() throws SQLException {
+            cancelled = true;
+        }
+    }
+
+    public static class Row {
+        private final long id;
+        private final String name;
+        private final Boolean active;
+
+        public Row(long id, String name, Boolean active) {
+            this.id = id;
+            this.name = name;
+            this.active = active;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Boolean getActive() {
+            return active;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.simpleflatmapper.jdbc.test.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.impl.ObjectArrayResultSet;
+import org.simpleflatmapper.jdbc.impl.ResultSetSpillCodec;
+import org.simpleflatmapper.map.mapper.SpillCodec;
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ResultSetSpillCodecTest {
+
+    @Test
+    public void testRoundTripTypedValues() throws Exception {
+        String[] labels = {"l", "i", "d", "f", "b", "s", "ts", "bd"};
+        int[] types = {Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.REAL, Types.BOOLEAN, Types.VARCHAR, Types.TIMESTAMP, Types.DECIMAL};
+        ResultSet source = new ObjectArrayResultSet(labels, types, new Object[][] {
+                {Long.MAX_VALUE, 3, 1.5d, 2.5f, true, "str", new Timestamp(1000l), new BigDecimal("12.34")},
+                {null, null, null, null, null, null, null, null},
+                {-1l, 0, 0d, 0f, false, "", new Timestamp(0l), BigDecimal.ZERO}
+        });
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bos);
+        SpillCodec.Writer<ResultSet> writer = ResultSetSpillCodec.INSTANCE.newWriter(source);
+        int nbRows = 0;
+        while (source.next()) {
+            writer.write(source, out);
+            nbRows++;
+        }
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        Enumerable<ResultSet> rows = ResultSetSpillCodec.INSTANCE.read(in, nbRows, source);
+
+        assertTrue(rows.next());
+        ResultSet rs = rows.currentValue();
+        assertEquals(Long.MAX_VALUE, rs.getLong(1));
+        assertEquals(Long.MAX_VALUE, rs.getObject(1));
+        assertFalse(rs.wasNull());
+        assertEquals(3, rs.getInt("i"));
+        assertEquals(3, rs.getObject(2));
+        assertEquals(1.5d, rs.getDouble(3), 0);
+        assertEquals(1.5d, rs.getObject(3));
+        assertEquals(2.5f, rs.getFloat(4), 0);
+        assertEquals(2.5f, rs.getObject(4));
+        assertTrue(rs.getBoolean(5));
+        assertEquals("str", rs.getString(6));
+        assertEquals(new Timestamp(1000l), rs.getTimestamp(7));
+        assertEquals(new BigDecimal("12.34"), rs.getBigDecimal(8));
+
+        assertTrue(rows.next());
+        rs = rows.currentValue();
+        for (int i = 1; i <= labels.length; i++) {
+            assertNull(rs.getObject(i));
+            assertTrue(rs.wasNull());
+        }
+        assertEquals(0, rs.getLong(1));
+        assertTrue(rs.wasNull());
+        assertEquals(0, rs.getInt(2));
+        assertTrue(rs.wasNull());
+        assertEquals(0, rs.getDouble(3), 0);
+        assertFalse(rs.getBoolean(5));
+        assertTrue(rs.wasNull());
+        assertNull(rs.getString(6));
+        assertNull(rs.getTimestamp(7));
+
+        assertTrue(rows.next());
+        rs = rows.currentValue();
+        assertEquals(-1l, rs.getLong(1));
+        assertEquals(0, rs.getInt(2));
+        assertFalse(rs.wasNull());
+        assertEquals(0d, rs.getDouble(3), 0);
+        assertFalse(rs.wasNull());
+        assertFalse(rs.getBoolean(5));
+        assertFalse(rs.wasNull());
+        assertEquals("", rs.getString(6));
+        assertFalse(rs.wasNull());
+
+        assertFalse(rows.next());
+    }
+}
@@ -10,6 +10,7 @@ import org.simpleflatmapper.jdbc.ResultSetGetterFactory;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
 import org.simpleflatmapper.reflect.Getter;
 import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.util.StringDeduplicator;
 import org.simpleflatmapper.util.UUIDHelper;
 
 import java.io.ByteArrayInputStream;
@@ -31,6 +32,7 @@ import java.util.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
@@ -65,6 +67,19 @@ public class ResultSetGetterFactoryTest {
 		assertEquals("value", factory.newGetter(String.class, key(Types.NVARCHAR), IDENTITY.properties()).get(resultSet));
 	}
 
+	@Test
+	public void testDeduplicatedString() throws Exception {
+		when(resultSet.getString(1)).thenReturn(new String("FR"), new String("FR"));
+		StringDeduplicator deduplicator = new StringDeduplicator(StringDeduplicator.DEFAULT_SIZE, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+		Getter<ResultSet, String> getter = factory.newGetter(String.class, key(Types.VARCHAR), deduplicator);
+
+		String fr = getter.get(resultSet);
+		assertEquals("FR", fr);
+		assertSame(fr, getter.get(resultSet));
+		assertEquals(1, deduplicator.getHitCount());
+		assertEquals(1, deduplicator.getMissCount());
+	}
+
 	@Test
 	public void testBlob() throws Exception {
 		Blob blob = mock(Blob.class);
@@ -0,0 +1,70 @@
+package org.simpleflatmapper.converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.simpleflatmapper.util.date.DateFormatSupplier;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * findConverter on a warm resolution cache against the first lookup on a new ConverterService.
+ */
+@State(Scope.Benchmark)
+public class ConverterServiceBenchmark {
+
+    @Param({"String-Integer", "String-Date", "Date-LocalDate", "String-UUID", "Object-BigDecimal"})
+    public String types;
+
+    private Type inType;
+    private Type outType;
+    private Object[] params;
+
+    private ConverterService warmService;
+    private ConverterService coldService;
+
+    @Setup
+    public void setUp() {
+        String[] split = types.split("-");
+        inType = type(split[0]);
+        outType = type(split[1]);
+        params = new Object[] { (DateFormatSupplier) () -> "yyyy-MM-dd" };
+
+        warmService = ConverterService.getInstance(getClass().getClassLoader());
+        warmService.findConverter(inType, outType, new DefaultContextFactoryBuilder(), params);
+    }
+
+    @Setup(Level.Invocation)
+    public void newColdService() {
+        coldService = ConverterService.getInstance(getClass().getClassLoader());
+    }
+
+    @Benchmark
+    public ContextualConverter<?, ?> cachedResolution() {
+        return warmService.findConverter(inType, outType, new DefaultContextFactoryBuilder(), params);
+    }
+
+    @Benchmark
+    public ContextualConverter<?, ?> firstResolution() {
+        return coldService.findConverter(inType, outType, new DefaultContextFactoryBuilder(), params);
+    }
+
+    private static Type type(String name) {
+        switch (name) {
+            case "String": return String.class;
+            case "Integer": return Integer.class;
+            case "Date": return Date.class;
+            case "LocalDate": return LocalDate.class;
+            case "UUID": return UUID.class;
+            case "BigDecimal": return BigDecimal.class;
+            default: return Object.class;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.simpleflatmapper.e2e;
+
+public abstract class Animal {
+    private long id;
+    private String name;
+    private int legs;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getLegs() {
+        return legs;
+    }
+
+    public void setLegs(int legs) {
+        this.legs = legs;
+    }
+}
@@ -0,0 +1,76 @@
+package org.simpleflatmapper.e2e;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+
+import java.io.IOException;
+
+/**
+ * CsvMapper from an in memory csv: plain mapping, join, unordered join and discriminator.
+ */
+@State(Scope.Benchmark)
+public class CsvMapperE2EBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"8", "64"})
+    public int width;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    private String persons;
+    private String customers;
+    private String unsortedCustomers;
+    private String animals;
+
+    private CsvMapper<Person> personMapper;
+    private CsvMapper<Customer> customerMapper;
+    private CsvMapper<Customer> unorderedCustomerMapper;
+    private CsvMapper<Animal> animalMapper;
+
+    @Setup
+    public void setUp() {
+        persons = E2EData.csv(E2EData.PERSON_COLUMNS, E2EData.persons(rows, width));
+        customers = E2EData.csv(E2EData.CUSTOMER_COLUMNS, E2EData.customers(rows, width, true));
+        unsortedCustomers = E2EData.csv(E2EData.CUSTOMER_COLUMNS, E2EData.customers(rows, width, false));
+        animals = E2EData.csv(E2EData.ANIMAL_COLUMNS, E2EData.animals(rows, width));
+
+        personMapper = CsvMapperFactory.newInstance().useAsm(asm).newMapper(Person.class);
+        customerMapper = CsvMapperFactory.newInstance().useAsm(asm).addKeys("id", "orders_id").newMapper(Customer.class);
+        unorderedCustomerMapper = CsvMapperFactory.newInstance().useAsm(asm).unorderedJoin().addKeys("id", "orders_id").newMapper(Customer.class);
+        animalMapper = CsvMapperFactory.newInstance().useAsm(asm)
+                .discriminator(Animal.class)
+                .onColumn("type", String.class)
+                .with(b -> b.when("cat", Cat.class).when("dog", Dog.class).when("bird", Bird.class))
+                .newMapper(Animal.class);
+    }
+
+    @Benchmark
+    public void mapPersons(Blackhole blackhole) throws IOException {
+        CsvParser.mapWith(personMapper).forEach(persons, JdbcMapperE2EBenchmark.<Person>consumer(blackhole));
+    }
+
+    @Benchmark
+    public void joinCustomers(Blackhole blackhole) throws IOException {
+        CsvParser.mapWith(customerMapper).forEach(customers, JdbcMapperE2EBenchmark.<Customer>consumer(blackhole));
+    }
+
+    @Benchmark
+    public void unorderedJoinCustomers(Blackhole blackhole) throws IOException {
+        CsvParser.mapWith(unorderedCustomerMapper).forEach(unsortedCustomers, JdbcMapperE2EBenchmark.<Customer>consumer(blackhole));
+    }
+
+    @Benchmark
+    public void discriminatorAnimals(Blackhole blackhole) throws IOException {
+        CsvParser.mapWith(animalMapper).forEach(animals, JdbcMapperE2EBenchmark.<Animal>consumer(blackhole));
+    }
+}
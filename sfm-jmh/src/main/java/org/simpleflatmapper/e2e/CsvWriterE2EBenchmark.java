@@ -0,0 +1,49 @@
+package org.simpleflatmapper.e2e;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.simpleflatmapper.csv.CsvWriter;
+import org.simpleflatmapper.reflect.ReflectionService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * CsvWriter export of beans to an in memory Appendable.
+ */
+@State(Scope.Benchmark)
+public class CsvWriterE2EBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"8", "64"})
+    public int width;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    private List<Person> persons;
+    private CsvWriter.CsvWriterDSL<Person> writerDsl;
+    private StringBuilder out;
+
+    @Setup
+    public void setUp() {
+        persons = E2EData.personList(rows, width);
+        writerDsl = CsvWriter.from(Person.class).classMeta(ReflectionService.newInstance(asm).<Person>getClassMeta(Person.class));
+        out = new StringBuilder(rows * (3 * width + 32));
+    }
+
+    @Benchmark
+    public StringBuilder writePersons() throws IOException {
+        out.setLength(0);
+        CsvWriter<Person> writer = writerDsl.to(out);
+        for (Person person : persons) {
+            writer.append(person);
+        }
+        return out;
+    }
+}
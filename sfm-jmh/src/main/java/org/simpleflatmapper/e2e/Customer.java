@@ -0,0 +1,34 @@
+package org.simpleflatmapper.e2e;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Customer {
+    private long id;
+    private String name;
+    private List<Order> orders = new ArrayList<Order>();
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<Order> orders) {
+        this.orders = orders;
+    }
+}
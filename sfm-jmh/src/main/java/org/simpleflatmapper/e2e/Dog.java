@@ -0,0 +1,4 @@
+package org.simpleflatmapper.e2e;
+
+public class Dog extends Animal {
+}
@@ -0,0 +1,23 @@
+package org.simpleflatmapper.e2e;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the end to end benchmarks with the gc profiler to report the allocation rate per operation.
+ * Extra arguments are not supported, use org.openjdk.jmh.Main with -prof gc to filter the benchmarks.
+ */
+public class E2EBenchmarks {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(E2EBenchmarks.class.getPackage().getName() + ".")
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,105 @@
+package org.simpleflatmapper.e2e;
+
+import org.simpleflatmapper.jdbc.impl.ObjectArrayResultSet;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data sets shared by the end to end benchmarks, width is the number of chars of the text cells.
+ */
+public class E2EData {
+
+    public static final String[] PERSON_COLUMNS = { "id", "name", "email", "age", "score" };
+    public static final int[] PERSON_TYPES = { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.DOUBLE };
+
+    public static final String[] CUSTOMER_COLUMNS = { "id", "name", "orders_id", "orders_product", "orders_amount" };
+    public static final int[] CUSTOMER_TYPES = { Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.VARCHAR, Types.DOUBLE };
+    public static final int ORDERS_PER_CUSTOMER = 4;
+
+    public static final String[] ANIMAL_COLUMNS = { "id", "type", "name", "legs" };
+    public static final int[] ANIMAL_TYPES = { Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER };
+    private static final String[] ANIMAL_TYPE_VALUES = { "cat", "dog", "bird" };
+
+    public static String text(String prefix, long id, int width) {
+        StringBuilder sb = new StringBuilder(width);
+        sb.append(prefix).append(id);
+        int i = 0;
+        while (sb.length() < width) {
+            sb.append((char) ('a' + (i++ % 26)));
+        }
+        sb.setLength(width);
+        return sb.toString();
+    }
+
+    public static Object[][] persons(int rows, int width) {
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[] { (long) i, text("name", i, width), text("email", i, width), 20 + i % 50, i * 1.5 };
+        }
+        return data;
+    }
+
+    public static List<Person> personList(int rows, int width) {
+        List<Person> persons = new ArrayList<Person>(rows);
+        for (Object[] row : persons(rows, width)) {
+            Person person = new Person();
+            person.setId((Long) row[0]);
+            person.setName((String) row[1]);
+            person.setEmail((String) row[2]);
+            person.setAge((Integer) row[3]);
+            person.setScore((Double) row[4]);
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * @param sorted if false the orders of a customer are not on consecutive rows, for the unordered join
+     */
+    public static Object[][] customers(int rows, int width, boolean sorted) {
+        int nbCustomers = Math.max(1, rows / ORDERS_PER_CUSTOMER);
+        Object[][] data = new Object[nbCustomers * ORDERS_PER_CUSTOMER][];
+        int r = 0;
+        for (int i = 0; i < nbCustomers * ORDERS_PER_CUSTOMER; i++) {
+            int customer = sorted ? i / ORDERS_PER_CUSTOMER : i % nbCustomers;
+            int order = sorted ? i % ORDERS_PER_CUSTOMER : i / nbCustomers;
+            long orderId = (long) customer * ORDERS_PER_CUSTOMER + order;
+            data[r++] = new Object[] { (long) customer, text("customer", customer, width), orderId, text("product", orderId, width), orderId * 2.5 };
+        }
+        return data;
+    }
+
+    public static Object[][] animals(int rows, int width) {
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            String type = ANIMAL_TYPE_VALUES[i % ANIMAL_TYPE_VALUES.length];
+            data[i] = new Object[] { (long) i, type, text(type, i, width), type.equals("bird") ? 2 : 4 };
+        }
+        return data;
+    }
+
+    public static ObjectArrayResultSet resultSet(String[] columns, int[] types, Object[][] rows) {
+        return new ObjectArrayResultSet(columns, types, rows);
+    }
+
+    public static String csv(String[] columns, Object[][] rows) {
+        StringBuilder sb = new StringBuilder();
+        appendCsvRow(sb, columns);
+        for (Object[] row : rows) {
+            appendCsvRow(sb, row);
+        }
+        return sb.toString();
+    }
+
+    private static void appendCsvRow(StringBuilder sb, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(row[i]);
+        }
+        sb.append('\n');
+    }
+}
@@ -0,0 +1,85 @@
+package org.simpleflatmapper.e2e;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.impl.ObjectArrayResultSet;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.sql.SQLException;
+
+/**
+ * JdbcMapper over an ObjectArrayResultSet: plain mapping, join, unordered join and discriminator.
+ */
+@State(Scope.Benchmark)
+public class JdbcMapperE2EBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"8", "64"})
+    public int width;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    private ObjectArrayResultSet persons;
+    private ObjectArrayResultSet customers;
+    private ObjectArrayResultSet unsortedCustomers;
+    private ObjectArrayResultSet animals;
+
+    private JdbcMapper<Person> personMapper;
+    private JdbcMapper<Customer> customerMapper;
+    private JdbcMapper<Customer> unorderedCustomerMapper;
+    private JdbcMapper<Animal> animalMapper;
+
+    @Setup
+    public void setUp() {
+        persons = E2EData.resultSet(E2EData.PERSON_COLUMNS, E2EData.PERSON_TYPES, E2EData.persons(rows, width));
+        customers = E2EData.resultSet(E2EData.CUSTOMER_COLUMNS, E2EData.CUSTOMER_TYPES, E2EData.customers(rows, width, true));
+        unsortedCustomers = E2EData.resultSet(E2EData.CUSTOMER_COLUMNS, E2EData.CUSTOMER_TYPES, E2EData.customers(rows, width, false));
+        animals = E2EData.resultSet(E2EData.ANIMAL_COLUMNS, E2EData.ANIMAL_TYPES, E2EData.animals(rows, width));
+
+        personMapper = JdbcMapperFactory.newInstance().useAsm(asm).newMapper(Person.class);
+        customerMapper = JdbcMapperFactory.newInstance().useAsm(asm).addKeys("id", "orders_id").newMapper(Customer.class);
+        unorderedCustomerMapper = JdbcMapperFactory.newInstance().useAsm(asm).unorderedJoin().addKeys("id", "orders_id").newMapper(Customer.class);
+        animalMapper = JdbcMapperFactory.newInstance().useAsm(asm)
+                .discriminator(Animal.class)
+                .onColumn("type", String.class)
+                .with(b -> b.when("cat", Cat.class).when("dog", Dog.class).when("bird", Bird.class))
+                .newMapper(Animal.class);
+    }
+
+    @Benchmark
+    public void mapPersons(Blackhole blackhole) throws SQLException {
+        persons.beforeFirst();
+        personMapper.forEach(persons, consumer(blackhole));
+    }
+
+    @Benchmark
+    public void joinCustomers(Blackhole blackhole) throws SQLException {
+        customers.beforeFirst();
+        customerMapper.forEach(customers, consumer(blackhole));
+    }
+
+    @Benchmark
+    public void unorderedJoinCustomers(Blackhole blackhole) throws SQLException {
+        unsortedCustomers.beforeFirst();
+        unorderedCustomerMapper.forEach(unsortedCustomers, consumer(blackhole));
+    }
+
+    @Benchmark
+    public void discriminatorAnimals(Blackhole blackhole) throws SQLException {
+        animals.beforeFirst();
+        animalMapper.forEach(animals, consumer(blackhole));
+    }
+
+    static <T> CheckedConsumer<T> consumer(Blackhole blackhole) {
+        return blackhole::consume;
+    }
+}
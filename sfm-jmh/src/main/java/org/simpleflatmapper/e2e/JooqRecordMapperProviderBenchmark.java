@@ -0,0 +1,68 @@
+package org.simpleflatmapper.e2e;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.simpleflatmapper.jooq.JooqMapperFactory;
+
+import java.util.List;
+
+/**
+ * Small jOOQ Result.into where the RecordMapperProvider lookup dominates,
+ * sfm with and without the RecordType identity cache against the jOOQ DefaultRecordMapper.
+ */
+@State(Scope.Benchmark)
+public class JooqRecordMapperProviderBenchmark {
+
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+    private static final Field<String> EMAIL = DSL.field(DSL.name("email"), String.class);
+    private static final Field<Integer> AGE = DSL.field(DSL.name("age"), Integer.class);
+    private static final Field<Double> SCORE = DSL.field(DSL.name("score"), Double.class);
+
+    @Param({"sfm", "sfmNoIdentityCache", "jooq"})
+    public String provider;
+
+    @Param({"1", "10"})
+    public int rows;
+
+    private Result<Record> result;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new DefaultConfiguration().set(SQLDialect.H2);
+        if ("sfm".equals(provider)) {
+            configuration.set(JooqMapperFactory.newInstance().newRecordMapperProvider());
+        } else if ("sfmNoIdentityCache".equals(provider)) {
+            configuration.set(JooqMapperFactory.newInstance().newRecordMapperProvider(0));
+        }
+        DSLContext ctx = DSL.using(configuration);
+
+        Field<?>[] fields = { ID, NAME, EMAIL, AGE, SCORE };
+        result = ctx.newResult(fields);
+        for (Object[] row : E2EData.persons(rows, 8)) {
+            Record record = ctx.newRecord(fields);
+            record.set(ID, (Long) row[0]);
+            record.set(NAME, (String) row[1]);
+            record.set(EMAIL, (String) row[2]);
+            record.set(AGE, (Integer) row[3]);
+            record.set(SCORE, (Double) row[4]);
+            result.add(record);
+        }
+    }
+
+    @Benchmark
+    public List<Person> mapPersons() {
+        return result.into(Person.class);
+    }
+}
@@ -0,0 +1,59 @@
+package org.simpleflatmapper.e2e;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.poi.SheetMapper;
+import org.simpleflatmapper.poi.SheetMapperFactory;
+
+/**
+ * SheetMapper over an in memory workbook with a header row.
+ */
+@State(Scope.Benchmark)
+public class PoiE2EBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"8", "64"})
+    public int width;
+
+    @Param({"true", "false"})
+    public boolean asm;
+
+    private Sheet sheet;
+    private SheetMapper<Person> mapper;
+
+    @Setup
+    public void setUp() {
+        sheet = new HSSFWorkbook().createSheet();
+
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < E2EData.PERSON_COLUMNS.length; i++) {
+            header.createCell(i).setCellValue(E2EData.PERSON_COLUMNS[i]);
+        }
+
+        int r = 1;
+        for (Object[] values : E2EData.persons(rows, width)) {
+            Row row = sheet.createRow(r++);
+            row.createCell(0).setCellValue((Long) values[0]);
+            row.createCell(1).setCellValue((String) values[1]);
+            row.createCell(2).setCellValue((String) values[2]);
+            row.createCell(3).setCellValue((Integer) values[3]);
+            row.createCell(4).setCellValue((Double) values[4]);
+        }
+
+        mapper = SheetMapperFactory.newInstance().useAsm(asm).newMapper(Person.class);
+    }
+
+    @Benchmark
+    public void mapPersons(Blackhole blackhole) {
+        mapper.forEach(sheet, JdbcMapperE2EBenchmark.<Person>consumer(blackhole));
+    }
+}
@@ -0,0 +1,69 @@
+package org.simpleflatmapper.e2e;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.csv.CsvMapper;
+import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.map.MapperConfig;
+
+import java.io.IOException;
+
+/**
+ * CsvMapper on a wide target, one int[] element per column.
+ * split is the asm mapper with its field mapper calls split in methods of maxMethodSize calls,
+ * single puts all the calls in one method as before, interpreted is the MapperImpl loop.
+ */
+@State(Scope.Benchmark)
+public class WideMapperBenchmark {
+
+    @Param({"50", "200", "500"})
+    public int width;
+
+    @Param({"split", "single", "interpreted"})
+    public String mode;
+
+    @Param({"1000"})
+    public int rows;
+
+    private String csv;
+
+    private CsvMapper<int[]> mapper;
+
+    @Setup
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < width; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(i);
+        }
+        sb.append('\n');
+        for (int r = 0; r < rows; r++) {
+            for (int i = 0; i < width; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(r + i);
+            }
+            sb.append('\n');
+        }
+        csv = sb.toString();
+
+        CsvMapperFactory mapperFactory = CsvMapperFactory.newInstance();
+        if ("split".equals(mode)) {
+            mapperFactory.failOnAsm(true).maxMethodSize(MapperConfig.MAX_METHOD_SIZE);
+        } else if ("single".equals(mode)) {
+            mapperFactory.failOnAsm(true).maxMethodSize(1 << 30);
+        } else {
+            mapperFactory.useAsm(false);
+        }
+        mapper = mapperFactory.newMapper(int[].class);
+    }
+
+    @Benchmark
+    public void mapRows(Blackhole blackhole) throws IOException {
+        CsvParser.mapWith(mapper).forEach(csv, JdbcMapperE2EBenchmark.<int[]>consumer(blackhole));
+    }
+}
@@ -1,6 +1,7 @@
 package org.simpleflatmapper.map;
 
 import org.simpleflatmapper.jdbc.JdbcColumnKey;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.map.mapper.MapperKeyComparator;
 import org.simpleflatmapper.jdbc.impl.JdbcColumnKeyMapperKeyComparator;
 
@@ -43,6 +44,18 @@ public enum CacheType {
             return new CHMMapperCache<>();
         }
     },
+    UNBOUNDED {
+        @Override
+        IMapperCache<JdbcColumnKey, Object> newCache() {
+            return new StrategyMapperCache<>(MapperCacheStrategy.unbounded().<JdbcColumnKey, Object>newCache(COMPARATOR, null));
+        }
+    },
+    BOUNDED {
+        @Override
+        IMapperCache<JdbcColumnKey, Object> newCache() {
+            return new StrategyMapperCache<>(MapperCacheStrategy.bounded(BOUNDED_MAX_SIZE).<JdbcColumnKey, Object>newCache(COMPARATOR, null));
+        }
+    },
 
     ;
 
@@ -52,4 +65,7 @@ public enum CacheType {
 
     private static final MapperKeyComparator<JdbcColumnKey> COMPARATOR = JdbcColumnKeyMapperKeyComparator.INSTANCE;
 
+    // smaller than the biggest size param to measure the misses on evicted keys
+    private static final int BOUNDED_MAX_SIZE = 1024;
+
 }
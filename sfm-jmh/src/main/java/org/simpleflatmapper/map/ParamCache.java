@@ -14,7 +14,7 @@ import java.util.List;
 @State(Scope.Benchmark)
 public class ParamCache {
 
-    @Param(value = {"ARRAY", "SARRAY", "T2ARRAY",  "S2ARRAY", "TS2ARRAY", "CHM"})
+    @Param(value = {"ARRAY", "SARRAY", "T2ARRAY",  "S2ARRAY", "TS2ARRAY", "CHM", "UNBOUNDED", "BOUNDED"})
     public CacheType cacheType;
 
     IMapperCache<JdbcColumnKey, Object> mapperCache;
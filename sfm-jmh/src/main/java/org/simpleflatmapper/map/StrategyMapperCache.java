@@ -0,0 +1,32 @@
+package org.simpleflatmapper.map;
+
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
+import org.simpleflatmapper.map.mapper.MapperKey;
+
+public final class StrategyMapperCache<K extends FieldKey<K>, M> implements IMapperCache<K, M> {
+
+	private final MapperCacheStrategy.Cache<K, M> cache;
+
+	public StrategyMapperCache(MapperCacheStrategy.Cache<K, M> cache) {
+		this.cache = cache;
+	}
+
+	public void add(final MapperKey<K> key, final M mapper) {
+		cache.add(key, mapper);
+	}
+
+	public M get(MapperKey<K> key) {
+		return cache.get(key);
+	}
+
+	@Override
+	public int size() {
+		return cache.size();
+	}
+
+	@Override
+    public String toString() {
+        return "StrategyMapperCache{" + cache +
+                '}';
+    }
+}
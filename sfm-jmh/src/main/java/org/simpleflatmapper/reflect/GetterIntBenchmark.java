@@ -30,6 +30,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.reflect.asm.AsmFactoryProvider;
+import org.simpleflatmapper.reflect.lambda.MethodHandleAccessorFactory;
 import org.simpleflatmapper.reflect.primitive.IntGetter;
 
 import java.lang.invoke.MethodHandle;
@@ -102,6 +103,8 @@ public class GetterIntBenchmark {
     private static final IntGetter<IntBean> METHOD_GETTER;
     private static final IntGetter<IntBean> FIELD_GETTER;
     private static final IntGetter<IntBean> ASM_GETTER;
+    private static final IntGetter<IntBean> LAMBDA_GETTER;
+    private static final IntGetter<IntBean> LAMBDA_FIELD_GETTER;
     private static final GetterThrowable<IntBean> MH_GETTER;
     private static final GetterThrowable<IntBean> MHE_GETTER;
     private static final GetterThrowable<IntBean> MHF_GETTER;
@@ -118,6 +121,9 @@ public class GetterIntBenchmark {
                     return asmFactory;
                 }
             }).getMethodGetter(getValue));
+            final ObjectGetterFactory lambdaGetterFactory = new ObjectGetterFactory(null, new MethodHandleAccessorFactory());
+            LAMBDA_GETTER = ObjectGetterFactory.toIntGetter(lambdaGetterFactory.getMethodGetter(getValue));
+            LAMBDA_FIELD_GETTER = ObjectGetterFactory.toIntGetter(lambdaGetterFactory.getFieldGetter(value));
             MH_GETTER = new MethodHandlerGetter(MethodHandles.lookup().unreflect(getValue));
             MHE_GETTER = new MethodHandlerExactGetter(MethodHandles.lookup().unreflect(getValue));
             MHF_GETTER = new MethodHandlerGetter(MethodHandles.lookup().unreflectGetter(value));
@@ -141,6 +147,14 @@ public class GetterIntBenchmark {
         return MHF_GETTER.get(intBean);
     }
     @Benchmark
+    public int testLambda() throws Throwable {
+        return LAMBDA_GETTER.getInt(intBean);
+    }
+    @Benchmark
+    public int testLambdaField() throws Throwable {
+        return LAMBDA_FIELD_GETTER.getInt(intBean);
+    }
+    @Benchmark
     public int testMethod() throws Throwable {
         return METHOD_GETTER.getInt(intBean);
     }
@@ -30,6 +30,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.reflect.asm.AsmFactoryProvider;
+import org.simpleflatmapper.reflect.lambda.MethodHandleAccessorFactory;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -102,6 +103,8 @@ public class GetterStringBenchmark {
     private static final Getter<StringBean, String> METHOD_GETTER;
     private static final Getter<StringBean, String> FIELD_GETTER;
     private static final Getter<StringBean, String> ASM_GETTER;
+    private static final Getter<StringBean, String> LAMBDA_GETTER;
+    private static final Getter<StringBean, String> LAMBDA_FIELD_GETTER;
     private static final GetterThrowable<StringBean, String> MH_GETTER;
     private static final GetterThrowable<StringBean, String> MHE_GETTER;
     private static final GetterThrowable<StringBean, String> MHF_GETTER;
@@ -118,6 +121,9 @@ public class GetterStringBenchmark {
                     return asmFactory;
                 }
             }).getMethodGetter(getValue);
+            final ObjectGetterFactory lambdaGetterFactory = new ObjectGetterFactory(null, new MethodHandleAccessorFactory());
+            LAMBDA_GETTER = lambdaGetterFactory.getMethodGetter(getValue);
+            LAMBDA_FIELD_GETTER = lambdaGetterFactory.getFieldGetter(value);
             MH_GETTER = new MethodHandlerGetter(MethodHandles.lookup().unreflect(getValue));
             MHE_GETTER = new MethodHandlerExactGetter(MethodHandles.lookup().unreflect(getValue));
             MHF_GETTER = new MethodHandlerGetter(MethodHandles.lookup().unreflectGetter(value));
@@ -141,6 +147,14 @@ public class GetterStringBenchmark {
         return MHF_GETTER.get(stringBean);
     }
     @Benchmark
+    public String testLambda() throws Throwable {
+        return LAMBDA_GETTER.get(stringBean);
+    }
+    @Benchmark
+    public String testLambdaField() throws Throwable {
+        return LAMBDA_FIELD_GETTER.get(stringBean);
+    }
+    @Benchmark
     public String testMethod() throws Throwable {
         return METHOD_GETTER.get(stringBean);
     }
@@ -42,12 +42,20 @@ public class JooqMapperFactory
 
 
     public SfmRecordMapperProvider newRecordMapperProvider() {
+        return newRecordMapperProvider(SfmRecordMapperProvider.DEFAULT_IDENTITY_CACHE_SIZE);
+    }
+
+    /**
+     * @param identityCacheSize the number of RecordType instances the provider remembers the mapper of, 0 to always look up by column names
+     * @return the provider
+     */
+    public SfmRecordMapperProvider newRecordMapperProvider(int identityCacheSize) {
         return new SfmRecordMapperProvider(new Function<Type, MapperConfig<JooqFieldKey, Record>>() {
             @Override
             public MapperConfig<JooqFieldKey, Record> apply(Type type) {
                 return mapperConfig(type);
             }
-        }, getReflectionService());
+        }, getReflectionService(), identityCacheSize);
     }
 
     //IFJAVA8_START
@@ -10,9 +10,12 @@ import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.reflect.ReflectionService;
 import org.simpleflatmapper.util.Function;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Type;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Integration point with jooq.<p>
@@ -20,10 +23,18 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class SfmRecordMapperProvider implements RecordMapperProvider {
 
+	public static final int DEFAULT_IDENTITY_CACHE_SIZE = 64;
+
 	private final ConcurrentMap<TargetColumnsMapperKey, MapperAndContext> mapperCache = new ConcurrentHashMap<TargetColumnsMapperKey, MapperAndContext>();
 	private final Function<Type, MapperConfig<JooqFieldKey, org.jooq.Record>> mapperConfigFactory;
 	private final ReflectionService reflectionService;
 
+	// RecordType instance and target type to wrapper, a new entry replaces the one in its slot
+	private final AtomicReferenceArray<IdentityEntry> identityCache;
+	private final int identityCacheMask;
+	private final AtomicLong identityCacheHits = new AtomicLong();
+	private final AtomicLong identityCacheMisses = new AtomicLong();
+
 	@Deprecated
 	/**
 	 * please use SfmRecorMapperProviderFactory.
@@ -43,12 +54,71 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 	 */
 	public SfmRecordMapperProvider(
 			Function<Type, MapperConfig<JooqFieldKey, org.jooq.Record>> mapperConfigFactory, ReflectionService reflectionService) {
+		this(mapperConfigFactory, reflectionService, DEFAULT_IDENTITY_CACHE_SIZE);
+	}
+
+	/**
+	 * @param identityCacheSize the number of slots of the cache on the RecordType instance, rounded up to a power of two, 0 to disable it
+	 */
+	public SfmRecordMapperProvider(
+			Function<Type, MapperConfig<JooqFieldKey, org.jooq.Record>> mapperConfigFactory, ReflectionService reflectionService, int identityCacheSize) {
 		this.mapperConfigFactory = mapperConfigFactory;
 		this.reflectionService = reflectionService;
+		if (identityCacheSize < 0) {
+			throw new IllegalArgumentException("Invalid identity cache size " + identityCacheSize);
+		}
+		int size = 0;
+		if (identityCacheSize > 0) {
+			size = 1;
+			while (size < identityCacheSize) {
+				size <<= 1;
+			}
+		}
+		this.identityCache = new AtomicReferenceArray<IdentityEntry>(size);
+		this.identityCacheMask = size - 1;
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public <R extends org.jooq.Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+		if (identityCacheMask < 0) {
+			return newRecordMapper(recordType, type);
+		}
+
+		// jooq reuses the RecordType of a table or of a prepared query, skip the field names key on those
+		int slot = identitySlot(recordType, type);
+		IdentityEntry entry = identityCache.get(slot);
+		if (entry != null && entry.type == type && entry.recordType.get() == recordType) {
+			identityCacheHits.incrementAndGet();
+			return (RecordMapper<R, E>) entry.recordMapper;
+		}
+
+		identityCacheMisses.incrementAndGet();
+		JooqRecordMapperWrapper<R, E> recordMapper = newRecordMapper(recordType, type);
+		identityCache.set(slot, new IdentityEntry(recordType, type, recordMapper));
+		return recordMapper;
+	}
+
+	private int identitySlot(RecordType<?> recordType, Class<?> type) {
+		int h = System.identityHashCode(recordType) * 31 + System.identityHashCode(type);
+		return (h ^ (h >>> 16)) & identityCacheMask;
+	}
+
+	/**
+	 * @return the number of provide calls answered from the RecordType identity cache
+	 */
+	public long getIdentityCacheHits() {
+		return identityCacheHits.get();
+	}
+
+	/**
+	 * @return the number of provide calls not found in the RecordType identity cache, they go through the column names lookup
+	 */
+	public long getIdentityCacheMisses() {
+		return identityCacheMisses.get();
+	}
+
+	private <R extends org.jooq.Record, E> JooqRecordMapperWrapper<R, E> newRecordMapper(RecordType<R> recordType, Class<? extends E> type) {
 
 		SourceMapper<org.jooq.Record, E> mapper;
 		MappingContextFactory<? super org.jooq.Record> mappingContextFactory;
@@ -96,6 +166,19 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 		return new TargetColumnsMapperKey(type, columns);
 	}
 
+	private static class IdentityEntry {
+		// weak so the cache does not keep the fields of a query alive
+		private final WeakReference<RecordType<?>> recordType;
+		private final Class<?> type;
+		private final RecordMapper<?, ?> recordMapper;
+
+		private IdentityEntry(RecordType<?> recordType, Class<?> type, RecordMapper<?, ?> recordMapper) {
+			this.recordType = new WeakReference<RecordType<?>>(recordType);
+			this.type = type;
+			this.recordMapper = recordMapper;
+		}
+	}
+
 	private class MapperAndContext {
 		private final SourceMapper<org.jooq.Record, ?> mapper;
 		private final MappingContextFactory<? super org.jooq.Record> mappingContextFactory;
@@ -3,15 +3,18 @@ package org.simpleflatmapper.jooq.test;
 import org.jooq.DSLContext;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.SQLDialect;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultConfiguration;
 import org.junit.Test;
+import org.simpleflatmapper.jooq.JooqMapperFactory;
 import org.simpleflatmapper.jooq.JooqRecordMapperWrapper;
 import org.simpleflatmapper.jooq.SfmRecordMapperProvider;
 import org.simpleflatmapper.jooq.SfmRecordMapperProviderFactory;
 import org.simpleflatmapper.test.beans.DbExtendedType;
+import org.simpleflatmapper.test.beans.DbFinalObject;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.test.jdbc.DbHelper;
 
@@ -44,6 +47,53 @@ public class JooqMapperTest {
 		assertSame(provider1.getMapper(), provider2.getMapper());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testIdentityCacheReusesRecordMapper() {
+
+		SfmRecordMapperProvider recordMapperProvider = JooqMapperFactory.newInstance().newRecordMapperProvider();
+		Field field1 = mock(Field.class);
+		when(field1.getName()).thenReturn("id");
+		when(field1.getType()).thenReturn(long.class);
+		RecordType rt = mock(RecordType.class);
+		when(rt.size()).thenReturn(1);
+		when(rt.fields()).thenReturn(new Field[] {field1});
+		RecordType rt2 = mock(RecordType.class);
+		when(rt2.size()).thenReturn(1);
+		when(rt2.fields()).thenReturn(new Field[] {field1});
+
+		RecordMapper mapper1 = recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		RecordMapper mapper2 = recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		assertSame(mapper1, mapper2);
+		assertEquals(1, recordMapperProvider.getIdentityCacheHits());
+		assertEquals(1, recordMapperProvider.getIdentityCacheMisses());
+
+		// same columns, other instance, the sfm mapper is shared
+		JooqRecordMapperWrapper mapper3 = (JooqRecordMapperWrapper) recordMapperProvider.<Record, DbObject>provide(rt2, DbObject.class);
+		assertSame(((JooqRecordMapperWrapper) mapper1).getMapper(), mapper3.getMapper());
+		assertEquals(2, recordMapperProvider.getIdentityCacheMisses());
+
+		recordMapperProvider.<Record, DbFinalObject>provide(rt, DbFinalObject.class);
+		assertEquals(3, recordMapperProvider.getIdentityCacheMisses());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testIdentityCacheDisabled() {
+		SfmRecordMapperProvider recordMapperProvider = JooqMapperFactory.newInstance().newRecordMapperProvider(0);
+		Field field1 = mock(Field.class);
+		when(field1.getName()).thenReturn("id");
+		when(field1.getType()).thenReturn(long.class);
+		RecordType rt = mock(RecordType.class);
+		when(rt.size()).thenReturn(1);
+		when(rt.fields()).thenReturn(new Field[] {field1});
+
+		JooqRecordMapperWrapper mapper1 = (JooqRecordMapperWrapper) recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		JooqRecordMapperWrapper mapper2 = (JooqRecordMapperWrapper) recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		assertSame(mapper1.getMapper(), mapper2.getMapper());
+		assertEquals(0, recordMapperProvider.getIdentityCacheHits());
+	}
+
 	@Test
 	public void testIgnoreFields() throws Exception {
 		Connection conn = DbHelper.objectDb();
@@ -9,6 +9,7 @@ import org.simpleflatmapper.map.mapper.DefaultPropertyNameMatcherFactory;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.util.*;
 
+import java.io.File;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -19,6 +20,7 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
 public final class MapperConfig<K extends FieldKey<K>, S> {
     public static final int NO_ASM_MAPPER_THRESHOLD = 792; // see https://github.com/arnaudroger/SimpleFlatMapper/issues/152
     public static final int MAX_METHOD_SIZE = 128;
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
 
 
     public static <K extends FieldKey<K>, S> MapperConfig<K, S> fieldMapperConfig() {
@@ -30,7 +32,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
                 RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, 
-                false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false);
+                false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false, UNBOUNDED, null);
     }
 
     public static <K extends FieldKey<K>, S> MapperConfig<K, S> config(ColumnDefinitionProvider<K> columnDefinitionProvider) {
@@ -41,7 +43,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
-                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false);
+                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, K, ?>>emptyList(), null, false, UNBOUNDED, null);
     }
 
     private final ColumnDefinitionProvider<K> columnDefinitions;
@@ -57,6 +59,8 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
     private final Predicate<? super S> rowFilter;
     
     private final boolean unorderedJoin;
+    private final int unorderedJoinMaxInMemory;
+    private final File unorderedJoinSpillDirectory;
 
     private MapperConfig(
             ColumnDefinitionProvider<K> columnDefinitions,
@@ -67,7 +71,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
             FieldMapperErrorHandler<? super K> fieldMapperErrorHandler,
             ConsumerErrorHandler consumerErrorHandler,
             int maxMethodSize, boolean assumeInjectionModifiesValues,
-            List<Discriminator<S, K, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin) {
+            List<Discriminator<S, K, ?>> discriminators, Predicate<? super S> rowFilter, boolean unorderedJoin, int unorderedJoinMaxInMemory, File unorderedJoinSpillDirectory) {
         this.columnDefinitions = columnDefinitions;
         this.propertyNameMatcherFactory = propertyNameMatcherFactory;
         this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -80,6 +84,8 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
         this.discriminators = discriminators;
         this.rowFilter = rowFilter;
         this.unorderedJoin = unorderedJoin;
+        this.unorderedJoinMaxInMemory = unorderedJoinMaxInMemory;
+        this.unorderedJoinSpillDirectory = unorderedJoinSpillDirectory;
     }
 
     public ColumnDefinitionProvider<K> columnDefinitions() {
@@ -116,7 +122,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> propertyNameMatcherFactory(PropertyNameMatcherFactory propertyNameMatcherFactory) {
@@ -127,7 +133,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> mapperBuilderErrorHandler(MapperBuilderErrorHandler mapperBuilderErrorHandler) {
@@ -138,7 +144,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> failOnAsm(boolean failOnAsm) {
@@ -149,7 +155,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
 
@@ -162,7 +168,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> asmMapperNbFieldsLimit(int asmMapperNbFieldsLimit) {
@@ -173,7 +179,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> fieldMapperErrorHandler(FieldMapperErrorHandler<? super K> fieldMapperErrorHandler) {
@@ -184,7 +190,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> consumerErrorHandler(ConsumerErrorHandler consumerErrorHandler) {
@@ -196,7 +202,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public MapperConfig<K, S> rowFilter(Predicate<? super S> rowFilter) {
@@ -208,7 +214,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
     
     public MapperConfig<K, S> unorderedJoin(boolean unorderedJoin) {
@@ -220,13 +226,58 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
     
     public boolean unorderedJoin() {
         return unorderedJoin;
     }
 
+    /**
+     * bound the number of root objects an unordered join keeps in memory,
+     * the rows of the other root objects are spilled to temporary files and joined afterward.
+     * @param unorderedJoinMaxInMemory the max number of root objects in memory
+     * @return the new config
+     */
+    public MapperConfig<K, S> unorderedJoinMaxInMemory(int unorderedJoinMaxInMemory) {
+        if (unorderedJoinMaxInMemory <= 0) throw new IllegalArgumentException("unorderedJoinMaxInMemory must be positive, was " + unorderedJoinMaxInMemory);
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
+    }
+
+    public int unorderedJoinMaxInMemory() {
+        return unorderedJoinMaxInMemory;
+    }
+
+    /**
+     * set the directory the unordered join spill files are created in.
+     * @param unorderedJoinSpillDirectory the directory, null for the default temporary-file directory
+     * @return the new config
+     * @see #unorderedJoinMaxInMemory(int)
+     */
+    public MapperConfig<K, S> unorderedJoinSpillDirectory(File unorderedJoinSpillDirectory) {
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
+    }
+
+    public File unorderedJoinSpillDirectory() {
+        return unorderedJoinSpillDirectory;
+    }
+
     public ConsumerErrorHandler consumerErrorHandler() {
         return consumerErrorHandler;
     }
@@ -262,7 +313,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
 
@@ -286,7 +337,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 assumeInjectionModifiesValues,
                 discriminators,
                 rowFilter,
-                unorderedJoin);
+                unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public <S, T> Discriminator<S, K, T>[] getDiscriminators(ClassMeta<T> classMeta) {
@@ -319,7 +370,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 maxMethodSize,
                 assumeInjectionModifiesValues,
                 discriminators, 
-                rowFilter, unorderedJoin);
+                rowFilter, unorderedJoin, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
     }
 
     public DiscriminatorCase<S, K, ?> getDiscriminatorCase(Type type) {
@@ -15,10 +15,13 @@ import org.simpleflatmapper.ow2asm.ClassWriter;
 import org.simpleflatmapper.ow2asm.FieldVisitor;
 import org.simpleflatmapper.ow2asm.MethodVisitor;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.AbstractMapper;
 import org.simpleflatmapper.reflect.BiInstantiator;
 import org.simpleflatmapper.reflect.asm.AsmUtils;
+import org.simpleflatmapper.reflect.asm.ShardingHelper;
+import org.simpleflatmapper.util.ErrorHelper;
 import org.simpleflatmapper.util.TypeHelper;
 
 import java.lang.reflect.Field;
@@ -65,6 +68,22 @@ public class MapperAsmBuilder {
             final FieldMapper<? super S, ? super T>[] _constructorMappers,
             final Class<? super S> sourceClass,
             final Class<T> target
+    ) throws Exception {
+        return dump(className, _mappers, _constructorMappers, sourceClass, target, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    /**
+     * the field mapper calls are split into private methods of at most maxMethodSize calls,
+     * so that a wide mapper does not end up in a method too big to be jit compiled.
+     * Every call still goes through a field of the field mapper's own type and stays monomorphic.
+     */
+    public static <S, T> byte[] dump(
+            final String className,
+            final FieldMapper<? super S, ? super T>[] _mappers,
+            final FieldMapper<? super S, ? super T>[] _constructorMappers,
+            final Class<? super S> sourceClass,
+            final Class<T> target,
+            final int maxMethodSize
     ) throws Exception {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         MethodVisitor mv;
@@ -125,17 +144,8 @@ public class MapperAsmBuilder {
             mv.visitEnd();
         }
 
-        {
-            mv = cw.visitMethod(ACC_PUBLIC + ACC_FINAL, "mapFields", "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[]{"java/lang/Exception"});
-            mv.visitCode();
-
-            for (int i = 0; i < mappers.length; i++) {
-                mappers[i].addMappingCall(mv, mapperClassType);
-            }
+        appendMappingMethods(cw, "mapFields", ACC_PUBLIC + ACC_FINAL, mappers, maxMethodSize, mapperClassType, sourceClass, targetType, false);
 
-            mv.visitInsn(RETURN);
-            mv.visitMaxs(3, 3);
-        }
         {
             mv = cw.visitMethod(ACC_PUBLIC + ACC_BRIDGE + ACC_SYNTHETIC, "mapFields", "(Ljava/lang/Object;Ljava/lang/Object;" + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[]{"java/lang/Exception"});
             mv.visitCode();
@@ -151,23 +161,8 @@ public class MapperAsmBuilder {
             mv.visitEnd();
         }
 
-        {
-            mv = cw.visitMethod(ACC_PROTECTED + ACC_FINAL, "mapToFields", "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[]{"java/lang/Exception"});
-            mv.visitCode();
+        appendMappingMethods(cw, "mapToFields", ACC_PROTECTED + ACC_FINAL, constructorMappers, maxMethodSize, mapperClassType, sourceClass, targetType, true);
 
-            for (int i = 0; i < constructorMappers.length; i++) {
-                constructorMappers[i].addMappingCall(mv, mapperClassType);
-            }
-
-            mv.visitVarInsn(ALOAD, 0);
-            mv.visitVarInsn(ALOAD, 1);
-            mv.visitVarInsn(ALOAD, 2);
-            mv.visitVarInsn(ALOAD, 3);
-            mv.visitMethodInsn(INVOKEVIRTUAL, mapperClassType, "mapFields", "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V", false);
-            mv.visitInsn(RETURN);
-            mv.visitMaxs(3, 3);
-            mv.visitEnd();
-        }
         {
             mv = cw.visitMethod(ACC_PROTECTED + ACC_BRIDGE + ACC_SYNTHETIC, "mapToFields", "(Ljava/lang/Object;Ljava/lang/Object;" + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[]{"java/lang/Exception"});
             mv.visitCode();
@@ -244,6 +239,73 @@ public class MapperAsmBuilder {
         return AsmUtils.writeClassToFile(className, cw.toByteArray());
     }
 
+    private static void appendMappingMethods(final ClassWriter cw,
+                                             final String methodName,
+                                             final int rootAccess,
+                                             final MapperBuilder[] mappers,
+                                             int maxMethodSize,
+                                             final String mapperClassType,
+                                             final Class<?> sourceClass,
+                                             final String targetType,
+                                             final boolean callMapFields) {
+        final String methodDesc = "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V";
+        // a size of 1 would never reduce the number of methods
+        final int maxSize = Math.max(2, maxMethodSize);
+
+        ShardingHelper.shard(mappers.length, maxSize, new ShardingHelper.ShardCallBack() {
+            @Override
+            public void leafDispatch(String suffix, int start, int end) {
+                MethodVisitor mv = visitMappingMethod(suffix);
+
+                try {
+                    for (int i = start; i < end; i++) {
+                        mappers[i].addMappingCall(mv, mapperClassType);
+                    }
+                } catch (NoSuchMethodException e) {
+                    ErrorHelper.rethrow(e);
+                }
+
+                endMappingMethod(mv, suffix);
+            }
+
+            @Override
+            public void nodeDispatch(String suffix, int divide, int start, int end) {
+                MethodVisitor mv = visitMappingMethod(suffix);
+
+                int subDivide = divide / maxSize;
+                for (int i = start; i < end; i += divide) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitVarInsn(ALOAD, 3);
+                    mv.visitMethodInsn(INVOKESPECIAL, mapperClassType, methodName + subDivide + "n" + i + "t" + Math.min(end, i + divide), methodDesc, false);
+                }
+
+                endMappingMethod(mv, suffix);
+            }
+
+            private MethodVisitor visitMappingMethod(String suffix) {
+                boolean root = suffix.length() == 0;
+                MethodVisitor mv = cw.visitMethod(root ? rootAccess : ACC_PRIVATE + ACC_FINAL, methodName + suffix, methodDesc, null, new String[]{"java/lang/Exception"});
+                mv.visitCode();
+                return mv;
+            }
+
+            private void endMappingMethod(MethodVisitor mv, String suffix) {
+                if (callMapFields && suffix.length() == 0) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitVarInsn(ALOAD, 3);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, mapperClassType, "mapFields", methodDesc, false);
+                }
+                mv.visitInsn(RETURN);
+                mv.visitMaxs(3, 3);
+                mv.visitEnd();
+            }
+        });
+    }
+
     private static <S, T> MapperBuilder newMapperBuilder(FieldMapper<? super S, ? super T> mapper, String fieldMapperPrefix, int i) throws NoSuchMethodException, NoSuchFieldException, IllegalAccessException {
         if (mapper == null) return EmptyMapperBuilder.INSTANCE;
         
@@ -2,6 +2,7 @@ package org.simpleflatmapper.map.asm;
 
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.AbstractMapper;
@@ -52,16 +53,30 @@ public class MapperAsmFactory {
                                                     final BiInstantiator<S, MappingContext<? super S>, T> instantiator,
                                                     final Class<? super S> source,
                                                     final Class<T> target) throws Exception {
+        return createMapper(keys, mappers, constructorMappers, instantiator, source, target, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    /**
+     * @param maxMethodSize the max number of field mapper calls in a generated method
+     */
+    @SuppressWarnings("unchecked")
+    public <S, T> AbstractMapper<S, T> createMapper(final FieldKey<?>[] keys,
+                                                    final FieldMapper<S, T>[] mappers,
+                                                    final FieldMapper<S, T>[] constructorMappers,
+                                                    final BiInstantiator<S, MappingContext<? super S>, T> instantiator,
+                                                    final Class<? super S> source,
+                                                    final Class<T> target,
+                                                    final int maxMethodSize) throws Exception {
         ClassLoader classLoader = target.getClassLoader();
 
-        MapperKey key = MapperKey.of(keys, mappers, constructorMappers, instantiator, target, source);
+        MapperKey key = MapperKey.of(keys, mappers, constructorMappers, instantiator, target, source, maxMethodSize);
 
         synchronized (fieldMapperCache) {
             Constructor<SourceMapper<S, T>> constructor = (Constructor<SourceMapper<S, T>>) fieldMapperCache.get(key);
             if (constructor == null) {
 
                 final String className = generateClassNameForFieldMapper(mappers, constructorMappers, source, target);
-                final byte[] bytes = MapperAsmBuilder.dump(className, mappers, constructorMappers, source, target);
+                final byte[] bytes = MapperAsmBuilder.dump(className, mappers, constructorMappers, source, target, maxMethodSize);
 
                 Class<SourceMapper<S, T>> type = (Class<SourceMapper<S, T>>) asmFactory.createClass(className, bytes, classLoader);
                 constructor = (Constructor<SourceMapper<S, T>>) type.getDeclaredConstructors()[0];
@@ -2,6 +2,7 @@ package org.simpleflatmapper.map.asm;
 
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.reflect.BiInstantiator;
 import org.simpleflatmapper.reflect.Instantiator;
@@ -20,6 +21,7 @@ public class MapperKey<K extends  FieldKey<K>> {
     private final Class<?> instantiator;
     private final Class<?> target;
     private final Class<?> source;
+    private final int maxMethodSize;
 
 
     public MapperKey(K[] keys,
@@ -27,6 +29,15 @@ public class MapperKey<K extends  FieldKey<K>> {
                      Class<?>[] constructorFieldMappers,
                      BiInstantiator<?, ?, ?> instantiator,
                      Class<?> target, Class<?> source) {
+        this(keys, fieldMappers, constructorFieldMappers, instantiator, target, source, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    public MapperKey(K[] keys,
+                     Class<?>[] fieldMappers,
+                     Class<?>[] constructorFieldMappers,
+                     BiInstantiator<?, ?, ?> instantiator,
+                     Class<?> target, Class<?> source, int maxMethodSize) {
+        this.maxMethodSize = maxMethodSize;
         this.keys = keys;
         this.source = source;
         this.fieldMappers = fieldMappers;
@@ -36,9 +47,13 @@ public class MapperKey<K extends  FieldKey<K>> {
     }
 
     public static <T, S> MapperKey of(FieldKey<?>[] keys, FieldMapper<S, T>[] mappers, FieldMapper<S, T>[] constructorMappers, BiInstantiator<S, MappingContext<? super S>, T> instantiator, Class<T> target, Class<? super S> source) {
+        return of(keys, mappers, constructorMappers, instantiator, target, source, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    public static <T, S> MapperKey of(FieldKey<?>[] keys, FieldMapper<S, T>[] mappers, FieldMapper<S, T>[] constructorMappers, BiInstantiator<S, MappingContext<? super S>, T> instantiator, Class<T> target, Class<? super S> source, int maxMethodSize) {
         Class<?>[] mappersClass = getClassArray(mappers);
         Class<?>[] constructorClass = getClassArray(constructorMappers);
-        return new MapperKey(keys, mappersClass, constructorClass, instantiator, target, source);
+        return new MapperKey(keys, mappersClass, constructorClass, instantiator, target, source, maxMethodSize);
     }
 
     private static Class<?>[] getClassArray(Object[] objects) {
@@ -86,6 +101,8 @@ public class MapperKey<K extends  FieldKey<K>> {
 
         MapperKey<?> mapperKey = (MapperKey<?>) o;
 
+        if (maxMethodSize != mapperKey.maxMethodSize) return false;
+
         // Probably incorrect - comparing Object[] arrays with Arrays.equals
         if (!Arrays.equals(keys, mapperKey.keys)) return false;
         // Probably incorrect - comparing Object[] arrays with Arrays.equals
@@ -106,6 +123,7 @@ public class MapperKey<K extends  FieldKey<K>> {
         result = 31 * result + instantiator.hashCode();
         result = 31 * result + target.hashCode();
         result = 31 * result + source.hashCode();
+        result = 31 * result + maxMethodSize;
         return result;
     }
 
@@ -118,6 +136,7 @@ public class MapperKey<K extends  FieldKey<K>> {
                 ", instantiator=" + instantiator +
                 ", target=" + target +
                 ", source=" + source +
+                ", maxMethodSize=" + maxMethodSize +
                 '}';
     }
 }
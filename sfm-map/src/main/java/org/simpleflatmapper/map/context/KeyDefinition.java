@@ -1,6 +1,7 @@
 package org.simpleflatmapper.map.context;
 
 import org.simpleflatmapper.map.context.impl.MultiValueKey;
+import org.simpleflatmapper.map.context.impl.MutableKey;
 import org.simpleflatmapper.map.context.impl.SingleValueKey;
 import org.simpleflatmapper.util.ErrorHelper;
 
@@ -88,6 +89,19 @@ public class KeyDefinition<S, K> {
         return new MultiValueKey(values);
     }
 
+    /**
+     * @return a new key that reads the values of the source in place, one per break detector
+     */
+    @SuppressWarnings("unchecked")
+    public MutableKey<S> newMutableKey() {
+        if (empty) throw new IllegalStateException("cannot get value on empty keys");
+        if (singleKeyAndPredicate != null) {
+            return new MutableKey<S>(new KeyAndPredicate[] { singleKeyAndPredicate }, keySourceGetter, true);
+        } else {
+            return new MutableKey<S>(keyAndPredicates, keySourceGetter, false);
+        }
+    }
+
     public int getIndex() {
         return index;
     }
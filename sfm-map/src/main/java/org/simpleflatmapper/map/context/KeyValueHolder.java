@@ -0,0 +1,42 @@
+package org.simpleflatmapper.map.context;
+
+/**
+ * Mutable holder of the value of a key column for the current row.
+ * <p>
+ * Used by the break detection to compare the key of the current row with the previous one in place,
+ * without allocating a {@link Key} on every row. An instance is not shared between mapping contexts.
+ *
+ * @param <S> the source type
+ */
+public abstract class KeyValueHolder<S> {
+
+    /**
+     * read the key value from the source.
+     * @param source the source
+     * @return true if the value differs from the one previously held
+     * @throws Exception if the source fails
+     */
+    public abstract boolean read(S source) throws Exception;
+
+    /**
+     * set the value to null, used when the key predicate does not match the source.
+     * @return true if the value previously held was not null
+     */
+    public abstract boolean readNull();
+
+    /**
+     * @return the value held, as returned by the {@link KeySourceGetter}
+     */
+    public abstract Object value();
+
+    /**
+     * @return the hashCode of {@link #value()} without boxing, 0 if null
+     */
+    public abstract int valueHashCode();
+
+    /**
+     * @param value the value of a stored key
+     * @return true if {@link #value()} would be equal to value
+     */
+    public abstract boolean valueEquals(Object value);
+}
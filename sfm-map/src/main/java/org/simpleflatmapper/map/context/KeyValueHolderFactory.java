@@ -0,0 +1,15 @@
+package org.simpleflatmapper.map.context;
+
+/**
+ * Implemented by a {@link KeySourceGetter} that can read some keys without boxing.
+ *
+ * @param <K> the key type
+ * @param <S> the source type
+ */
+public interface KeyValueHolderFactory<K, S> {
+    /**
+     * @param key the key
+     * @return a new holder for the key or null if the key should be read through {@link KeySourceGetter#getValue(Object, Object)}
+     */
+    KeyValueHolder<S> newKeyValueHolder(K key);
+}
@@ -3,13 +3,17 @@ package org.simpleflatmapper.map.context.impl;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.context.Key;
 import org.simpleflatmapper.map.context.KeyDefinition;
+import org.simpleflatmapper.util.ErrorHelper;
 
 
 public class BreakDetector<S>  {
 
     private final KeyDefinition<S, ?> definition;
     private final KeyObjectStore cache;
+    // key of the current row compared in place, the immutable currentKey is only created when needed
+    private final MutableKey<S> mutableKey;
 
+    private boolean hasCurrentKey;
     private Key currentKey;
 
 
@@ -17,8 +21,10 @@ public class BreakDetector<S>  {
         this.definition = emptyToNull(definition);
         if (this.definition == null) {
             cache = null;
+            mutableKey = null;
         } else {
             cache = new KeyObjectStore();
+            mutableKey = this.definition.newMutableKey();
         }
     }
 
@@ -34,10 +40,21 @@ public class BreakDetector<S>  {
             return true;
         }
 
-        Key oldKey = currentKey;
-        currentKey = definition.getValues(source);
+        boolean broke = readKey(source) || !hasCurrentKey;
+        hasCurrentKey = true;
+        return broke;
+    }
 
-        return oldKey == null || !oldKey.equals(currentKey);
+    private boolean readKey(S source) {
+        try {
+            boolean changed = mutableKey.read(source);
+            if (changed) {
+                currentKey = null;
+            }
+            return changed;
+        } catch (Exception e) {
+            return ErrorHelper.rethrow(e);
+        }
     }
     
     public Key getKey(S source) {
@@ -45,19 +62,35 @@ public class BreakDetector<S>  {
     }
     
     public Key getCurrentKey() {
+        if (!hasCurrentKey) {
+            return null;
+        }
+        if (currentKey == null) {
+            currentKey = mutableKey.toKey();
+        }
         return currentKey;
     }
 
+    /**
+     * @return the hashCode of the current key, same as getCurrentKey().hashCode() without creating the key
+     */
+    public int getCurrentKeyHashCode() {
+        if (!hasCurrentKey)
+            throw new IllegalStateException("Invalid state currentKey is null");
+        return mutableKey.hashCode();
+    }
+
     public void handleSource(S source) throws MappingException {
         if (definition == null) {
             return;
         }
-        currentKey = definition.getValues(source);
+        readKey(source);
+        hasCurrentKey = true;
     }
 
     public void setValue(Object value) {
         if (definition != null) {
-            setValue(value, this.currentKey);
+            setValue(value, getCurrentKey());
         }
     }
 
@@ -71,7 +104,10 @@ public class BreakDetector<S>  {
 
     public Object getValue() {
         if (definition != null) {
-            return getValue(currentKey);
+            if (!hasCurrentKey)
+                throw new IllegalStateException("Invalid state currentKey is null");
+            if (mutableKey.isNotEquals()) return null;
+            return cache.get(mutableKey);
         }
         return null;
     }
@@ -85,6 +121,7 @@ public class BreakDetector<S>  {
 
     public void markRootAsBroken() {
         if (definition != null) {
+            hasCurrentKey = false;
             currentKey = null;
             cache.clear();
         }
@@ -0,0 +1,67 @@
+package org.simpleflatmapper.map.context.impl;
+
+import java.util.Arrays;
+
+final class KeyValues {
+
+    private KeyValues() {
+    }
+
+    /**
+     * copy from Array.deepHashCode0
+     */
+    static int hashCode(Object value) {
+        int valueHash = 0;
+        if (value instanceof Object[])
+            valueHash = Arrays.deepHashCode((Object[]) value);
+        else if (value instanceof byte[])
+            valueHash = Arrays.hashCode((byte[]) value);
+        else if (value instanceof short[])
+            valueHash = Arrays.hashCode((short[]) value);
+        else if (value instanceof int[])
+            valueHash = Arrays.hashCode((int[]) value);
+        else if (value instanceof long[])
+            valueHash = Arrays.hashCode((long[]) value);
+        else if (value instanceof char[])
+            valueHash = Arrays.hashCode((char[]) value);
+        else if (value instanceof float[])
+            valueHash = Arrays.hashCode((float[]) value);
+        else if (value instanceof double[])
+            valueHash = Arrays.hashCode((double[]) value);
+        else if (value instanceof boolean[])
+            valueHash = Arrays.hashCode((boolean[]) value);
+        else if (value != null)
+            valueHash = value.hashCode();
+        return valueHash;
+    }
+
+    /**
+     * copy from Array.deepEquals0
+     */
+    static boolean equals(Object e1, Object e2) {
+        if (e1 == e2)
+            return true;
+        if (e1 == null || e2 == null)
+            return false;
+        if (e1 instanceof Object[] && e2 instanceof Object[])
+            return Arrays.deepEquals((Object[]) e1, (Object[]) e2);
+        else if (e1 instanceof byte[] && e2 instanceof byte[])
+            return Arrays.equals((byte[]) e1, (byte[]) e2);
+        else if (e1 instanceof short[] && e2 instanceof short[])
+            return Arrays.equals((short[]) e1, (short[]) e2);
+        else if (e1 instanceof int[] && e2 instanceof int[])
+            return Arrays.equals((int[]) e1, (int[]) e2);
+        else if (e1 instanceof long[] && e2 instanceof long[])
+            return Arrays.equals((long[]) e1, (long[]) e2);
+        else if (e1 instanceof char[] && e2 instanceof char[])
+            return Arrays.equals((char[]) e1, (char[]) e2);
+        else if (e1 instanceof float[] && e2 instanceof float[])
+            return Arrays.equals((float[]) e1, (float[]) e2);
+        else if (e1 instanceof double[] && e2 instanceof double[])
+            return Arrays.equals((double[]) e1, (double[]) e2);
+        else if (e1 instanceof boolean[] && e2 instanceof boolean[])
+            return Arrays.equals((boolean[]) e1, (boolean[]) e2);
+        else
+            return e1.equals(e2);
+    }
+}
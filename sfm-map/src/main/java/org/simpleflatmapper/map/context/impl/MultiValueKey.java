@@ -26,4 +26,8 @@ public final class MultiValueKey extends Key {
     public int hashCode() {
         return _hashCode;
     }
+
+    Object[] values() {
+        return values;
+    }
 }
@@ -0,0 +1,117 @@
+package org.simpleflatmapper.map.context.impl;
+
+import org.simpleflatmapper.map.context.Key;
+import org.simpleflatmapper.map.context.KeyAndPredicate;
+import org.simpleflatmapper.map.context.KeyDefinition;
+import org.simpleflatmapper.map.context.KeySourceGetter;
+import org.simpleflatmapper.map.context.KeyValueHolder;
+import org.simpleflatmapper.map.context.KeyValueHolderFactory;
+
+/**
+ * Key of the current row read in place in {@link KeyValueHolder}.
+ * <p>
+ * Has the same hashCode and equals as the {@link SingleValueKey} or {@link MultiValueKey} returned by {@link #toKey()}
+ * so it can be used to look up the {@link KeyObjectStore}, the immutable key is only needed to store a value.
+ */
+public final class MutableKey<S> extends Key {
+
+    private final KeyAndPredicate<S, ?>[] keyAndPredicates;
+    private final KeyValueHolder<? super S>[] holders;
+    private final boolean single;
+
+    private boolean notEquals;
+
+    @SuppressWarnings("unchecked")
+    public <K> MutableKey(KeyAndPredicate<S, K>[] keyAndPredicates, KeySourceGetter<K, ? super S> keySourceGetter, boolean single) {
+        this.keyAndPredicates = keyAndPredicates;
+        this.holders = new KeyValueHolder[keyAndPredicates.length];
+        for (int i = 0; i < keyAndPredicates.length; i++) {
+            holders[i] = newKeyValueHolder(keyAndPredicates[i].key, keySourceGetter);
+        }
+        this.single = single;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S, K> KeyValueHolder<? super S> newKeyValueHolder(K key, KeySourceGetter<K, ? super S> keySourceGetter) {
+        if (keySourceGetter instanceof KeyValueHolderFactory) {
+            KeyValueHolder<? super S> holder = ((KeyValueHolderFactory<K, ? super S>) keySourceGetter).newKeyValueHolder(key);
+            if (holder != null) {
+                return holder;
+            }
+        }
+        return new ObjectKeyValueHolder<S, K>(keySourceGetter, key);
+    }
+
+    /**
+     * read the key of the source.
+     * @return true if the key is not equal to the previous one
+     */
+    public boolean read(S source) throws Exception {
+        boolean wasNotEquals = notEquals;
+        boolean changed = false;
+        boolean empty = true;
+        for (int i = 0; i < holders.length; i++) {
+            if (keyAndPredicates[i].test(source)) {
+                empty = false;
+                changed |= holders[i].read(source);
+            } else {
+                changed |= holders[i].readNull();
+            }
+        }
+        notEquals = empty;
+        return changed || empty || wasNotEquals;
+    }
+
+    /**
+     * @return true if none of the key predicates matched the source, the key is then not equal to any key
+     */
+    public boolean isNotEquals() {
+        return notEquals;
+    }
+
+    public Key toKey() {
+        if (notEquals) {
+            return KeyDefinition.NOT_EQUALS;
+        }
+        if (single) {
+            return new SingleValueKey(holders[0].value());
+        }
+        Object[] values = new Object[holders.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = holders[i].value();
+        }
+        return new MultiValueKey(values);
+    }
+
+    @Override
+    public int hashCode() {
+        if (single) {
+            return holders[0].valueHashCode();
+        }
+        // same as Arrays.deepHashCode
+        int result = 1;
+        for (KeyValueHolder<? super S> holder : holders) {
+            result = 31 * result + holder.valueHashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (notEquals) return false;
+        if (o instanceof SingleValueKey) {
+            return single && holders[0].valueEquals(((SingleValueKey) o).value());
+        }
+        if (o instanceof MultiValueKey) {
+            if (single) return false;
+            Object[] values = ((MultiValueKey) o).values();
+            if (values.length != holders.length) return false;
+            for (int i = 0; i < values.length; i++) {
+                if (!holders[i].valueEquals(values[i])) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+}
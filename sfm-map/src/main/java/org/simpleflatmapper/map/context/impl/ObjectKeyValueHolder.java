@@ -0,0 +1,46 @@
+package org.simpleflatmapper.map.context.impl;
+
+import org.simpleflatmapper.map.context.KeySourceGetter;
+import org.simpleflatmapper.map.context.KeyValueHolder;
+
+final class ObjectKeyValueHolder<S, K> extends KeyValueHolder<S> {
+
+    private final KeySourceGetter<K, ? super S> keySourceGetter;
+    private final K key;
+    private Object value;
+
+    ObjectKeyValueHolder(KeySourceGetter<K, ? super S> keySourceGetter, K key) {
+        this.keySourceGetter = keySourceGetter;
+        this.key = key;
+    }
+
+    @Override
+    public boolean read(S source) throws Exception {
+        Object newValue = keySourceGetter.getValue(key, source);
+        boolean changed = !KeyValues.equals(value, newValue);
+        value = newValue;
+        return changed;
+    }
+
+    @Override
+    public boolean readNull() {
+        boolean changed = value != null;
+        value = null;
+        return changed;
+    }
+
+    @Override
+    public Object value() {
+        return value;
+    }
+
+    @Override
+    public int valueHashCode() {
+        return KeyValues.hashCode(value);
+    }
+
+    @Override
+    public boolean valueEquals(Object value) {
+        return KeyValues.equals(this.value, value);
+    }
+}
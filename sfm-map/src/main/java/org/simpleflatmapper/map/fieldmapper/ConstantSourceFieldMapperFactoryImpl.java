@@ -31,6 +31,7 @@ import org.simpleflatmapper.map.property.ConverterProperty;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
 import org.simpleflatmapper.map.mapper.PropertyMapping;
 import org.simpleflatmapper.map.property.DefaultValueProperty;
+import org.simpleflatmapper.map.property.MemoizeLastValueProperty;
 import org.simpleflatmapper.reflect.Getter;
 import org.simpleflatmapper.reflect.Instantiator;
 import org.simpleflatmapper.reflect.InstantiatorDefinition;
@@ -238,7 +239,7 @@ public final class ConstantSourceFieldMapperFactoryImpl<S, K extends FieldKey<K>
 			if (getter == null) {
 				return null;
 			}
-			return new FieldMapperGetterWithConverter(converterProperty.function, getter);
+			return newGetterWithConverter(converterProperty.function, getter, columnDefinition, mappingContextFactoryBuilder);
 		}
 
 		if (getter == null) {
@@ -274,12 +275,21 @@ public final class ConstantSourceFieldMapperFactoryImpl<S, K extends FieldKey<K>
 		if (converter != null) {
 			ContextualGetter<? super S, ? extends J> getter = getterFactory.newGetter(sourceType, key, mappingContextFactoryBuilder, properties);
 
-			return new FieldMapperGetterWithConverter<S, J, P>(converter, getter);
+			return newGetterWithConverter(converter, getter, columnDefinition, mappingContextFactoryBuilder);
 		}
 
 		return lookForInstantiatorGetter(classMeta, key, columnDefinition, types, mappingContextFactoryBuilder);
 	}
 
+	private <J, P> ContextualGetter<S, P> newGetterWithConverter(ContextualConverter<? super J, ? extends P> converter, ContextualGetter<? super S, ? extends J> getter, ColumnDefinition<K, ?> columnDefinition, MappingContextFactoryBuilder<?, ? extends FieldKey<?>> mappingContextFactoryBuilder) {
+		MemoizeLastValueProperty memoizeLastValueProperty = columnDefinition.lookFor(MemoizeLastValueProperty.class);
+		if (memoizeLastValueProperty != null) {
+			int cacheIndex = mappingContextFactoryBuilder.addSupplier(MemoizedFieldMapperGetterWithConverter.cacheSupplier(memoizeLastValueProperty.getCacheSize()));
+			return new MemoizedFieldMapperGetterWithConverter<S, J, P>(converter, getter, cacheIndex);
+		}
+		return new FieldMapperGetterWithConverter<S, J, P>(converter, getter);
+	}
+
 	public <P> ContextualGetter<? super S, ? extends P> lookForInstantiatorGetter(ClassMeta<P> classMeta, K key, ColumnDefinition<K, ?> columnDefinition, Collection<Type> types, MappingContextFactoryBuilder<?, ? extends FieldKey<?>> mappingContextFactoryBuilder) {
 
 
@@ -318,7 +328,7 @@ public final class ConstantSourceFieldMapperFactoryImpl<S, K extends FieldKey<K>
 			
 			if (converter != null) {
 				ContextualGetter sourceTypeGetter = getterFactory.newGetter(sourceType, key, mappingContextFactoryBuilder, columnDefinition);
-				subGetter = new FieldMapperGetterWithConverter(converter, sourceTypeGetter);
+				subGetter = newGetterWithConverter(converter, sourceTypeGetter, columnDefinition, mappingContextFactoryBuilder);
 			} else {
 				subGetter = lookForInstantiatorGetter(classMeta.getReflectionService().<T>getClassMeta(paramType), key, columnDefinition, types, mappingContextFactoryBuilder);
 			}
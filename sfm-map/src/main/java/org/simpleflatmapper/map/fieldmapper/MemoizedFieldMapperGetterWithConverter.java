@@ -0,0 +1,102 @@
+package org.simpleflatmapper.map.fieldmapper;
+
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.map.getter.ContextualGetter;
+import org.simpleflatmapper.util.Supplier;
+
+import static org.simpleflatmapper.util.Asserts.requireNonNull;
+
+/**
+ * FieldMapperGetterWithConverter that returns the previous converted value when the raw value is the same.
+ * The cache is in the context at cacheIndex, see MemoizeLastValueProperty.
+ */
+public class MemoizedFieldMapperGetterWithConverter<T, I, P> implements ContextualGetter<T, P> {
+
+    private final ContextualConverter<? super I, ? extends P> converter;
+    private final ContextualGetter<? super T, ? extends I> getter;
+    private final int cacheIndex;
+
+    public MemoizedFieldMapperGetterWithConverter(ContextualConverter<? super I, ? extends P> converter, ContextualGetter<? super T, ? extends I> getter, int cacheIndex) {
+        this.converter = requireNonNull("converter", converter);
+        this.getter = requireNonNull("getter", getter);
+        this.cacheIndex = cacheIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public P get(T target, Context context) throws Exception {
+        I in = getter.get(target, context);
+        if (in == null || context == null) {
+            return converter.convert(in, context);
+        }
+
+        ValueCache cache = context.context(cacheIndex);
+        int slot = cache.slot(in);
+        if (cache.matches(slot, in)) {
+            return (P) cache.values[slot];
+        }
+
+        P value = converter.convert(in, context);
+        cache.put(slot, in, value);
+        return value;
+    }
+
+    public static Supplier<ValueCache> cacheSupplier(int size) {
+        return new ValueCacheSupplier(size);
+    }
+
+    /**
+     * direct mapped cache, size is a power of two. A size of 1 keeps the last value.
+     */
+    public static final class ValueCache {
+        private final Object[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        public ValueCache(int size) {
+            this.keys = new Object[size];
+            this.values = new Object[size];
+            this.mask = size - 1;
+        }
+
+        private int slot(Object in) {
+            if (mask == 0) {
+                return 0;
+            }
+            // CharSequenceImpl and String share the same hash
+            int h = in.hashCode();
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private boolean matches(int slot, Object in) {
+            Object key = keys[slot];
+            if (key == null) {
+                return false;
+            }
+            if (in instanceof CharSequence && !(in instanceof String)) {
+                return key instanceof String && ((String) key).contentEquals((CharSequence) in);
+            }
+            return key.equals(in);
+        }
+
+        private void put(int slot, Object in, Object value) {
+            // the char sequence can be a view on a buffer that will be overwritten
+            keys[slot] = in instanceof CharSequence ? in.toString() : in;
+            values[slot] = value;
+        }
+    }
+
+    private static final class ValueCacheSupplier implements Supplier<ValueCache> {
+        private final int size;
+
+        private ValueCacheSupplier(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public ValueCache get() {
+            return new ValueCache(size);
+        }
+    }
+}
@@ -130,6 +130,11 @@ public class DiscriminatorReflectionService extends ReflectionService {
         return new DiscriminatorReflectionService(delegate.withBuilderIgnoresNullValues(builderIgnoresNullValues), discriminators);
     }
 
+    @Override
+    public DiscriminatorReflectionService withMethodHandleAccessors(boolean useMethodHandleAccessors) {
+        return new DiscriminatorReflectionService(delegate.withMethodHandleAccessors(useMethodHandleAccessors), discriminators);
+    }
+
     @Override
     @Deprecated
     public DiscriminatorReflectionService withSelfScoreFullName(boolean selfScoreFullName) {
@@ -0,0 +1,169 @@
+package org.simpleflatmapper.map.impl;
+
+import org.simpleflatmapper.map.ContextualSourceMapper;
+import org.simpleflatmapper.map.mapper.SourceCopier;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Reads and copies the rows in batches on the calling thread, the batches are mapped on the executor.
+ * At most maxInFlight batches are read ahead.
+ * If ordered the objects are returned in the order of the rows, otherwise in the order the batches complete.
+ * <p>
+ * close cancels the batches in flight, a failed batch cancels the others.
+ */
+public class ParallelMapperEnumerable<S, T> implements Enumerable<T>, Closeable {
+
+    private final ContextualSourceMapper<S, T> mapper;
+    private final Enumerable<S> sourceEnumerable;
+    private final SourceCopier<S> copier;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxInFlight;
+
+    // in submission order
+    private final LinkedList<Future<List<T>>> inFlight = new LinkedList<Future<List<T>>>();
+    // unordered
+    private final ExecutorCompletionService<List<T>> completionService;
+
+    private boolean sourceExhausted;
+    private List<T> currentBatch;
+    private int currentIndex;
+
+    public ParallelMapperEnumerable(ContextualSourceMapper<S, T> mapper,
+                                    Enumerable<S> sourceEnumerable,
+                                    SourceCopier<S> copier,
+                                    Executor executor,
+                                    int batchSize,
+                                    int maxInFlight,
+                                    boolean ordered) {
+        this.mapper = mapper;
+        this.sourceEnumerable = sourceEnumerable;
+        this.copier = copier;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+        this.completionService = ordered ? null : new ExecutorCompletionService<List<T>>(executor);
+    }
+
+    @Override
+    public boolean next() {
+        try {
+            while (currentBatch == null || currentIndex + 1 >= currentBatch.size()) {
+                submitBatches();
+                if (inFlight.isEmpty()) {
+                    currentBatch = null;
+                    return false;
+                }
+                currentBatch = takeBatch();
+                currentIndex = -1;
+            }
+            currentIndex++;
+            return true;
+        } catch (Exception e) {
+            close();
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    private void submitBatches() throws Exception {
+        while (!sourceExhausted && inFlight.size() < maxInFlight) {
+            List<S> rows = new ArrayList<S>(batchSize);
+            while (rows.size() < batchSize) {
+                if (!sourceEnumerable.next()) {
+                    sourceExhausted = true;
+                    break;
+                }
+                rows.add(copier.copy(sourceEnumerable.currentValue()));
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            submit(new MapBatch<S, T>(mapper, rows));
+        }
+    }
+
+    private void submit(MapBatch<S, T> batch) {
+        if (completionService != null) {
+            inFlight.add(completionService.submit(batch));
+        } else {
+            FutureTask<List<T>> future = new FutureTask<List<T>>(batch);
+            inFlight.add(future);
+            executor.execute(future);
+        }
+    }
+
+    private List<T> takeBatch() throws Exception {
+        Future<List<T>> future;
+        if (completionService != null) {
+            future = completionService.take();
+            inFlight.remove(future);
+        } else {
+            future = inFlight.removeFirst();
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return ErrorHelper.rethrow(e.getCause());
+        }
+    }
+
+    @Override
+    public T currentValue() {
+        return currentBatch.get(currentIndex);
+    }
+
+    /**
+     * cancels the batches in flight, the rows left in the source are not read.
+     */
+    @Override
+    public void close() {
+        sourceExhausted = true;
+        currentBatch = null;
+        while (!inFlight.isEmpty()) {
+            inFlight.removeFirst().cancel(true);
+        }
+    }
+
+    private static final class MapBatch<S, T> implements Callable<List<T>> {
+        private final ContextualSourceMapper<S, T> mapper;
+        private final List<S> rows;
+
+        private MapBatch(ContextualSourceMapper<S, T> mapper, List<S> rows) {
+            this.mapper = mapper;
+            this.rows = rows;
+        }
+
+        @Override
+        public List<T> call() throws Exception {
+            List<T> objects = new ArrayList<T>(rows.size());
+            for (S row : rows) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // cancelled
+                    throw new InterruptedException();
+                }
+                objects.add(mapper.map(row));
+            }
+            return objects;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelMapperEnumerable{" +
+                "mapper=" + mapper +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+}
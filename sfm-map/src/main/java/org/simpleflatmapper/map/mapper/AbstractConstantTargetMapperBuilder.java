@@ -133,7 +133,7 @@ public abstract class AbstractConstantTargetMapperBuilder<S, T, K  extends Field
         AbstractMapper<T, S> mapper;
         FieldMapper[] fields = mappers.toArray(new FieldMapper[0]);
         BiInstantiator<T, MappingContext<? super T>, S> instantiator = getInstantiator();
-        if (mappers.size() < 256) {
+        if (mappers.size() < mapperConfig.asmMapperNbFieldsLimit()) {
             try {
                 mapper =
                         reflectionService
@@ -150,7 +150,8 @@ public abstract class AbstractConstantTargetMapperBuilder<S, T, K  extends Field
                                         new FieldMapper[0],
                                         instantiator,
                                         TypeHelper.<T>toClass(classMeta.getType()),
-                                        sourceClass
+                                        sourceClass,
+                                        mapperConfig.maxMethodSize()
                                 );
             } catch (Throwable e) {
                 if (mapperConfig.failOnAsm()) {
@@ -6,7 +6,10 @@ import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableIterator;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Iterator;
 
 //IFJAVA8_START
@@ -30,12 +33,27 @@ public abstract class AbstractEnumerableMapper<SET, T, E extends Exception> impl
 	public final <H extends CheckedConsumer<? super T>> H forEach(final SET source, final H handler)
 			throws E, MappingException {
         final Enumerable<T> enumerable = enumerate(source);
-        while(enumerable.next()) {
-            final T t = enumerable.currentValue();
-            handleT(handler, t);
+        try {
+            while(enumerable.next()) {
+                final T t = enumerable.currentValue();
+                handleT(handler, t);
+            }
+        } finally {
+            close(enumerable);
         }
         return handler;
 	}
+
+    // an enumerable can hold resources until exhausted, like the spill files of an unordered join
+    private static void close(Enumerable<?> enumerable) {
+        if (enumerable instanceof Closeable) {
+            try {
+                ((Closeable) enumerable).close();
+            } catch (IOException e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+    }
 	
     private <H extends CheckedConsumer<? super T>> void handleT(H handler, T t) {
         try {
@@ -53,7 +71,13 @@ public abstract class AbstractEnumerableMapper<SET, T, E extends Exception> impl
     //IFJAVA8_START
 	@Override
 	public final Stream<T> stream(SET source) throws MappingException, E {
-		return StreamSupport.stream(new EnumerableSpliterator<T>(enumerate(source)), false);
+		final Enumerable<T> enumerable = enumerate(source);
+		return StreamSupport.stream(new EnumerableSpliterator<T>(enumerable), false).onClose(new Runnable() {
+			@Override
+			public void run() {
+				close(enumerable);
+			}
+		});
 	}
     //IFJAVA8_END
 
@@ -16,6 +16,7 @@ import org.simpleflatmapper.reflect.property.SpeculativeArrayIndexResolutionProp
 import org.simpleflatmapper.reflect.property.SpeculativeObjectLookUpProperty;
 import org.simpleflatmapper.util.*;
 
+import java.io.File;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.util.*;
@@ -50,6 +51,11 @@ public abstract class AbstractMapperFactory<
 	
 	private Predicate<? super S> rowFilter = null;
 	private boolean unorderedJoin;
+	private int unorderedJoinMaxInMemory = MapperConfig.UNBOUNDED;
+	private File unorderedJoinSpillDirectory = null;
+
+	private MapperCacheStrategy mapperCacheStrategy = MapperCacheStrategy.unbounded();
+	private MapperCacheStats mapperCacheStats = null;
 
 	protected ContextualGetterFactory<? super S, K> getterFactory;
 
@@ -72,6 +78,10 @@ public abstract class AbstractMapperFactory<
 		this.assumeInjectionModifiesValues = config.assumeInjectionModifiesValues;
 		this.rowFilter = config.rowFilter;
 		this.unorderedJoin = config.unorderedJoin;
+		this.unorderedJoinMaxInMemory = config.unorderedJoinMaxInMemory;
+		this.unorderedJoinSpillDirectory = config.unorderedJoinSpillDirectory;
+		this.mapperCacheStrategy = config.mapperCacheStrategy;
+		this.mapperCacheStats = config.mapperCacheStats;
 		this.getterFactory = config.getterFactory;
 	}
 
@@ -111,6 +121,35 @@ public abstract class AbstractMapperFactory<
 		return (MF) this;
 	}
 
+	/**
+	 * Enabled support for unordered join at the root level with a bound on the number of root objects kept in memory.
+	 * Once maxInMemory objects are loaded the rows of the other objects are spilled to temporary files
+	 * partitioned on the key, each partition is then joined on its own after the objects in memory are returned.
+	 * The rows are spilled only if the mapper supports it, otherwise the bound is ignored.
+	 *
+	 * @param maxInMemory the max number of root objects kept in memory
+	 * @return the current factory
+	 */
+	public final MF unorderedJoin(int maxInMemory) {
+		if (maxInMemory <= 0) throw new IllegalArgumentException("maxInMemory must be positive, was " + maxInMemory);
+		this.unorderedJoin = true;
+		this.unorderedJoinMaxInMemory = maxInMemory;
+		return (MF) this;
+	}
+
+	/**
+	 * Same as {@link #unorderedJoin(int)} with the spill files created in spillDirectory.
+	 *
+	 * @param maxInMemory the max number of root objects kept in memory
+	 * @param spillDirectory the directory of the spill files, null for the default temporary-file directory
+	 * @return the current factory
+	 */
+	public final MF unorderedJoin(int maxInMemory, File spillDirectory) {
+		unorderedJoin(maxInMemory);
+		this.unorderedJoinSpillDirectory = spillDirectory;
+		return (MF) this;
+	}
+
     /**
      * Change the mapperBuilderErrorHandler to an IgnoreMapperBuilderErrorHandler.
      * @return the current factory
@@ -194,7 +233,9 @@ public abstract class AbstractMapperFactory<
 				.assumeInjectionModifiesValues(assumeInjectionModifiesValues)
 				.discriminators(discriminators)
 				.rowFilter(rowFilter)
-				.unorderedJoin(unorderedJoin);
+				.unorderedJoin(unorderedJoin)
+				.unorderedJoinMaxInMemory(unorderedJoinMaxInMemory)
+				.unorderedJoinSpillDirectory(unorderedJoinSpillDirectory);
 	}
 
 	public AbstractColumnDefinitionProvider<K> enrichColumnDefinitions(AbstractColumnDefinitionProvider<K> columnDefinitions) {
@@ -496,6 +537,7 @@ public abstract class AbstractMapperFactory<
 
 	/**
 	 * Number needs to be a power of 2, do not use if you don't know what it does.
+	 * The asm mapper splits its field mapper calls in methods of at most maxMethodSize calls.
 	 * @param maxMethodSize the max method size, needs be a power of 2.
 	 * @return the factory.
 	 */
@@ -525,6 +567,43 @@ public abstract class AbstractMapperFactory<
         return consumerErrorHandler;
     }
 
+	/**
+	 * change how the dynamic mappers cache the mapper built for each set of columns.
+	 * <p>
+	 * the default is MapperCacheStrategy.unbounded(), use MapperCacheStrategy.bounded(maxSize) if the set of columns is open-ended.
+	 * @param mapperCacheStrategy the strategy
+	 * @return the current factory
+	 */
+	public final MF mapperCacheStrategy(final MapperCacheStrategy mapperCacheStrategy) {
+		this.mapperCacheStrategy = Asserts.requireNonNull("mapperCacheStrategy", mapperCacheStrategy);
+		return (MF) this;
+	}
+
+	/**
+	 * @return the current MapperCacheStrategy
+	 */
+	public final MapperCacheStrategy mapperCacheStrategy() {
+		return mapperCacheStrategy;
+	}
+
+	/**
+	 * record the hits, misses, builds and evictions of the caches of the dynamic mappers created from now on by this factory.
+	 * @return the current factory
+	 */
+	public final MF enableMapperCacheStats() {
+		if (mapperCacheStats == null) {
+			mapperCacheStats = new MapperCacheStats();
+		}
+		return (MF) this;
+	}
+
+	/**
+	 * @return the stats of the mapper caches or null if enableMapperCacheStats() has not been called
+	 */
+	public final MapperCacheStats mapperCacheStats() {
+		return mapperCacheStats;
+	}
+
 
 	public final <T> ClassMeta<T> getClassMeta(TypeReference<T> target) {
 		return getClassMeta(target.getType());
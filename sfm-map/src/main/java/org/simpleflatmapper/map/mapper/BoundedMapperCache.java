@@ -0,0 +1,97 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.FieldKey;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Mapper cache that keeps at most maxSize mappers.
+ * <p>
+ * The eviction uses the CLOCK approximation of LRU: get only sets a referenced flag, when the cache is full
+ * the hand goes round the entries clearing the flags and evicts the first entry that has not been referenced since the last pass.
+ * The get is lock free and does not write to shared memory once the entry is referenced, the eviction is synchronized.
+ */
+public final class BoundedMapperCache<K extends FieldKey<K>, M> implements MapperCacheStrategy.Cache<K, M> {
+
+	private final ConcurrentMap<MapperKey<K>, Entry<M>> entries = new ConcurrentHashMap<MapperKey<K>, Entry<M>>();
+	private final int maxSize;
+	private final MapperCacheStats stats;
+
+	// guarded by this
+	private Iterator<Entry<M>> hand;
+
+	public BoundedMapperCache(int maxSize, MapperCacheStats stats) {
+		if (maxSize <= 0) throw new IllegalArgumentException("maxSize should be greater than 0");
+		this.maxSize = maxSize;
+		this.stats = stats;
+	}
+
+	@Override
+	public M get(MapperKey<K> key) {
+		Entry<M> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry.mapper;
+	}
+
+	@Override
+	public void add(MapperKey<K> key, M mapper) {
+		Entry<M> entry = new Entry<M>(mapper);
+		if (entries.putIfAbsent(key, entry) == null
+				&& entries.size() > maxSize) {
+			evict(entry);
+		}
+	}
+
+	// never evict the entry just added, the mapper has just been built and is about to be used
+	private synchronized void evict(Entry<M> added) {
+		while (entries.size() > maxSize) {
+			if (hand == null || !hand.hasNext()) {
+				hand = entries.values().iterator();
+				if (!hand.hasNext()) {
+					return;
+				}
+			}
+			Entry<M> entry = hand.next();
+			if (entry == added) {
+				continue;
+			}
+			if (entry.referenced) {
+				entry.referenced = false;
+			} else {
+				hand.remove();
+				if (stats != null) {
+					stats.recordEviction();
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedMapperCache{" +
+				"maxSize=" + maxSize +
+				", keys=" + entries.keySet() +
+				'}';
+	}
+
+	private static final class Entry<M> {
+		private final M mapper;
+		private volatile boolean referenced = true;
+
+		private Entry(M mapper) {
+			this.mapper = mapper;
+		}
+	}
+}
@@ -539,7 +539,8 @@ public final class DefaultConstantSourceMapperBuilder<S, T, K extends FieldKey<K
                                         constructorFieldMappersAndInstantiator.constructorInjections.fieldMappers,
                                         constructorFieldMappersAndInstantiator.instantiator,
                                         mapperSource.source(),
-                                        target);
+                                        target,
+                                        mapperConfig.maxMethodSize());
             } catch (Throwable e) {
                 if (mapperConfig.failOnAsm()) {
                     return ErrorHelper.rethrow(e);
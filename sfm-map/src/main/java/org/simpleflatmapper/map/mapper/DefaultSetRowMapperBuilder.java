@@ -13,6 +13,8 @@ import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.Function;
 import org.simpleflatmapper.util.UnaryFactory;
 
+import java.io.File;
+
 public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E extends Exception> 
         extends SetRowMapperBuilderImpl<SetRowMapper<ROW, SET, T, E>, ROW, SET, T, K, E> {
     /**
@@ -31,6 +33,27 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
             MapperSource<? super ROW, K> mapperSource,
             KeyFactory<K> keyFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory, 
             KeySourceGetter<K, ? super ROW> keySourceGetter) {
+        this(classMeta, parentBuilder, mapperConfig, mapperSource, keyFactory, enumerableFactory, keySourceGetter, null);
+    }
+
+    /**
+     * @param classMeta           the meta for the target class.
+     * @param parentBuilder       the parent builder, null if none.
+     * @param mapperConfig        the mapperConfig.
+     * @param mapperSource        the Mapper source.
+     * @param keyFactory
+     * @param enumerableFactory
+     * @param keySourceGetter
+     * @param spillCodec          the codec used by the unordered join to spill the rows above mapperConfig.unorderedJoinMaxInMemory(), null if not supported.
+     */
+    public DefaultSetRowMapperBuilder(
+            ClassMeta<T> classMeta,
+            MappingContextFactoryBuilder<ROW, K> parentBuilder,
+            MapperConfig<K, ROW> mapperConfig,
+            MapperSource<? super ROW, K> mapperSource,
+            KeyFactory<K> keyFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory,
+            KeySourceGetter<K, ? super ROW> keySourceGetter,
+            SpillCodec<ROW> spillCodec) {
         super(
                 classMeta, 
                 parentBuilder, 
@@ -38,13 +61,27 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
                 mapperSource, 
                 keyFactory, 
                 mapperConfig.applyEnumerableFilter(enumerableFactory),
-                new DefaultSetRowMapperFactory<ROW, SET, T, E>(), 
+                new DefaultSetRowMapperFactory<ROW, SET, T, E>(spillCodec, mapperConfig.unorderedJoinMaxInMemory(), mapperConfig.unorderedJoinSpillDirectory()),
                 keySourceGetter);
     }
 
 
     public static class DefaultSetRowMapperFactory<ROW, SET, T , E extends Exception> implements SetRowMapperFactory<SetRowMapper<ROW, SET, T, E>, ROW, SET, T, E> {
 
+        private final SpillCodec<ROW> spillCodec;
+        private final int unorderedJoinMaxInMemory;
+        private final File unorderedJoinSpillDirectory;
+
+        public DefaultSetRowMapperFactory() {
+            this(null, MapperConfig.UNBOUNDED, null);
+        }
+
+        public DefaultSetRowMapperFactory(SpillCodec<ROW> spillCodec, int unorderedJoinMaxInMemory, File unorderedJoinSpillDirectory) {
+            this.spillCodec = spillCodec;
+            this.unorderedJoinMaxInMemory = unorderedJoinMaxInMemory;
+            this.unorderedJoinSpillDirectory = unorderedJoinSpillDirectory;
+        }
+
         @Override
         public SetRowMapper<ROW, SET, T, E> newJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory) {
             return  new JoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory);
@@ -52,7 +89,7 @@ public class DefaultSetRowMapperBuilder<ROW, SET, T, K extends FieldKey<K>, E ex
 
         @Override
         public SetRowMapper<ROW, SET, T, E> newUnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler consumerErrorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<SET, Enumerable<ROW>> enumerableFactory) {
-            return  new UnorderedJoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory);
+            return  new UnorderedJoinMapper<ROW, SET, T, E>(mapper, consumerErrorHandler,mappingContextFactory, enumerableFactory, spillCodec, unorderedJoinMaxInMemory, unorderedJoinSpillDirectory);
         }
 
         @Override
@@ -0,0 +1,14 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.SetRowMapper;
+
+/**
+ * A SetRowMapper that maps the rows with another SetRowMapper, the type of the objects can differ.
+ */
+public interface DelegatingSetRowMapper<ROW, SET, T, E extends Exception> extends SetRowMapper<ROW, SET, T, E> {
+
+    /**
+     * @return the mapper the rows are mapped with
+     */
+    SetRowMapper<ROW, SET, ?, E> getDelegate();
+}
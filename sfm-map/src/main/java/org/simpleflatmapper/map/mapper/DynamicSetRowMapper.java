@@ -20,7 +20,7 @@ import java.util.stream.Stream;
 public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends FieldKey<K>> implements SetRowMapper<ROW, SET, T, E> {
 
 
-    private final MapperCache<K, SetRowMapper<ROW, SET, T, E>> mapperCache;
+    private final SingleFlightMapperCache<K, SetRowMapper<ROW, SET, T, E>> mapperCache;
 
 	private final UnaryFactory<MapperKey<K>, SetRowMapper<ROW, SET, T, E>> mapperFactory;
 
@@ -33,10 +33,23 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
 			UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet,
 			MapperKeyComparator<K> keyComparator) {
+		this(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, keyComparator, MapperCacheStrategy.unbounded(), null);
+	}
+
+	public DynamicSetRowMapper(
+			UnaryFactory<MapperKey<K>, SetRowMapper<ROW, SET, T, E>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet,
+			MapperKeyComparator<K> keyComparator,
+			MapperCacheStrategy mapperCacheStrategy,
+			MapperCacheStats mapperCacheStats) {
 		this.mapperFactory = mapperFactory;
 		this.mapperKeyFromRow = mapperKeyFromRow;
 		this.mapperKeyFromSet = mapperKeyFromSet;
-		this.mapperCache = new MapperCache<K, SetRowMapper<ROW, SET, T, E>>(keyComparator);
+		this.mapperCache = new SingleFlightMapperCache<K, SetRowMapper<ROW, SET, T, E>>(
+				mapperCacheStrategy.<K, SetRowMapper<ROW, SET, T, E>>newCache(keyComparator, mapperCacheStats),
+				mapperFactory,
+				mapperCacheStats);
 	}
 
 	@Override
@@ -90,7 +103,7 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 				'}';
 	}
 
-	private SetRowMapper<ROW, SET, T, E> getMapperFromSet(SET set) throws E {
+	SetRowMapper<ROW, SET, T, E> getMapperFromSet(SET set) throws E {
 		return getMapper(mapperKeyFromSet.newInstance(set));
 	}
 
@@ -99,11 +112,6 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 	}
 
 	public SetRowMapper<ROW, SET, T, E> getMapper(MapperKey<K> key) throws E {
-		SetRowMapper<ROW, SET, T, E> mapper = mapperCache.get(key);
-		if (mapper == null) {
-			mapper = mapperFactory.newInstance(key);
-			mapperCache.add(key, mapper);
-		}
-		return mapper;
+		return mapperCache.get(key);
 	}
 }
@@ -10,7 +10,7 @@ import org.simpleflatmapper.util.UnaryFactoryWithException;
 
 public class DynamicSourceFieldMapper<ROW, T, K extends FieldKey<K>, E extends Exception> implements ContextualSourceFieldMapper<ROW, T> {
 
-    private final MapperCache<K, ContextualSourceFieldMapper<ROW, T>> mapperCache;
+    private final SingleFlightMapperCache<K, ContextualSourceFieldMapper<ROW, T>> mapperCache;
 	private final UnaryFactory<MapperKey<K>, ContextualSourceFieldMapper<ROW, T>> mapperFactory;
 	private final UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow;
 
@@ -18,9 +18,21 @@ public class DynamicSourceFieldMapper<ROW, T, K extends FieldKey<K>, E extends E
 			UnaryFactory<MapperKey<K>,ContextualSourceFieldMapper<ROW, T>> mapperFactory,
 			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
 			MapperKeyComparator<K> keyComparator) {
+		this(mapperFactory, mapperKeyFromRow, keyComparator, MapperCacheStrategy.unbounded(), null);
+	}
+
+	public DynamicSourceFieldMapper(
+			UnaryFactory<MapperKey<K>,ContextualSourceFieldMapper<ROW, T>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			MapperKeyComparator<K> keyComparator,
+			MapperCacheStrategy mapperCacheStrategy,
+			MapperCacheStats mapperCacheStats) {
 		this.mapperFactory = mapperFactory;
 		this.mapperKeyFromRow = mapperKeyFromRow;
-		this.mapperCache = new MapperCache<K, ContextualSourceFieldMapper<ROW, T>>(keyComparator);
+		this.mapperCache = new SingleFlightMapperCache<K, ContextualSourceFieldMapper<ROW, T>>(
+				mapperCacheStrategy.<K, ContextualSourceFieldMapper<ROW, T>>newCache(keyComparator, mapperCacheStats),
+				mapperFactory,
+				mapperCacheStats);
 	}
 
 	@Override
@@ -62,12 +74,7 @@ public class DynamicSourceFieldMapper<ROW, T, K extends FieldKey<K>, E extends E
 	}
 
 	public ContextualSourceFieldMapper<ROW, T> getMapper(MapperKey<K> key) {
-		ContextualSourceFieldMapper<ROW, T> mapper = mapperCache.get(key);
-		if (mapper == null) {
-			mapper = mapperFactory.newInstance(key);
-			mapperCache.add(key, mapper);
-		}
-		return mapper;
+		return mapperCache.get(key);
 	}
 
 
@@ -5,7 +5,7 @@ import org.simpleflatmapper.map.FieldKey;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicReference;
 
-public final class MapperCache<K extends FieldKey<K>, M> {
+public final class MapperCache<K extends FieldKey<K>, M> implements MapperCacheStrategy.Cache<K, M> {
 
 	private static final int SIZE_THRESHOLD = 60;
 	@SuppressWarnings("unchecked")
@@ -17,6 +17,7 @@ public final class MapperCache<K extends FieldKey<K>, M> {
 						new SortedEntries<K>(0, comparator));
 	}
 
+	@Override
 	@SuppressWarnings("unchecked")
 	public void add(final MapperKey<K> key, final M mapper) {
 		SortedEntries<K> sortedEntries;
@@ -41,11 +42,17 @@ public final class MapperCache<K extends FieldKey<K>, M> {
 	}
 
 
+	@Override
 	@SuppressWarnings("unchecked")
 	public M get(MapperKey<K> key) {
 		return (M) sortedEntries.get().search(key);
 	}
 
+	@Override
+	public int size() {
+		return sortedEntries.get().keys.length;
+	}
+
 	private static final class SortedEntries<K extends FieldKey<K>> {
 		private final MapperKey<K>[] keys;
 		private final Object[] values;
@@ -0,0 +1,71 @@
+package org.simpleflatmapper.map.mapper;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the mapper caches of the dynamic mappers created by a factory once enableMapperCacheStats() has been called.
+ * <p>
+ * A miss that waits for the mapper being built by another thread is counted as a miss but not as a build.
+ */
+public final class MapperCacheStats {
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong buildCount = new AtomicLong();
+	private final AtomicLong buildTimeNanos = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	public void recordHit() {
+		hitCount.incrementAndGet();
+	}
+
+	public void recordMiss() {
+		missCount.incrementAndGet();
+	}
+
+	public void recordBuild(long nanos) {
+		buildCount.incrementAndGet();
+		buildTimeNanos.addAndGet(nanos);
+	}
+
+	public void recordEviction() {
+		evictionCount.incrementAndGet();
+	}
+
+	public long hitCount() {
+		return hitCount.get();
+	}
+
+	public long missCount() {
+		return missCount.get();
+	}
+
+	public long buildCount() {
+		return buildCount.get();
+	}
+
+	public long buildTimeNanos() {
+		return buildTimeNanos.get();
+	}
+
+	public long evictionCount() {
+		return evictionCount.get();
+	}
+
+	public double hitRate() {
+		long hits = hitCount();
+		long requests = hits + missCount();
+		return requests == 0 ? 1.0 : (double) hits / requests;
+	}
+
+	@Override
+	public String toString() {
+		return "MapperCacheStats{" +
+				"hitCount=" + hitCount() +
+				", missCount=" + missCount() +
+				", buildCount=" + buildCount() +
+				", buildTimeNanos=" + buildTimeNanos() +
+				", evictionCount=" + evictionCount() +
+				'}';
+	}
+}
@@ -0,0 +1,62 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.FieldKey;
+
+/**
+ * Strategy used by the dynamic mappers to cache the mapper built for each set of columns.
+ * <p>
+ * unbounded() keeps every mapper, it is the default and is fine when the column sets are known in advance.
+ * bounded(maxSize) keeps at most maxSize mappers per dynamic mapper and evicts the least recently used one,
+ * use it when the column sets are open-ended - ad-hoc queries, user provided csv files.
+ */
+public abstract class MapperCacheStrategy {
+
+	private static final MapperCacheStrategy UNBOUNDED = new MapperCacheStrategy() {
+		@Override
+		public <K extends FieldKey<K>, M> Cache<K, M> newCache(MapperKeyComparator<K> comparator, MapperCacheStats stats) {
+			return new MapperCache<K, M>(comparator);
+		}
+
+		@Override
+		public String toString() {
+			return "MapperCacheStrategy{unbounded}";
+		}
+	};
+
+	public static MapperCacheStrategy unbounded() {
+		return UNBOUNDED;
+	}
+
+	public static MapperCacheStrategy bounded(final int maxSize) {
+		if (maxSize <= 0) throw new IllegalArgumentException("maxSize should be greater than 0");
+		return new MapperCacheStrategy() {
+			@Override
+			public <K extends FieldKey<K>, M> Cache<K, M> newCache(MapperKeyComparator<K> comparator, MapperCacheStats stats) {
+				return new BoundedMapperCache<K, M>(maxSize, stats);
+			}
+
+			@Override
+			public String toString() {
+				return "MapperCacheStrategy{bounded=" + maxSize + "}";
+			}
+		};
+	}
+
+	/**
+	 * @param comparator the comparator of the keys
+	 * @param stats the stats to record the evictions to, can be null
+	 * @return a new empty cache
+	 */
+	public abstract <K extends FieldKey<K>, M> Cache<K, M> newCache(MapperKeyComparator<K> comparator, MapperCacheStats stats);
+
+	/**
+	 * Thread-safe cache of mappers, get is called for every mapping and should be cheap, add only on a miss.
+	 */
+	public interface Cache<K extends FieldKey<K>, M> {
+		M get(MapperKey<K> key);
+
+		void add(MapperKey<K> key, M mapper);
+
+		int size();
+	}
+}
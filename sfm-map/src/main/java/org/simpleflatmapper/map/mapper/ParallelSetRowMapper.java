@@ -0,0 +1,122 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.MappingException;
+import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.error.RethrowConsumerErrorHandler;
+import org.simpleflatmapper.map.impl.ParallelMapperEnumerable;
+import org.simpleflatmapper.util.ConstantUnaryFactory;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Maps the rows of the source on an executor, the rows are read and copied in batches by the calling thread.
+ * <p>
+ * Each row is mapped on its own, the mapper must not have joins.
+ * forEach, iterator and stream all return the objects on the calling thread.
+ * If ordered is false the objects are returned in the order the batches complete.
+ * <p>
+ * forEach and the closing of the stream cancel the batches still in flight, the enumerable is Closeable for the same purpose.
+ */
+public class ParallelSetRowMapper<ROW, SET, T, E extends Exception> extends AbstractEnumerableMapper<SET, T, E> implements SetRowMapper<ROW, SET, T, E> {
+
+    private final SetRowMapper<ROW, SET, T, E> delegate;
+    private final UnaryFactory<SET, Enumerable<ROW>> enumerableFactory;
+    private final UnaryFactory<? super SET, ? extends SourceCopier<ROW>> copierFactory;
+    private final Executor executor;
+    private final int batchSize;
+    private final int maxInFlight;
+    private final boolean ordered;
+
+    /**
+     * @param delegate the mapper
+     * @param enumerableFactory the factory of the enumerable over the rows of the source
+     * @param copier copies the current row
+     * @param executor the executor the batches are mapped on
+     * @param batchSize the number of rows per batch
+     * @param ordered true if the objects need to be in the order of the rows
+     * @throws IllegalArgumentException if the mapper has joins
+     */
+    public ParallelSetRowMapper(SetRowMapper<ROW, SET, T, E> delegate,
+                                UnaryFactory<SET, Enumerable<ROW>> enumerableFactory,
+                                SourceCopier<ROW> copier,
+                                Executor executor,
+                                int batchSize,
+                                boolean ordered) {
+        this(delegate, enumerableFactory, ConstantUnaryFactory.<SET, SourceCopier<ROW>>of(copier), executor, batchSize, ordered);
+    }
+
+    /**
+     * @param delegate the mapper
+     * @param enumerableFactory the factory of the enumerable over the rows of the source
+     * @param copierFactory the factory of the copier of the rows of the source, called once per source
+     * @param executor the executor the batches are mapped on
+     * @param batchSize the number of rows per batch
+     * @param ordered true if the objects need to be in the order of the rows
+     * @throws IllegalArgumentException if the mapper has joins
+     */
+    public ParallelSetRowMapper(SetRowMapper<ROW, SET, T, E> delegate,
+                                UnaryFactory<SET, Enumerable<ROW>> enumerableFactory,
+                                UnaryFactory<? super SET, ? extends SourceCopier<ROW>> copierFactory,
+                                Executor executor,
+                                int batchSize,
+                                boolean ordered) {
+        super(RethrowConsumerErrorHandler.INSTANCE);
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be positive, was " + batchSize);
+        checkNoJoin(delegate);
+        this.delegate = delegate;
+        this.enumerableFactory = enumerableFactory;
+        this.copierFactory = copierFactory;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        // enough batches read ahead to keep the workers busy while the objects are consumed
+        this.maxInFlight = 2 * Runtime.getRuntime().availableProcessors();
+        this.ordered = ordered;
+    }
+
+    @Override
+    public Enumerable<T> enumerate(SET source) throws E, MappingException {
+        Enumerable<ROW> rows = enumerableFactory.newInstance(source);
+        return new ParallelMapperEnumerable<ROW, T>(rowMapper(source), rows, copierFactory.newInstance(source), executor, batchSize, maxInFlight, ordered);
+    }
+
+    // a dynamic mapper picks the mapper of the source once instead of looking it up for every row
+    @SuppressWarnings("unchecked")
+    private SetRowMapper<ROW, SET, T, E> rowMapper(SET source) throws E {
+        if (delegate instanceof DynamicSetRowMapper) {
+            SetRowMapper<ROW, SET, T, E> mapper = ((DynamicSetRowMapper<ROW, SET, T, E, ?>) delegate).getMapperFromSet(source);
+            checkNoJoin(mapper);
+            return mapper;
+        }
+        return delegate;
+    }
+
+    private static void checkNoJoin(SetRowMapper<?, ?, ?, ?> mapper) {
+        if (mapper instanceof DelegatingSetRowMapper) {
+            checkNoJoin(((DelegatingSetRowMapper<?, ?, ?, ?>) mapper).getDelegate());
+        } else if (mapper instanceof JoinMapper || mapper instanceof UnorderedJoinMapper) {
+            throw new IllegalArgumentException("Cannot map the rows of " + mapper + " in parallel, the mapper aggregates the rows of its joins");
+        }
+    }
+
+    @Override
+    public T map(ROW source) throws MappingException {
+        return delegate.map(source);
+    }
+
+    @Override
+    public T map(ROW source, MappingContext<? super ROW> context) throws MappingException {
+        return delegate.map(source, context);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelSetRowMapper{" +
+                "delegate=" + delegate +
+                ", batchSize=" + batchSize +
+                ", ordered=" + ordered +
+                '}';
+    }
+}
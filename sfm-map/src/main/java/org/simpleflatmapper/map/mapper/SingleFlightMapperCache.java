@@ -0,0 +1,102 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Look up the mapper for a key and build it on a miss, only one thread builds the mapper for a given key
+ * the other threads missing on the same key wait for it.
+ */
+final class SingleFlightMapperCache<K extends FieldKey<K>, M> {
+
+	private final MapperCacheStrategy.Cache<K, M> cache;
+	private final UnaryFactory<MapperKey<K>, M> mapperFactory;
+	private final MapperCacheStats stats;
+
+	private final ConcurrentMap<MapperKey<K>, Flight<M>> flights = new ConcurrentHashMap<MapperKey<K>, Flight<M>>();
+
+	SingleFlightMapperCache(MapperCacheStrategy.Cache<K, M> cache, UnaryFactory<MapperKey<K>, M> mapperFactory, MapperCacheStats stats) {
+		this.cache = cache;
+		this.mapperFactory = mapperFactory;
+		this.stats = stats;
+	}
+
+	public M get(MapperKey<K> key) {
+		M mapper = cache.get(key);
+		if (mapper != null) {
+			if (stats != null) stats.recordHit();
+			return mapper;
+		}
+		if (stats != null) stats.recordMiss();
+		return build(key);
+	}
+
+	private M build(MapperKey<K> key) {
+		Flight<M> flight = new Flight<M>();
+		Flight<M> inFlight = flights.putIfAbsent(key, flight);
+		if (inFlight != null) {
+			return inFlight.await();
+		}
+		try {
+			// the flight of another thread might have landed between the get and the putIfAbsent
+			M mapper = cache.get(key);
+			if (mapper == null) {
+				long start = System.nanoTime();
+				mapper = mapperFactory.newInstance(key);
+				if (stats != null) stats.recordBuild(System.nanoTime() - start);
+				cache.add(key, mapper);
+			}
+			flight.complete(mapper, null);
+			return mapper;
+		} catch (Throwable e) {
+			flight.complete(null, e);
+			return ErrorHelper.rethrow(e);
+		} finally {
+			flights.remove(key, flight);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return cache.toString();
+	}
+
+	private static final class Flight<M> {
+		private final CountDownLatch latch = new CountDownLatch(1);
+		private M mapper;
+		private Throwable error;
+
+		void complete(M mapper, Throwable error) {
+			this.mapper = mapper;
+			this.error = error;
+			latch.countDown();
+		}
+
+		M await() {
+			boolean interrupted = false;
+			try {
+				while (true) {
+					try {
+						latch.await();
+						break;
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (error != null) {
+				return ErrorHelper.rethrow(error);
+			}
+			return mapper;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package org.simpleflatmapper.map.mapper;
+
+/**
+ * Copies the current row of a source that is reused on each row, like a ResultSet or a CsvRow,
+ * so it can be mapped after the source moved to the next row.
+ * @param <ROW> the row type
+ * @see ParallelSetRowMapper
+ */
+public interface SourceCopier<ROW> {
+    /**
+     * @param row the current row
+     * @return a copy of the values of the current row
+     * @throws Exception if an error occurs
+     */
+    ROW copy(ROW row) throws Exception;
+}
@@ -0,0 +1,40 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Writes the rows an unordered join cannot keep in memory to a spill file and reads them back.
+ * @param <ROW> the row type
+ * @see org.simpleflatmapper.map.MapperConfig#unorderedJoinMaxInMemory(int)
+ */
+public interface SpillCodec<ROW> {
+    /**
+     * called once per spill, before its first row is written.
+     * @param template the first row spilled, the following rows have the same columns
+     * @return the writer of the rows of the spill
+     * @throws Exception if an error occurs
+     */
+    Writer<ROW> newWriter(ROW template) throws Exception;
+
+    /**
+     * @param in the spill file
+     * @param nbRows the number of rows written to the file
+     * @param template the row the spilled rows were read from, the source might be consumed at this point
+     * @return an enumerable over the spilled rows
+     * @throws Exception if an error occurs
+     */
+    Enumerable<ROW> read(ObjectInput in, int nbRows, ROW template) throws Exception;
+
+    interface Writer<ROW> {
+        /**
+         * write the values of the current row.
+         * @param row the row
+         * @param out the spill file
+         * @throws Exception if an error occurs
+         */
+        void write(ROW row, ObjectOutput out) throws Exception;
+    }
+}
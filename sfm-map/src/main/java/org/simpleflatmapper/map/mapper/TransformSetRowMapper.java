@@ -15,7 +15,7 @@ import java.util.Iterator;
 import java.util.stream.Stream;
 //IFJAVA8_END
 
-public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> implements SetRowMapper<ROW, SET, O, E> {
+public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> implements DelegatingSetRowMapper<ROW, SET, O, E> {
 
 	private final SetRowMapper<ROW, SET, I, E> delegate;
 	private final Function<? super I, ? extends O> transformer;
@@ -25,6 +25,11 @@ public final class TransformSetRowMapper<ROW, SET, I, O, E extends Exception> im
 		this.transformer = transformer;
 	}
 
+	@Override
+	public SetRowMapper<ROW, SET, I, E> getDelegate() {
+		return delegate;
+	}
+
 	@Override
 	public <H extends CheckedConsumer<? super O>> H forEach(SET source, final H handler) throws E, MappingException {
 		delegate.forEach(source, new TransformCheckedConsumer<I, O>(handler, transformer));
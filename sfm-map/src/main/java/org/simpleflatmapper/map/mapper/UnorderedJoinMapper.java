@@ -3,6 +3,7 @@ package org.simpleflatmapper.map.mapper;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
 import org.simpleflatmapper.map.ContextualSourceMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.map.context.impl.BreakDetector;
@@ -10,17 +11,34 @@ import org.simpleflatmapper.map.context.impl.BreakDetectorMappingContext;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.UnaryFactory;
 
+import java.io.File;
+
 public class UnorderedJoinMapper<ROW, ROWS, T, EX extends Exception> extends AbstractEnumerableDelegateMapper<ROW, ROWS, T, EX> {
 
     private final ContextualSourceFieldMapper<ROW, T> mapper;
     private final MappingContextFactory<? super ROW> mappingContextFactory;
     private final UnaryFactory<ROWS, Enumerable<ROW>> factory;
+    private final SpillCodec<ROW> spillCodec;
+    private final int maxInMemory;
+    private final File spillDirectory;
 
     public UnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler errorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<ROWS, Enumerable<ROW>> factory) {
+        this(mapper, errorHandler, mappingContextFactory, factory, null, MapperConfig.UNBOUNDED, null);
+    }
+
+    /**
+     * @param spillCodec the codec used to spill the rows of the root objects above maxInMemory, null to keep all in memory
+     * @param maxInMemory the max number of root objects kept in memory
+     * @param spillDirectory the directory of the spill files, null for the default temporary-file directory
+     */
+    public UnorderedJoinMapper(ContextualSourceFieldMapper<ROW, T> mapper, ConsumerErrorHandler errorHandler, MappingContextFactory<? super ROW> mappingContextFactory, UnaryFactory<ROWS, Enumerable<ROW>> factory, SpillCodec<ROW> spillCodec, int maxInMemory, File spillDirectory) {
         super(errorHandler);
         this.mapper = mapper;
         this.mappingContextFactory = mappingContextFactory;
         this.factory = factory;
+        this.spillCodec = spillCodec;
+        this.maxInMemory = maxInMemory;
+        this.spillDirectory = spillDirectory;
     }
 
 
@@ -31,7 +49,7 @@ public class UnorderedJoinMapper<ROW, ROWS, T, EX extends Exception> extends Abs
 
     @Override
     public final Enumerable<T> enumerate(ROWS source) throws EX {
-        return new UnorderedJoinMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerateRows(source));
+        return new UnorderedJoinMapperEnumerable<ROW, T>(mapper, mappingContextFactory.newContext(), enumerateRows(source), spillCodec, maxInMemory, spillDirectory);
     }
 
     private Enumerable<ROW> enumerateRows(ROWS source) {
@@ -1,5 +1,6 @@
 package org.simpleflatmapper.map.mapper;
 
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.SourceFieldMapper;
 import org.simpleflatmapper.map.context.impl.BreakDetector;
@@ -8,9 +9,16 @@ import org.simpleflatmapper.util.ArrayListEnumerable;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
 
+import java.io.Closeable;
+import java.io.File;
 import java.util.ArrayList;
 
-public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
+/**
+ * Maps all the rows before returning the objects, the rows of a root object do not need to be contiguous.
+ * <p>
+ * When some rows were spilled to disk, close deletes the spill files that have not been read yet.
+ */
+public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T>, Closeable {
 
     private final SourceFieldMapper<S, T> mapper;
     private final MappingContext<? super S> mappingContext;
@@ -19,15 +27,44 @@ public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
     private final Enumerable<S> sourceEnumerable;
     private final BreakDetector<? super S> breakDetector;
 
+    private final SpillCodec<S> spillCodec;
+    private final int maxInMemory;
+    private final File spillDirectory;
+    private final int level;
+
     private Enumerable<T> objectsEnumerable;
     
     public UnorderedJoinMapperEnumerable(SourceFieldMapper<S, T> mapper,
                                          MappingContext<? super S> mappingContext,
                                          Enumerable<S> sourceEnumerable) {
+        this(mapper, mappingContext, sourceEnumerable, null, MapperConfig.UNBOUNDED, null, 0);
+    }
+
+    /**
+     * @param spillCodec the codec used to spill the rows of the root objects above maxInMemory, null to keep all in memory
+     * @param maxInMemory the max number of root objects kept in memory
+     * @param spillDirectory the directory of the spill files, null for the default temporary-file directory
+     */
+    public UnorderedJoinMapperEnumerable(SourceFieldMapper<S, T> mapper,
+                                         MappingContext<? super S> mappingContext,
+                                         Enumerable<S> sourceEnumerable,
+                                         SpillCodec<S> spillCodec, int maxInMemory, File spillDirectory) {
+        this(mapper, mappingContext, sourceEnumerable, spillCodec, maxInMemory, spillDirectory, 0);
+    }
+
+    private UnorderedJoinMapperEnumerable(SourceFieldMapper<S, T> mapper,
+                                         MappingContext<? super S> mappingContext,
+                                         Enumerable<S> sourceEnumerable,
+                                         SpillCodec<S> spillCodec, int maxInMemory, File spillDirectory, int level) {
         this.mapper = mapper;
         this.mappingContext = mappingContext;
         this.sourceEnumerable = sourceEnumerable;
         this.breakDetector = getRootDetector(mappingContext);
+        // past MAX_LEVEL the keys share too many hash bits to be split further
+        this.spillCodec = level < UnorderedJoinSpill.MAX_LEVEL ? spillCodec : null;
+        this.maxInMemory = maxInMemory;
+        this.spillDirectory = spillDirectory;
+        this.level = level;
     }
 
     private BreakDetector<? super S> getRootDetector(MappingContext<? super S> mappingContext) {
@@ -53,24 +90,114 @@ public class UnorderedJoinMapperEnumerable<S, T> implements Enumerable<T> {
 
     private Enumerable<T> fetchAll() throws Exception {
         ArrayList<T> objects = new ArrayList<T>();
-        while (sourceEnumerable.next()) {
-
-            S source = sourceEnumerable.currentValue();
-
-            mappingContext.handleSource(source); // set current key
-            
-            T currentValue = (T) breakDetector.getValue();
-            
-            if (currentValue == null) {
-                currentValue = mapper.map(source, mappingContext);
-                breakDetector.setValue(currentValue);
-                objects.add(currentValue);
-            } else {
-                mapper.mapTo(source, currentValue, mappingContext);
+        UnorderedJoinSpill<S> spill = null;
+        try {
+            while (sourceEnumerable.next()) {
+
+                S source = sourceEnumerable.currentValue();
+
+                mappingContext.handleSource(source); // set current key
+
+                T currentValue = (T) breakDetector.getValue();
+
+                if (currentValue == null && spillCodec != null && objects.size() >= maxInMemory) {
+                    // the root object is not in memory, all its rows go to the same partition
+                    if (spill == null) {
+                        spill = new UnorderedJoinSpill<S>(spillCodec, spillDirectory, level);
+                    }
+                    spill.write(breakDetector.getCurrentKeyHashCode(), source);
+                } else if (currentValue == null) {
+                    currentValue = mapper.map(source, mappingContext);
+                    breakDetector.setValue(currentValue);
+                    objects.add(currentValue);
+                } else {
+                    mapper.mapTo(source, currentValue, mappingContext);
+                }
+            }
+
+            if (spill == null) {
+                return new ArrayListEnumerable<T>(objects);
+            }
+
+            spill.endWrite();
+        } catch (Exception e) {
+            if (spill != null) {
+                spill.close();
+            }
+            throw e;
+        }
+        return new SpilledEnumerable(objects, spill);
+    }
+
+    @Override
+    public void close() {
+        if (objectsEnumerable instanceof UnorderedJoinMapperEnumerable.SpilledEnumerable) {
+            ((SpilledEnumerable) objectsEnumerable).close();
+        }
+    }
+
+    /**
+     * the objects in memory, then the objects of each partition joined in turn.
+     * the spill files are deleted once all the objects have been returned.
+     */
+    private class SpilledEnumerable implements Enumerable<T>, Closeable {
+        private final UnorderedJoinSpill<S> spill;
+        private Enumerable<T> current;
+        private UnorderedJoinMapperEnumerable<S, T> currentPartition;
+        private int partition = -1;
+
+        private SpilledEnumerable(ArrayList<T> objects, UnorderedJoinSpill<S> spill) {
+            this.spill = spill;
+            this.current = new ArrayListEnumerable<T>(objects);
+        }
+
+        @Override
+        public boolean next() {
+            try {
+                while (!current.next()) {
+                    if (!nextPartition()) {
+                        close();
+                        return false;
+                    }
+                }
+                return true;
+            } catch (Exception e) {
+                close();
+                ErrorHelper.rethrow(e);
+                return false;
             }
         }
-        
-        return new ArrayListEnumerable<T>(objects);
+
+        @Override
+        public void close() {
+            if (currentPartition != null) {
+                currentPartition.close();
+            }
+            spill.close();
+        }
+
+        private boolean nextPartition() throws Exception {
+            do {
+                partition++;
+                if (partition >= spill.nbPartitions()) {
+                    return false;
+                }
+            } while (spill.isEmpty(partition));
+
+            if (currentPartition != null) {
+                currentPartition.close();
+            }
+            // forget the objects already returned
+            mappingContext.markAsBroken();
+            currentPartition = new UnorderedJoinMapperEnumerable<S, T>(mapper, mappingContext, spill.read(partition), spillCodec, maxInMemory, spillDirectory, level + 1);
+            current = currentPartition;
+            return true;
+        }
+
+        @Override
+        public T currentValue() {
+            return current.currentValue();
+        }
     }
 
     @Override
@@ -0,0 +1,188 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Temporary partition files of the rows spilled by an unordered join, a row goes to the partition of its root key hash.
+ * All the rows of a root object end up in the same partition that can then be joined on its own.
+ * <p>
+ * A partition file is deleted once all its rows have been read, close deletes the files that have not been read.
+ */
+final class UnorderedJoinSpill<S> implements Closeable {
+
+    static final int NB_PARTITIONS = 16;
+    static final int MAX_LEVEL = 4;
+
+    // reset the stream handle table so that it does not retain every value written
+    private static final int RESET_EVERY = 1024;
+
+    private final SpillCodec<S> codec;
+    private final File directory;
+    private final int level;
+
+    private final File[] files = new File[NB_PARTITIONS];
+    private final ObjectOutputStream[] outs = new ObjectOutputStream[NB_PARTITIONS];
+    private final int[] nbRows = new int[NB_PARTITIONS];
+
+    private S template;
+    private SpillCodec.Writer<S> writer;
+    private PartitionEnumerable<S> reading;
+
+    UnorderedJoinSpill(SpillCodec<S> codec, File directory, int level) {
+        this.codec = codec;
+        this.directory = directory;
+        this.level = level;
+    }
+
+    void write(int keyHashCode, S row) throws Exception {
+        if (template == null) {
+            template = row;
+            writer = codec.newWriter(row);
+        }
+        int partition = partition(keyHashCode, level);
+
+        ObjectOutputStream out = outs[partition];
+        if (out == null) {
+            File file = File.createTempFile("sfm-unordered-join", ".spill", directory);
+            files[partition] = file;
+            out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            outs[partition] = out;
+        }
+
+        writer.write(row, out);
+
+        if (++nbRows[partition] % RESET_EVERY == 0) {
+            out.reset();
+        }
+    }
+
+    /**
+     * closes the partition files for writing, they can then be read.
+     */
+    void endWrite() throws IOException {
+        for (int i = 0; i < outs.length; i++) {
+            ObjectOutputStream out = outs[i];
+            if (out != null) {
+                outs[i] = null;
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * closes the partition being read and deletes the files that have not been read.
+     */
+    @Override
+    public void close() {
+        for (int i = 0; i < outs.length; i++) {
+            if (outs[i] != null) {
+                closeQuietly(outs[i]);
+                outs[i] = null;
+            }
+        }
+        if (reading != null) {
+            reading.close();
+            reading = null;
+        }
+        for (int i = 0; i < files.length; i++) {
+            if (files[i] != null) {
+                files[i].delete();
+                files[i] = null;
+            }
+        }
+    }
+
+    int nbPartitions() {
+        return NB_PARTITIONS;
+    }
+
+    boolean isEmpty(int partition) {
+        return nbRows[partition] == 0;
+    }
+
+    /**
+     * the file is deleted once all its rows have been read.
+     */
+    Enumerable<S> read(int partition) throws Exception {
+        final File file = files[partition];
+        files[partition] = null;
+        ObjectInputStream in = null;
+        try {
+            in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+            reading = new PartitionEnumerable<S>(codec.read(in, nbRows[partition], template), in, file);
+            return reading;
+        } catch (Exception e) {
+            if (in != null) {
+                closeQuietly(in);
+            }
+            file.delete();
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // the file is deleted anyway
+        }
+    }
+
+    private static final class PartitionEnumerable<S> implements Enumerable<S>, Closeable {
+        private final Enumerable<S> rows;
+        private final Closeable in;
+        private final File file;
+        private boolean closed;
+
+        private PartitionEnumerable(Enumerable<S> rows, Closeable in, File file) {
+            this.rows = rows;
+            this.in = in;
+            this.file = file;
+        }
+
+        @Override
+        public boolean next() {
+            if (closed) return false;
+            if (rows.next()) {
+                return true;
+            }
+            close();
+            return false;
+        }
+
+        @Override
+        public S currentValue() {
+            return rows.currentValue();
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                closeQuietly(in);
+                file.delete();
+            }
+        }
+    }
+
+    // a different mix per level so that a partition that is too big gets split again
+    private static int partition(int h, int level) {
+        h += level * 0x9e3779b9;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h & (NB_PARTITIONS - 1);
+    }
+}
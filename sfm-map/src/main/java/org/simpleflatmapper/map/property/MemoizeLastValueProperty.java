@@ -0,0 +1,61 @@
+package org.simpleflatmapper.map.property;
+
+/**
+ * Keeps the last converted value of the column, when the next row has the same raw value
+ * the converter is not called and the previous result is returned.
+ * <p>
+ * Useful on sorted or grouped sources where a date, an enum or a decimal repeats over consecutive rows.
+ * The converted values are shared between the rows, only use it for immutable values.
+ * The cache is held by the MappingContext, it is not shared between threads or iterations.
+ */
+public class MemoizeLastValueProperty {
+
+    public static final MemoizeLastValueProperty INSTANCE = new MemoizeLastValueProperty(1);
+
+    private final int cacheSize;
+
+    protected MemoizeLastValueProperty(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * direct mapped cache for the low cardinality columns that are not sorted,
+     * a value is kept per slot and replaced by the next value that hashes to the same slot.
+     * @param size the number of slots, rounded up to a power of two
+     * @return the property
+     */
+    public static MemoizeLastValueProperty directMapped(int size) {
+        if (size < 1 || size > 1 << 16) {
+            throw new IllegalArgumentException("Invalid cache size " + size);
+        }
+        int cacheSize = 1;
+        while (cacheSize < size) {
+            cacheSize <<= 1;
+        }
+        return new MemoizeLastValueProperty(cacheSize);
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        MemoizeLastValueProperty that = (MemoizeLastValueProperty) o;
+
+        return cacheSize == that.cacheSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return cacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizeLastValue{" + cacheSize + "}";
+    }
+}
@@ -1,11 +1,25 @@
 package org.simpleflatmapper.test.map;
 
 import org.junit.Test;
+import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.map.mapper.BoundedMapperCache;
+import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
 import org.simpleflatmapper.map.mapper.MapperCache;
+import org.simpleflatmapper.map.mapper.MapperCacheStats;
+import org.simpleflatmapper.map.mapper.MapperCacheStrategy;
 import org.simpleflatmapper.map.mapper.MapperKey;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 public class MapperCacheTest {
 
@@ -37,5 +51,123 @@ public class MapperCacheTest {
 
 	}
 
+	@Test
+	public void testBoundedMapperCacheEvictsNotRecentlyUsed() throws Exception {
+		MapperCacheStats stats = new MapperCacheStats();
+		BoundedMapperCache<SampleFieldKey, Object> cache = new BoundedMapperCache<SampleFieldKey, Object>(2, stats);
+
+		cache.add(key(0), new Object());
+		cache.add(key(1), new Object());
+		// clears the referenced flags of key 0 and 1 then evicts one of them
+		cache.add(key(2), new Object());
+		assertEquals(2, cache.size());
+		assertEquals(1, stats.evictionCount());
+
+		// key 2 is referenced, the key 0 or 1 left is not
+		cache.add(key(3), new Object());
+		assertEquals(2, stats.evictionCount());
+		assertNull(cache.get(key(0)));
+		assertNull(cache.get(key(1)));
+		assertNotNull(cache.get(key(2)));
+		assertNotNull(cache.get(key(3)));
+	}
+
+	@Test
+	public void testBoundedMapperCacheSize() throws Exception {
+		MapperCacheStats stats = new MapperCacheStats();
+		BoundedMapperCache<SampleFieldKey, Object> cache = new BoundedMapperCache<SampleFieldKey, Object>(10, stats);
+
+		for(int i = 0; i < 100; i++) {
+			Object o = new Object();
+			cache.add(key(i), o);
+			cache.add(key(i), new Object());
+			assertSame(o, cache.get(key(i)));
+			assertEquals(Math.min(i + 1, 10), cache.size());
+		}
+		assertEquals(90, stats.evictionCount());
+	}
+
+	@Test
+	public void testDynamicMapperBuildsMapperOnceForConcurrentMisses() throws Exception {
+		final int nbThreads = 8;
+		final AtomicInteger nbBuilds = new AtomicInteger();
+		final CountDownLatch buildStarted = new CountDownLatch(1);
+		final CountDownLatch releaseBuild = new CountDownLatch(1);
+		final MapperCacheStats stats = new MapperCacheStats();
+
+		UnaryFactory<MapperKey<SampleFieldKey>, SetRowMapper<Object, Object, Object, RuntimeException>> mapperFactory =
+				new UnaryFactory<MapperKey<SampleFieldKey>, SetRowMapper<Object, Object, Object, RuntimeException>>() {
+					@Override
+					public SetRowMapper<Object, Object, Object, RuntimeException> newInstance(MapperKey<SampleFieldKey> key) {
+						nbBuilds.incrementAndGet();
+						buildStarted.countDown();
+						try {
+							releaseBuild.await();
+						} catch (InterruptedException e) {
+							throw new IllegalStateException(e);
+						}
+						if (key.getColumns().length == 1) {
+							throw new IllegalArgumentException("fail " + key);
+						}
+						return new DynamicSetRowMapper<Object, Object, Object, RuntimeException, SampleFieldKey>(null, null, null, null);
+					}
+				};
+		final DynamicSetRowMapper<Object, Object, Object, RuntimeException, SampleFieldKey> dynamicSetRowMapper =
+				new DynamicSetRowMapper<Object, Object, Object, RuntimeException, SampleFieldKey>(
+						mapperFactory,
+						null,
+						null,
+						SampleFieldKeyMapperKeyComparator.INSTANCE,
+						MapperCacheStrategy.bounded(10),
+						stats);
+
+		final List<Object> results = new ArrayList<Object>();
+		List<Thread> threads = new ArrayList<Thread>();
+		for(int i = 0; i < nbThreads; i++) {
+			Thread thread = new Thread() {
+				@Override
+				public void run() {
+					Object mapper = dynamicSetRowMapper.getMapper(key(1));
+					synchronized (results) {
+						results.add(mapper);
+					}
+				}
+			};
+			threads.add(thread);
+			thread.start();
+		}
+		buildStarted.await();
+		// give the other threads time to miss and wait on the build
+		Thread.sleep(50);
+		releaseBuild.countDown();
+		for(Thread thread : threads) {
+			thread.join();
+		}
+
+		assertEquals(1, nbBuilds.get());
+		assertEquals(nbThreads, results.size());
+		for(Object result : results) {
+			assertSame(results.get(0), result);
+		}
+		assertSame(results.get(0), dynamicSetRowMapper.getMapper(key(1)));
+		assertEquals(1, stats.buildCount());
+		assertEquals(nbThreads, stats.missCount());
+		assertEquals(1, stats.hitCount());
+
+		// a failed build is not cached
+		MapperKey<SampleFieldKey> failingKey = new MapperKey<SampleFieldKey>(new SampleFieldKey("fail", 1));
+		for(int i = 0; i < 2; i++) {
+			try {
+				dynamicSetRowMapper.getMapper(failingKey);
+				fail();
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		assertEquals(3, nbBuilds.get());
+	}
 
+	private static MapperKey<SampleFieldKey> key(int i) {
+		return new MapperKey<SampleFieldKey>(new SampleFieldKey("col" + i, 1), new SampleFieldKey("col" + i + 1, 2));
+	}
 }
@@ -12,6 +12,10 @@ import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.test.beans.DbObject;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 public class MapperAsmFactoryTest {
@@ -70,4 +74,45 @@ public class MapperAsmFactoryTest {
 			// ok
 		} 
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMapperIsSplitWhenAboveMaxMethodSize() throws Exception {
+		final boolean[] called = new boolean[7];
+		FieldMapper<Object, DbObject>[] fieldMappers = new FieldMapper[called.length];
+		for(int i = 0; i < fieldMappers.length; i++) {
+			final int index = i;
+			fieldMappers[i] = new FieldMapper<Object, DbObject>() {
+				@Override
+				public void mapTo(Object source, DbObject target, MappingContext<? super Object> mappingContext) throws Exception {
+					called[index] = true;
+				}
+			};
+		}
+
+		SourceMapper<Object, DbObject> mapper = asmFactory.createMapper(new SampleFieldKey[0],
+				fieldMappers,
+				(FieldMapper<Object, DbObject>[]) new FieldMapper[]{ fieldMappers[0], fieldMappers[1], fieldMappers[2] },
+				new BiInstantiator<Object, MappingContext<? super Object>, DbObject>() {
+					@Override
+					public DbObject newInstance(Object s, MappingContext<? super Object> context) throws Exception {
+						return new DbObject();
+					}
+				}, Object.class,
+				DbObject.class, 2);
+
+		boolean hasShardMethod = false;
+		for(Method m : mapper.getClass().getDeclaredMethods()) {
+			if (m.getName().startsWith("mapFields") && m.getName().length() > "mapFields".length()) {
+				hasShardMethod = true;
+				assertTrue(Modifier.isPrivate(m.getModifiers()));
+			}
+		}
+		assertTrue(hasShardMethod);
+
+		assertNotNull(mapper.map(null, null));
+		for(int i = 0; i < called.length; i++) {
+			assertTrue("field mapper " + i, called[i]);
+		}
+	}
 }
@@ -0,0 +1,160 @@
+package org.simpleflatmapper.test.map.context.impl;
+
+import org.junit.Test;
+import org.simpleflatmapper.map.context.KeyAndPredicate;
+import org.simpleflatmapper.map.context.KeyDefinition;
+import org.simpleflatmapper.map.context.KeySourceGetter;
+import org.simpleflatmapper.map.context.KeyValueHolder;
+import org.simpleflatmapper.map.context.KeyValueHolderFactory;
+import org.simpleflatmapper.map.context.impl.BreakDetector;
+import org.simpleflatmapper.test.map.SampleFieldKey;
+import org.simpleflatmapper.util.Predicate;
+
+import static org.junit.Assert.*;
+
+public class BreakDetectorTest {
+
+    private static final SampleFieldKey K0 = new SampleFieldKey("k0", 0);
+    private static final SampleFieldKey K1 = new SampleFieldKey("k1", 1);
+
+    private static final KeySourceGetter<SampleFieldKey, Object[]> KEY_SOURCE_GETTER = new KeySourceGetter<SampleFieldKey, Object[]>() {
+        @Override
+        public Object getValue(SampleFieldKey key, Object[] source) {
+            return source[key.getIndex()];
+        }
+    };
+
+    @Test
+    public void testBrokeOnMultiKeys() {
+        BreakDetector<Object[]> breakDetector = new BreakDetector<Object[]>(keyDefinition(KEY_SOURCE_GETTER, K0, K1));
+
+        assertTrue(breakDetector.broke(new Object[] {1, "a"}));
+        assertFalse(breakDetector.broke(new Object[] {1, "a"}));
+        assertTrue(breakDetector.broke(new Object[] {1, "b"}));
+        assertTrue(breakDetector.broke(new Object[] {2, "b"}));
+        assertTrue(breakDetector.broke(new Object[] {null, null}));
+        assertFalse(breakDetector.broke(new Object[] {null, null}));
+
+        breakDetector.markRootAsBroken();
+        assertTrue(breakDetector.broke(new Object[] {null, null}));
+    }
+
+    @Test
+    public void testStoredValueLookedUpWithCurrentRow() {
+        BreakDetector<Object[]> breakDetector = new BreakDetector<Object[]>(keyDefinition(KEY_SOURCE_GETTER, K0, K1));
+
+        breakDetector.handleSource(new Object[] {1, "a"});
+        assertNull(breakDetector.getValue());
+        breakDetector.setValue("1a");
+
+        breakDetector.handleSource(new Object[] {2, "a"});
+        assertNull(breakDetector.getValue());
+        breakDetector.setValue("2a");
+
+        breakDetector.handleSource(new Object[] {1, "a"});
+        assertEquals("1a", breakDetector.getValue());
+        assertEquals(breakDetector.getKey(new Object[] {1, "a"}), breakDetector.getCurrentKey());
+        assertEquals("1a", breakDetector.getValue(breakDetector.getKey(new Object[] {1, "a"})));
+
+        breakDetector.handleSource(new Object[] {2, "a"});
+        assertEquals("2a", breakDetector.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testPredicateNotMatchingNeverEquals() {
+        KeyDefinition<Object[], SampleFieldKey> keyDefinition = new KeyDefinition<Object[], SampleFieldKey>(
+                new KeyAndPredicate[] { new KeyAndPredicate<Object[], SampleFieldKey>(K0, new Predicate<Object[]>() {
+                    @Override
+                    public boolean test(Object[] objects) {
+                        return objects[0] != null;
+                    }
+                })},
+                KEY_SOURCE_GETTER, 0);
+        BreakDetector<Object[]> breakDetector = new BreakDetector<Object[]>(keyDefinition);
+
+        assertTrue(breakDetector.broke(new Object[] {null}));
+        assertTrue(breakDetector.broke(new Object[] {null}));
+        assertTrue(breakDetector.broke(new Object[] {1}));
+        assertFalse(breakDetector.broke(new Object[] {1}));
+
+        breakDetector.handleSource(new Object[] {null});
+        breakDetector.setValue("ignored");
+        assertNull(breakDetector.getValue());
+    }
+
+    @Test
+    public void testKeyValueHolderFactory() {
+        LongKeySourceGetter keySourceGetter = new LongKeySourceGetter();
+        BreakDetector<Object[]> breakDetector = new BreakDetector<Object[]>(keyDefinition(keySourceGetter, K0));
+
+        assertTrue(breakDetector.broke(new Object[] {1L}));
+        assertFalse(breakDetector.broke(new Object[] {1L}));
+        breakDetector.setValue("1");
+        assertTrue(breakDetector.broke(new Object[] {2L}));
+        breakDetector.setValue("2");
+
+        breakDetector.handleSource(new Object[] {1L});
+        assertEquals("1", breakDetector.getValue());
+
+        assertEquals(0, keySourceGetter.getValueCount);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KeyDefinition<Object[], SampleFieldKey> keyDefinition(KeySourceGetter<SampleFieldKey, Object[]> keySourceGetter, SampleFieldKey... keys) {
+        KeyAndPredicate<Object[], SampleFieldKey>[] keyAndPredicates = new KeyAndPredicate[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyAndPredicates[i] = new KeyAndPredicate<Object[], SampleFieldKey>(keys[i], null);
+        }
+        return new KeyDefinition<Object[], SampleFieldKey>(keyAndPredicates, keySourceGetter, 0);
+    }
+
+    private static class LongKeySourceGetter implements KeySourceGetter<SampleFieldKey, Object[]>, KeyValueHolderFactory<SampleFieldKey, Object[]> {
+        private int getValueCount;
+
+        @Override
+        public Object getValue(SampleFieldKey key, Object[] source) {
+            getValueCount++;
+            return source[key.getIndex()];
+        }
+
+        @Override
+        public KeyValueHolder<Object[]> newKeyValueHolder(final SampleFieldKey key) {
+            return new KeyValueHolder<Object[]>() {
+                private long value;
+                private boolean isNull = true;
+
+                @Override
+                public boolean read(Object[] source) {
+                    long newValue = (Long) source[key.getIndex()];
+                    boolean changed = isNull || newValue != value;
+                    value = newValue;
+                    isNull = false;
+                    return changed;
+                }
+
+                @Override
+                public boolean readNull() {
+                    boolean changed = !isNull;
+                    isNull = true;
+                    return changed;
+                }
+
+                @Override
+                public Object value() {
+                    return isNull ? null : (Object) value;
+                }
+
+                @Override
+                public int valueHashCode() {
+                    return isNull ? 0 : (int) (value ^ (value >>> 32));
+                }
+
+                @Override
+                public boolean valueEquals(Object value) {
+                    return isNull ? value == null : Long.valueOf(this.value).equals(value);
+                }
+            };
+        }
+    }
+}
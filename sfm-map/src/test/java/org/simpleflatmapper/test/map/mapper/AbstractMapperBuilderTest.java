@@ -50,6 +50,9 @@ import org.simpleflatmapper.test.beans.ObjectWith1ParamConstructionWithLoop;
 import org.simpleflatmapper.tuple.Tuple2;
 import org.simpleflatmapper.util.*;
 
+import java.io.File;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +66,7 @@ import java.util.Set;
 
 //IFJAVA8_START
 import java.util.Optional;
+import java.util.stream.Stream;
 //IFJAVA8_END
 
 
@@ -955,6 +959,61 @@ public class AbstractMapperBuilderTest {
 
     }
     
+    @Test
+    public void testJoinUnorderedSpill() throws Exception {
+        List<Object[]> rows = new ArrayList<Object[]>();
+        for (long student = 0; student < 5; student++) {
+            for (long prof = 0; prof < 100; prof++) {
+                rows.add(new Object[] {prof, "prof" + prof, prof * 10 + student, "S" + student});
+            }
+        }
+        Object[][] data = rows.toArray(new Object[0][]);
+
+        File spillDirectory = File.createTempFile("sfm-spill-test", "");
+        assertTrue(spillDirectory.delete());
+        assertTrue(spillDirectory.mkdir());
+        try {
+            MapperConfig<SampleFieldKey, Object[]> spillConfig = MapperConfig.<SampleFieldKey, Object[]>fieldMapperConfig()
+                    .unorderedJoin(true).unorderedJoinMaxInMemory(3).unorderedJoinSpillDirectory(spillDirectory);
+
+            List<Prof> inMemory = newProfMapper(MapperConfig.<SampleFieldKey, Object[]>fieldMapperConfig().unorderedJoin(true))
+                    .forEach(data, new ListCollector<Prof>()).getList();
+            List<Prof> spilled = newProfMapper(spillConfig)
+                    .forEach(data, new ListCollector<Prof>()).getList();
+
+            assertEquals(100, inMemory.size());
+            assertEquals(5, inMemory.get(42).students.size());
+            // the objects in memory come first then the partitions
+            assertEquals(inMemory.subList(0, 3), spilled.subList(0, 3));
+            assertEquals(new HashSet<Prof>(inMemory), new HashSet<Prof>(spilled));
+            assertEquals(inMemory.size(), spilled.size());
+            assertEquals(0, spillDirectory.list().length);
+
+            //IFJAVA8_START
+            // a partially consumed stream deletes the partition files on close
+            Stream<Prof> stream = newProfMapper(spillConfig).stream(data);
+            assertEquals(5, stream.limit(5).count());
+            assertTrue(spillDirectory.list().length > 0);
+            stream.close();
+            assertEquals(0, spillDirectory.list().length);
+            //IFJAVA8_END
+        } finally {
+            for (File file : spillDirectory.listFiles()) {
+                file.delete();
+            }
+            spillDirectory.delete();
+        }
+    }
+
+    private SetRowMapper<Object[], Object[][], Prof, Exception> newProfMapper(MapperConfig<SampleFieldKey, Object[]> mapperConfig) {
+        SampleMapperBuilder<Prof> builder = new SampleMapperBuilder<Prof>(ReflectionService.newInstance().getClassMeta(Prof.class), mapperConfig);
+        builder.addKey("id");
+        builder.addMapping("name");
+        builder.addKey("students_id");
+        builder.addMapping("students_name");
+        return builder.mapper();
+    }
+
     public static class Prof {
         public final long id;
         public final String name;
@@ -1179,6 +1238,27 @@ public class AbstractMapperBuilderTest {
             }
         };
 
+        public static final SpillCodec<Object[]> SPILL_CODEC = new SpillCodec<Object[]>() {
+            @Override
+            public Writer<Object[]> newWriter(Object[] template) {
+                return new Writer<Object[]>() {
+                    @Override
+                    public void write(Object[] row, ObjectOutput out) throws Exception {
+                        out.writeObject(row);
+                    }
+                };
+            }
+
+            @Override
+            public Enumerable<Object[]> read(final ObjectInput in, final int nbRows, Object[] template) throws Exception {
+                Object[][] rows = new Object[nbRows][];
+                for (int i = 0; i < nbRows; i++) {
+                    rows[i] = (Object[]) in.readObject();
+                }
+                return new ArrayEnumerable<Object[]>(rows);
+            }
+        };
+
         public SampleMapperBuilder(ClassMeta<T> classMeta, MapperConfig<SampleFieldKey, Object[]> mapperConfig) {
             super(KEY_FACTORY, 
                     new DefaultSetRowMapperBuilder<Object[], Object[][], T, SampleFieldKey, Exception>(
@@ -1212,7 +1292,8 @@ public class AbstractMapperBuilderTest {
                                 }
                             },
 
-                            KEY_SOURCE_GETTER),
+                            KEY_SOURCE_GETTER,
+                            SPILL_CODEC),
                     new BiFunction<SetRowMapper<Object[], Object[][], T, Exception>, List<SampleFieldKey>, SetRowMapper<Object[], Object[][], T, Exception>>() {
                         @Override
                         public SetRowMapper<Object[], Object[][], T, Exception> apply(SetRowMapper<Object[], Object[][], T, Exception> setRowMapper, List<SampleFieldKey> keys) {
@@ -12,18 +12,31 @@ import org.simpleflatmapper.test.map.SampleFieldKeyMapperKeyComparator;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.error.RethrowConsumerErrorHandler;
 import org.simpleflatmapper.map.mapper.DynamicSetRowMapper;
+import org.simpleflatmapper.map.mapper.JoinMapper;
 import org.simpleflatmapper.map.mapper.MapperKey;
+import org.simpleflatmapper.map.mapper.ParallelSetRowMapper;
+import org.simpleflatmapper.map.mapper.SourceCopier;
 import org.simpleflatmapper.map.mapper.StaticSetRowMapper;
+import org.simpleflatmapper.map.mapper.TransformSetRowMapper;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.util.ArrayEnumerable;
+import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.Function;
 import org.simpleflatmapper.util.ListCollector;
 import org.simpleflatmapper.util.UnaryFactory;
 import org.simpleflatmapper.util.UnaryFactoryWithException;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 //IFJAVA8_START
 import java.util.stream.Collectors;
@@ -42,6 +55,12 @@ public class SetRowMapperTest {
             return new ArrayEnumerable<Object[]>(objects);
         }
     };
+    public static final SourceCopier<Object[]> CLONE_COPIER = new SourceCopier<Object[]>() {
+        @Override
+        public Object[] copy(Object[] row) {
+            return row.clone();
+        }
+    };
     public static final ContextualSourceFieldMapper<Object[], DbObject> ID_NAME_MAPPER =  new ContextualSourceFieldMapper<Object[], DbObject>() {
         @Override
         public DbObject map(Object[] source) throws MappingException {
@@ -105,6 +124,111 @@ public class SetRowMapperTest {
 
     }
 
+    @Test
+    public void testParallel() throws Exception {
+        StaticSetRowMapper<Object[], Object[][], DbObject, RuntimeException> staticSetRowMapper =
+                new StaticSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(ID_NAME_MAPPER,
+                        RethrowConsumerErrorHandler.INSTANCE, MappingContext.EMPTY_FACTORY, ENUMERABLE_UNARY_FACTORY);
+
+        SourceCopier<Object[]> copier = CLONE_COPIER;
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            checkSetRowMapperIdName(new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(staticSetRowMapper, ENUMERABLE_UNARY_FACTORY, copier, executor, 1, true));
+
+            Object[][] data = new Object[1000][];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = new Object[] {(long) i, "name" + i};
+            }
+            List<DbObject> ordered = new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(staticSetRowMapper, ENUMERABLE_UNARY_FACTORY, copier, executor, 7, true)
+                    .forEach(data, new ListCollector<DbObject>()).getList();
+            assertEquals(data.length, ordered.size());
+            for (int i = 0; i < data.length; i++) {
+                checkIdNameRow(i, ordered.get(i));
+            }
+
+            List<DbObject> unordered = new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(staticSetRowMapper, ENUMERABLE_UNARY_FACTORY, copier, executor, 7, false)
+                    .forEach(data, new ListCollector<DbObject>()).getList();
+            Set<Long> ids = new HashSet<Long>();
+            for (DbObject o : unordered) {
+                checkIdNameRow(o.getId(), o);
+                ids.add(o.getId());
+            }
+            assertEquals(data.length, ids.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelRejectsJoinMapper() {
+        JoinMapper<Object[], Object[][], DbObject, RuntimeException> joinMapper =
+                new JoinMapper<Object[], Object[][], DbObject, RuntimeException>(ID_NAME_MAPPER,
+                        RethrowConsumerErrorHandler.INSTANCE, MappingContext.EMPTY_FACTORY, ENUMERABLE_UNARY_FACTORY);
+        try {
+            new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(joinMapper, ENUMERABLE_UNARY_FACTORY, CLONE_COPIER, Executors.newSingleThreadExecutor(), 1, true);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(
+                    new TransformSetRowMapper<Object[], Object[][], DbObject, DbObject, RuntimeException>(joinMapper, new Function<DbObject, DbObject>() {
+                        @Override
+                        public DbObject apply(DbObject dbObject) {
+                            return dbObject;
+                        }
+                    }),
+                    ENUMERABLE_UNARY_FACTORY, CLONE_COPIER, Executors.newSingleThreadExecutor(), 1, true);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testParallelCancelsBatchesInFlight() {
+        StaticSetRowMapper<Object[], Object[][], DbObject, RuntimeException> staticSetRowMapper =
+                new StaticSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(ID_NAME_MAPPER,
+                        RethrowConsumerErrorHandler.INSTANCE, MappingContext.EMPTY_FACTORY, ENUMERABLE_UNARY_FACTORY);
+        Object[][] data = new Object[10][];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = new Object[] {(long) i, "name" + i};
+        }
+
+        // runs the first batch, keeps the others in flight
+        final List<Runnable> pending = new ArrayList<Runnable>();
+        Executor executor = new Executor() {
+            boolean first = true;
+            @Override
+            public void execute(Runnable command) {
+                if (first) {
+                    first = false;
+                    command.run();
+                } else {
+                    pending.add(command);
+                }
+            }
+        };
+
+        try {
+            new ParallelSetRowMapper<Object[], Object[][], DbObject, RuntimeException>(staticSetRowMapper, ENUMERABLE_UNARY_FACTORY, CLONE_COPIER, executor, 1, true)
+                    .forEach(data, new CheckedConsumer<DbObject>() {
+                        @Override
+                        public void accept(DbObject dbObject) throws Exception {
+                            throw new IllegalStateException();
+                        }
+                    });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertFalse(pending.isEmpty());
+        for (Runnable runnable : pending) {
+            assertTrue(((Future<?>) runnable).isCancelled());
+        }
+    }
+
     private void checkSetRowMapperIdName(SetRowMapper<Object[], Object[][], DbObject, RuntimeException> staticSetRowMapper) throws Exception {
         checkIdNameResult(staticSetRowMapper.forEach(ID_NAME_DATA, new ListCollector<DbObject>()).getList());
         checkIdNameResult(staticSetRowMapper.iterator(ID_NAME_DATA));
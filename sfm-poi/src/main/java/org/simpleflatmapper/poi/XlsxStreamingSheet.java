@@ -0,0 +1,238 @@
+package org.simpleflatmapper.poi;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.simpleflatmapper.poi.impl.XlsxRowEnumerable;
+import org.simpleflatmapper.util.CloseableEnumerable;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A sheet of a xlsx file read through the POI event api instead of loading the XSSFWorkbook.
+ * The rows are pulled one at a time from the sheet xml, the heap used does not depend on the number of rows.
+ * The shared strings and the styles of the workbook are still loaded in memory.
+ * <p>
+ * The rows are read only and have no Sheet, the formula cells return their cached result.
+ * Each call to rows or to a {@link XlsxStreamingSheetMapper} method reads the sheet from the start.
+ * <pre>
+ * try (XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file)) {
+ *     new XlsxStreamingSheetMapper&lt;MyClass&gt;(mapper).forEach(sheet, consumer);
+ * }
+ * </pre>
+ */
+public final class XlsxStreamingSheet implements Closeable {
+
+    private final OPCPackage opcPackage;
+    private final XSSFReader xssfReader;
+    private final int sheetIndex;
+    private final String sheetName;
+    private final String[] sharedStrings;
+    private final StylesTable stylesTable;
+    private final boolean date1904;
+
+    private final List<OpenRows> openRows = new ArrayList<OpenRows>();
+
+    private XlsxStreamingSheet(OPCPackage opcPackage, int sheetIndex, String sheetName) throws IOException {
+        this.opcPackage = opcPackage;
+        try {
+            this.xssfReader = new XSSFReader(opcPackage);
+
+            int index = -1;
+            String name = null;
+            XSSFReader.SheetIterator it = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            for (int i = 0; it.hasNext(); i++) {
+                it.next().close();
+                if (sheetName != null ? sheetName.equals(it.getSheetName()) : i == sheetIndex) {
+                    index = i;
+                    name = it.getSheetName();
+                    break;
+                }
+            }
+            if (index < 0) {
+                throw new IllegalArgumentException("No sheet " + (sheetName != null ? sheetName : String.valueOf(sheetIndex)) + " in workbook");
+            }
+            this.sheetIndex = index;
+            this.sheetName = name;
+            this.sharedStrings = XlsxRowEnumerable.readSharedStrings(xssfReader.getSharedStringsData());
+            this.stylesTable = xssfReader.getStylesTable();
+            this.date1904 = XlsxRowEnumerable.readDate1904(xssfReader.getWorkbookData());
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @param file the xlsx file
+     * @return the first sheet of the file
+     * @throws IOException if the file cannot be read
+     */
+    public static XlsxStreamingSheet open(File file) throws IOException {
+        return open(file, 0);
+    }
+
+    public static XlsxStreamingSheet open(File file, int sheetIndex) throws IOException {
+        return open(openPackage(file), sheetIndex, null);
+    }
+
+    public static XlsxStreamingSheet open(File file, String sheetName) throws IOException {
+        return open(openPackage(file), -1, sheetName);
+    }
+
+    /**
+     * POI buffers the zip content of the stream in memory, use the File version for big files.
+     * @param is the xlsx content
+     * @param sheetIndex the index of the sheet
+     * @return the sheet
+     * @throws IOException if the stream cannot be read
+     */
+    public static XlsxStreamingSheet open(InputStream is, int sheetIndex) throws IOException {
+        try {
+            return open(OPCPackage.open(is), sheetIndex, null);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static OPCPackage openPackage(File file) throws IOException {
+        try {
+            return OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static XlsxStreamingSheet open(OPCPackage opcPackage, int sheetIndex, String sheetName) throws IOException {
+        try {
+            return new XlsxStreamingSheet(opcPackage, sheetIndex, sheetName);
+        } catch (IOException e) {
+            opcPackage.revert();
+            throw e;
+        } catch (RuntimeException e) {
+            opcPackage.revert();
+            throw e;
+        }
+    }
+
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * @return the rows of the sheet that have cells
+     */
+    public CloseableEnumerable<Row> rows() {
+        return rows(0);
+    }
+
+    /**
+     * the enumerable is closed once all the rows have been read, or when the sheet is closed.
+     * @param startRow the index of the first row to return
+     * @return the rows of the sheet that have cells from startRow
+     */
+    public CloseableEnumerable<Row> rows(int startRow) {
+        try {
+            OpenRows rows = new OpenRows(new XlsxRowEnumerable(sheetData(), startRow, sharedStrings, stylesTable, date1904));
+            synchronized (openRows) {
+                openRows.add(rows);
+            }
+            return new CloseableEnumerable<Row>(rows, rows);
+        } catch (Exception e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    private InputStream sheetData() throws IOException, OpenXML4JException {
+        XSSFReader.SheetIterator it = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+        for (int i = 0; it.hasNext(); i++) {
+            InputStream is = it.next();
+            if (i == sheetIndex) {
+                return is;
+            }
+            is.close();
+        }
+        throw new IllegalStateException("Sheet " + sheetIndex + " not found");
+    }
+
+    /**
+     * closes the rows still open and the package.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            List<OpenRows> rowsToClose;
+            synchronized (openRows) {
+                rowsToClose = new ArrayList<OpenRows>(openRows);
+            }
+            for (OpenRows rows : rowsToClose) {
+                rows.close();
+            }
+        } finally {
+            // read only, nothing to save
+            opcPackage.revert();
+        }
+    }
+
+    /**
+     * the rows of the sheet, forgotten by the sheet once closed or read to the end.
+     */
+    private final class OpenRows implements Enumerable<Row>, Closeable {
+        private final XlsxRowEnumerable rows;
+
+        private OpenRows(XlsxRowEnumerable rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean next() {
+            boolean next = false;
+            try {
+                next = rows.next();
+            } finally {
+                if (!next) {
+                    // read to the end or failed
+                    closeQuietly();
+                }
+            }
+            return next;
+        }
+
+        @Override
+        public Row currentValue() {
+            return rows.currentValue();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                rows.close();
+            } finally {
+                forget();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException e) {
+                // the rows are no longer read
+            }
+        }
+
+        private void forget() {
+            synchronized (openRows) {
+                openRows.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.simpleflatmapper.poi;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.simpleflatmapper.poi.impl.RowsMapper;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.CloseableEnumerable;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.EnumerableIterator;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+//IFJAVA8_START
+import org.simpleflatmapper.util.EnumerableSpliterator;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+//IFJAVA8_END
+
+/**
+ * Maps the rows of a {@link XlsxStreamingSheet} with a SheetMapper of the SheetMapperFactory.
+ * <pre>
+ * XlsxStreamingSheetMapper&lt;MyClass&gt; streamingMapper = new XlsxStreamingSheetMapper&lt;MyClass&gt;(mapper);
+ * try (XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file)) {
+ *     streamingMapper.forEach(sheet, consumer);
+ * }
+ * </pre>
+ * The iterator and the enumerable read the sheet until the last row or until the sheet is closed.
+ * @param <T> the target type
+ */
+public final class XlsxStreamingSheetMapper<T> {
+
+    private final int startRow = 0;
+
+    private final RowsMapper<T> mapper;
+
+    /**
+     * @param mapper a mapper built by the SheetMapperFactory
+     * @throws IllegalArgumentException if the mapper does not come from the SheetMapperFactory
+     */
+    public XlsxStreamingSheetMapper(SheetMapper<T> mapper) {
+        if (!(mapper instanceof RowsMapper)) {
+            throw new IllegalArgumentException("Mapper " + mapper + " is not built by the SheetMapperFactory");
+        }
+        @SuppressWarnings("unchecked")
+        RowsMapper<T> rowsMapper = (RowsMapper<T>) mapper;
+        this.mapper = rowsMapper;
+    }
+
+    public Iterator<T> iterator(XlsxStreamingSheet sheet) {
+        return iterator(startRow, sheet);
+    }
+
+    public Iterator<T> iterator(int startRow, XlsxStreamingSheet sheet) {
+        return new EnumerableIterator<T>(enumerate(startRow, sheet));
+    }
+
+    public Enumerable<T> enumerate(XlsxStreamingSheet sheet) {
+        return enumerate(startRow, sheet);
+    }
+
+    public Enumerable<T> enumerate(int startRow, XlsxStreamingSheet sheet) {
+        return mapper.enumerate(sheet.rows(startRow));
+    }
+
+    public <RH extends CheckedConsumer<? super T>> RH forEach(XlsxStreamingSheet sheet, RH consumer) {
+        return forEach(startRow, sheet, consumer);
+    }
+
+    public <RH extends CheckedConsumer<? super T>> RH forEach(int startRow, XlsxStreamingSheet sheet, RH consumer) {
+        CloseableEnumerable<Row> rows = sheet.rows(startRow);
+        try {
+            return mapper.forEach(rows, consumer);
+        } finally {
+            close(rows);
+        }
+    }
+
+    //IFJAVA8_START
+    public Stream<T> stream(XlsxStreamingSheet sheet) {
+        return stream(startRow, sheet);
+    }
+
+    public Stream<T> stream(int startRow, XlsxStreamingSheet sheet) {
+        final CloseableEnumerable<Row> rows = sheet.rows(startRow);
+        return StreamSupport.stream(new EnumerableSpliterator<T>(mapper.enumerate(rows)), false)
+                .onClose(() -> close(rows));
+    }
+    //IFJAVA8_END
+
+    private static void close(Closeable rows) {
+        try {
+            rows.close();
+        } catch (IOException e) {
+            ErrorHelper.rethrow(e);
+        }
+    }
+}
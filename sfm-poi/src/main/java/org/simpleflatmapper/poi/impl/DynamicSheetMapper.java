@@ -27,7 +27,7 @@ import java.util.stream.Stream;
 //IFJAVA8_END
 
 
-public class DynamicSheetMapper<T> implements SheetMapper<T> {
+public class DynamicSheetMapper<T> implements SheetMapper<T>, RowsMapper<T> {
 
     private final int startRow = 0;
 
@@ -99,9 +99,30 @@ public class DynamicSheetMapper<T> implements SheetMapper<T> {
     }
     //IFJAVA8_END
 
+    @Override
+    public Enumerable<T> enumerate(Enumerable<Row> rows) {
+        return getPoiMapper(rows).enumerate(rows);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEach(Enumerable<Row> rows, RH consumer) {
+        return getPoiMapper(rows).forEach(rows, consumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowsMapper<T> getPoiMapper(Enumerable<Row> rows) {
+        // the first row is the header
+        if (rows.next()) {
+            return (RowsMapper<T>) getPoiMapper(rows.currentValue());
+        }
+        return (RowsMapper<T>) getPoiMapper(new MapperKey<CsvColumnKey>(new CsvColumnKey[0]));
+    }
+
     private SheetMapper<T> getPoiMapper(int startRow, Sheet sheet) {
-        Row row = sheet.getRow(startRow);
+        return getPoiMapper(sheet.getRow(startRow));
+    }
 
+    private SheetMapper<T> getPoiMapper(Row row) {
         List<CsvColumnKey> keys = new ArrayList<CsvColumnKey>(row.getLastCellNum() - row.getFirstCellNum());
         for(short i = row.getFirstCellNum(); i <= row.getLastCellNum(); i++) {
             Cell cell = row.getCell(i);
@@ -24,7 +24,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 //IFJAVA8_END
 
-public class JoinSheetMapper<T> implements RowMapper<T> {
+public class JoinSheetMapper<T> implements RowMapper<T>, RowsMapper<T> {
 
     private final ContextualSourceFieldMapper<Row, T> mapper;
     private final int startRow = 0;
@@ -59,7 +59,16 @@ public class JoinSheetMapper<T> implements RowMapper<T> {
     }
 
     private Enumerable<T> enumerable(int startRow, Sheet sheet, MappingContext<? super Row> mappingContext) {
-        return new JoinMapperEnumerable<Row, T>(mapper, mappingContext, new RowEnumerable(startRow, sheet));
+        return enumerable(new RowEnumerable(startRow, sheet), mappingContext);
+    }
+
+    private Enumerable<T> enumerable(Enumerable<Row> rows, MappingContext<? super Row> mappingContext) {
+        return new JoinMapperEnumerable<Row, T>(mapper, mappingContext, rows);
+    }
+
+    @Override
+    public Enumerable<T> enumerate(Enumerable<Row> rows) {
+        return enumerable(rows, newMappingContext());
     }
 
     @Override
@@ -69,9 +78,14 @@ public class JoinSheetMapper<T> implements RowMapper<T> {
 
     @Override
     public <RH extends CheckedConsumer<? super T>> RH forEach(int startRow, Sheet sheet, RH consumer) {
+        return forEach(new RowEnumerable(startRow, sheet), consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEach(Enumerable<Row> rows, RH consumer) {
         MappingContext<? super Row> mappingContext = newMappingContext();
 
-        Enumerable<T> enumarable = enumerable(startRow, sheet, mappingContext);
+        Enumerable<T> enumarable = enumerable(rows, mappingContext);
 
         while(enumarable.next()) {
             try {
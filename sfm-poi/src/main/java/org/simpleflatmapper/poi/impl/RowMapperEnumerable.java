@@ -0,0 +1,36 @@
+package org.simpleflatmapper.poi.impl;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.SourceMapper;
+import org.simpleflatmapper.util.Enumerable;
+
+public class RowMapperEnumerable<T> implements Enumerable<T> {
+
+    private final SourceMapper<Row, T> mapper;
+    private final Enumerable<Row> rows;
+    private final MappingContext<? super Row> mappingContext;
+
+    private T currentValue;
+
+    public RowMapperEnumerable(SourceMapper<Row, T> mapper, Enumerable<Row> rows, MappingContext<? super Row> mappingContext) {
+        this.mapper = mapper;
+        this.rows = rows;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public boolean next() {
+        if (rows.next()) {
+            currentValue = mapper.map(rows.currentValue(), mappingContext);
+            return true;
+        }
+        currentValue = null;
+        return false;
+    }
+
+    @Override
+    public T currentValue() {
+        return currentValue;
+    }
+}
@@ -0,0 +1,16 @@
+package org.simpleflatmapper.poi.impl;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Enumerable;
+
+/**
+ * Maps rows that do not come from a Sheet, ie the rows of a XlsxStreamingSheet.
+ * Implemented by the mappers of the SheetMapperFactory.
+ */
+public interface RowsMapper<T> {
+
+    Enumerable<T> enumerate(Enumerable<Row> rows);
+
+    <RH extends CheckedConsumer<? super T>> RH forEach(Enumerable<Row> rows, RH consumer);
+}
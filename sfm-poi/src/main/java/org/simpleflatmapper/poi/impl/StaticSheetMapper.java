@@ -24,7 +24,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 //IFJAVA8_END
 
-public class StaticSheetMapper<T> implements RowMapper<T>, SourceFieldMapper<Row, T> {
+public class StaticSheetMapper<T> implements RowMapper<T>, RowsMapper<T>, SourceFieldMapper<Row, T> {
 
     private final ContextualSourceFieldMapper<Row, T> mapper;
     private final int startRow = 0;
@@ -83,6 +83,26 @@ public class StaticSheetMapper<T> implements RowMapper<T>, SourceFieldMapper<Row
         return consumer;
     }
 
+    @Override
+    public Enumerable<T> enumerate(Enumerable<Row> rows) {
+        return new RowMapperEnumerable<T>(this, rows, newMappingContext());
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEach(Enumerable<Row> rows, RH consumer) {
+        MappingContext<? super Row> mappingContext = newMappingContext();
+        SourceMapper<Row, T> lMapper = this.mapper;
+        while(rows.next()) {
+            T object = lMapper.map(rows.currentValue(), mappingContext);
+            try {
+                consumer.accept(object);
+            } catch (Exception e) {
+                consumerErrorHandler.handlerError(e, object);
+            }
+        }
+        return consumer;
+    }
+
     //IFJAVA8_START
     @Override
     public Stream<T> stream(Sheet sheet) {
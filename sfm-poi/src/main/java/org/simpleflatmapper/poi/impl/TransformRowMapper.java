@@ -14,7 +14,7 @@ import org.simpleflatmapper.util.TransformIterator;
 
 import java.util.Iterator;
 
-public class TransformRowMapper<I, O> implements RowMapper<O> {
+public class TransformRowMapper<I, O> implements RowMapper<O>, RowsMapper<O> {
     private final Function<I, O> transform;
     private final RowMapper<I> delegate;
 
@@ -65,6 +65,21 @@ public class TransformRowMapper<I, O> implements RowMapper<O> {
         return consumer;
     }
 
+    @Override
+    public Enumerable<O> enumerate(Enumerable<Row> rows) {
+        return new TransformEnumerable<I, O>(rowsDelegate().enumerate(rows), transform);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super O>> RH forEach(Enumerable<Row> rows, RH consumer) {
+        rowsDelegate().forEach(rows, new TransformCheckedConsumer<I, O>(consumer, transform));
+        return consumer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RowsMapper<I> rowsDelegate() {
+        return (RowsMapper<I>) delegate;
+    }
 
     //IFJAVA8_START
     @Override
@@ -21,7 +21,7 @@ import java.util.stream.StreamSupport;
 import org.simpleflatmapper.util.EnumerableSpliterator;
 //IFJAVA8_END
 
-public class UnorderedJoinSheetMapper<T> implements RowMapper<T> {
+public class UnorderedJoinSheetMapper<T> implements RowMapper<T>, RowsMapper<T> {
 
     private final ContextualSourceFieldMapper<Row, T> mapper;
     private final int startRow = 0;
@@ -56,7 +56,16 @@ public class UnorderedJoinSheetMapper<T> implements RowMapper<T> {
     }
 
     private Enumerable<T> enumerable(int startRow, Sheet sheet, MappingContext<? super Row> mappingContext) {
-        return new UnorderedJoinMapperEnumerable<Row, T>(mapper, mappingContext, new RowEnumerable(startRow, sheet));
+        return enumerable(new RowEnumerable(startRow, sheet), mappingContext);
+    }
+
+    private Enumerable<T> enumerable(Enumerable<Row> rows, MappingContext<? super Row> mappingContext) {
+        return new UnorderedJoinMapperEnumerable<Row, T>(mapper, mappingContext, rows);
+    }
+
+    @Override
+    public Enumerable<T> enumerate(Enumerable<Row> rows) {
+        return enumerable(rows, newMappingContext());
     }
 
     @Override
@@ -66,9 +75,14 @@ public class UnorderedJoinSheetMapper<T> implements RowMapper<T> {
 
     @Override
     public <RH extends CheckedConsumer<? super T>> RH forEach(int startRow, Sheet sheet, RH consumer) {
+        return forEach(new RowEnumerable(startRow, sheet), consumer);
+    }
+
+    @Override
+    public <RH extends CheckedConsumer<? super T>> RH forEach(Enumerable<Row> rows, RH consumer) {
         MappingContext<? super Row> mappingContext = newMappingContext();
 
-        Enumerable<T> enumarable = enumerable(startRow, sheet, mappingContext);
+        Enumerable<T> enumarable = enumerable(rows, mappingContext);
 
         while(enumarable.next()) {
             try {
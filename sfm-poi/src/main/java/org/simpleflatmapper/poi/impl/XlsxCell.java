@@ -0,0 +1,283 @@
+package org.simpleflatmapper.poi.impl;
+
+import org.apache.poi.ss.formula.FormulaParseException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Read only cell of a streamed xlsx sheet.
+ * The formula cells expose the type and the value of their cached result.
+ */
+public final class XlsxCell implements Cell {
+
+    private final XlsxRow row;
+    private final int columnIndex;
+    private final CellType cellType;
+    private final double numericValue;
+    private final String stringValue;
+    private final CellStyle cellStyle;
+    private final boolean date1904;
+
+    XlsxCell(XlsxRow row, int columnIndex, CellType cellType, double numericValue, String stringValue, CellStyle cellStyle, boolean date1904) {
+        this.row = row;
+        this.columnIndex = columnIndex;
+        this.cellType = cellType;
+        this.numericValue = numericValue;
+        this.stringValue = stringValue;
+        this.cellStyle = cellStyle;
+        this.date1904 = date1904;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return row.getRowNum();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public Row getRow() {
+        return row;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public int getCellType() {
+        return cellType.getCode();
+    }
+
+    @Override
+    public CellType getCellTypeEnum() {
+        return cellType;
+    }
+
+    @Override
+    public int getCachedFormulaResultType() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public CellType getCachedFormulaResultTypeEnum() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw typeMismatch(CellType.FORMULA);
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        switch (cellType) {
+            case NUMERIC:
+                return numericValue;
+            case BLANK:
+                return 0.0;
+            default:
+                throw typeMismatch(CellType.NUMERIC);
+        }
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        if (cellType == CellType.BLANK) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericCellValue(), date1904);
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(getStringCellValue());
+    }
+
+    @Override
+    public String getStringCellValue() {
+        switch (cellType) {
+            case STRING:
+                return stringValue;
+            case BLANK:
+                return "";
+            default:
+                throw typeMismatch(CellType.STRING);
+        }
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        switch (cellType) {
+            case BOOLEAN:
+                return numericValue != 0;
+            case BLANK:
+                return false;
+            default:
+                throw typeMismatch(CellType.BOOLEAN);
+        }
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        switch (cellType) {
+            case ERROR:
+                return FormulaError.forString(stringValue).getCode();
+            case BLANK:
+                return 0;
+            default:
+                throw typeMismatch(CellType.ERROR);
+        }
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return cellStyle;
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(row.getRowNum(), columnIndex);
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell " + getAddress() + " is not part of an array formula.");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    private IllegalStateException typeMismatch(CellType expected) {
+        return new IllegalStateException("Cannot get a " + expected + " value from a " + cellType + " cell");
+    }
+
+    @Override
+    public void setCellType(int cellType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellType(CellType cellType) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellFormula(String formula) throws FormulaParseException {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw readOnly();
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw readOnly();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw readOnly();
+    }
+
+    static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Streamed xlsx rows are read only");
+    }
+
+    @Override
+    public String toString() {
+        switch (cellType) {
+            case NUMERIC:
+                return String.valueOf(numericValue);
+            case BOOLEAN:
+                return numericValue != 0 ? "TRUE" : "FALSE";
+            case BLANK:
+                return "";
+            default:
+                return stringValue;
+        }
+    }
+}
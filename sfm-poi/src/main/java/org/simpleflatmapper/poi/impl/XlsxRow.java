@@ -0,0 +1,210 @@
+package org.simpleflatmapper.poi.impl;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read only row of a streamed xlsx sheet, the cells are indexed by column.
+ * There is no Sheet behind it, getSheet returns null.
+ */
+public final class XlsxRow implements Row {
+
+    private static final XlsxCell[] NO_CELLS = new XlsxCell[0];
+
+    private final int rowNum;
+    private XlsxCell[] cells = NO_CELLS;
+
+    XlsxRow(int rowNum) {
+        this.rowNum = rowNum;
+    }
+
+    void setCells(XlsxCell[] cells) {
+        this.cells = cells;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public Cell getCell(int cellnum) {
+        if (cellnum < 0 || cellnum >= cells.length) {
+            return null;
+        }
+        return cells[cellnum];
+    }
+
+    @Override
+    public Cell getCell(int cellnum, MissingCellPolicy policy) {
+        Cell cell = getCell(cellnum);
+        switch (policy) {
+            case RETURN_BLANK_AS_NULL:
+                if (cell != null && cell.getCellTypeEnum() == CellType.BLANK) {
+                    return null;
+                }
+                return cell;
+            case CREATE_NULL_AS_BLANK:
+                if (cell == null) {
+                    return new XlsxCell(this, cellnum, CellType.BLANK, 0, null, null, false);
+                }
+                return cell;
+            default:
+                return cell;
+        }
+    }
+
+    @Override
+    public short getFirstCellNum() {
+        for (int i = 0; i < cells.length; i++) {
+            if (cells[i] != null) {
+                return (short) i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the last cell plus one, -1 if the row has no cells
+     */
+    @Override
+    public short getLastCellNum() {
+        return cells.length == 0 ? -1 : (short) cells.length;
+    }
+
+    @Override
+    public int getPhysicalNumberOfCells() {
+        int n = 0;
+        for (XlsxCell cell : cells) {
+            if (cell != null) {
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public Iterator<Cell> cellIterator() {
+        return new Iterator<Cell>() {
+            private int index = nextIndex(0);
+
+            private int nextIndex(int i) {
+                while (i < cells.length && cells[i] == null) {
+                    i++;
+                }
+                return i;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < cells.length;
+            }
+
+            @Override
+            public Cell next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Cell cell = cells[index];
+                index = nextIndex(index + 1);
+                return cell;
+            }
+
+            @Override
+            public void remove() {
+                throw XlsxCell.readOnly();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Cell> iterator() {
+        return cellIterator();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return null;
+    }
+
+    @Override
+    public boolean isFormatted() {
+        return false;
+    }
+
+    @Override
+    public CellStyle getRowStyle() {
+        return null;
+    }
+
+    @Override
+    public int getOutlineLevel() {
+        return 0;
+    }
+
+    @Override
+    public boolean getZeroHeight() {
+        return false;
+    }
+
+    @Override
+    public short getHeight() {
+        throw new UnsupportedOperationException("The row height is not read from a streamed xlsx sheet");
+    }
+
+    @Override
+    public float getHeightInPoints() {
+        throw new UnsupportedOperationException("The row height is not read from a streamed xlsx sheet");
+    }
+
+    @Override
+    public Cell createCell(int column) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public Cell createCell(int column, int type) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public Cell createCell(int column, CellType type) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void removeCell(Cell cell) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setRowNum(int rowNum) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setHeight(short height) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setZeroHeight(boolean zHeight) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setHeightInPoints(float height) {
+        throw XlsxCell.readOnly();
+    }
+
+    @Override
+    public void setRowStyle(CellStyle style) {
+        throw XlsxCell.readOnly();
+    }
+}
@@ -0,0 +1,304 @@
+package org.simpleflatmapper.poi.impl;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.model.StylesTable;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pulls the rows of a sheet part with a StAX reader, only the current row is held in memory.
+ * The empty rows are not returned, the rows before startRow are skipped.
+ */
+public final class XlsxRowEnumerable implements Enumerable<Row>, Closeable {
+
+    private final InputStream is;
+    private final XMLStreamReader reader;
+    private final int startRow;
+    private final String[] sharedStrings;
+    private final StylesTable stylesTable;
+    private final CellStyle[] styles;
+    private final boolean date1904;
+
+    private XlsxCell[] cellBuffer = new XlsxCell[16];
+    private final StringBuilder textBuffer = new StringBuilder();
+
+    private int lastRowNum = -1;
+    private XlsxRow currentValue;
+    private boolean closed;
+
+    public XlsxRowEnumerable(InputStream is, int startRow, String[] sharedStrings, StylesTable stylesTable, boolean date1904) throws IOException {
+        this.is = is;
+        this.startRow = startRow;
+        this.sharedStrings = sharedStrings;
+        this.stylesTable = stylesTable;
+        this.styles = stylesTable != null ? new CellStyle[stylesTable.getNumCellStyles()] : new CellStyle[0];
+        this.date1904 = date1904;
+        try {
+            this.reader = newXMLInputFactory().createXMLStreamReader(is);
+        } catch (XMLStreamException e) {
+            is.close();
+            throw new IOException(e);
+        }
+    }
+
+    public static XMLInputFactory newXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @Override
+    public boolean next() {
+        currentValue = null;
+        if (closed) return false;
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+                    XlsxRow row = readRow();
+                    if (row.getRowNum() >= startRow && row.getPhysicalNumberOfCells() > 0) {
+                        currentValue = row;
+                        return true;
+                    }
+                }
+            }
+            close();
+            return false;
+        } catch (Exception e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public XlsxRow currentValue() {
+        return currentValue;
+    }
+
+    private XlsxRow readRow() throws XMLStreamException {
+        String r = reader.getAttributeValue(null, "r");
+        int rowNum = r != null ? Integer.parseInt(r) - 1 : lastRowNum + 1;
+        lastRowNum = rowNum;
+
+        XlsxRow row = new XlsxRow(rowNum);
+        if (rowNum < startRow) {
+            skipElement();
+            return row;
+        }
+
+        int lastColumn = -1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(reader.getLocalName())) {
+                String ref = reader.getAttributeValue(null, "r");
+                int column = ref != null ? columnIndex(ref) : lastColumn + 1;
+                XlsxCell cell = readCell(row, column);
+                if (column >= cellBuffer.length) {
+                    cellBuffer = Arrays.copyOf(cellBuffer, Math.max(column + 1, cellBuffer.length * 2));
+                }
+                cellBuffer[column] = cell;
+                lastColumn = Math.max(lastColumn, column);
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                break;
+            }
+        }
+
+        if (lastColumn >= 0) {
+            row.setCells(Arrays.copyOf(cellBuffer, lastColumn + 1));
+            Arrays.fill(cellBuffer, 0, lastColumn + 1, null);
+        }
+        return row;
+    }
+
+    private XlsxCell readCell(XlsxRow row, int column) throws XMLStreamException {
+        String type = reader.getAttributeValue(null, "t");
+        String styleIndex = reader.getAttributeValue(null, "s");
+
+        String value = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("v".equals(name)) {
+                    value = reader.getElementText();
+                } else if ("is".equals(name)) {
+                    value = readText("is");
+                } else {
+                    skipElement();
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(reader.getLocalName())) {
+                break;
+            }
+        }
+
+        CellStyle style = getStyle(styleIndex);
+        if (value == null) {
+            return new XlsxCell(row, column, CellType.BLANK, 0, null, style, date1904);
+        }
+        if (type == null || "n".equals(type)) {
+            return new XlsxCell(row, column, CellType.NUMERIC, Double.parseDouble(value), null, style, date1904);
+        } else if ("s".equals(type)) {
+            return new XlsxCell(row, column, CellType.STRING, 0, sharedStrings[Integer.parseInt(value)], style, date1904);
+        } else if ("b".equals(type)) {
+            return new XlsxCell(row, column, CellType.BOOLEAN, "0".equals(value) ? 0 : 1, null, style, date1904);
+        } else if ("e".equals(type)) {
+            return new XlsxCell(row, column, CellType.ERROR, 0, value, style, date1904);
+        } else {
+            // str, inlineStr and the iso dates
+            return new XlsxCell(row, column, CellType.STRING, 0, value, style, date1904);
+        }
+    }
+
+    private CellStyle getStyle(String styleIndex) {
+        if (stylesTable == null) return null;
+        int index = styleIndex != null ? Integer.parseInt(styleIndex) : 0;
+        if (index >= styles.length) {
+            return stylesTable.getStyleAt(index);
+        }
+        CellStyle style = styles[index];
+        if (style == null) {
+            style = stylesTable.getStyleAt(index);
+            styles[index] = style;
+        }
+        return style;
+    }
+
+    /**
+     * concatenates the t elements until the end of element, the phonetic runs are ignored.
+     */
+    private String readText(String element) throws XMLStreamException {
+        textBuffer.setLength(0);
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("t".equals(name)) {
+                    textBuffer.append(reader.getElementText());
+                } else if ("rPh".equals(name)) {
+                    skipElement();
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && element.equals(reader.getLocalName())) {
+                break;
+            }
+        }
+        return textBuffer.toString();
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    static int columnIndex(String ref) {
+        int column = 0;
+        for (int i = 0; i < ref.length(); i++) {
+            char c = ref.charAt(i);
+            if (c < 'A' || c > 'Z') break;
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // closing the stream anyway
+        } finally {
+            is.close();
+        }
+    }
+
+    /**
+     * reads the shared strings table, the strings are referenced by index from the cells.
+     */
+    public static String[] readSharedStrings(InputStream is) throws IOException {
+        if (is == null) return new String[0];
+        try {
+            XMLStreamReader reader = newXMLInputFactory().createXMLStreamReader(is);
+            try {
+                List<String> strings = new ArrayList<String>();
+                StringBuilder sb = new StringBuilder();
+                boolean inPhonetic = false;
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("si".equals(name)) {
+                            sb.setLength(0);
+                        } else if ("rPh".equals(name)) {
+                            inPhonetic = true;
+                        } else if ("t".equals(name) && !inPhonetic) {
+                            sb.append(reader.getElementText());
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("si".equals(name)) {
+                            strings.add(sb.toString());
+                        } else if ("rPh".equals(name)) {
+                            inPhonetic = false;
+                        }
+                    }
+                }
+                return strings.toArray(new String[0]);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            is.close();
+        }
+    }
+
+    /**
+     * @return true if the workbook uses the 1904 date system
+     */
+    public static boolean readDate1904(InputStream is) throws IOException {
+        try {
+            XMLStreamReader reader = newXMLInputFactory().createXMLStreamReader(is);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if ("workbookPr".equals(name)) {
+                            String date1904 = reader.getAttributeValue(null, "date1904");
+                            return "1".equals(date1904) || "true".equals(date1904);
+                        } else if ("sheets".equals(name)) {
+                            return false;
+                        }
+                    }
+                }
+                return false;
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            is.close();
+        }
+    }
+}
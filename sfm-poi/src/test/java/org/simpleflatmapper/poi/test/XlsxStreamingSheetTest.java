@@ -0,0 +1,192 @@
+package org.simpleflatmapper.poi.test;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.simpleflatmapper.poi.SheetMapper;
+import org.simpleflatmapper.poi.SheetMapperFactory;
+import org.simpleflatmapper.poi.XlsxStreamingSheet;
+import org.simpleflatmapper.poi.XlsxStreamingSheetMapper;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.CloseableEnumerable;
+import org.simpleflatmapper.util.Enumerable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+//IFJAVA8_START
+import java.util.stream.Collectors;
+//IFJAVA8_END
+
+import static org.junit.Assert.*;
+
+public class XlsxStreamingSheetTest {
+
+    private static final int NB_ROWS = 1000;
+
+    File file;
+
+    XlsxStreamingSheetMapper<DbObject> dynamicSheetMapper;
+
+    @Before
+    public void setUp() throws IOException {
+        Workbook wb = new XSSFWorkbook();
+
+        Sheet other = wb.createSheet("other");
+        other.createRow(0).createCell(0).setCellValue("not this one");
+
+        Sheet sheet = wb.createSheet("objects");
+
+        Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("id");
+        header.createCell(1).setCellValue("name");
+        header.createCell(2).setCellValue("email");
+        header.createCell(3).setCellValue("creation_time");
+        header.createCell(4).setCellValue("type_ordinal");
+        header.createCell(5).setCellValue("type_name");
+
+        for (int i = 0; i < NB_ROWS; i++) {
+            Row row = sheet.createRow(i + 1);
+            row.createCell(0).setCellValue(i);
+            row.createCell(1).setCellValue("name" + i);
+            row.createCell(2).setCellValue("email" + i);
+            row.createCell(3).setCellValue(new Date(i * 10000));
+            row.createCell(4).setCellValue(DbObject.Type.values()[i % 4].ordinal());
+            row.createCell(5).setCellValue(DbObject.Type.values()[i % 4].name());
+        }
+
+        file = File.createTempFile("XlsxStreamingSheetTest", ".xlsx");
+        OutputStream os = new FileOutputStream(file);
+        try {
+            wb.write(os);
+        } finally {
+            os.close();
+        }
+
+        dynamicSheetMapper =
+                new XlsxStreamingSheetMapper<DbObject>(SheetMapperFactory.newInstance().newMapper(DbObject.class));
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void forEachOnStreamingSheetWithDynamicMapper() throws IOException {
+        XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file, "objects");
+        try {
+            assertEquals("objects", sheet.getSheetName());
+            int row = dynamicSheetMapper.forEach(sheet, new CheckedConsumer<DbObject>() {
+                int row = 0;
+
+                @Override
+                public void accept(DbObject dbObject) throws Exception {
+                    assertDbObject(row, dbObject);
+                    row++;
+                }
+            }).row;
+
+            assertEquals(NB_ROWS, row);
+        } finally {
+            sheet.close();
+        }
+    }
+
+    @Test
+    public void iteratorOnStreamingSheetWithDynamicMapper() throws IOException {
+        XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file, 1);
+        try {
+            Iterator<DbObject> iterator = dynamicSheetMapper.iterator(sheet);
+            for (int i = 0; i < NB_ROWS; i++) {
+                assertTrue(iterator.hasNext());
+                assertDbObject(i, iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        } finally {
+            sheet.close();
+        }
+    }
+
+    @Test
+    public void enumerateFromStartRowWithStaticMapper() throws IOException {
+        SheetMapper<DbObject> staticSheetMapper =
+                SheetMapperFactory.newInstance()
+                        .newBuilder(DbObject.class)
+                        .addMapping("id")
+                        .addMapping("name")
+                        .addMapping("email")
+                        .addMapping("creation_time")
+                        .addMapping("type_ordinal")
+                        .addMapping("type_name")
+                        .mapper();
+
+        XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file, "objects");
+        try {
+            Enumerable<DbObject> enumerable = new XlsxStreamingSheetMapper<DbObject>(staticSheetMapper).enumerate(11, sheet);
+            for (int i = 10; i < NB_ROWS; i++) {
+                assertTrue(enumerable.next());
+                assertDbObject(i, enumerable.currentValue());
+            }
+            assertFalse(enumerable.next());
+        } finally {
+            sheet.close();
+        }
+    }
+
+    @Test
+    public void rowsReadTheCellValues() throws IOException {
+        XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file);
+        try {
+            assertEquals("other", sheet.getSheetName());
+            CloseableEnumerable<Row> rows = sheet.rows();
+            assertTrue(rows.next());
+            Row row = rows.currentValue();
+            assertEquals(0, row.getRowNum());
+            assertEquals("not this one", row.getCell(0).getStringCellValue());
+            assertNull(row.getCell(1));
+            assertFalse(rows.next());
+        } finally {
+            sheet.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void openUnknownSheetFails() throws IOException {
+        XlsxStreamingSheet.open(file, "unknown");
+    }
+
+    //IFJAVA8_START
+    @Test
+    public void streamOnStreamingSheetWithLimitAndDynamicMapper() throws IOException {
+        XlsxStreamingSheet sheet = XlsxStreamingSheet.open(file, "objects");
+        try {
+            List<DbObject> list = dynamicSheetMapper.stream(sheet).limit(2).collect(Collectors.toList());
+            assertEquals(2, list.size());
+            assertDbObject(0, list.get(0));
+            assertDbObject(1, list.get(1));
+        } finally {
+            sheet.close();
+        }
+    }
+    //IFJAVA8_END
+
+    private void assertDbObject(int index, DbObject o) {
+        assertEquals(index, o.getId());
+        assertEquals("name" + index, o.getName());
+        assertEquals("email" + index, o.getEmail());
+        assertEquals(index * 10000, o.getCreationTime().getTime());
+        assertEquals(DbObject.Type.values()[index % 4], o.getTypeOrdinal());
+        assertEquals(DbObject.Type.values()[index % 4], o.getTypeName());
+    }
+}
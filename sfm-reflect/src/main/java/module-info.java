@@ -11,9 +11,11 @@ module org.simpleflatmapper.reflect {
         exports org.simpleflatmapper.reflect.setter;
         exports org.simpleflatmapper.reflect.primitive;
         exports org.simpleflatmapper.reflect.property;
+        exports org.simpleflatmapper.reflect.lambda;
 
         uses org.simpleflatmapper.reflect.meta.AliasProviderProducer;
         uses org.simpleflatmapper.reflect.ReflectionService.ClassMetaFactoryProducer;
         uses org.simpleflatmapper.reflect.ReflectionService.BuilderProducer;
         uses org.simpleflatmapper.reflect.meta.AnnotationToPropertyServiceProducer;
+        uses org.simpleflatmapper.reflect.asm.AsmPregeneratedClassProducer;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package org.simpleflatmapper.reflect;
+
+import org.simpleflatmapper.reflect.instantiator.ExecutableInstantiatorDefinition;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * Creates getters, setters and instantiators on public members without generating classes with asm.
+ * <p>
+ * Used by the {@link ObjectGetterFactory}, {@link ObjectSetterFactory} and {@link InstantiatorFactory} before falling back on reflection,
+ * the methods return null when the member is not supported.
+ * @see ReflectionService#withMethodHandleAccessors(boolean)
+ */
+public interface AccessorFactory {
+    <T, P> Getter<T, P> createGetter(Method method) throws Exception;
+    <T, P> Getter<T, P> createGetter(Field field) throws Exception;
+
+    <T, P> Setter<T, P> createSetter(Method method) throws Exception;
+    <T, P> Setter<T, P> createSetter(Field field) throws Exception;
+
+    <S, T> Instantiator<S, T> createInstantiator(ExecutableInstantiatorDefinition instantiatorDefinition, Map<Parameter, Getter<? super S, ?>> injections) throws Exception;
+}
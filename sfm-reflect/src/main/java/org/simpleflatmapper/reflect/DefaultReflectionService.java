@@ -16,6 +16,7 @@ import org.simpleflatmapper.reflect.meta.FastTupleClassMeta;
 import org.simpleflatmapper.reflect.meta.MapClassMeta;
 import org.simpleflatmapper.reflect.meta.ObjectClassMeta;
 //IFJAVA8_START
+import org.simpleflatmapper.reflect.lambda.MethodHandleAccessorFactory;
 import org.simpleflatmapper.reflect.meta.OptionalClassMeta;
 //IFJAVA8_END
 import java.util.*;
@@ -58,13 +59,15 @@ public class DefaultReflectionService extends ReflectionService {
 	private final ConcurrentMap<String,  UnaryFactory<Type, Member>> builderMethods = new ConcurrentHashMap<String,  UnaryFactory<Type, Member>>();
 	private final Map<ClassLoader,  AsmFactory> asmFactoryPerClassLoader;
 	private final boolean isAsmActivated;
+	private final AccessorFactory accessorFactory;
 
 	public DefaultReflectionService(final AsmFactory asmFactory) {
 		this(
 				asmFactory != null,
 				defaultAsmFactortyPerClassLoader(asmFactory),
 				AliasProviderService.getAliasProvider(),
-				true);
+				true,
+				null);
 	}
 
 	private static Map<ClassLoader, AsmFactory> defaultAsmFactortyPerClassLoader(AsmFactory asmFactory) {
@@ -78,12 +81,14 @@ public class DefaultReflectionService extends ReflectionService {
 	private DefaultReflectionService(boolean isAsmActivated,
 									 Map<ClassLoader,  AsmFactory> asmFactoryPerClassLoader,
                                      AliasProvider aliasProvider,
-                                     boolean builderIgnoresNullValues) {
+                                     boolean builderIgnoresNullValues,
+                                     AccessorFactory accessorFactory) {
 
 		this.isAsmActivated = isAsmActivated;
 		this.asmFactoryPerClassLoader = asmFactoryPerClassLoader;
 		this.aliasProvider = aliasProvider;
 		this.builderIgnoresNullValues = builderIgnoresNullValues;
+		this.accessorFactory = accessorFactory;
 		initPredefined();
 	}
 
@@ -109,12 +114,12 @@ public class DefaultReflectionService extends ReflectionService {
 
 	@Override
 	public ObjectSetterFactory getObjectSetterFactory() {
-		return new ObjectSetterFactory(this);
+		return new ObjectSetterFactory(this, accessorFactory);
 	}
 
 	@Override
 	public InstantiatorFactory getInstantiatorFactory() {
-		return new InstantiatorFactory(this);
+		return new InstantiatorFactory(this, accessorFactory, false);
 	}
 
 
@@ -385,7 +390,7 @@ public class DefaultReflectionService extends ReflectionService {
 
 	@Override
 	public ObjectGetterFactory getObjectGetterFactory() {
-        return new ObjectGetterFactory(this);
+        return new ObjectGetterFactory(this, accessorFactory);
     }
 
 
@@ -393,14 +398,31 @@ public class DefaultReflectionService extends ReflectionService {
 	public DefaultReflectionService withAliasProvider(AliasProvider aliasProvider) {
 		return new DefaultReflectionService(
 				isAsmActivated, asmFactoryPerClassLoader,
-				aliasProvider, builderIgnoresNullValues);
+				aliasProvider, builderIgnoresNullValues, accessorFactory);
 	}
 
 	@Override
 	public DefaultReflectionService withBuilderIgnoresNullValues(boolean builderIgnoresNullValues) {
 		return new DefaultReflectionService(
 				isAsmActivated, asmFactoryPerClassLoader,
-				aliasProvider, builderIgnoresNullValues);
+				aliasProvider, builderIgnoresNullValues, accessorFactory);
+	}
+
+	@Override
+	public DefaultReflectionService withMethodHandleAccessors(boolean useMethodHandleAccessors) {
+		return new DefaultReflectionService(
+				isAsmActivated, asmFactoryPerClassLoader,
+				aliasProvider, builderIgnoresNullValues,
+				useMethodHandleAccessors ? newMethodHandleAccessorFactory() : null);
+	}
+
+	private static AccessorFactory newMethodHandleAccessorFactory() {
+		//IFJAVA8_START
+		if (true) {
+			return new MethodHandleAccessorFactory();
+		}
+		//IFJAVA8_END
+		throw new UnsupportedOperationException("Only supported on java8");
 	}
 
 	@Override
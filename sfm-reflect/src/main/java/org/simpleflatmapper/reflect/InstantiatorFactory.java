@@ -30,6 +30,7 @@ import java.util.Set;
 
 public class InstantiatorFactory {
 	private final AsmFactoryProvider asmFactory;
+	private final AccessorFactory accessorFactory;
 
 	private final boolean failOnAsmError;
 	
@@ -38,7 +39,12 @@ public class InstantiatorFactory {
 	}
 
 	public InstantiatorFactory(AsmFactoryProvider asmFactory, boolean faileOnAsmError) {
+		this(asmFactory, null, faileOnAsmError);
+	}
+
+	public InstantiatorFactory(AsmFactoryProvider asmFactory, AccessorFactory accessorFactory, boolean faileOnAsmError) {
 		this.asmFactory = asmFactory;
+		this.accessorFactory = accessorFactory;
 		this.failOnAsmError = faileOnAsmError;
 	}
 
@@ -159,6 +165,19 @@ public class InstantiatorFactory {
 			}
 		}
 
+		if (accessorFactory != null && instantiatorDefinition instanceof ExecutableInstantiatorDefinition) {
+			ExecutableInstantiatorDefinition executableInstantiatorDefinition = (ExecutableInstantiatorDefinition) instantiatorDefinition;
+			Member executable = executableInstantiatorDefinition.getExecutable();
+			if (Modifier.isPublic(executable.getModifiers()) && Modifier.isPublic(executable.getDeclaringClass().getModifiers())) {
+				try {
+					Instantiator<S, T> instantiator = accessorFactory.createInstantiator(executableInstantiatorDefinition, injections);
+					if (instantiator != null) return instantiator;
+				} catch (Throwable e) {
+					// fall back on reflection
+				}
+			}
+		}
+
 		switch (instantiatorDefinition.getType()) {
 			case CONSTRUCTOR:
 				return constructorInstantiator((ExecutableInstantiatorDefinition)instantiatorDefinition, injections);
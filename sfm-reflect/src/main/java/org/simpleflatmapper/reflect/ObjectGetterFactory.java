@@ -34,9 +34,15 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
  */
 public final class ObjectGetterFactory {
     private final AsmFactoryProvider asmFactory;
+    private final AccessorFactory accessorFactory;
 
 	public ObjectGetterFactory(AsmFactoryProvider asmFactory) {
+        this(asmFactory, null);
+    }
+
+	public ObjectGetterFactory(AsmFactoryProvider asmFactory, AccessorFactory accessorFactory) {
         this.asmFactory = asmFactory;
+        this.accessorFactory = accessorFactory;
     }
 	
 
@@ -60,6 +66,14 @@ public final class ObjectGetterFactory {
             } catch(Throwable e) {
                 // ignore
             }
+        }
+		if (accessorFactory != null && accessible) {
+            try {
+                Getter<T, P> getter = accessorFactory.createGetter(method);
+                if (getter != null) return getter;
+            } catch(Throwable e) {
+                // fall back on reflection
+            }
         }
 		if (!accessible) {
 			try {
@@ -94,6 +108,14 @@ public final class ObjectGetterFactory {
 				}
             } catch(Throwable e) {}
         }
+		if (accessorFactory != null && accessible) {
+            try {
+                Getter<T, P> getter = accessorFactory.createGetter(field);
+                if (getter != null) return getter;
+            } catch(Throwable e) {
+                // fall back on reflection
+            }
+        }
 
         if (!accessible) {
         	try {
@@ -40,9 +40,15 @@ import java.lang.reflect.Modifier;
 public final class ObjectSetterFactory {
 	
 	private final AsmFactoryProvider asmFactoryProvider;
+	private final AccessorFactory accessorFactory;
 	
 	public ObjectSetterFactory(final AsmFactoryProvider asmFactoryProvider) {
+		this(asmFactoryProvider, null);
+	}
+
+	public ObjectSetterFactory(final AsmFactoryProvider asmFactoryProvider, final AccessorFactory accessorFactory) {
 		this.asmFactoryProvider = asmFactoryProvider;
+		this.accessorFactory = accessorFactory;
 	}
 
 	public <T, P> Setter<T, P> getSetter(final Class<? extends T> target, final String property) {
@@ -66,6 +72,14 @@ public final class ObjectSetterFactory {
                 // ignore
 			}
 		}
+		if (accessorFactory != null && accessible) {
+			try {
+				Setter<T, P> setter = accessorFactory.createSetter(method);
+				if (setter != null) return setter;
+			} catch(Throwable e) {
+				// fall back on reflection
+			}
+		}
 		if (!accessible) {
 			try {
 				method.setAccessible(true);
@@ -96,6 +110,14 @@ public final class ObjectSetterFactory {
             } catch(Throwable e) {
             }
         }
+		if (accessorFactory != null && accessible) {
+			try {
+				Setter<T, P> setter = accessorFactory.createSetter(field);
+				if (setter != null) return setter;
+			} catch(Throwable e) {
+				// fall back on reflection
+			}
+		}
         if (!accessible) {
         	try {
 				field.setAccessible(true);
@@ -54,6 +54,14 @@ public abstract class ReflectionService implements AsmFactoryProvider {
 	public abstract ReflectionService withAliasProvider(AliasProvider aliasProvider);
 	public abstract ReflectionService withBuilderIgnoresNullValues(boolean builderIgnoresNullValues);
 
+	/**
+	 * Uses MethodHandles and the LambdaMetafactory for the getters, setters and instantiators that are not generated with asm
+	 * instead of reflection, only available on java 8+.
+	 * @param useMethodHandleAccessors true to activate
+	 * @return a new ReflectionService
+	 */
+	public abstract ReflectionService withMethodHandleAccessors(boolean useMethodHandleAccessors);
+
 	@Deprecated
 	public abstract ReflectionService withSelfScoreFullName(boolean selfScoreFullName);
 
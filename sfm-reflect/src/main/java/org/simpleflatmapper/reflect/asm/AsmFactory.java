@@ -10,6 +10,8 @@ import org.simpleflatmapper.reflect.InstantiatorDefinition;
 import org.simpleflatmapper.reflect.Parameter;
 import org.simpleflatmapper.reflect.Setter;
 import org.simpleflatmapper.util.BiFunction;
+import org.simpleflatmapper.util.Consumer;
+import org.simpleflatmapper.util.ProducerServiceLoader;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.UnaryFactory;
 
@@ -17,8 +19,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -33,11 +38,33 @@ public class AsmFactory {
     private final ConcurrentMap<BiInstantiatorKey, Class<? extends BiInstantiator<?, ?, ?>>> biInstantiatorCache = new ConcurrentHashMap<BiInstantiatorKey, Class<? extends BiInstantiator<?, ?, ?>>>();
 
 
+    // names of the getters and setters generated at build time, see AsmPregenerator
+    // instantiators and the MapperAsmFactory mappers are not looked up, their class name has a per factory counter
+    // and their bytecode depends on the injected getters and field mappers
+    private final Set<String> pregeneratedClassNames;
+
     public final ClassLoader targetClassLoader;
 
     public AsmFactory(ClassLoader targetClassLoader) {
         this.targetClassLoader = targetClassLoader;
         this.factoryClassLoader = new FactoryClassLoader(targetClassLoader);
+        this.pregeneratedClassNames = getPregeneratedClassNames(targetClassLoader);
+    }
+
+    private static Set<String> getPregeneratedClassNames(ClassLoader classLoader) {
+        final Set<String> classNames = new HashSet<String>();
+        ProducerServiceLoader.produceFromServiceLoader(ServiceLoader.load(AsmPregeneratedClassProducer.class, classLoader), new Consumer<String>() {
+            @Override
+            public void accept(String className) {
+                classNames.add(className);
+            }
+        });
+        return classNames;
+    }
+
+    private Class<?> findPregeneratedClass(String className) throws ClassNotFoundException {
+        if (!pregeneratedClassNames.contains(className)) return null;
+        return Class.forName(className, true, targetClassLoader);
     }
 
 	@SuppressWarnings("unchecked")
@@ -46,8 +73,11 @@ public class AsmFactory {
 		Setter<T,P> setter = (Setter<T, P>) setterCache.get(m);
 		if (setter == null) {
 			final String className = generateClassNameForSetter(m);
-			final byte[] bytes = generateSetterByteCodes(m, className);
-            final Class<?> type = registerClass(className, bytes);
+			Class<?> type = findPregeneratedClass(className);
+			if (type == null) {
+				final byte[] bytes = generateSetterByteCodes(m, className);
+				type = registerClass(className, bytes);
+			}
             setter = (Setter<T, P>) type.newInstance();
             setterCache.putIfAbsent(m, setter);
 		}
@@ -64,8 +94,11 @@ public class AsmFactory {
         Setter<T,P> setter = (Setter<T, P>) setterCache.get(field);
         if (setter == null) {
             final String className = generateClassNameForSetter(field);
-            final byte[] bytes = generateSetterByteCodes(field, className);
-            final Class<?> type = registerClass(className, bytes);
+            Class<?> type = findPregeneratedClass(className);
+            if (type == null) {
+                final byte[] bytes = generateSetterByteCodes(field, className);
+                type = registerClass(className, bytes);
+            }
             setter = (Setter<T, P>) type.newInstance();
             setterCache.putIfAbsent(field, setter);
         }
@@ -84,8 +117,11 @@ public class AsmFactory {
         Getter<T,P> getter = (Getter<T, P>) getterCache.get(m);
         if (getter == null) {
             final String className = generateClassNameForGetter(m);
-            final byte[] bytes = generateGetterByteCodes(m, className);
-            final Class<?> type = registerClass(className, bytes);
+            Class<?> type = findPregeneratedClass(className);
+            if (type == null) {
+                final byte[] bytes = generateGetterByteCodes(m, className);
+                type = registerClass(className, bytes);
+            }
             getter = (Getter<T, P>) type.newInstance();
             getterCache.putIfAbsent(m, getter);
         }
@@ -98,15 +134,18 @@ public class AsmFactory {
         Getter<T,P> getter = (Getter<T, P>) getterCache.get(m);
         if (getter == null) {
             final String className = generateClassNameForGetter(m);
-            final byte[] bytes = generateGetterByteCodes(m, className);
-            final Class<?> type = registerClass(className, bytes);
+            Class<?> type = findPregeneratedClass(className);
+            if (type == null) {
+                final byte[] bytes = generateGetterByteCodes(m, className);
+                type = registerClass(className, bytes);
+            }
             getter = (Getter<T, P>) type.newInstance();
             getterCache.putIfAbsent(m, getter);
         }
         return getter;
     }
 
-    private byte[] generateGetterByteCodes(final Method m, final String className) throws Exception {
+    byte[] generateGetterByteCodes(final Method m, final String className) throws Exception {
         final Class<?> propertyType = m.getReturnType();
         if (propertyType.isPrimitive()) {
             return GetterBuilder.createPrimitiveGetter(className, m);
@@ -115,7 +154,7 @@ public class AsmFactory {
         }
     }
 
-    private byte[] generateGetterByteCodes(final Field m, final String className) throws Exception {
+    byte[] generateGetterByteCodes(final Field m, final String className) throws Exception {
         final Class<?> propertyType = m.getType();
         if (propertyType.isPrimitive()) {
             return GetterBuilder.createPrimitiveGetter(className, m);
@@ -124,7 +163,7 @@ public class AsmFactory {
         }
     }
 
-	private byte[] generateSetterByteCodes(final Method m, final String className) throws Exception {
+	byte[] generateSetterByteCodes(final Method m, final String className) throws Exception {
 		final Class<?> propertyType = m.getParameterTypes()[0];
 		if (propertyType.isPrimitive()) {
 			return SetterBuilder.createPrimitiveSetter(className, m);
@@ -133,7 +172,7 @@ public class AsmFactory {
 		}
 	}
 
-    private byte[] generateSetterByteCodes(final Field m, final String className) throws Exception {
+    byte[] generateSetterByteCodes(final Field m, final String className) throws Exception {
         final Class<?> propertyType = m.getType();
         if (propertyType.isPrimitive()) {
             return SetterBuilder.createPrimitiveSetter(className, m);
@@ -302,7 +341,7 @@ public class AsmFactory {
 		return simpleName.replace('[', 's').replace(']', '_');
 	}
 
-	private String generateClassNameForSetter(final Method m) {
+	String generateClassNameForSetter(final Method m) {
 		return "org.simpleflatmapper.reflect.generated." + (m.getDeclaringClass().getCanonicalName())
 					 + "AsmMethodSetter"
                      +"_" + m.getName()+ "_"
@@ -310,7 +349,7 @@ public class AsmFactory {
 					;
 	}
 
-    private String generateClassNameForSetter(final Field field) {
+    String generateClassNameForSetter(final Field field) {
         return "org.simpleflatmapper.reflect.generated." + (field.getDeclaringClass().getCanonicalName())
                 + "AsmFieldSetter"
                 + "_"
@@ -319,14 +358,14 @@ public class AsmFactory {
                 + replaceArray(field.getType().getSimpleName())
                 ;
     }
-    private String generateClassNameForGetter(final Method m) {
+    String generateClassNameForGetter(final Method m) {
         return "org.simpleflatmapper.reflect.generated." + (m.getDeclaringClass().getCanonicalName())
                 + "AsmMethodGetter"
                 + "_"
                 + m.getName()
                 ;
     }
-    private String generateClassNameForGetter(final Field m) {
+    String generateClassNameForGetter(final Field m) {
         return "org.simpleflatmapper.reflect.generated." + (m.getDeclaringClass().getCanonicalName())
                 + "AsmFieldGetter"
                 + "_"
@@ -0,0 +1,11 @@
+package org.simpleflatmapper.reflect.asm;
+
+import org.simpleflatmapper.util.ProducerServiceLoader;
+
+/**
+ * Produces the names of the classes generated at build time by {@link AsmPregenerator}.
+ * The AsmFactory loads those classes from its target class loader instead of generating them,
+ * it only looks up getters and setters, see {@link AsmPregenerator}.
+ */
+public interface AsmPregeneratedClassProducer extends ProducerServiceLoader.Producer<String> {
+}
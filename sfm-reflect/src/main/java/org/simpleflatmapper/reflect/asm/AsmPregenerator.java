@@ -0,0 +1,200 @@
+package org.simpleflatmapper.reflect.asm;
+
+import org.simpleflatmapper.ow2asm.ClassWriter;
+import org.simpleflatmapper.ow2asm.MethodVisitor;
+import org.simpleflatmapper.reflect.getter.GetterHelper;
+import org.simpleflatmapper.reflect.setter.SetterHelper;
+import org.simpleflatmapper.util.Consumer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.simpleflatmapper.ow2asm.Opcodes.ACC_FINAL;
+import static org.simpleflatmapper.ow2asm.Opcodes.ACC_PUBLIC;
+import static org.simpleflatmapper.ow2asm.Opcodes.ACC_SUPER;
+import static org.simpleflatmapper.ow2asm.Opcodes.ALOAD;
+import static org.simpleflatmapper.ow2asm.Opcodes.INVOKEINTERFACE;
+import static org.simpleflatmapper.ow2asm.Opcodes.INVOKESPECIAL;
+import static org.simpleflatmapper.ow2asm.Opcodes.RETURN;
+import static org.simpleflatmapper.ow2asm.Opcodes.V1_6;
+
+/**
+ * Generates at build time the asm getters and setters of the public properties of the target classes,
+ * so that the AsmFactory does not have to define them at runtime.
+ * <p>
+ * The classes are written in the output directory along with an {@link AsmPregeneratedClassProducer}
+ * and its META-INF/services registration. It can be run after the compilation with the exec-maven-plugin
+ * <pre>
+ * java org.simpleflatmapper.reflect.asm.AsmPregenerator target/classes com.example.SfmAsmClasses com.example.Foo com.example.Bar
+ * </pre>
+ * <p>
+ * Only the getters and setters are generated at build time, their class name and bytecode depend only on the property.
+ * The instantiators and the MapperAsmBuilder mappers are always generated at runtime,
+ * their bytecode depends on the classes of the getters and field mappers created for the mapped columns
+ * which are only known once the mapper is built.
+ * An environment that cannot define classes at runtime still needs to disable asm with useAsm(false) on the mapper factory.
+ */
+public final class AsmPregenerator {
+
+    private static final String SERVICE_FILE = "META-INF/services/" + AsmPregeneratedClassProducer.class.getName();
+
+    private final AsmFactory asmFactory;
+    private final File outputDir;
+
+    public AsmPregenerator(ClassLoader classLoader, File outputDir) {
+        this.asmFactory = new AsmFactory(classLoader);
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * @param producerClassName the name of the AsmPregeneratedClassProducer to generate
+     * @param targets the classes to generate the getters and setters for
+     * @return the names of the generated getters and setters
+     */
+    public List<String> generate(String producerClassName, Class<?>... targets) throws Exception {
+        Set<String> classNames = new LinkedHashSet<String>();
+        for (Class<?> target : targets) {
+            generateGettersAndSetters(target, classNames);
+        }
+        List<String> generated = new ArrayList<String>(classNames);
+
+        AsmUtils.writeClassToFileInDir(producerClassName, createProducer(producerClassName, generated), outputDir);
+        registerProducer(producerClassName);
+
+        return generated;
+    }
+
+    private void generateGettersAndSetters(Class<?> target, Set<String> classNames) throws Exception {
+        for (Method method : target.getMethods()) {
+            if (!isAccessible(method.getDeclaringClass())) continue;
+
+            if (GetterHelper.isGetter(method)) {
+                String className = asmFactory.generateClassNameForGetter(method);
+                write(className, asmFactory.generateGetterByteCodes(method, className), classNames);
+            } else if (SetterHelper.isSetter(method)) {
+                String className = asmFactory.generateClassNameForSetter(method);
+                write(className, asmFactory.generateSetterByteCodes(method, className), classNames);
+            }
+        }
+        for (Field field : target.getFields()) {
+            if (!isAccessible(field.getDeclaringClass()) || Modifier.isStatic(field.getModifiers())) continue;
+
+            String className = asmFactory.generateClassNameForGetter(field);
+            write(className, asmFactory.generateGetterByteCodes(field, className), classNames);
+
+            if (!Modifier.isFinal(field.getModifiers())) {
+                className = asmFactory.generateClassNameForSetter(field);
+                write(className, asmFactory.generateSetterByteCodes(field, className), classNames);
+            }
+        }
+    }
+
+    private boolean isAccessible(Class<?> declaringClass) {
+        return !Object.class.equals(declaringClass)
+                && Modifier.isPublic(declaringClass.getModifiers())
+                && declaringClass.getCanonicalName() != null;
+    }
+
+    private void write(String className, byte[] bytes, Set<String> classNames) throws IOException {
+        if (classNames.add(className)) {
+            AsmUtils.writeClassToFileInDir(className, bytes, outputDir);
+        }
+    }
+
+    private static byte[] createProducer(String className, List<String> classNames) {
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        String classType = AsmUtils.toAsmType(className);
+        String consumerType = AsmUtils.toAsmType(Consumer.class);
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, classType, null, "java/lang/Object",
+                new String[] { AsmUtils.toAsmType(AsmPregeneratedClassProducer.class) });
+
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(1, 1);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "produce", "(L" + consumerType + ";)V", null, null);
+            mv.visitCode();
+            for (String name : classNames) {
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(name);
+                mv.visitMethodInsn(INVOKEINTERFACE, consumerType, "accept", "(Ljava/lang/Object;)V", true);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(2, 2);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private void registerProducer(String producerClassName) throws IOException {
+        File serviceFile = new File(outputDir, SERVICE_FILE);
+        Set<String> producers = new LinkedHashSet<String>();
+        if (serviceFile.exists()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(serviceFile), "UTF-8"));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().length() > 0) {
+                        producers.add(line.trim());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } else {
+            serviceFile.getParentFile().mkdirs();
+        }
+        producers.add(producerClassName);
+
+        Writer writer = new OutputStreamWriter(new FileOutputStream(serviceFile), "UTF-8");
+        try {
+            for (String producer : producers) {
+                writer.write(producer);
+                writer.write("\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * @param args the output directory, the name of the producer class and the names of the target classes
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: AsmPregenerator <outputDir> <producerClassName> <targetClass>...");
+            System.exit(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Class<?>[] targets = new Class<?>[args.length - 2];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = Class.forName(args[i + 2], false, classLoader);
+        }
+        List<String> generated = new AsmPregenerator(classLoader, new File(args[0])).generate(args[1], targets);
+        System.out.println("Generated " + generated.size() + " asm getters and setters into " + args[0]);
+    }
+}
@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.primitive.DoubleGetter;
+
+import java.util.function.ToDoubleFunction;
+
+public final class LambdaDoubleGetter<T> implements Getter<T, Double>, DoubleGetter<T> {
+
+    private final ToDoubleFunction<T> function;
+
+    public LambdaDoubleGetter(ToDoubleFunction<T> function) {
+        this.function = function;
+    }
+
+    @Override
+    public double getDouble(T target) throws Exception {
+        return function.applyAsDouble(target);
+    }
+
+    @Override
+    public Double get(T target) throws Exception {
+        return function.applyAsDouble(target);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaDoubleGetter{" +
+                "function=" + function +
+                '}';
+    }
+}
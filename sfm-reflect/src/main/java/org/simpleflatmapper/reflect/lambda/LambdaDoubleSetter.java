@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.primitive.DoubleSetter;
+
+import java.util.function.ObjDoubleConsumer;
+
+public final class LambdaDoubleSetter<T> implements Setter<T, Double>, DoubleSetter<T> {
+
+    private final ObjDoubleConsumer<T> consumer;
+
+    public LambdaDoubleSetter(ObjDoubleConsumer<T> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void setDouble(T target, double value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public void set(T target, Double value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaDoubleSetter{" +
+                "consumer=" + consumer +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+
+import java.util.function.Function;
+
+public final class LambdaGetter<T, P> implements Getter<T, P> {
+
+    private final Function<T, P> function;
+
+    public LambdaGetter(Function<T, P> function) {
+        this.function = function;
+    }
+
+    @Override
+    public P get(T target) throws Exception {
+        return function.apply(target);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaGetter{" +
+                "function=" + function +
+                '}';
+    }
+}
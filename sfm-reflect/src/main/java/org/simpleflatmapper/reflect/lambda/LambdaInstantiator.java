@@ -0,0 +1,26 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Instantiator;
+
+import java.util.function.Supplier;
+
+public final class LambdaInstantiator<S, T> implements Instantiator<S, T> {
+
+    private final Supplier<T> supplier;
+
+    public LambdaInstantiator(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T newInstance(S s) throws Exception {
+        return supplier.get();
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaInstantiator{" +
+                "supplier=" + supplier +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+
+import java.util.function.ToIntFunction;
+
+public final class LambdaIntGetter<T> implements Getter<T, Integer>, IntGetter<T> {
+
+    private final ToIntFunction<T> function;
+
+    public LambdaIntGetter(ToIntFunction<T> function) {
+        this.function = function;
+    }
+
+    @Override
+    public int getInt(T target) throws Exception {
+        return function.applyAsInt(target);
+    }
+
+    @Override
+    public Integer get(T target) throws Exception {
+        return function.applyAsInt(target);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaIntGetter{" +
+                "function=" + function +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.primitive.IntSetter;
+
+import java.util.function.ObjIntConsumer;
+
+public final class LambdaIntSetter<T> implements Setter<T, Integer>, IntSetter<T> {
+
+    private final ObjIntConsumer<T> consumer;
+
+    public LambdaIntSetter(ObjIntConsumer<T> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void setInt(T target, int value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public void set(T target, Integer value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaIntSetter{" +
+                "consumer=" + consumer +
+                '}';
+    }
+}
@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.primitive.LongGetter;
+
+import java.util.function.ToLongFunction;
+
+public final class LambdaLongGetter<T> implements Getter<T, Long>, LongGetter<T> {
+
+    private final ToLongFunction<T> function;
+
+    public LambdaLongGetter(ToLongFunction<T> function) {
+        this.function = function;
+    }
+
+    @Override
+    public long getLong(T target) throws Exception {
+        return function.applyAsLong(target);
+    }
+
+    @Override
+    public Long get(T target) throws Exception {
+        return function.applyAsLong(target);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaLongGetter{" +
+                "function=" + function +
+                '}';
+    }
+}
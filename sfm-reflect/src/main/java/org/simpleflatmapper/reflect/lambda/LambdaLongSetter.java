@@ -0,0 +1,32 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.primitive.LongSetter;
+
+import java.util.function.ObjLongConsumer;
+
+public final class LambdaLongSetter<T> implements Setter<T, Long>, LongSetter<T> {
+
+    private final ObjLongConsumer<T> consumer;
+
+    public LambdaLongSetter(ObjLongConsumer<T> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void setLong(T target, long value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public void set(T target, Long value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaLongSetter{" +
+                "consumer=" + consumer +
+                '}';
+    }
+}
@@ -0,0 +1,26 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Setter;
+
+import java.util.function.BiConsumer;
+
+public final class LambdaSetter<T, P> implements Setter<T, P> {
+
+    private final BiConsumer<T, P> consumer;
+
+    public LambdaSetter(BiConsumer<T, P> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void set(T target, P value) throws Exception {
+        consumer.accept(target, value);
+    }
+
+    @Override
+    public String toString() {
+        return "LambdaSetter{" +
+                "consumer=" + consumer +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.AccessorFactory;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Instantiator;
+import org.simpleflatmapper.reflect.Parameter;
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.instantiator.ExecutableInstantiatorDefinition;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.TypeHelper;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Links the getters, setters and no arg instantiators of methods and constructors through the LambdaMetafactory,
+ * the fields and the constructors with arguments go through a MethodHandle.
+ * <p>
+ * On java 9+ the lookup is done in the declaring class with MethodHandles.privateLookupIn so that the lambda class
+ * is defined next to the target class, that works when the target class loader cannot see sfm and does not need
+ * to define a class in a custom class loader like the AsmFactory does.
+ * On java 8 the lookup is the one of this class, the target class needs to be visible from its class loader.
+ * <p>
+ * The setters of the primitive fields and of the boolean, byte, char, short and float setter methods are left to reflection
+ * as the mappers need them to implement the primitive setter interface.
+ */
+public final class MethodHandleAccessorFactory implements AccessorFactory {
+
+    private static final Method PRIVATE_LOOKUP_IN = getPrivateLookupIn();
+
+    private static Method getPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            // java 8
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T, P> Getter<T, P> createGetter(Method method) throws Exception {
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookup(declaringClass);
+        MethodHandle methodHandle = lookup.unreflect(method);
+
+        Class<?> returnType = method.getReturnType();
+        if (int.class.equals(returnType)) {
+            return (Getter<T, P>) new LambdaIntGetter<T>((ToIntFunction<T>) link(lookup, methodHandle,
+                    ToIntFunction.class, "applyAsInt", methodType(int.class, Object.class), methodType(int.class, declaringClass)));
+        } else if (long.class.equals(returnType)) {
+            return (Getter<T, P>) new LambdaLongGetter<T>((ToLongFunction<T>) link(lookup, methodHandle,
+                    ToLongFunction.class, "applyAsLong", methodType(long.class, Object.class), methodType(long.class, declaringClass)));
+        } else if (double.class.equals(returnType)) {
+            return (Getter<T, P>) new LambdaDoubleGetter<T>((ToDoubleFunction<T>) link(lookup, methodHandle,
+                    ToDoubleFunction.class, "applyAsDouble", methodType(double.class, Object.class), methodType(double.class, declaringClass)));
+        }
+        return new LambdaGetter<T, P>((Function<T, P>) link(lookup, methodHandle,
+                Function.class, "apply", methodType(Object.class, Object.class), methodType(TypeHelper.wrap(returnType), declaringClass)));
+    }
+
+    @Override
+    public <T, P> Getter<T, P> createGetter(Field field) throws Exception {
+        MethodHandle methodHandle = lookup(field.getDeclaringClass()).unreflectGetter(field);
+        return new MethodHandleGetter<T, P>(methodHandle.asType(methodType(Object.class, Object.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T, P> Setter<T, P> createSetter(Method method) throws Exception {
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = lookup(declaringClass);
+        MethodHandle methodHandle = lookup.unreflect(method);
+
+        // the return value of a chained setter is ignored
+        Class<?> parameterType = method.getParameterTypes()[0];
+        if (int.class.equals(parameterType)) {
+            return (Setter<T, P>) new LambdaIntSetter<T>((ObjIntConsumer<T>) link(lookup, methodHandle,
+                    ObjIntConsumer.class, "accept", methodType(void.class, Object.class, int.class), methodType(void.class, declaringClass, int.class)));
+        } else if (long.class.equals(parameterType)) {
+            return (Setter<T, P>) new LambdaLongSetter<T>((ObjLongConsumer<T>) link(lookup, methodHandle,
+                    ObjLongConsumer.class, "accept", methodType(void.class, Object.class, long.class), methodType(void.class, declaringClass, long.class)));
+        } else if (double.class.equals(parameterType)) {
+            return (Setter<T, P>) new LambdaDoubleSetter<T>((ObjDoubleConsumer<T>) link(lookup, methodHandle,
+                    ObjDoubleConsumer.class, "accept", methodType(void.class, Object.class, double.class), methodType(void.class, declaringClass, double.class)));
+        } else if (parameterType.isPrimitive()) {
+            return null;
+        }
+        return new LambdaSetter<T, P>((BiConsumer<T, P>) link(lookup, methodHandle,
+                BiConsumer.class, "accept", methodType(void.class, Object.class, Object.class), methodType(void.class, declaringClass, TypeHelper.wrap(parameterType))));
+    }
+
+    @Override
+    public <T, P> Setter<T, P> createSetter(Field field) throws Exception {
+        if (field.getType().isPrimitive()) {
+            return null;
+        }
+        MethodHandle methodHandle = lookup(field.getDeclaringClass()).unreflectSetter(field);
+        return new MethodHandleSetter<T, P>(methodHandle.asType(methodType(void.class, Object.class, Object.class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> Instantiator<S, T> createInstantiator(ExecutableInstantiatorDefinition instantiatorDefinition, Map<Parameter, Getter<? super S, ?>> injections) throws Exception {
+        Member executable = instantiatorDefinition.getExecutable();
+        MethodHandles.Lookup lookup = lookup(executable.getDeclaringClass());
+
+        final MethodHandle methodHandle;
+        final Class<?> returnType;
+        final int nbParameters;
+        if (executable instanceof Constructor) {
+            Constructor<?> constructor = (Constructor<?>) executable;
+            methodHandle = lookup.unreflectConstructor(constructor);
+            returnType = constructor.getDeclaringClass();
+            nbParameters = constructor.getParameterTypes().length;
+        } else {
+            Method method = (Method) executable;
+            methodHandle = lookup.unreflect(method);
+            returnType = method.getReturnType();
+            nbParameters = method.getParameterTypes().length;
+        }
+
+        if (nbParameters == 0) {
+            return new LambdaInstantiator<S, T>((Supplier<T>) link(lookup, methodHandle,
+                    Supplier.class, "get", methodType(Object.class), methodType(TypeHelper.wrap(returnType))));
+        }
+
+        MethodHandle spreader = methodHandle.asFixedArity()
+                .asSpreader(Object[].class, nbParameters)
+                .asType(methodType(Object.class, Object[].class));
+        return new MethodHandleInstantiator<S, T>(spreader, instantiatorDefinition, injections);
+    }
+
+    private static MethodHandles.Lookup lookup(Class<?> declaringClass) throws Exception {
+        if (PRIVATE_LOOKUP_IN != null) {
+            try {
+                return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, declaringClass, MethodHandles.lookup());
+            } catch (InvocationTargetException e) {
+                // package not opened to sfm
+            }
+        }
+        return MethodHandles.lookup();
+    }
+
+    private static Object link(MethodHandles.Lookup lookup, MethodHandle methodHandle, Class<?> functionalInterface, String methodName, MethodType samMethodType, MethodType instantiatedMethodType) throws Exception {
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, methodName, methodType(functionalInterface), samMethodType, methodHandle, instantiatedMethodType);
+            return callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Getter on a MethodHandle of type (Object)Object, used for the fields as the LambdaMetafactory only links methods.
+ */
+public final class MethodHandleGetter<T, P> implements Getter<T, P> {
+
+    private final MethodHandle methodHandle;
+
+    public MethodHandleGetter(MethodHandle methodHandle) {
+        this.methodHandle = methodHandle;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public P get(T target) throws Exception {
+        try {
+            return (P) methodHandle.invokeExact((Object) target);
+        } catch (Throwable e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleGetter{" +
+                "methodHandle=" + methodHandle +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Instantiator;
+import org.simpleflatmapper.reflect.Parameter;
+import org.simpleflatmapper.reflect.impl.ArgumentBuilder;
+import org.simpleflatmapper.reflect.instantiator.ExecutableInstantiatorDefinition;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Map;
+
+/**
+ * Instantiator on a MethodHandle of type (Object[])Object spreading the arguments to the constructor or factory method.
+ */
+public final class MethodHandleInstantiator<S, T> implements Instantiator<S, T> {
+
+    private final MethodHandle methodHandle;
+    private final ArgumentBuilder<S> argBuilder;
+    private final ExecutableInstantiatorDefinition instantiatorDefinition;
+
+    public MethodHandleInstantiator(MethodHandle methodHandle, ExecutableInstantiatorDefinition instantiatorDefinition, Map<Parameter, Getter<? super S, ?>> injections) {
+        this.methodHandle = methodHandle;
+        this.argBuilder = new ArgumentBuilder<S>(instantiatorDefinition, injections);
+        this.instantiatorDefinition = instantiatorDefinition;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T newInstance(S s) throws Exception {
+        Object[] args = argBuilder.build(s);
+        try {
+            return (T) methodHandle.invokeExact(args);
+        } catch (Throwable e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleInstantiator{" +
+                "instantiatorDefinition=" + instantiatorDefinition +
+                '}';
+    }
+}
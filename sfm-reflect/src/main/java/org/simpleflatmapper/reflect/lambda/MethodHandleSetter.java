@@ -0,0 +1,34 @@
+package org.simpleflatmapper.reflect.lambda;
+
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Setter on a MethodHandle of type (Object,Object)void, used for the fields as the LambdaMetafactory only links methods.
+ */
+public final class MethodHandleSetter<T, P> implements Setter<T, P> {
+
+    private final MethodHandle methodHandle;
+
+    public MethodHandleSetter(MethodHandle methodHandle) {
+        this.methodHandle = methodHandle;
+    }
+
+    @Override
+    public void set(T target, P value) throws Exception {
+        try {
+            methodHandle.invokeExact((Object) target, (Object) value);
+        } catch (Throwable e) {
+            ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleSetter{" +
+                "methodHandle=" + methodHandle +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+package org.simpleflatmapper.reflect.test.asm;
+
+import org.junit.Test;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.asm.AsmFactory;
+import org.simpleflatmapper.reflect.asm.AsmPregenerator;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AsmPregeneratorTest {
+
+    @Test
+    public void testPregeneratedAccessorsAreLoadedFromTheTargetClassLoader() throws Exception {
+        File outputDir = File.createTempFile("sfm-asm-pregenerated", "");
+        assertTrue(outputDir.delete());
+        assertTrue(outputDir.mkdirs());
+
+        // Date is in the bootstrap class loader so any AsmFactory can target it
+        List<String> generated = new AsmPregenerator(getClass().getClassLoader(), outputDir)
+                .generate("org.simpleflatmapper.test.pregenerated.TestAsmClasses", Date.class);
+        assertTrue(generated.size() > 2);
+
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { outputDir.toURI().toURL() }, getClass().getClassLoader());
+
+        AsmFactory asmFactory = new AsmFactory(classLoader);
+        Getter<Date, Long> getter = asmFactory.createGetter(Date.class.getMethod("getTime"));
+        Setter<Date, Long> setter = asmFactory.createSetter(Date.class.getMethod("setTime", long.class));
+
+        assertSame(classLoader, getter.getClass().getClassLoader());
+        assertSame(classLoader, setter.getClass().getClassLoader());
+
+        Date date = new Date(0);
+        setter.set(date, 1234L);
+        assertEquals(1234L, getter.get(date).longValue());
+
+        // without the producer the getter is generated
+        Getter<Date, Long> runtimeGetter = new AsmFactory(getClass().getClassLoader()).createGetter(Date.class.getMethod("getTime"));
+        assertNotSame(getClass().getClassLoader(), runtimeGetter.getClass().getClassLoader());
+        assertEquals(getter.getClass().getName(), runtimeGetter.getClass().getName());
+    }
+}
@@ -0,0 +1,154 @@
+package org.simpleflatmapper.reflect.test.lambda;
+
+import org.junit.Test;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Instantiator;
+import org.simpleflatmapper.reflect.InstantiatorDefinition;
+import org.simpleflatmapper.reflect.ObjectGetterFactory;
+import org.simpleflatmapper.reflect.ObjectSetterFactory;
+import org.simpleflatmapper.reflect.Parameter;
+import org.simpleflatmapper.reflect.ReflectionService;
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.getter.ConstantGetter;
+import org.simpleflatmapper.reflect.getter.FieldSetter;
+import org.simpleflatmapper.reflect.lambda.LambdaGetter;
+import org.simpleflatmapper.reflect.lambda.LambdaInstantiator;
+import org.simpleflatmapper.reflect.lambda.LambdaIntGetter;
+import org.simpleflatmapper.reflect.lambda.LambdaLongSetter;
+import org.simpleflatmapper.reflect.lambda.LambdaSetter;
+import org.simpleflatmapper.reflect.lambda.MethodHandleGetter;
+import org.simpleflatmapper.reflect.lambda.MethodHandleInstantiator;
+import org.simpleflatmapper.reflect.lambda.MethodHandleSetter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.reflect.primitive.LongSetter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MethodHandleAccessorFactoryTest {
+
+    private final ReflectionService reflectionService = ReflectionService.disableAsm().withMethodHandleAccessors(true);
+
+    @Test
+    public void testGetterAndSetter() throws Exception {
+        ObjectGetterFactory getterFactory = reflectionService.getObjectGetterFactory();
+        ObjectSetterFactory setterFactory = reflectionService.getObjectSetterFactory();
+
+        Bean bean = new Bean();
+
+        Setter<Bean, Long> idSetter = setterFactory.getSetter(Bean.class, "id");
+        Setter<Bean, String> nameSetter = setterFactory.getSetter(Bean.class, "name");
+        Setter<Bean, String> commentSetter = setterFactory.getSetter(Bean.class, "comment");
+        // primitive field setters stay on reflection
+        Setter<Bean, Integer> ageSetter = setterFactory.getSetter(Bean.class, "age");
+        assertTrue(idSetter instanceof LambdaLongSetter);
+        assertTrue(nameSetter instanceof LambdaSetter);
+        assertTrue(commentSetter instanceof MethodHandleSetter);
+        assertTrue(ageSetter instanceof FieldSetter);
+
+        ((LongSetter<Bean>) idSetter).setLong(bean, 3L);
+        nameSetter.set(bean, "n");
+        commentSetter.set(bean, "c");
+        ageSetter.set(bean, 33);
+
+        Getter<Bean, Long> idGetter = getterFactory.getGetter(Bean.class, "id");
+        Getter<Bean, String> nameGetter = getterFactory.getGetter(Bean.class, "name");
+        Getter<Bean, String> commentGetter = getterFactory.getFieldGetter(Bean.class, "comment");
+        Getter<Bean, Integer> ageGetter = getterFactory.getFieldGetter(Bean.class, "age");
+        Getter<Bean, Integer> sizeGetter = getterFactory.getGetter(Bean.class, "size");
+        assertTrue(nameGetter instanceof LambdaGetter);
+        assertTrue(commentGetter instanceof MethodHandleGetter);
+        assertTrue(ageGetter instanceof MethodHandleGetter);
+        assertTrue(sizeGetter instanceof LambdaIntGetter);
+
+        assertEquals(3L, idGetter.get(bean).longValue());
+        assertEquals("n", nameGetter.get(bean));
+        assertEquals("c", commentGetter.get(bean));
+        assertEquals(33, ageGetter.get(bean).intValue());
+        assertEquals(1, ((IntGetter<Bean>) sizeGetter).getInt(bean));
+    }
+
+    @Test
+    public void testExceptionIsPropagated() throws Exception {
+        Setter<Bean, String> nameSetter = reflectionService.getObjectSetterFactory().getSetter(Bean.class, "name");
+        try {
+            nameSetter.set(new Bean(), null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals("null name", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testInstantiator() throws Exception {
+        List<InstantiatorDefinition> definitions = reflectionService.extractInstantiator(Bean.class);
+
+        InstantiatorDefinition emptyConstructor = null;
+        InstantiatorDefinition constructor = null;
+        for (InstantiatorDefinition definition : definitions) {
+            if (definition.getParameters().length == 0) {
+                emptyConstructor = definition;
+            } else {
+                constructor = definition;
+            }
+        }
+
+        Instantiator<Object, Bean> emptyInstantiator = reflectionService.getInstantiatorFactory()
+                .getInstantiator(emptyConstructor, Object.class, new HashMap<Parameter, Getter<? super Object, ?>>(), false, true);
+        assertTrue(emptyInstantiator instanceof LambdaInstantiator);
+        assertEquals(0L, emptyInstantiator.newInstance(null).getId());
+
+        Map<Parameter, Getter<? super Object, ?>> injections = new HashMap<Parameter, Getter<? super Object, ?>>();
+        injections.put(constructor.getParameters()[0], new ConstantGetter<Object, Long>(7L));
+        injections.put(constructor.getParameters()[1], new ConstantGetter<Object, String>("seven"));
+        Instantiator<Object, Bean> instantiator = reflectionService.getInstantiatorFactory()
+                .getInstantiator(constructor, Object.class, injections, false, true);
+        assertTrue(instantiator instanceof MethodHandleInstantiator);
+
+        Bean bean = instantiator.newInstance(null);
+        assertEquals(7L, bean.getId());
+        assertEquals("seven", bean.getName());
+    }
+
+    public static class Bean {
+        private long id;
+        private String name;
+        public int age;
+        public String comment;
+
+        public Bean() {
+        }
+
+        public Bean(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Bean setName(String name) {
+            if (name == null) throw new IllegalArgumentException("null name");
+            this.name = name;
+            return this;
+        }
+
+        public int getSize() {
+            return 1;
+        }
+    }
+}
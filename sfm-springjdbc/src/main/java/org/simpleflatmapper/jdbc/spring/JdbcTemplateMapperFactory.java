@@ -1,6 +1,7 @@
 package org.simpleflatmapper.jdbc.spring;
 
 import org.simpleflatmapper.jdbc.*;
+import org.simpleflatmapper.jdbc.named.NamedSqlQuery;
 import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.getter.ContextualGetterFactoryAdapter;
 import org.simpleflatmapper.map.mapper.AbstractColumnNameDiscriminatorMapperFactory;
@@ -107,6 +108,29 @@ public final class JdbcTemplateMapperFactory extends AbstractColumnNameDiscrimin
 		return newSqlParameterSourceFactory(target.getType(), sql);
 	}
 
+	public <T> PreparedStatementSetterImpl<T> newPreparedStatementSetter(Class<T> target, String sql) {
+		return newPreparedStatementSetter((Type)target, sql);
+	}
+
+	/**
+	 * Create a setter that binds the named parameters of the sql by index.
+	 * If any parameters is a List or an array it will throw an UnsupportedOperationException.
+	 * @param target the parameter object type
+	 * @param sql the query with named parameters
+	 * @param <T> the parameter object type
+	 * @return the setter
+	 * @throws UnsupportedOperationException if a parameter is an array or a List
+	 */
+	public <T> PreparedStatementSetterImpl<T> newPreparedStatementSetter(Type target, String sql) {
+		NamedSqlQuery query = NamedSqlQuery.parse(sql);
+		QueryPreparer<T> queryPreparer = JdbcMapperFactory.newInstance(this).<T>from(target).to(query);
+		return new PreparedStatementSetterImpl<T>(query.toSqlQuery(), queryPreparer.mapper());
+	}
+
+	public <T> PreparedStatementSetterImpl<T> newPreparedStatementSetter(TypeReference<T> target, String sql) {
+		return newPreparedStatementSetter(target.getType(), sql);
+	}
+
 	public <T, K> JdbcTemplateCrudDSL<T, K> crud(Type target, Type keyTarget) {
 		return new JdbcTemplateCrudDSL<T, K>(this, target, keyTarget);
 	}
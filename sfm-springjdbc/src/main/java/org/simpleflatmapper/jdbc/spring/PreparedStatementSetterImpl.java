@@ -0,0 +1,99 @@
+package org.simpleflatmapper.jdbc.spring;
+
+import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Binds the properties of T on the PreparedStatement by index.
+ * <p>
+ * The named parameters are resolved once when the setter is built, {@link #getSql()} returns the query with ? place holders
+ * to use with JdbcTemplate.batchUpdate, it avoids the per row and per parameter name lookup of a SqlParameterSource.
+ *
+ * <code>
+ * PreparedStatementSetterImpl&lt;DbObject&gt; setter =<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;JdbcTemplateMapperFactory.newInstance().newPreparedStatementSetter(DbObject.class, "INSERT INTO TEST_DB_OBJECT(id, name) VALUES(:id, :name)");<br>
+ * template.batchUpdate(setter.getSql(), setter.newBatchPreparedStatementSetter(objects));<br>
+ * </code>
+ *
+ * @param <T> the type of the parameter object
+ */
+public final class PreparedStatementSetterImpl<T> implements ParameterizedPreparedStatementSetter<T> {
+
+	private final String sql;
+	private final FieldMapper<T, PreparedStatement> mapper;
+
+	public PreparedStatementSetterImpl(String sql, FieldMapper<T, PreparedStatement> mapper) {
+		this.sql = sql;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * @return the query with the named parameters replaced by ?
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public void setValues(PreparedStatement ps, T argument) throws SQLException {
+		try {
+			mapper.mapTo(argument, ps, null);
+		} catch (Exception e) {
+			ErrorHelper.rethrow(e);
+		}
+	}
+
+	public BatchPreparedStatementSetter newBatchPreparedStatementSetter(List<? extends T> values) {
+		return new ListBatchPreparedStatementSetter<T>(this, values);
+	}
+
+	public BatchPreparedStatementSetter newBatchPreparedStatementSetter(T[] values) {
+		return new ArrayBatchPreparedStatementSetter<T>(this, values);
+	}
+
+	private static final class ListBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
+		private final PreparedStatementSetterImpl<T> setter;
+		private final List<? extends T> values;
+
+		private ListBatchPreparedStatementSetter(PreparedStatementSetterImpl<T> setter, List<? extends T> values) {
+			this.setter = setter;
+			this.values = values;
+		}
+
+		@Override
+		public void setValues(PreparedStatement ps, int i) throws SQLException {
+			setter.setValues(ps, values.get(i));
+		}
+
+		@Override
+		public int getBatchSize() {
+			return values.size();
+		}
+	}
+
+	private static final class ArrayBatchPreparedStatementSetter<T> implements BatchPreparedStatementSetter {
+		private final PreparedStatementSetterImpl<T> setter;
+		private final T[] values;
+
+		private ArrayBatchPreparedStatementSetter(PreparedStatementSetterImpl<T> setter, T[] values) {
+			this.setter = setter;
+			this.values = values;
+		}
+
+		@Override
+		public void setValues(PreparedStatement ps, int i) throws SQLException {
+			setter.setValues(ps, values[i]);
+		}
+
+		@Override
+		public int getBatchSize() {
+			return values.length;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.simpleflatmapper.jdbc.spring.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.spring.JdbcTemplateMapperFactory;
+import org.simpleflatmapper.jdbc.spring.PreparedStatementSetterImpl;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class PreparedStatementSetterTest {
+
+    @Test
+    public void testSetValuesByIndex() throws Exception {
+        PreparedStatementSetterImpl<DbObject> setter =
+                JdbcTemplateMapperFactory
+                        .newInstance()
+                        .newPreparedStatementSetter(DbObject.class, "INSERT INTO TEST_DB_OBJECT(id, name, email) VALUES(:id, :name, :email)");
+
+        assertEquals("INSERT INTO TEST_DB_OBJECT(id, name, email) VALUES(?, ?, ?)", setter.getSql());
+
+        DbObject dbObject = newDbObject(123, "name");
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        setter.setValues(ps, dbObject);
+
+        verify(ps).setLong(1, 123);
+        verify(ps).setString(2, "name");
+        verify(ps).setString(3, "email");
+    }
+
+    @Test
+    public void testBatchPreparedStatementSetter() throws Exception {
+        PreparedStatementSetterImpl<DbObject> setter =
+                JdbcTemplateMapperFactory
+                        .newInstance()
+                        .newPreparedStatementSetter(DbObject.class, "UPDATE TEST_DB_OBJECT SET name = :name WHERE id = :id");
+
+        BatchPreparedStatementSetter batchSetter = setter.newBatchPreparedStatementSetter(Arrays.asList(newDbObject(1, "n1"), newDbObject(2, "n2")));
+
+        assertEquals(2, batchSetter.getBatchSize());
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        batchSetter.setValues(ps, 1);
+
+        verify(ps).setString(1, "n2");
+        verify(ps).setLong(2, 2);
+    }
+
+    private DbObject newDbObject(long id, String name) {
+        DbObject dbObject = new DbObject();
+        dbObject.setId(id);
+        dbObject.setName(name);
+        dbObject.setEmail("email");
+        return dbObject;
+    }
+}
@@ -11,6 +11,17 @@ public final class CharSequenceImpl implements CharSequence {
         this.end = end;
     }
 
+    /**
+     * @return the backing buffer, the chars of the sequence are from getStart() to getStart() + length()
+     */
+    public char[] getBuffer() {
+        return buffer;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
     @Override
     public int length() {
         return end - start;
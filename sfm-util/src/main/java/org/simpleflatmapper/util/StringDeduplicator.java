@@ -0,0 +1,139 @@
+package org.simpleflatmapper.util;
+
+/**
+ * Fixed size hash indexed table of String used to share the instances of a low cardinality column
+ * like a country code, a currency or a status.
+ * <p>
+ * The lookup is done on the chars, the String is only allocated on a miss and then replaces the one in the slot.
+ * A column with a cardinality above the size will mostly miss, the hit and miss counts tell if it pays off,
+ * they are only recorded when the instance is created with recordStats.
+ * <p>
+ * An instance can be shared between threads, a race only costs a duplicated String.
+ * The counts are plain fields, they are only exact when the instance is used by one thread at a time.
+ */
+public final class StringDeduplicator {
+
+    public static final int DEFAULT_SIZE = 256;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final String[] table;
+    private final int mask;
+    private final int maxLength;
+    private final boolean recordStats;
+
+    private long hitCount;
+    private long missCount;
+
+    public StringDeduplicator() {
+        this(DEFAULT_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    public StringDeduplicator(int size) {
+        this(size, DEFAULT_MAX_LENGTH);
+    }
+
+    public StringDeduplicator(int size, int maxLength) {
+        this(size, maxLength, false);
+    }
+
+    /**
+     * @param size the number of slots, rounded up to a power of 2
+     * @param maxLength the strings longer than maxLength are not deduplicated
+     * @param recordStats true to count the hits and misses
+     */
+    public StringDeduplicator(int size, int maxLength, boolean recordStats) {
+        if (size <= 0) throw new IllegalArgumentException("size must be positive, was " + size);
+        int capacity = 1;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        this.table = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+        this.recordStats = recordStats;
+    }
+
+    public String get(char[] chars, int offset, int length) {
+        if (length > maxLength) {
+            return new String(chars, offset, length);
+        }
+
+        // same as String.hashCode so that get(String) can share the table
+        int h = 0;
+        for(int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+
+        int slot = slot(h);
+        String value = table[slot];
+        if (value != null && equals(value, chars, offset, length)) {
+            if (recordStats) hitCount++;
+            return value;
+        }
+
+        value = new String(chars, offset, length);
+        table[slot] = value;
+        if (recordStats) missCount++;
+        return value;
+    }
+
+    /**
+     * @param str the string to deduplicate
+     * @return the instance in the table if equal to str, str otherwise
+     */
+    public String get(String str) {
+        if (str == null || str.length() > maxLength) {
+            return str;
+        }
+
+        int slot = slot(str.hashCode());
+        String value = table[slot];
+        if (str.equals(value)) {
+            if (recordStats) hitCount++;
+            return value;
+        }
+
+        table[slot] = str;
+        if (recordStats) missCount++;
+        return str;
+    }
+
+    /**
+     * @return the number of hits, 0 if the stats are not recorded
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of misses, 0 if the stats are not recorded
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return table.length;
+    }
+
+    private int slot(int h) {
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static boolean equals(String value, char[] chars, int offset, int length) {
+        if (value.length() != length) return false;
+        for(int i = 0; i < length; i++) {
+            if (value.charAt(i) != chars[offset + i]) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "StringDeduplicator{" +
+                "size=" + table.length +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                '}';
+    }
+}
@@ -0,0 +1,75 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.StringDeduplicator;
+
+import static org.junit.Assert.*;
+
+public class StringDeduplicatorTest {
+
+    @Test
+    public void testGetFromChars() {
+        StringDeduplicator deduplicator = new StringDeduplicator(16, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+        char[] chars = "xxFRyyFRzzGB".toCharArray();
+
+        String fr = deduplicator.get(chars, 2, 2);
+        assertEquals("FR", fr);
+        assertSame(fr, deduplicator.get(chars, 6, 2));
+        assertEquals("GB", deduplicator.get(chars, 10, 2));
+
+        assertEquals(1, deduplicator.getHitCount());
+        assertEquals(2, deduplicator.getMissCount());
+    }
+
+    @Test
+    public void testGetFromString() {
+        StringDeduplicator deduplicator = new StringDeduplicator(StringDeduplicator.DEFAULT_SIZE, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+        String fr = deduplicator.get(new String("FR"));
+
+        assertSame(fr, deduplicator.get(new String("FR")));
+        assertSame(fr, deduplicator.get("FR".toCharArray(), 0, 2));
+        assertNull(deduplicator.get(null));
+
+        assertEquals(2, deduplicator.getHitCount());
+        assertEquals(1, deduplicator.getMissCount());
+    }
+
+    @Test
+    public void testCollisionReplacesSlot() {
+        StringDeduplicator deduplicator = new StringDeduplicator(1, StringDeduplicator.DEFAULT_MAX_LENGTH, true);
+        assertEquals(1, deduplicator.size());
+
+        String a = deduplicator.get("a");
+        assertEquals("b", deduplicator.get("b"));
+        assertNotSame(a, deduplicator.get(new String("a")));
+        assertEquals(0, deduplicator.getHitCount());
+        assertEquals(3, deduplicator.getMissCount());
+    }
+
+    @Test
+    public void testMaxLengthBypassesTable() {
+        StringDeduplicator deduplicator = new StringDeduplicator(16, 2, true);
+        char[] chars = "abcabc".toCharArray();
+
+        String abc = deduplicator.get(chars, 0, 3);
+        assertEquals("abc", abc);
+        assertNotSame(abc, deduplicator.get(chars, 3, 3));
+        assertEquals(0, deduplicator.getHitCount());
+        assertEquals(0, deduplicator.getMissCount());
+    }
+
+    @Test
+    public void testStatsNotRecordedByDefault() {
+        StringDeduplicator deduplicator = new StringDeduplicator(16);
+        String fr = deduplicator.get("FR");
+        assertSame(fr, deduplicator.get("FR".toCharArray(), 0, 2));
+        assertEquals(0, deduplicator.getHitCount());
+        assertEquals(0, deduplicator.getMissCount());
+    }
+
+    @Test
+    public void testSizeRoundedToPowerOf2() {
+        assertEquals(256, new StringDeduplicator().size());
+        assertEquals(128, new StringDeduplicator(100).size());
+    }
+}